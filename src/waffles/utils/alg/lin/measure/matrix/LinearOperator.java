@@ -0,0 +1,71 @@
+package waffles.utils.alg.lin.measure.matrix;
+
+import waffles.utils.alg.lin.measure.vector.Vector;
+
+/**
+ * A {@code LinearOperator} defines a linear map between vector spaces.
+ * Unlike a {@code Matrix}, an operator does not need to store its elements,
+ * which allows solvers to work on implicit maps such as convolutions
+ * or Jacobian products. Memory then scales with its dimensions,
+ * rather than with the amount of elements.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see Matrix
+ */
+public interface LinearOperator
+{
+	/**
+	 * Applies the {@code LinearOperator} to a vector.
+	 * 
+	 * @param v  a vector to map
+	 * @return   a mapped vector
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public abstract Vector apply(Vector v);
+	
+	/**
+	 * Checks if the {@code LinearOperator} defines a transposed map.
+	 * By default, operators do not support a transposed map.
+	 * 
+	 * @return  {@code true} if the transpose can be applied
+	 */
+	public default boolean hasTranspose()
+	{
+		return false;
+	}
+	
+	/**
+	 * Applies the transposed {@code LinearOperator} to a vector.
+	 * This is only supported if {@code hasTranspose()} is true.
+	 * 
+	 * @param v  a vector to map
+	 * @return   a mapped vector
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public default Vector applyTranspose(Vector v)
+	{
+		throw new UnsupportedOperationException("This linear operator does not define a transpose.");
+	}
+	
+	/**
+	 * Returns the column count of the {@code LinearOperator}.
+	 * 
+	 * @return  a column count
+	 */
+	public abstract int Columns();
+	
+	/**
+	 * Returns the row count of the {@code LinearOperator}.
+	 * 
+	 * @return  a row count
+	 */
+	public abstract int Rows();
+}
\ No newline at end of file
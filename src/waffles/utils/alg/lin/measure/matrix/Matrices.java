@@ -3,6 +3,7 @@ package waffles.utils.alg.lin.measure.matrix;
 import waffles.utils.alg.lin.measure.matrix.fixed.Matrix2x2;
 import waffles.utils.alg.lin.measure.matrix.fixed.Matrix3x3;
 import waffles.utils.alg.lin.measure.matrix.fixed.Matrix4x4;
+import waffles.utils.alg.lin.measure.matrix.ops.MatrixGram;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Reflection;
 import waffles.utils.alg.lin.measure.tensor.TensorData;
 import waffles.utils.alg.lin.measure.tensor.Tensors;
@@ -233,6 +234,24 @@ public class Matrices
 		return (M) ref;
 	}
 		
+	/**
+	 * Creates a symmetric gram {@code Matrix}.
+	 * This computes the product {@code M*M} while
+	 * only accumulating its upper triangle.
+	 * 
+	 * @param <M>  a matrix type
+	 * @param m    a base matrix
+	 * @return  a gram matrix
+	 * 
+	 * 
+	 * @see MatrixGram
+	 * @see Matrix
+	 */
+	public static <M extends Matrix> M gram(Matrix m)
+	{
+		return (M) new MatrixGram(m).result();
+	}
+	
 	/**
 	 * Creates an identity shifted {@code Matrix}.
 	 * 
@@ -20,12 +20,13 @@ import waffles.utils.tools.patterns.operator.Operation;
  * @version 1.1
  * 
  * 
+ * @see LinearOperator
  * @see Affine
  * @see Tensor
  * @see Vector
  * @see Token
  */
-public class Matrix extends Tensor implements Affine, Token
+public class Matrix extends Tensor implements Affine, LinearOperator, Token
 {		
 	/**
 	 * Creates a new {@code Matrix}.
@@ -198,6 +199,47 @@ public class Matrix extends Tensor implements Affine, Token
 	}
 	
 	
+	@Override
+	public Vector apply(Vector v)
+	{
+		return times(v);
+	}
+	
+	@Override
+	public boolean hasTranspose()
+	{
+		return true;
+	}
+	
+	@Override
+	public Vector applyTranspose(Vector v)
+	{
+		int r1 = Rows();
+		int c1 = Columns();
+		
+		if(r1 != v.Size())
+		{
+			throw new DimensionError("Computing a matrix product requires compatible dimensions: ", this, v);
+		}
+		
+		
+		Vector w = Vectors.create(c1);
+		// For each column in the matrix...
+		for(int c = 0; c < c1; c++)
+		{
+			double sum = 0d;
+			// ...compute its dot product.
+			for(int r = 0; r < r1; r++)
+			{
+				sum += get(r, c) * v.get(r);
+			}
+			
+			w.set((float) sum, c);
+		}
+		
+		return w;
+	}
+	
 	@Override
 	public Matrix Span()
 	{
@@ -0,0 +1,128 @@
+package waffles.utils.alg.lin.measure.matrix.ops;
+
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.tools.patterns.operator.Operation;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * A {@code MatrixGram} computes the symmetric product {@code M*M} of a matrix.
+ * Only the upper triangle of the product is accumulated, after which it is mirrored.
+ * The rows of the matrix are split into blocks which are accumulated in parallel,
+ * each one reading its rows exactly once.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see Operation
+ * @see Matrix
+ */
+public class MatrixGram implements Operation<Matrix>
+{
+	/**
+	 * Defines the minimum row count of a parallel block.
+	 */
+	public static final int DEF_BLOCK = 256;
+	
+	
+	private Matrix m1;
+	
+	/**
+	 * Creates a new {@code MatrixGram}.
+	 * 
+	 * @param m1  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public MatrixGram(Matrix m1)
+	{
+		this.m1 = m1;
+	}
+	
+	
+	double[] accumulate(int rMin, int rMax)
+	{
+		int c1 = m1.Columns();
+		
+		double[] row = new double[c1];
+		double[] sum = new double[c1 * c1];
+		// For each row in the block...
+		for(int r = rMin; r < rMax; r++)
+		{
+			for(int c = 0; c < c1; c++)
+			{
+				row[c] = m1.get(r, c);
+			}
+			
+			// ...add its outer product to the upper triangle.
+			for(int i = 0; i < c1; i++)
+			{
+				double v1 = row[i];
+				if(v1 == 0d) continue;
+				
+				int k = i * c1;
+				for(int j = i; j < c1; j++)
+				{
+					sum[k + j] += v1 * row[j];
+				}
+			}
+		}
+		
+		return sum;
+	}
+	
+	@Override
+	public Matrix result()
+	{
+		int r1 = m1.Rows();
+		int c1 = m1.Columns();
+		
+		int cpus = Runtime.getRuntime().availableProcessors();
+		int blocks = Integers.min(cpus, (r1 + DEF_BLOCK - 1) / DEF_BLOCK);
+		int size = (r1 + blocks - 1) / Integers.max(blocks, 1);
+		
+		double[] sum = IntStream.range(0, blocks).parallel()
+			.mapToObj(b -> accumulate(b * size, Integers.min(r1, (b + 1) * size)))
+			.reduce((s1, s2) ->
+			{
+				for(int k = 0; k < s1.length; k++)
+				{
+					s1[k] += s2[k];
+				}
+				
+				return s1;
+			})
+			.orElse(new double[c1 * c1]);
+		
+		
+		Matrix m2 = Matrices.create(c1, c1);
+		// Mirror the upper triangle.
+		for(int i = 0; i < c1; i++)
+		{
+			for(int j = i; j < c1; j++)
+			{
+				float v = (float) sum[i * c1 + j];
+				m2.set(v, i, j);
+				m2.set(v, j, i);
+			}
+		}
+		
+		m2.setOperator(Symmetric.Type());
+		return m2;
+	}
+	
+	@Override
+	public int cost()
+	{
+		int r1 = m1.Rows();
+		int c1 = m1.Columns();
+		
+		return r1 * c1 * (c1 + 1);
+	}
+}
\ No newline at end of file
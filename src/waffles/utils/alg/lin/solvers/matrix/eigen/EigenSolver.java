@@ -1,7 +1,7 @@
 package waffles.utils.alg.lin.solvers.matrix.eigen;
 
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
-import waffles.utils.alg.lin.measure.matrix.types.Square;
 import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
 import waffles.utils.alg.utilities.Algorithmic;
@@ -45,11 +45,31 @@ public interface EigenSolver extends MatrixSolver
 		 */
 		public default State State()
 		{
-			if(Matrix().allows(Square.Type(), 0))
+			LinearOperator a = Operator();
+			if(a.Rows() == a.Columns())
 				return State.VALID;
 			return State.INVALID;
 		}
 		
+		/**
+		 * Returns the linear operator of the {@code Hints}.
+		 * 
+		 * @return  a linear operator
+		 * 
+		 * 
+		 * @see LinearOperator
+		 */
+		public abstract LinearOperator Operator();
+		
+		
+		@Override
+		public default Matrix Matrix()
+		{
+			LinearOperator a = Operator();
+			if(a instanceof Matrix)
+				return (Matrix) a;
+			return null;
+		}
 		
 		@Override
 		public default double Error()
@@ -90,8 +110,8 @@ public interface EigenSolver extends MatrixSolver
 	 */
 	public default EigenPair approx(Vector v)
 	{
-		Matrix m = Hints().Matrix();
-		float l = Rayleigh.coefficient(m, v);
+		LinearOperator a = Hints().Operator();
+		float l = Rayleigh.coefficient(a, v);
 		EigenPair p = new EigenPair(v, l);
 		return approx(p);
 	}
@@ -0,0 +1,662 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.measure.vector.complex.Complex;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
+import waffles.utils.alg.lin.solvers.matrix.eigen.types.ESLanczos.Order;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code ESArnoldi} algorithm approximates several eigenvalues of a general operator.
+ * It builds an orthonormal {@code Krylov} basis through {@code Arnoldi} iteration with
+ * full reorthogonalization, and computes {@code Ritz} values from the real Schur form
+ * of the projected {@code Hessenberg} matrix with an {@code ESSchur}. Once the basis is full,
+ * an orthonormal basis of the wanted Ritz vectors is kept and the iteration is restarted
+ * from the residual, which only needs the basis to hold {@code O(k)} vectors.
+ * Complex conjugate values are always kept together, so one more value than
+ * requested is returned if the last wanted value is part of a pair.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Arnoldi_iteration">Wikipedia</a>
+ * @see EigenSolver
+ */
+public class ESArnoldi implements EigenSolver
+{
+	/**
+	 * The {@code Hints} interface defines settings for an {@code ESArnoldi}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends EigenSolver.Hints
+	{
+		/**
+		 * Defines the default extra basis size of the {@code Hints}.
+		 */
+		public static final int DEF_BASIS = 20;
+
+
+		/**
+		 * Returns the basis size of the {@code Hints}.
+		 *
+		 * @return  a basis size
+		 */
+		public default int Basis()
+		{
+			int k = Count();
+			int n = Operator().Rows();
+			return Integers.min(n, Integers.max(2 * k + 2, k + DEF_BASIS));
+		}
+
+		/**
+		 * Returns the order of the {@code Hints}.
+		 * Complex values are ordered by
+		 * their real part or magnitude.
+		 *
+		 * @return  an eigenvalue order
+		 *
+		 *
+		 * @see Order
+		 */
+		public default Order Order()
+		{
+			return Order.MAGNITUDE;
+		}
+
+		/**
+		 * Returns the value count of the {@code Hints}.
+		 *
+		 * @return  a value count
+		 */
+		public default int Count()
+		{
+			return 1;
+		}
+	}
+
+
+	private int loops;
+	private Hints hints;
+	private Complex[] vals;
+	private EigenPair[] pairs;
+
+	/**
+	 * Creates a new {@code ESArnoldi}.
+	 *
+	 * @param h  solver hints
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESArnoldi(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code ESArnoldi}.
+	 *
+	 * @param m  a base matrix
+	 * @param k  a value count
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public ESArnoldi(Matrix m, int k)
+	{
+		this(new Hints()
+		{
+			private Matrix b = m.copy().destroy();
+
+			@Override
+			public LinearOperator Operator()
+			{
+				return b;
+			}
+
+			@Override
+			public int Count()
+			{
+				return k;
+			}
+		});
+	}
+
+	/**
+	 * Returns the eigenvalues of the {@code ESArnoldi}.
+	 * These are sorted according to the hint order,
+	 * with complex conjugate pairs next to each other.
+	 * If the Schur iteration of the projected matrix
+	 * fails, no values are returned.
+	 *
+	 * @return  a complex value array
+	 *
+	 *
+	 * @see Complex
+	 */
+	public Complex[] Values()
+	{
+		if(vals == null)
+		{
+			if(Hints().State() == State.VALID)
+			{
+				int n = Hints().Operator().Rows();
+				iterate(Vectors.random(n));
+			}
+		}
+
+		return vals;
+	}
+
+	/**
+	 * Returns the real eigen pairs of the {@code ESArnoldi}.
+	 * These are the wanted values without an imaginary part,
+	 * in the same order as the complex values.
+	 *
+	 * @return  an eigen pair array
+	 *
+	 *
+	 * @see EigenPair
+	 */
+	public EigenPair[] Pairs()
+	{
+		Values();
+		return pairs;
+	}
+
+	/**
+	 * Returns the restart count of the {@code ESArnoldi}.
+	 *
+	 * @return  a restart count
+	 */
+	public int Loops()
+	{
+		return loops;
+	}
+
+
+	@Override
+	public EigenPair approx(EigenPair est)
+	{
+		if(Hints().State() == State.VALID)
+		{
+			iterate(est.Key());
+			if(pairs != null && pairs.length > 0)
+				return pairs[0];
+		}
+
+		return null;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	static double[] solve(double[][] a, double[] b, double eps)
+	{
+		int n = b.length;
+		// For each column of the system...
+		for(int c = 0; c < n; c++)
+		{
+			// ...find the largest pivot...
+			int p = c;
+			for(int r = c+1; r < n; r++)
+			{
+				if(Doubles.abs(a[p][c]) < Doubles.abs(a[r][c]))
+					p = r;
+			}
+
+			double[] row = a[p]; a[p] = a[c]; a[c] = row;
+			double val = b[p]; b[p] = b[c]; b[c] = val;
+			if(Doubles.abs(a[c][c]) < eps)
+				a[c][c] = eps;
+
+			// ...and eliminate the rows below it.
+			for(int r = c+1; r < n; r++)
+			{
+				double f = a[r][c] / a[c][c];
+				if(f != 0d)
+				{
+					for(int i = c; i < n; i++)
+					{
+						a[r][i] -= f * a[c][i];
+					}
+
+					b[r] -= f * b[c];
+				}
+			}
+		}
+
+		double[] x = new double[n];
+		for(int r = n-1; r >= 0; r--)
+		{
+			double s = b[r];
+			for(int i = r+1; i < n; i++)
+			{
+				s -= a[r][i] * x[i];
+			}
+
+			x[r] = s / a[r][r];
+		}
+
+		return x;
+	}
+
+	static double[][] vector(double[][] t, int m, Complex l)
+	{
+		double re = l.X();
+		double im = l.Y();
+		boolean cplx = im != 0d;
+		int s = cplx ? 2 * m : m;
+
+		double norm = 0d;
+		for(int r = 0; r < m; r++)
+		{
+			for(int c = 0; c < m; c++)
+			{
+				norm += Doubles.abs(t[r][c]);
+			}
+		}
+
+		double eps = Doubles.pow(2, -52) * (norm == 0d ? 1d : norm);
+		double[] y = new double[s];
+		Arrays.fill(y, 1d);
+
+		// Perform two steps of inverse iteration.
+		for(int step = 0; step < 2; step++)
+		{
+			double[][] a = new double[s][s];
+			for(int r = 0; r < m; r++)
+			{
+				for(int c = 0; c < m; c++)
+				{
+					a[r][c] = t[r][c];
+					if(cplx)
+					{
+						a[m+r][m+c] = t[r][c];
+					}
+				}
+
+				a[r][r] -= re;
+				if(cplx)
+				{
+					a[m+r][m+r] -= re;
+					a[r][m+r] = im;
+					a[m+r][r] = -im;
+				}
+			}
+
+			y = solve(a, y, eps);
+			double n2 = Doubles.sqrt(ESLanczos.dot(y, y));
+			for(int i = 0; i < s; i++)
+			{
+				y[i] /= n2;
+			}
+		}
+
+		double[][] v = new double[2][m];
+		for(int i = 0; i < m; i++)
+		{
+			v[0][i] = y[i];
+			v[1][i] = cplx ? y[m+i] : 0d;
+		}
+
+		return v;
+	}
+
+	static Complex refine(double[][] t, int m, double[][] y)
+	{
+		double re = 0d, im = 0d;
+		// Compute the Rayleigh quotient of the vector.
+		for(int r = 0; r < m; r++)
+		{
+			double hr = 0d, hi = 0d;
+			for(int c = 0; c < m; c++)
+			{
+				hr += t[r][c] * y[0][c];
+				hi += t[r][c] * y[1][c];
+			}
+
+			re += y[0][r] * hr + y[1][r] * hi;
+			im += y[0][r] * hi - y[1][r] * hr;
+		}
+
+		return new Complex((float) re, (float) im);
+	}
+
+	static double[] combine(double[][] v, double[] y, int n)
+	{
+		int m = y.length;
+		double[] u = new double[n];
+		IntStream.range(0, n).parallel().forEach(r ->
+		{
+			double sum = 0d;
+			for(int l = 0; l < m; l++)
+			{
+				sum += v[l][r] * y[l];
+			}
+
+			u[r] = sum;
+		});
+
+		return u;
+	}
+
+	int[] sort(Complex[] theta)
+	{
+		int m = theta.length;
+		Order ord = Hints().Order();
+		Integer[] idx = new Integer[m];
+		for(int i = 0; i < m; i++)
+		{
+			idx[i] = i;
+		}
+
+		Arrays.sort(idx, (i, j) ->
+		{
+			int cmp;
+			switch(ord)
+			{
+			case SMALLEST:
+				cmp = Float.compare(theta[i].X(), theta[j].X());
+				break;
+			case MAGNITUDE:
+				cmp = Double.compare(modulus(theta[j]), modulus(theta[i]));
+				break;
+			case LARGEST:
+			default:
+				cmp = Float.compare(theta[j].X(), theta[i].X());
+				break;
+			}
+
+			// Keep conjugate pairs together.
+			if(cmp == 0)
+				return Float.compare(theta[j].Y(), theta[i].Y());
+			return cmp;
+		});
+
+		int[] sel = new int[m];
+		for(int i = 0; i < m; i++)
+		{
+			sel[i] = idx[i];
+		}
+
+		return sel;
+	}
+
+	static double modulus(Complex c)
+	{
+		double x = c.X(), y = c.Y();
+		return Doubles.sqrt(x * x + y * y);
+	}
+
+	static int complete(Complex[] theta, int[] sel, int q, int max)
+	{
+		// If the last kept value splits a conjugate pair...
+		if(0 < q && q < sel.length && 0f < theta[sel[q-1]].Y())
+		{
+			// ...keep its partner, or drop it if there is no room.
+			return q < max ? q + 1 : q - 1;
+		}
+
+		return q;
+	}
+
+	void iterate(Vector start)
+	{
+		double e = Hints().Error();
+		int lMax = Hints().MaxLoops();
+		LinearOperator a = Hints().Operator();
+
+		int n = a.Rows();
+		int k = Integers.min(Hints().Count(), n);
+		int m = Integers.min(n, Integers.max(k + 2, Hints().Basis()));
+
+		vals = null;
+		pairs = null;
+		if(k == 0)
+		{
+			vals = new Complex[0];
+			pairs = new EigenPair[0];
+			return;
+		}
+
+
+		double[][] v = new double[m+1][];
+		double[][] t = new double[m+1][m];
+
+		// Normalize the initial vector.
+		v[0] = new double[n];
+		for(int i = 0; i < n; i++)
+		{
+			v[0][i] = start.get(i);
+		}
+
+		double norm = Doubles.sqrt(ESLanczos.dot(v[0], v[0]));
+		for(int i = 0; i < n; i++)
+		{
+			v[0][i] /= norm;
+		}
+
+
+		loops = 0;
+		int p = 0;
+		while(true)
+		{
+			double beta = 0d;
+			// Expand the Krylov basis.
+			for(int j = p; j < m; j++)
+			{
+				double[] w = ESLanczos.apply(a, v[j]);
+				double wn = Doubles.sqrt(ESLanczos.dot(w, w));
+				double[] h = ESLanczos.orthogonalize(v, j+1, w);
+				for(int i = 0; i <= j; i++)
+				{
+					t[i][j] = h[i];
+				}
+
+				beta = Doubles.sqrt(ESLanczos.dot(w, w));
+				// If the basis spans an invariant subspace...
+				if(beta <= e * e * wn)
+				{
+					// ...continue with a random direction.
+					beta = 0d;
+					w = new double[n];
+					if(j + 1 < n)
+					{
+						Vector r = Vectors.random(n);
+						for(int i = 0; i < n; i++)
+						{
+							w[i] = r.get(i);
+						}
+
+						ESLanczos.orthogonalize(v, j+1, w);
+					}
+
+					norm = Doubles.sqrt(ESLanczos.dot(w, w));
+					if(norm == 0d) norm = 1d;
+				}
+				else
+				{
+					norm = beta;
+				}
+
+				for(int i = 0; i < n; i++)
+				{
+					w[i] /= norm;
+				}
+
+				t[j+1][j] = beta;
+				v[j+1] = w;
+			}
+
+
+			// Compute the Ritz values.
+			double[][] s = new double[m][];
+			for(int i = 0; i < m; i++)
+			{
+				s[i] = t[i].clone();
+			}
+
+			Complex[] theta = new ESSchur(s).Values();
+			if(theta == null)
+			{
+				return;
+			}
+
+			int[] sel = sort(theta);
+			int kk = complete(theta, sel, k, m);
+
+			// Check the convergence of the wanted values.
+			double scale = 0d;
+			for(int i = 0; i < m; i++)
+			{
+				if(scale < modulus(theta[i]))
+					scale = modulus(theta[i]);
+			}
+
+			boolean done = true;
+			double[][][] y = new double[m][][];
+			for(int i = 0; i < kk; i++)
+			{
+				y[i] = vector(t, m, theta[sel[i]]);
+				double res = Doubles.abs(beta) * Doubles.sqrt
+				(
+					y[i][0][m-1] * y[i][0][m-1] +
+					y[i][1][m-1] * y[i][1][m-1]
+				);
+
+				double tol = modulus(theta[sel[i]]);
+				if(tol < e * scale)
+					tol = e * scale;
+				if(e * tol < res)
+				{
+					done = false;
+				}
+			}
+
+			if(done || lMax <= ++loops)
+			{
+				vals = new Complex[kk];
+				EigenPair[] real = new EigenPair[kk];
+
+				int cnt = 0;
+				for(int i = 0; i < kk; i++)
+				{
+					vals[i] = refine(t, m, y[i]);
+					if(theta[sel[i]].Y() == 0f)
+					{
+						double[] u = combine(v, y[i][0], n);
+						Vector x = Vectors.create(n);
+						for(int r = 0; r < n; r++)
+						{
+							x.set((float) u[r], r);
+						}
+
+						real[cnt++] = new EigenPair(x, vals[i].X());
+					}
+				}
+
+				pairs = Arrays.copyOf(real, cnt);
+				return;
+			}
+
+
+			// Collect a real basis of the kept Ritz vectors.
+			int q = Integers.min(m-1, k + (m-k) / 2);
+			q = complete(theta, sel, q, m-1);
+
+			int cols = 0;
+			double[][] z = new double[q][];
+			for(int i = 0; i < q; i++)
+			{
+				if(theta[sel[i]].Y() < 0f)
+					continue;
+
+				double[][] yi = i < kk ? y[i] : vector(t, m, theta[sel[i]]);
+				z[cols++] = yi[0];
+				if(0f < theta[sel[i]].Y() && cols < q)
+				{
+					z[cols++] = yi[1];
+				}
+			}
+
+			// Orthonormalize the kept vectors.
+			int c1 = 0;
+			for(int i = 0; i < cols; i++)
+			{
+				double[] w = z[i].clone();
+				double wn = Doubles.sqrt(ESLanczos.dot(w, w));
+				ESLanczos.orthogonalize(z, c1, w);
+
+				double wl = Doubles.sqrt(ESLanczos.dot(w, w));
+				if(wl <= e * e * wn)
+					continue;
+
+				for(int r = 0; r < m; r++)
+				{
+					w[r] /= wl;
+				}
+
+				z[c1++] = w;
+			}
+
+
+			// Restart with the kept subspace.
+			double[][] u = new double[c1+1][];
+			for(int i = 0; i < c1; i++)
+			{
+				u[i] = combine(v, z[i], n);
+			}
+
+			double[][] g = new double[m+1][m];
+			for(int i = 0; i < c1; i++)
+			{
+				double[] hz = new double[m];
+				for(int r = 0; r < m; r++)
+				{
+					for(int c = 0; c < m; c++)
+					{
+						hz[r] += t[r][c] * z[i][c];
+					}
+				}
+
+				for(int l = 0; l < c1; l++)
+				{
+					g[l][i] = ESLanczos.dot(z[l], hz);
+				}
+
+				g[c1][i] = beta * z[i][m-1];
+			}
+
+			u[c1] = v[m];
+			for(int i = 0; i <= c1; i++)
+			{
+				v[i] = u[i];
+			}
+
+			t = g;
+			p = c1;
+		}
+	}
+}
\ No newline at end of file
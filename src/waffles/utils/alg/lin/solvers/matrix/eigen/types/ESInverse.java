@@ -1,17 +1,22 @@
 package waffles.utils.alg.lin.solvers.matrix.eigen.types;
 
-import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
 import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
 import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
-import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCrout;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
+import waffles.utils.alg.lin.solvers.matrix.exact.types.LUShifted;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSGMRes;
 import waffles.utils.tools.primitives.Doubles;
 import waffles.utils.tools.primitives.Floats;
 
 /**
  * The {@code EVInverse} algorithm approximates eigenvectors through inverse iteration.
+ * Explicit matrices are reduced to Hessenberg form once and reused across shifts,
+ * while matrix-free operators are shifted implicitly and solved with the
+ * {@code GMRES} method instead.
  *
  * @author Waffles
  * @since Jul 14, 2018
@@ -23,7 +28,8 @@ import waffles.utils.tools.primitives.Floats;
 public class ESInverse implements EigenSolver
 {
 	private Hints hints;
-	private LUCrout slv;
+	private LinearSystem slv;
+	private LUShifted lus;
 	
 	/**
 	 * Creates a new {@code EVInverse}.
@@ -69,10 +75,33 @@ public class ESInverse implements EigenSolver
 			double e = Hints().Error();
 			Matrix m = Hints().Matrix();
 			int lMax = Hints().MaxLoops();
-			
-			Matrix s = Matrices.shift(m, -l);
 			float norm = Floats.MAX_VALUE;
-			slv = new LUCrout(s);
+			
+			if(m != null)
+			{
+				if(lus == null)
+					lus = new LUShifted(() -> m);
+				slv = null;
+			}
+			else
+			{
+				LinearOperator s = shift(Hints().Operator(), l);
+				// Inverse iteration only requires approximate solves.
+				slv = new KSGMRes(new KSGMRes.Hints()
+				{
+					@Override
+					public LinearOperator Operator()
+					{
+						return s;
+					}
+					
+					@Override
+					public int MaxLoops()
+					{
+						return Restart();
+					}
+				});
+			}
 			
 			
 			int loops = 0;
@@ -81,7 +110,10 @@ public class ESInverse implements EigenSolver
 			while(err < norm)
 			{
 				// Iterate the vector.
-				w = slv.solve(v);
+				if(slv == null)
+					w = lus.solve(l, v);
+				else
+					w = slv.solve(v);
 				
 				// Calculate the error.
 				float dot = v.dot(w);
@@ -104,4 +136,29 @@ public class ESInverse implements EigenSolver
 	{
 		return hints;
 	}
+	
+	
+	static LinearOperator shift(LinearOperator a, float l)
+	{
+		return new LinearOperator()
+		{
+			@Override
+			public Vector apply(Vector v)
+			{
+				return a.apply(v).minus(v.times(l));
+			}
+			
+			@Override
+			public int Columns()
+			{
+				return a.Columns();
+			}
+			
+			@Override
+			public int Rows()
+			{
+				return a.Rows();
+			}
+		};
+	}
 }
\ No newline at end of file
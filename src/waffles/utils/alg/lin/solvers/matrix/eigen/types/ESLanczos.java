@@ -0,0 +1,497 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code ESLanczos} algorithm approximates several eigenpairs of a symmetric operator.
+ * It builds an orthonormal {@code Krylov} basis through {@code Lanczos} iteration with
+ * full reorthogonalization, and computes {@code Ritz} pairs from the projected matrix.
+ * Once the basis is full, the wanted Ritz vectors are kept and the iteration is
+ * restarted from the residual (thick restart). This is equivalent to implicit
+ * restarting, but only needs the basis to hold {@code O(k)} vectors.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Lanczos_algorithm">Wikipedia</a>
+ * @see EigenSolver
+ */
+public class ESLanczos implements EigenSolver
+{
+	/**
+	 * The {@code Hints} interface defines settings for an {@code ESLanczos}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends EigenSolver.Hints
+	{
+		/**
+		 * Defines the default extra basis size of the {@code Hints}.
+		 */
+		public static final int DEF_BASIS = 20;
+
+
+		/**
+		 * Returns the state of the {@code Hints}.
+		 *
+		 * @return  a solver state
+		 *
+		 *
+		 * @see State
+		 */
+		@Override
+		public default State State()
+		{
+			Matrix m = Matrix();
+			if(m != null && !m.allows(Symmetric.Type(), Error()))
+				return State.INVALID;
+			return EigenSolver.Hints.super.State();
+		}
+
+		/**
+		 * Returns the basis size of the {@code Hints}.
+		 *
+		 * @return  a basis size
+		 */
+		public default int Basis()
+		{
+			int k = Count();
+			int n = Operator().Rows();
+			return Integers.min(n, Integers.max(2 * k + 1, k + DEF_BASIS));
+		}
+
+		/**
+		 * Returns the order of the {@code Hints}.
+		 *
+		 * @return  an eigenvalue order
+		 *
+		 *
+		 * @see Order
+		 */
+		public default Order Order()
+		{
+			return Order.LARGEST;
+		}
+
+		/**
+		 * Returns the pair count of the {@code Hints}.
+		 *
+		 * @return  a pair count
+		 */
+		public default int Count()
+		{
+			return 1;
+		}
+	}
+
+	/**
+	 * An {@code Order} defines which part of the spectrum is approximated.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum Order
+	{
+		/**
+		 * The largest eigenvalues are approximated.
+		 */
+		LARGEST,
+		/**
+		 * The smallest eigenvalues are approximated.
+		 */
+		SMALLEST,
+		/**
+		 * The largest eigenvalues in magnitude are approximated.
+		 */
+		MAGNITUDE;
+	}
+
+
+	private int loops;
+	private Hints hints;
+	private EigenPair[] pairs;
+
+	/**
+	 * Creates a new {@code ESLanczos}.
+	 *
+	 * @param h  solver hints
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESLanczos(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code ESLanczos}.
+	 *
+	 * @param m  a base matrix
+	 * @param k  a pair count
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public ESLanczos(Matrix m, int k)
+	{
+		this(new Hints()
+		{
+			private Matrix b = m.copy().destroy();
+
+			@Override
+			public LinearOperator Operator()
+			{
+				return b;
+			}
+
+			@Override
+			public int Count()
+			{
+				return k;
+			}
+		});
+	}
+
+	/**
+	 * Returns the eigen pairs of the {@code ESLanczos}.
+	 * These are sorted according to the hint order,
+	 * starting from a random initial vector.
+	 *
+	 * @return  an eigen pair array
+	 *
+	 *
+	 * @see EigenPair
+	 */
+	public EigenPair[] Pairs()
+	{
+		if(pairs == null)
+		{
+			if(Hints().State() == State.VALID)
+			{
+				int n = Hints().Operator().Rows();
+				pairs = iterate(Vectors.random(n));
+			}
+		}
+
+		return pairs;
+	}
+
+	/**
+	 * Returns the restart count of the {@code ESLanczos}.
+	 *
+	 * @return  a restart count
+	 */
+	public int Loops()
+	{
+		return loops;
+	}
+
+
+	@Override
+	public EigenPair approx(EigenPair est)
+	{
+		if(Hints().State() == State.VALID)
+		{
+			pairs = iterate(est.Key());
+			if(pairs.length > 0)
+				return pairs[0];
+		}
+
+		return null;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	static double dot(double[] u, double[] v)
+	{
+		double dot = 0d;
+		for(int i = 0; i < u.length; i++)
+		{
+			dot += u[i] * v[i];
+		}
+
+		return dot;
+	}
+
+	static double[] apply(LinearOperator a, double[] v)
+	{
+		int n = v.length;
+		Vector x = Vectors.create(n);
+		for(int i = 0; i < n; i++)
+		{
+			x.set((float) v[i], i);
+		}
+
+		x = a.apply(x);
+
+		double[] w = new double[n];
+		for(int i = 0; i < n; i++)
+		{
+			w[i] = x.get(i);
+		}
+
+		return w;
+	}
+
+	static double[] orthogonalize(double[][] v, int j, double[] w)
+	{
+		int n = w.length;
+		double[] h = new double[j];
+		// Perform classical Gram-Schmidt twice.
+		for(int pass = 0; pass < 2; pass++)
+		{
+			double[] c = IntStream.range(0, j).parallel()
+				.mapToDouble(i -> dot(v[i], w))
+				.toArray();
+
+			IntStream.range(0, n).parallel().forEach(r ->
+			{
+				double s = 0d;
+				for(int i = 0; i < j; i++)
+				{
+					s += c[i] * v[i][r];
+				}
+
+				w[r] -= s;
+			});
+
+			for(int i = 0; i < j; i++)
+			{
+				h[i] += c[i];
+			}
+		}
+
+		return h;
+	}
+
+	int[] sort(double[] theta)
+	{
+		int m = theta.length;
+		Order ord = Hints().Order();
+		Integer[] idx = new Integer[m];
+		for(int i = 0; i < m; i++)
+		{
+			idx[i] = i;
+		}
+
+		Arrays.sort(idx, (i, j) ->
+		{
+			switch(ord)
+			{
+			case SMALLEST:
+				return Double.compare(theta[i], theta[j]);
+			case MAGNITUDE:
+				return Double.compare(Doubles.abs(theta[j]), Doubles.abs(theta[i]));
+			case LARGEST:
+			default:
+				return Double.compare(theta[j], theta[i]);
+			}
+		});
+
+		int[] sel = new int[m];
+		for(int i = 0; i < m; i++)
+		{
+			sel[i] = idx[i];
+		}
+
+		return sel;
+	}
+
+	EigenPair[] iterate(Vector start)
+	{
+		double e = Hints().Error();
+		int lMax = Hints().MaxLoops();
+		LinearOperator a = Hints().Operator();
+
+		int n = a.Rows();
+		int k = Integers.min(Hints().Count(), n);
+		int m = Integers.min(n, Integers.max(k + 1, Hints().Basis()));
+		if(k == 0)
+			return new EigenPair[0];
+
+
+		double[][] v = new double[m+1][];
+		double[][] t = new double[m][m];
+
+		// Normalize the initial vector.
+		v[0] = new double[n];
+		for(int i = 0; i < n; i++)
+		{
+			v[0][i] = start.get(i);
+		}
+
+		double norm = Doubles.sqrt(dot(v[0], v[0]));
+		for(int i = 0; i < n; i++)
+		{
+			v[0][i] /= norm;
+		}
+
+
+		loops = 0;
+		int p = 0;
+		while(true)
+		{
+			double beta = 0d;
+			// Expand the Krylov basis.
+			for(int j = p; j < m; j++)
+			{
+				double[] w = apply(a, v[j]);
+				double wn = Doubles.sqrt(dot(w, w));
+				double[] h = orthogonalize(v, j+1, w);
+				for(int i = 0; i <= j; i++)
+				{
+					t[i][j] = h[i];
+					t[j][i] = h[i];
+				}
+
+				beta = Doubles.sqrt(dot(w, w));
+				// If the basis spans an invariant subspace...
+				if(beta <= e * e * wn)
+				{
+					// ...continue with a random direction.
+					beta = 0d;
+					w = new double[n];
+					if(j + 1 < n)
+					{
+						Vector r = Vectors.random(n);
+						for(int i = 0; i < n; i++)
+						{
+							w[i] = r.get(i);
+						}
+
+						orthogonalize(v, j+1, w);
+					}
+
+					norm = Doubles.sqrt(dot(w, w));
+					if(norm == 0d) norm = 1d;
+				}
+				else
+				{
+					norm = beta;
+				}
+
+				for(int i = 0; i < n; i++)
+				{
+					w[i] /= norm;
+				}
+
+				v[j+1] = w;
+			}
+
+
+			// Compute the Ritz pairs.
+			double[][] s = new double[m][];
+			for(int i = 0; i < m; i++)
+			{
+				s[i] = t[i].clone();
+			}
+
+			ESSymmetric es = new ESSymmetric(s, true);
+			double[] theta = es.values();
+			double[][] y = es.vectors();
+			int[] sel = sort(theta);
+
+			// Check the convergence of the wanted pairs.
+			double scale = 0d;
+			for(int i = 0; i < m; i++)
+			{
+				if(scale < Doubles.abs(theta[i]))
+					scale = Doubles.abs(theta[i]);
+			}
+
+			boolean done = true;
+			for(int i = 0; i < k; i++)
+			{
+				double res = Doubles.abs(beta * y[sel[i]][m-1]);
+				if(e * scale < res)
+				{
+					done = false;
+					break;
+				}
+			}
+
+			// Restart with the wanted Ritz vectors.
+			int q = done || lMax <= ++loops ? k : Integers.min(m-1, k + (m-k) / 2);
+			double[][] u = new double[q+1][];
+			for(int i = 0; i < q; i++)
+			{
+				double[] yi = y[sel[i]];
+				double[] ui = new double[n];
+				IntStream.range(0, n).parallel().forEach(r ->
+				{
+					double sum = 0d;
+					for(int l = 0; l < m; l++)
+					{
+						sum += v[l][r] * yi[l];
+					}
+
+					ui[r] = sum;
+				});
+
+				u[i] = ui;
+			}
+
+			if(done || lMax <= loops)
+			{
+				EigenPair[] result = new EigenPair[k];
+				for(int i = 0; i < k; i++)
+				{
+					Vector x = Vectors.create(n);
+					for(int r = 0; r < n; r++)
+					{
+						x.set((float) u[i][r], r);
+					}
+
+					result[i] = new EigenPair(x, (float) theta[sel[i]]);
+				}
+
+				return result;
+			}
+
+
+			u[q] = v[m];
+			for(int i = 0; i <= q; i++)
+			{
+				v[i] = u[i];
+			}
+
+			for(int i = 0; i < m; i++)
+			{
+				Arrays.fill(t[i], 0d);
+			}
+
+			for(int i = 0; i < q; i++)
+			{
+				t[i][i] = theta[sel[i]];
+			}
+
+			p = q;
+		}
+	}
+}
\ No newline at end of file
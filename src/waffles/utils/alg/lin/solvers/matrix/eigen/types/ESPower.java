@@ -1,5 +1,6 @@
 package waffles.utils.alg.lin.solvers.matrix.eigen.types;
 
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
 import waffles.utils.alg.lin.measure.vector.Vector;
@@ -65,7 +66,7 @@ public class ESPower implements EigenSolver
 			float l = est.Value();
 			
 			double e = Hints().Error();
-			Matrix m = Hints().Matrix();
+			LinearOperator a = Hints().Operator();
 			int lMax = Hints().MaxLoops();
 			float norm = Floats.MAX_VALUE;
 			
@@ -76,7 +77,7 @@ public class ESPower implements EigenSolver
 			while(err < norm)
 			{
 				// Iterate the vector.
-				w = m.times(v);
+				w = a.apply(v);
 				
 				// Calculate the error.
 				float dot = v.dot(w);
@@ -88,7 +89,7 @@ public class ESPower implements EigenSolver
 					break;
 			}
 			
-			l = Rayleigh.coefficient(m, v);
+			l = Rayleigh.coefficient(a, v);
 			return new EigenPair(v, l);
 		}
 
@@ -1,18 +1,22 @@
 package waffles.utils.alg.lin.solvers.matrix.eigen.types;
 
-import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
 import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
 import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
-import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCrout;
+import waffles.utils.alg.lin.solvers.matrix.exact.types.LUShifted;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSGMRes;
 import waffles.utils.alg.utilities.matrix.Rayleigh;
 import waffles.utils.tools.primitives.Doubles;
 import waffles.utils.tools.primitives.Floats;
 
 /**
  * The {@code ESPower} algorithm approximates eigenvectors through {@code Rayleigh} iteration.
+ * The matrix is reduced to Hessenberg form once, such that every shifted solve
+ * only requires {@code O(n^2)} operations, or {@code O(n)} if it is symmetric.
+ * Matrix-free operators are solved approximately with {@code GMRES} instead.
  *
  * @author Waffles
  * @since Jul 14, 2018
@@ -45,7 +49,10 @@ public class ESRayleigh implements EigenSolver
 	
 	
 	private Hints hints;
-	private LUCrout slv;
+	private LUShifted slv;
+	private LinearOperator opr;
+	private Matrix mat;
+	private State state;
 	
 	/**
 	 * Creates a new {@code ESRayleigh}.
@@ -80,49 +87,78 @@ public class ESRayleigh implements EigenSolver
 	}
 
 	
-	LUCrout ShiftedCrout(Matrix s)
+	State State()
 	{
-		return new LUCrout(new LUCrout.Hints()
+		// The hints are read once,
+		// since they may copy the matrix.
+		if(state == null)
 		{
-			@Override
-			public Matrix Matrix()
-			{
-				return s;
-			}
-
-			@Override
-			public double Error()
+			state = Hints().State();
+			opr = Hints().Operator();
+			if(opr instanceof Matrix)
+				mat = (Matrix) opr;
+			else
+				mat = Hints().Matrix();
+		}
+		
+		return state;
+	}
+	
+	Vector solve(float l, Vector v)
+	{
+		Matrix m = mat;
+		if(m == null)
+		{
+			LinearOperator s = ESInverse.shift(opr, l);
+			// Matrix-free operators are solved with GMRES.
+			KSGMRes gmr = new KSGMRes(new KSGMRes.Hints()
 			{
-				return ESRayleigh.this.Hints().Error();
-			}
-		});
+				@Override
+				public LinearOperator Operator()
+				{
+					return s;
+				}
+				
+				@Override
+				public int MaxLoops()
+				{
+					return Restart();
+				}
+			});
+			
+			return gmr.solve(v);
+		}
+		
+		if(slv == null)
+		{
+			slv = new LUShifted(() -> m);
+		}
+		
+		return slv.solve(l, v);
 	}
 	
 	@Override
 	public EigenPair approx(EigenPair est)
 	{
-		if(Hints().State() == State.VALID)
+		if(State() == State.VALID)
 		{
 			Vector w = est.Key();
 			float l = est.Value();
 			
 			double e = Hints().Error();
-			Matrix m = Hints().Matrix();
+			LinearOperator a = opr;
 			int lMax = Hints().MaxLoops();
 			float norm = Floats.MAX_VALUE;
 			
 			
 			int loops = 0;
-			Matrix s = null;
 			Vector v = w.normalize();
 			double err = Doubles.pow(e, 4);
 			while(err < norm)
 			{
 				// Iterate the vector.
-				l = Rayleigh.coefficient(m, v);
-				s = Matrices.shift(m, -l);
-				slv = ShiftedCrout(s);
-				w = slv.solve(v);
+				l = Rayleigh.coefficient(a, v);
+				w = solve(l, v);
 				
 				// Calculate the error.
 				float dot = v.dot(w);
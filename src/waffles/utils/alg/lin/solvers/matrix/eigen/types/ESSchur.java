@@ -0,0 +1,953 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperHessenberg;
+import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.measure.vector.complex.Complex;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
+import waffles.utils.alg.utilities.matrix.Householder;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code ESSchur} algorithm computes the full spectrum of a general square matrix.
+ * The matrix is first reduced to {@code Hessenberg} form with {@code Householder} reflections,
+ * after which {@code Francis} double-shift QR iteration reduces it to the real Schur form
+ * {@code M = ZTZ*}, where Z is {@code Orthogonal} and T is quasi-triangular. Complex
+ * eigenvalues appear as conjugate pairs in 2x2 diagonal blocks of T. A window at
+ * the bottom of the active block is checked for early deflation before each sweep.
+ * If the iteration does not converge within the maximum loops of its hints,
+ * the factorization fails and all results are {@code null}.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/QR_algorithm">Wikipedia</a>
+ * @see EigenSolver
+ */
+public class ESSchur implements EigenSolver
+{
+	/**
+	 * The {@code Hints} interface defines settings for an {@code ESSchur}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends EigenSolver.Hints
+	{
+		/**
+		 * Defines the default deflation window of the {@code Hints}.
+		 */
+		public static final int DEF_WINDOW = 12;
+
+
+		/**
+		 * Returns the state of the {@code Hints}.
+		 *
+		 * @return  a solver state
+		 *
+		 *
+		 * @see State
+		 */
+		@Override
+		public default State State()
+		{
+			if(Matrix() == null)
+				return State.INVALID;
+			return EigenSolver.Hints.super.State();
+		}
+
+		/**
+		 * Returns the deflation window of the {@code Hints}.
+		 * Early deflation is only attempted on active
+		 * blocks more than twice this size.
+		 *
+		 * @return  a window size
+		 */
+		public default int Window()
+		{
+			return DEF_WINDOW;
+		}
+
+		/**
+		 * Checks if the {@code Hints} require Schur vectors.
+		 * If not, the matrix is balanced before reduction
+		 * to improve the accuracy of the eigenvalues.
+		 *
+		 * @return  {@code true} if vectors are computed
+		 */
+		public default boolean Vectors()
+		{
+			return true;
+		}
+	}
+
+
+	private static final double EPSILON = Doubles.pow(2, -52);
+	private static final double HUGE = Doubles.pow(2, 500);
+
+
+	private int loops;
+	private boolean valid;
+	private double norm;
+	private double[] shift;
+	private Hints hints;
+	private double[][] h, z;
+	private Complex[] vals;
+	private Matrix t, q;
+
+	/**
+	 * Creates a new {@code ESSchur}.
+	 *
+	 * @param h  solver hints
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESSchur(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code ESSchur}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESSchur(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+	ESSchur(double[][] a)
+	{
+		this(() -> null);
+
+		h = a;
+		valid = schur(false);
+	}
+
+	/**
+	 * Returns the Schur form of the {@code ESSchur}.
+	 * This is an upper quasi-triangular matrix, with
+	 * 2x2 diagonal blocks for complex eigenvalues.
+	 *
+	 * @return  a quasi-triangular matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix T()
+	{
+		if(t == null)
+		{
+			if(factor())
+			{
+				int n = h.length;
+				boolean tri = true;
+				t = Matrices.create(n, n);
+				for(int r = 0; r < n; r++)
+				{
+					for(int c = Integers.max(r-1, 0); c < n; c++)
+					{
+						t.set((float) h[r][c], r, c);
+					}
+
+					if(0 < r && h[r][r-1] != 0d)
+					{
+						tri = false;
+					}
+				}
+
+				if(tri)
+					t.setOperator(UpperTriangular.Type());
+				else
+					t.setOperator(UpperHessenberg.Type());
+			}
+		}
+
+		return t;
+	}
+
+	/**
+	 * Returns the Schur vectors of the {@code ESSchur}.
+	 * These are only available if vectors
+	 * were requested in the solver hints.
+	 *
+	 * @return  an orthogonal matrix
+	 *
+	 *
+	 * @see Orthogonal
+	 * @see Matrix
+	 */
+	public Matrix Z()
+	{
+		if(q == null)
+		{
+			if(factor() && z != null)
+			{
+				int n = z.length;
+				q = Matrices.create(n, n);
+				for(int r = 0; r < n; r++)
+				{
+					for(int c = 0; c < n; c++)
+					{
+						q.set((float) z[r][c], r, c);
+					}
+				}
+
+				q.setOperator(Orthogonal.Type());
+			}
+		}
+
+		return q;
+	}
+
+	/**
+	 * Returns the eigenvalues of the {@code ESSchur}.
+	 * These are given in the order of the Schur form,
+	 * with complex conjugate pairs next to each other.
+	 *
+	 * @return  a complex value array
+	 *
+	 *
+	 * @see Complex
+	 */
+	public Complex[] Values()
+	{
+		if(vals == null)
+		{
+			if(factor())
+			{
+				int n = h.length;
+				vals = new Complex[n];
+				// For each diagonal block...
+				for(int i = 0; i < n; i++)
+				{
+					// ...check if it is a 2x2 block.
+					if(i < n-1 && h[i+1][i] != 0d)
+					{
+						double a = h[i][i],   b = h[i][i+1];
+						double c = h[i+1][i], d = h[i+1][i+1];
+
+						double m = (a - d) / 2d;
+						double s = m * m + b * c;
+						double x = d + m;
+
+						if(s < 0d)
+						{
+							float im = (float) Doubles.sqrt(-s);
+							vals[i]   = new Complex((float) x,  im);
+							vals[i+1] = new Complex((float) x, -im);
+						}
+						else
+						{
+							float re = (float) Doubles.sqrt(s);
+							vals[i]   = new Complex((float) x + re, 0f);
+							vals[i+1] = new Complex((float) x - re, 0f);
+						}
+
+						i++;
+					}
+					else
+					{
+						vals[i] = new Complex((float) h[i][i], 0f);
+					}
+				}
+			}
+		}
+
+		return vals;
+	}
+
+	/**
+	 * Returns the sweep count of the {@code ESSchur}.
+	 *
+	 * @return  a sweep count
+	 */
+	public int Loops()
+	{
+		return loops;
+	}
+
+
+	@Override
+	public EigenPair approx(EigenPair est)
+	{
+		if(factor())
+		{
+			int k = -1;
+			int n = h.length;
+			float l = est.Value();
+			// Find the closest real eigenvalue.
+			for(int i = 0; i < n; i++)
+			{
+				boolean real = (i == 0 || h[i][i-1] == 0d)
+						&& (i == n-1 || h[i+1][i] == 0d);
+				if(real)
+				{
+					if(k < 0 || Doubles.abs(h[i][i] - l) < Doubles.abs(h[k][k] - l))
+					{
+						k = i;
+					}
+				}
+			}
+
+			if(k < 0)
+				return null;
+			if(z == null)
+				return new EigenPair(n, (float) h[k][k]);
+			return new EigenPair(vector(k), (float) h[k][k]);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	static double house(double[] x, int m, double[] v)
+	{
+		double s = 0d;
+		for(int i = 1; i < m; i++)
+		{
+			s += Doubles.abs(x[i]);
+		}
+
+		// If the column is already reduced...
+		if(s == 0d)
+		{
+			// ...no reflection is needed.
+			return 0d;
+		}
+
+		s += Doubles.abs(x[0]);
+		double nrm = 0d;
+		for(int i = 0; i < m; i++)
+		{
+			double xi = x[i] / s;
+			nrm += xi * xi;
+		}
+
+		double beta = s * Doubles.sqrt(nrm);
+		if(0d < x[0]) beta = -beta;
+
+		v[0] = 1d;
+		for(int i = 1; i < m; i++)
+		{
+			v[i] = x[i] / (x[0] - beta);
+		}
+
+		return (beta - x[0]) / beta;
+	}
+
+	static void reflect(double[][] h, double[][] z, double[] v, double tau, int k, int m, int c0, int r1)
+	{
+		int n = h.length;
+		// Apply the reflection to the rows.
+		for(int c = c0; c < n; c++)
+		{
+			double s = 0d;
+			for(int i = 0; i < m; i++)
+			{
+				s += v[i] * h[k+i][c];
+			}
+
+			s *= tau;
+			for(int i = 0; i < m; i++)
+			{
+				h[k+i][c] -= s * v[i];
+			}
+		}
+
+		// Apply the reflection to the columns.
+		for(int r = 0; r <= r1; r++)
+		{
+			reflect(h[r], v, tau, k, m);
+		}
+
+		if(z != null)
+		{
+			for(int r = 0; r < z.length; r++)
+			{
+				reflect(z[r], v, tau, k, m);
+			}
+		}
+	}
+
+	static void reflect(double[] x, double[] v, double tau, int k, int m)
+	{
+		double s = 0d;
+		for(int i = 0; i < m; i++)
+		{
+			s += x[k+i] * v[i];
+		}
+
+		s *= tau;
+		for(int i = 0; i < m; i++)
+		{
+			x[k+i] -= s * v[i];
+		}
+	}
+
+	static void balance(double[][] h)
+	{
+		int n = h.length;
+		boolean done = false;
+		// While the row and column norms differ...
+		while(!done)
+		{
+			done = true;
+			for(int i = 0; i < n; i++)
+			{
+				double c = 0d;
+				double r = 0d;
+				for(int j = 0; j < n; j++)
+				{
+					if(j != i)
+					{
+						c += Doubles.abs(h[j][i]);
+						r += Doubles.abs(h[i][j]);
+					}
+				}
+
+				if(c == 0d || r == 0d)
+				{
+					continue;
+				}
+
+				// ...scale them with a power of two.
+				double f = 1d;
+				double s = c + r;
+				while(c < r / 2d)
+				{
+					f *= 2d;
+					c *= 4d;
+				}
+
+				while(c > r * 2d)
+				{
+					f /= 2d;
+					c /= 4d;
+				}
+
+				if((c + r) / f < 0.95d * s)
+				{
+					done = false;
+					for(int j = 0; j < n; j++)
+					{
+						h[i][j] /= f;
+						h[j][i] *= f;
+					}
+				}
+			}
+		}
+	}
+
+	void reduce(double[][] h, double[][] z, int lo, int hi)
+	{
+		// For each column of the block...
+		for(int c = lo; c < hi-1; c++)
+		{
+			// ...reflect the entries below the subdiagonal.
+			if(Householder.reflect(h, z, c, hi, 0d))
+			{
+				for(int i = c+2; i <= hi; i++)
+				{
+					h[i][c] = 0d;
+				}
+			}
+		}
+	}
+
+	void standardize(double[][] h, double[][] z, int p)
+	{
+		int n = h.length;
+		int q = p + 1;
+
+		double m = (h[p][p] - h[q][q]) / 2d;
+		double s = m * m + h[p][q] * h[q][p];
+		// If the block has complex eigenvalues...
+		if(s < 0d)
+		{
+			// ...it is left as is.
+			return;
+		}
+
+		// Compute the rotation which splits the block.
+		double w = Doubles.sqrt(s);
+		w = 0d <= m ? m + w : m - w;
+		double x = h[q][p];
+
+		double r = ESSymmetric.hypot(x, w);
+		if(r == 0d)
+			return;
+		double sn = x / r;
+		double cs = w / r;
+
+		for(int c = p; c < n; c++)
+		{
+			double y = h[p][c];
+			h[p][c] = cs * y + sn * h[q][c];
+			h[q][c] = cs * h[q][c] - sn * y;
+		}
+
+		for(int i = 0; i <= q; i++)
+		{
+			double y = h[i][p];
+			h[i][p] = cs * y + sn * h[i][q];
+			h[i][q] = cs * h[i][q] - sn * y;
+		}
+
+		if(z != null)
+		{
+			for(int i = 0; i < z.length; i++)
+			{
+				double y = z[i][p];
+				z[i][p] = cs * y + sn * z[i][q];
+				z[i][q] = cs * z[i][q] - sn * y;
+			}
+		}
+
+		h[q][p] = 0d;
+	}
+
+	void sweep(double[][] h, double[][] z, int l, int u, int its)
+	{
+		double s, d;
+		// Compute the double shift.
+		if(its % 10 == 0)
+		{
+			// Use an exceptional shift to break cycles.
+			double e = Doubles.abs(h[u][u-1]) + Doubles.abs(h[u-1][u-2]);
+			double a = 0.75d * e + h[u][u];
+			s = 2d * a;
+			d = a * a + 0.4375d * e * e;
+		}
+		else if(shift != null)
+		{
+			// Use the shift of the deflation window.
+			s = shift[0];
+			d = shift[1];
+		}
+		else
+		{
+			s = h[u-1][u-1] + h[u][u];
+			d = h[u-1][u-1] * h[u][u] - h[u-1][u] * h[u][u-1];
+		}
+
+		// Compute the first column of the shifted polynomial.
+		double[] x = new double[3];
+		double[] v = new double[3];
+		x[0] = h[l][l] * h[l][l] + h[l][l+1] * h[l+1][l] - s * h[l][l] + d;
+		x[1] = h[l+1][l] * (h[l][l] + h[l+1][l+1] - s);
+		x[2] = h[l+1][l] * h[l+2][l+1];
+
+		// Chase the bulge down the subdiagonal.
+		for(int k = l; k < u; k++)
+		{
+			int m = Integers.min(3, u - k + 1);
+			if(l < k)
+			{
+				for(int i = 0; i < m; i++)
+				{
+					x[i] = h[k+i][k-1];
+				}
+			}
+
+			double tau = house(x, m, v);
+			if(tau != 0d)
+			{
+				int c0 = l < k ? k-1 : k;
+				reflect(h, z, v, tau, k, m, c0, Integers.min(k+3, u));
+				if(l < k)
+				{
+					for(int i = 1; i < m; i++)
+					{
+						h[k+i][k-1] = 0d;
+					}
+				}
+			}
+		}
+	}
+
+	int deflate(double[][] h, double[][] z, int l, int u, int w)
+	{
+		int n = h.length;
+		int kw = u - w + 1;
+
+		// Compute the Schur form of the window.
+		double[][] tw = new double[w][w];
+		double[][] uw = new double[w][w];
+		for(int r = 0; r < w; r++)
+		{
+			for(int c = Integers.max(r-1, 0); c < w; c++)
+			{
+				tw[r][c] = h[kw+r][kw+c];
+			}
+
+			uw[r][r] = 1d;
+		}
+
+		if(!iterate(tw, uw, 0, w-1, 0))
+		{
+			return 0;
+		}
+
+		// Check the spike from the bottom up.
+		int k = 0;
+		int j = w-1;
+		double s = h[kw][kw-1];
+		while(0 <= j)
+		{
+			int b = 0 < j && tw[j][j-1] != 0d ? 2 : 1;
+			double tol = Doubles.abs(tw[j][j]);
+			if(b == 2)
+			{
+				tol += Doubles.sqrt(Doubles.abs(tw[j][j-1]))
+					 * Doubles.sqrt(Doubles.abs(tw[j-1][j]));
+			}
+
+			if(tol == 0d)
+			{
+				tol = Doubles.abs(s);
+			}
+
+			boolean neg = Doubles.abs(s * uw[0][j]) <= EPSILON * tol;
+			if(b == 2 && Doubles.abs(s * uw[0][j-1]) > EPSILON * tol)
+			{
+				neg = false;
+			}
+
+			if(!neg) break;
+			k += b;
+			j -= b;
+		}
+
+		// If nothing can be deflated...
+		if(k == 0)
+		{
+			// ...only its eigenvalues are used as shifts.
+			shift = shift(tw, w-1);
+			return 0;
+		}
+
+
+		// Apply the window transformation.
+		for(int r = 0; r < w; r++)
+		{
+			for(int c = 0; c < w; c++)
+			{
+				h[kw+r][kw+c] = tw[r][c];
+			}
+		}
+
+		double[] y = new double[w];
+		for(int c = u+1; c < n; c++)
+		{
+			for(int i = 0; i < w; i++)
+			{
+				y[i] = 0d;
+				for(int r = 0; r < w; r++)
+				{
+					y[i] += uw[r][i] * h[kw+r][c];
+				}
+			}
+
+			for(int i = 0; i < w; i++)
+			{
+				h[kw+i][c] = y[i];
+			}
+		}
+
+		for(int r = 0; r < kw; r++)
+		{
+			rotate(h[r], uw, kw, y);
+		}
+
+		if(z != null)
+		{
+			for(int r = 0; r < z.length; r++)
+			{
+				rotate(z[r], uw, kw, y);
+			}
+		}
+
+		// Restore the Hessenberg form of the remaining block.
+		for(int i = 0; i < w; i++)
+		{
+			h[kw+i][kw-1] = i < w - k ? s * uw[0][i] : 0d;
+		}
+
+		reduce(h, z, kw-1, u-k);
+		return k;
+	}
+
+	static void rotate(double[] x, double[][] u, int k, double[] y)
+	{
+		int w = y.length;
+		for(int i = 0; i < w; i++)
+		{
+			y[i] = 0d;
+			for(int r = 0; r < w; r++)
+			{
+				y[i] += x[k+r] * u[r][i];
+			}
+		}
+
+		for(int i = 0; i < w; i++)
+		{
+			x[k+i] = y[i];
+		}
+	}
+
+	static double[] shift(double[][] t, int u)
+	{
+		// If the bottom block is 2x2...
+		if(t[u][u-1] != 0d)
+		{
+			// ...use both of its eigenvalues.
+			double s = t[u-1][u-1] + t[u][u];
+			double d = t[u-1][u-1] * t[u][u] - t[u-1][u] * t[u][u-1];
+			return new double[]{s, d};
+		}
+
+		// Otherwise, use the bottom eigenvalue twice.
+		double l = t[u][u];
+		if(u < 2 || t[u-1][u-2] == 0d)
+		{
+			// If the one above is real, use both instead.
+			double k = t[u-1][u-1];
+			return new double[]{l + k, l * k};
+		}
+
+		return new double[]{2d * l, l * l};
+	}
+
+	int split(double[][] h, int lo, int u)
+	{
+		int l = u;
+		while(lo < l)
+		{
+			double s = Doubles.abs(h[l-1][l-1]) + Doubles.abs(h[l][l]);
+			if(s == 0d)
+				s = norm;
+			if(Doubles.abs(h[l][l-1]) <= EPSILON * s)
+			{
+				h[l][l-1] = 0d;
+				break;
+			}
+
+			l--;
+		}
+
+		return l;
+	}
+
+	boolean iterate(double[][] h, double[][] z, int lo, int hi, int w)
+	{
+		int lMax = Hints().MaxLoops();
+
+		int its = 0;
+		int u = hi;
+		// While the active block is not yet triangular...
+		while(lo <= u)
+		{
+			// ...find a negligible subdiagonal element.
+			int l = split(h, lo, u);
+			if(l == u)
+			{
+				u--; its = 0;
+				continue;
+			}
+
+			if(l == u-1)
+			{
+				standardize(h, z, l);
+				u -= 2; its = 0;
+				continue;
+			}
+
+			// Attempt to deflate a bottom window early.
+			shift = null;
+			if(0 < w && 2 * w < u - l + 1)
+			{
+				int k = deflate(h, z, l, u, w);
+				if(0 < k)
+				{
+					u -= k; its = 0;
+					continue;
+				}
+			}
+
+			if(lMax <= its++)
+				return false;
+
+			loops++;
+			sweep(h, z, l, u, its);
+		}
+
+		return true;
+	}
+
+	Vector vector(int k)
+	{
+		int n = h.length;
+		double l = h[k][k];
+		double eps = EPSILON * norm;
+		if(eps == 0d) eps = EPSILON;
+
+		double[] y = new double[k+1];
+		y[k] = 1d;
+
+		// Solve the quasi-triangular system upwards.
+		int i = k-1;
+		while(0 <= i)
+		{
+			int b = 0 < i && h[i][i-1] != 0d ? 2 : 1;
+			double r0 = 0d, r1 = 0d;
+			for(int j = i+1; j <= k; j++)
+			{
+				r1 += h[i][j] * y[j];
+				if(b == 2)
+				{
+					r0 += h[i-1][j] * y[j];
+				}
+			}
+
+			if(b == 2)
+			{
+				double a = h[i-1][i-1] - l, c = h[i][i-1];
+				double e = h[i-1][i],   d = h[i][i] - l;
+				double det = a * d - e * c;
+				if(Doubles.abs(det) < eps)
+					det = eps;
+
+				y[i-1] = (e * r1 - d * r0) / det;
+				y[i]   = (c * r0 - a * r1) / det;
+			}
+			else
+			{
+				double d = h[i][i] - l;
+				if(Doubles.abs(d) < eps)
+					d = eps;
+				y[i] = -r1 / d;
+			}
+
+			// Rescale to avoid overflow.
+			double m = Doubles.abs(y[i]);
+			if(b == 2 && m < Doubles.abs(y[i-1]))
+				m = Doubles.abs(y[i-1]);
+			if(HUGE < m)
+			{
+				for(int j = i-b+1; j <= k; j++)
+				{
+					y[j] /= m;
+				}
+			}
+
+			i -= b;
+		}
+
+		// Transform back with the Schur vectors.
+		Vector x = Vectors.create(n);
+		for(int r = 0; r < n; r++)
+		{
+			double s = 0d;
+			for(int j = 0; j <= k; j++)
+			{
+				s += z[r][j] * y[j];
+			}
+
+			x.set((float) s, r);
+		}
+
+		return x.normalize();
+	}
+
+	boolean factor()
+	{
+		if(h == null)
+		{
+			if(Hints().State() != State.VALID)
+				return false;
+
+			Matrix m = Hints().Matrix();
+			boolean vecs = Hints().Vectors();
+
+			int n = m.Rows();
+			h = new double[n][n];
+			for(int r = 0; r < n; r++)
+			{
+				for(int c = 0; c < n; c++)
+				{
+					h[r][c] = m.get(r, c);
+				}
+			}
+
+			if(vecs)
+			{
+				z = new double[n][n];
+				for(int i = 0; i < n; i++)
+				{
+					z[i][i] = 1d;
+				}
+			}
+
+			valid = schur(m.is(UpperHessenberg.Type()));
+		}
+
+		return valid;
+	}
+
+	boolean schur(boolean hess)
+	{
+		int n = h.length;
+		if(z == null)
+		{
+			balance(h);
+		}
+
+		if(!hess)
+		{
+			reduce(h, z, 0, n-1);
+		}
+
+		norm = 0d;
+		for(int r = 0; r < n; r++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				norm += Doubles.abs(h[r][c]);
+			}
+		}
+
+		loops = 0;
+		// The factorization fails if the iteration does not converge.
+		return iterate(h, z, 0, n-1, Hints().Window());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,346 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import java.util.Arrays;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
+import waffles.utils.alg.lin.solvers.matrix.square.types.LSGramSchmidt;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code ESSubspace} algorithm approximates eigenvectors through block power iteration.
+ * A block of {@code k} vectors is multiplied with the operator in a single matrix product,
+ * and orthonormalized through {@code QR} factorization. A {@code Rayleigh-Ritz} projection
+ * extracts the dominant eigenpairs, which are locked once they converge, so that
+ * the remaining iterations only multiply the active part of the block.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Power_iteration">Wikipedia</a>
+ * @see EigenSolver
+ */
+public class ESSubspace implements EigenSolver
+{
+	/**
+	 * The {@code Hints} interface defines settings for an {@code ESSubspace}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends EigenSolver.Hints
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 *
+		 * @return  a solver state
+		 *
+		 *
+		 * @see State
+		 */
+		@Override
+		public default State State()
+		{
+			Matrix m = Matrix();
+			if(m != null && !m.allows(Symmetric.Type(), Error()))
+				return State.INVALID;
+			return EigenSolver.Hints.super.State();
+		}
+
+		/**
+		 * Returns the pair count of the {@code Hints}.
+		 *
+		 * @return  a pair count
+		 */
+		public default int Count()
+		{
+			return 1;
+		}
+	}
+
+
+	private int loops;
+	private Hints hints;
+	private EigenPair[] pairs;
+
+	/**
+	 * Creates a new {@code ESSubspace}.
+	 *
+	 * @param h  solver hints
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESSubspace(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code ESSubspace}.
+	 *
+	 * @param m  a base matrix
+	 * @param k  a pair count
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public ESSubspace(Matrix m, int k)
+	{
+		this(new Hints()
+		{
+			private Matrix b = m.copy().destroy();
+
+			@Override
+			public LinearOperator Operator()
+			{
+				return b;
+			}
+
+			@Override
+			public int Count()
+			{
+				return k;
+			}
+		});
+	}
+
+	/**
+	 * Returns the eigen pairs of the {@code ESSubspace}.
+	 * These are sorted by descending magnitude,
+	 * starting from a random initial block.
+	 *
+	 * @return  an eigen pair array
+	 *
+	 *
+	 * @see EigenPair
+	 */
+	public EigenPair[] Pairs()
+	{
+		if(pairs == null)
+		{
+			if(Hints().State() == State.VALID)
+			{
+				int n = Hints().Operator().Rows();
+				int k = Integers.min(Hints().Count(), n);
+				pairs = iterate(Matrices.random(n, k));
+			}
+		}
+
+		return pairs;
+	}
+
+	/**
+	 * Returns the iteration count of the {@code ESSubspace}.
+	 *
+	 * @return  an iteration count
+	 */
+	public int Loops()
+	{
+		return loops;
+	}
+
+
+	@Override
+	public EigenPair approx(EigenPair est)
+	{
+		if(Hints().State() == State.VALID)
+		{
+			Vector v = est.Key();
+			int n = Hints().Operator().Rows();
+			int k = Integers.min(Hints().Count(), n);
+
+			// Seed the block with the estimate.
+			Matrix x = Matrices.random(n, k);
+			for(int r = 0; r < n; r++)
+			{
+				x.set(v.get(r), r, 0);
+			}
+
+			pairs = iterate(x);
+			if(pairs.length > 0)
+				return pairs[0];
+		}
+
+		return null;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	Matrix product(Matrix q)
+	{
+		LinearOperator a = Hints().Operator();
+		if(a instanceof Matrix)
+		{
+			return ((Matrix) a).times(q);
+		}
+
+		Vector[] cols = new Vector[q.Columns()];
+		for(int c = 0; c < cols.length; c++)
+		{
+			cols[c] = a.apply(q.Column(c));
+		}
+
+		return Matrices.concat(cols);
+	}
+
+	Matrix orthonormalize(Vector[] lock, int l, Matrix b)
+	{
+		int k = b.Columns();
+		Vector[] cols = new Vector[l + k];
+		for(int c = 0; c < l; c++)
+		{
+			cols[c] = lock[c];
+		}
+
+		for(int c = 0; c < k; c++)
+		{
+			cols[l + c] = b.Column(c);
+		}
+
+		// Orthonormalize against the locked vectors.
+		Matrix m = Matrices.concat(cols);
+		Matrix q = new LSGramSchmidt(m).Q();
+		if(l == 0)
+			return q;
+
+		for(int c = 0; c < k; c++)
+		{
+			cols[c] = q.Column(l + c);
+		}
+
+		return Matrices.concat(Arrays.copyOf(cols, k));
+	}
+
+	EigenPair[] iterate(Matrix x)
+	{
+		double e = Hints().Error();
+		int lMax = Hints().MaxLoops();
+
+		int n = x.Rows();
+		int k = x.Columns();
+		if(k == 0)
+			return new EigenPair[0];
+
+
+		int l = 0;
+		float[] vals = new float[k];
+		Vector[] lock = new Vector[k];
+		Matrix q = orthonormalize(lock, 0, x);
+
+		loops = 0;
+		while(l < k)
+		{
+			int ka = k - l;
+			// Multiply the active block.
+			Matrix z = product(q);
+			Matrix h = q.transpose().times(z);
+
+			// Compute the Rayleigh-Ritz projection.
+			double[][] s = new double[ka][ka];
+			for(int r = 0; r < ka; r++)
+			{
+				for(int c = 0; c < ka; c++)
+				{
+					s[r][c] = (h.get(r, c) + h.get(c, r)) / 2d;
+				}
+			}
+
+			ESSymmetric es = new ESSymmetric(s, true);
+			double[] theta = es.values();
+			double[][] y = es.vectors();
+
+			// Sort the Ritz pairs by magnitude.
+			int[] sel = new int[ka];
+			for(int i = 0; i < ka; i++)
+			{
+				sel[i] = i;
+			}
+
+			for(int i = 1; i < ka; i++)
+			{
+				for(int j = i; j > 0; j--)
+				{
+					if(Doubles.abs(theta[sel[j-1]]) < Doubles.abs(theta[sel[j]]))
+					{
+						int t = sel[j];
+						sel[j] = sel[j-1];
+						sel[j-1] = t;
+					}
+				}
+			}
+
+			Matrix w = Matrices.create(ka, ka);
+			for(int c = 0; c < ka; c++)
+			{
+				for(int r = 0; r < ka; r++)
+				{
+					w.set((float) y[sel[c]][r], r, c);
+				}
+			}
+
+			Matrix qw = q.times(w);
+			Matrix zw = z.times(w);
+
+			double scale = Doubles.abs(theta[sel[0]]);
+			if(0 < l && scale < Doubles.abs(vals[0]))
+				scale = Doubles.abs(vals[0]);
+
+			// Lock the converged leading pairs.
+			int c = 0;
+			boolean last = lMax <= ++loops;
+			while(c < ka)
+			{
+				float t = (float) theta[sel[c]];
+				Vector vc = qw.Column(c);
+				Vector rc = zw.Column(c).minus(vc.times(t));
+				if(!last && e * scale < rc.norm())
+					break;
+
+				lock[l] = vc;
+				vals[l] = t;
+				l++; c++;
+			}
+
+			if(l < k)
+			{
+				// Orthonormalize the remaining block.
+				Vector[] rest = new Vector[ka - c];
+				for(int i = c; i < ka; i++)
+				{
+					rest[i - c] = zw.Column(i);
+				}
+
+				q = orthonormalize(lock, l, Matrices.concat(rest));
+			}
+		}
+
+
+		EigenPair[] result = new EigenPair[k];
+		for(int i = 0; i < k; i++)
+		{
+			result[i] = new EigenPair(lock[i], vals[i]);
+		}
+
+		return result;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,637 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Tridiagonal;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenSolver;
+import waffles.utils.alg.lin.solvers.matrix.square.Spectral;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code ESSymmetric} algorithm computes the full spectrum of a {@code Symmetric} matrix.
+ * The matrix is first reduced to tridiagonal form with {@code Householder} reflections,
+ * after which implicitly shifted QL iteration diagonalizes it in {@code O(n^3)} operations.
+ * Eigenvalues are sorted in ascending order, and the corresponding eigenvectors
+ * are only accumulated if requested in the solver hints.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/QR_algorithm">Wikipedia</a>
+ * @see EigenSolver
+ * @see Spectral
+ */
+public class ESSymmetric implements EigenSolver, Spectral
+{
+	/**
+	 * The {@code Hints} interface defines settings for an {@code ESSymmetric}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends EigenSolver.Hints
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 *
+		 * @return  a solver state
+		 *
+		 *
+		 * @see State
+		 */
+		@Override
+		public default State State()
+		{
+			Matrix m = Matrix();
+			if(m != null && m.allows(Symmetric.Type(), Error()))
+				return State.VALID;
+			return State.INVALID;
+		}
+
+		/**
+		 * Checks if the {@code Hints} require eigenvectors.
+		 *
+		 * @return  {@code true} if vectors are computed
+		 */
+		public default boolean Vectors()
+		{
+			return true;
+		}
+	}
+
+
+	private static final double EPSILON = Doubles.pow(2, -52);
+
+
+	private Hints hints;
+	private double[] d, e;
+	private double[][] q;
+	private Vector vals, sv;
+	private Matrix vecs;
+
+	/**
+	 * Creates a new {@code ESSymmetric}.
+	 *
+	 * @param h  solver hints
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESSymmetric(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code ESSymmetric}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see EigenSolver
+	 */
+	public ESSymmetric(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+	ESSymmetric(double[][] a, boolean vecs)
+	{
+		this(() -> null);
+
+		int n = a.length;
+		d = new double[n];
+		e = new double[n];
+		if(0 < n)
+		{
+			reduceSymmetric(a, vecs);
+			diagonalize();
+		}
+	}
+
+	/**
+	 * Returns the eigenvector matrix of the {@code ESSymmetric}.
+	 * Each column contains the eigenvector of the value
+	 * at the same index, if vectors were requested.
+	 *
+	 * @return  an orthogonal matrix
+	 *
+	 *
+	 * @see Orthogonal
+	 * @see Matrix
+	 */
+	public Matrix Vectors()
+	{
+		if(vecs == null)
+		{
+			if(factor() && q != null)
+			{
+				int n = d.length;
+				vecs = Matrices.create(n, n);
+				for(int c = 0; c < n; c++)
+				{
+					for(int r = 0; r < n; r++)
+					{
+						vecs.set((float) q[c][r], r, c);
+					}
+				}
+
+				vecs.setOperator(Orthogonal.Type());
+			}
+		}
+
+		return vecs;
+	}
+
+	/**
+	 * Returns the eigenvalues of the {@code ESSymmetric}.
+	 *
+	 * @return  an ascending value vector
+	 *
+	 *
+	 * @see Vector
+	 */
+	public Vector Values()
+	{
+		if(vals == null)
+		{
+			if(factor())
+			{
+				int n = d.length;
+				vals = Vectors.create(n);
+				for(int i = 0; i < n; i++)
+				{
+					vals.set((float) d[i], i);
+				}
+			}
+		}
+
+		return vals;
+	}
+
+	/**
+	 * Returns an eigen pair of the {@code ESSymmetric}.
+	 *
+	 * @param i  a pair index
+	 * @return  an eigen pair
+	 *
+	 *
+	 * @see EigenPair
+	 */
+	public EigenPair Pair(int i)
+	{
+		if(factor())
+		{
+			float l = (float) d[i];
+			Matrix v = Vectors();
+			if(v == null)
+				return new EigenPair(d.length, l);
+			return new EigenPair(v.Column(i), l);
+		}
+
+		return null;
+	}
+
+
+	@Override
+	public EigenPair approx(EigenPair est)
+	{
+		if(factor())
+		{
+			int k = 0;
+			float l = est.Value();
+			// Find the closest eigenvalue.
+			for(int i = 1; i < d.length; i++)
+			{
+				if(Doubles.abs(d[i] - l) < Doubles.abs(d[k] - l))
+				{
+					k = i;
+				}
+			}
+
+			return Pair(k);
+		}
+
+		return null;
+	}
+
+	@Override
+	public Vector SingularValues()
+	{
+		if(sv == null)
+		{
+			if(factor())
+			{
+				int n = d.length;
+				sv = Vectors.create(n);
+				for(int i = 0; i < n; i++)
+				{
+					sv.set((float) Doubles.abs(d[i]), i);
+				}
+			}
+		}
+
+		return sv;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	double[][] vectors()
+	{
+		return q;
+	}
+
+	double[] values()
+	{
+		return d;
+	}
+
+	static double hypot(double a, double b)
+	{
+		a = Doubles.abs(a);
+		b = Doubles.abs(b);
+		if(a < b)
+		{
+			double t = a;
+			a = b; b = t;
+		}
+
+		if(a == 0d)
+			return 0d;
+		double r = b / a;
+		return a * Doubles.sqrt(1d + r * r);
+	}
+
+	void reduceTridiagonal(Matrix m, boolean vecs)
+	{
+		int n = d.length;
+		for(int i = 0; i < n; i++)
+		{
+			d[i] = m.get(i, i);
+			if(i > 0)
+			{
+				e[i] = m.get(i, i-1);
+			}
+		}
+
+		if(vecs)
+		{
+			q = new double[n][n];
+			for(int i = 0; i < n; i++)
+			{
+				q[i][i] = 1d;
+			}
+		}
+	}
+
+	void reduceSymmetric(double[][] v, boolean vecs)
+	{
+		int n = d.length;
+		for(int j = 0; j < n; j++)
+		{
+			d[j] = v[n-1][j];
+		}
+
+		// For each row, from the bottom up...
+		for(int i = n-1; i > 0; i--)
+		{
+			double h = 0d;
+			double scale = 0d;
+			for(int k = 0; k < i; k++)
+			{
+				scale += Doubles.abs(d[k]);
+			}
+
+			// If the row is already reduced...
+			if(scale == 0d)
+			{
+				// ...skip the reflection.
+				e[i] = d[i-1];
+				for(int j = 0; j < i; j++)
+				{
+					d[j] = v[i-1][j];
+					v[i][j] = 0d;
+					v[j][i] = 0d;
+				}
+			}
+			else
+			{
+				// Create the reflection normal.
+				for(int k = 0; k < i; k++)
+				{
+					d[k] /= scale;
+					h += d[k] * d[k];
+				}
+
+				double f = d[i-1];
+				double g = Doubles.sqrt(h);
+				if(f > 0) g = -g;
+
+				e[i] = scale * g;
+				h = h - f * g;
+				d[i-1] = f - g;
+				for(int j = 0; j < i; j++)
+				{
+					e[j] = 0d;
+				}
+
+				// Apply the reflection to the lower triangle.
+				for(int j = 0; j < i; j++)
+				{
+					f = d[j];
+					v[j][i] = f;
+					g = e[j] + v[j][j] * f;
+					for(int k = j+1; k < i; k++)
+					{
+						g += v[k][j] * d[k];
+						e[k] += v[k][j] * f;
+					}
+
+					e[j] = g;
+				}
+
+				f = 0d;
+				for(int j = 0; j < i; j++)
+				{
+					e[j] /= h;
+					f += e[j] * d[j];
+				}
+
+				double hh = f / (h + h);
+				for(int j = 0; j < i; j++)
+				{
+					e[j] -= hh * d[j];
+				}
+
+				for(int j = 0; j < i; j++)
+				{
+					f = d[j];
+					g = e[j];
+					for(int k = j; k < i; k++)
+					{
+						v[k][j] -= (f * e[k] + g * d[k]);
+					}
+
+					d[j] = v[i-1][j];
+					v[i][j] = 0d;
+				}
+			}
+
+			d[i] = h;
+		}
+
+		// If vectors are not requested...
+		if(!vecs)
+		{
+			// ...only the diagonal is retained.
+			for(int i = 0; i < n; i++)
+			{
+				d[i] = v[i][i];
+			}
+
+			e[0] = 0d;
+			return;
+		}
+
+		// Accumulate the reflections.
+		for(int i = 0; i < n-1; i++)
+		{
+			v[n-1][i] = v[i][i];
+			v[i][i] = 1d;
+
+			double h = d[i+1];
+			if(h != 0d)
+			{
+				for(int k = 0; k <= i; k++)
+				{
+					d[k] = v[k][i+1] / h;
+				}
+
+				for(int j = 0; j <= i; j++)
+				{
+					double g = 0d;
+					for(int k = 0; k <= i; k++)
+					{
+						g += v[k][i+1] * v[k][j];
+					}
+
+					for(int k = 0; k <= i; k++)
+					{
+						v[k][j] -= g * d[k];
+					}
+				}
+			}
+
+			for(int k = 0; k <= i; k++)
+			{
+				v[k][i+1] = 0d;
+			}
+		}
+
+		for(int j = 0; j < n; j++)
+		{
+			d[j] = v[n-1][j];
+			v[n-1][j] = 0d;
+		}
+
+		v[n-1][n-1] = 1d;
+		e[0] = 0d;
+
+		// Store the vectors as rows.
+		q = new double[n][n];
+		for(int r = 0; r < n; r++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				q[c][r] = v[r][c];
+			}
+		}
+	}
+
+	void diagonalize()
+	{
+		int n = d.length;
+		int lMax = Hints().MaxLoops();
+		for(int i = 1; i < n; i++)
+		{
+			e[i-1] = e[i];
+		}
+
+		e[n-1] = 0d;
+
+		double f = 0d;
+		double tst = 0d;
+		// For each diagonal element...
+		for(int l = 0; l < n; l++)
+		{
+			// ...find a negligible subdiagonal element.
+			double t = Doubles.abs(d[l]) + Doubles.abs(e[l]);
+			if(tst < t) tst = t;
+			int m = l;
+			while(m < n-1)
+			{
+				if(Doubles.abs(e[m]) <= EPSILON * tst)
+					break;
+				m++;
+			}
+
+			// If the block is not yet diagonal...
+			if(m > l)
+			{
+				int loops = 0;
+				do
+				{
+					// Compute the implicit shift.
+					double g = d[l];
+					double p = (d[l+1] - g) / (2d * e[l]);
+					double r = hypot(p, 1d);
+					if(p < 0) r = -r;
+
+					d[l] = e[l] / (p + r);
+					d[l+1] = e[l] * (p + r);
+					double dl1 = d[l+1];
+					double h = g - d[l];
+					for(int i = l+2; i < n; i++)
+					{
+						d[i] -= h;
+					}
+
+					f += h;
+
+					// Chase the bulge with plane rotations.
+					p = d[m];
+					double c = 1d, c2 = c, c3 = c;
+					double s = 0d, s2 = 0d;
+					double el1 = e[l+1];
+					for(int i = m-1; i >= l; i--)
+					{
+						c3 = c2;
+						c2 = c;
+						s2 = s;
+
+						g = c * e[i];
+						h = c * p;
+						r = hypot(p, e[i]);
+						e[i+1] = s * r;
+						s = e[i] / r;
+						c = p / r;
+						p = c * d[i] - s * g;
+						d[i+1] = h + s * (c * g + s * d[i]);
+
+						// Rotate the eigenvectors.
+						if(q != null)
+						{
+							double[] qi = q[i];
+							double[] qj = q[i+1];
+							for(int k = 0; k < n; k++)
+							{
+								h = qj[k];
+								qj[k] = s * qi[k] + c * h;
+								qi[k] = c * qi[k] - s * h;
+							}
+						}
+					}
+
+					p = -s * s2 * c3 * el1 * e[l] / dl1;
+					e[l] = s * p;
+					d[l] = c * p;
+
+					if(lMax <= ++loops)
+						break;
+				}
+				while(Doubles.abs(e[l]) > EPSILON * tst);
+			}
+
+			d[l] = d[l] + f;
+			e[l] = 0d;
+		}
+
+		// Sort the eigenvalues in ascending order.
+		for(int i = 0; i < n-1; i++)
+		{
+			int k = i;
+			for(int j = i+1; j < n; j++)
+			{
+				if(d[j] < d[k])
+				{
+					k = j;
+				}
+			}
+
+			if(k != i)
+			{
+				double p = d[k];
+				d[k] = d[i];
+				d[i] = p;
+
+				if(q != null)
+				{
+					double[] qk = q[k];
+					q[k] = q[i];
+					q[i] = qk;
+				}
+			}
+		}
+	}
+
+	boolean factor()
+	{
+		if(d == null)
+		{
+			if(Hints().State() != State.VALID)
+				return false;
+
+			Matrix m = Hints().Matrix();
+			boolean vecs = Hints().Vectors();
+
+			int n = m.Rows();
+			d = new double[n];
+			e = new double[n];
+			if(n == 0)
+				return true;
+
+			if(m.is(Tridiagonal.Type()))
+				reduceTridiagonal(m, vecs);
+			else
+			{
+				double[][] v = new double[n][n];
+				// Copy the lower triangle.
+				for(int r = 0; r < n; r++)
+				{
+					for(int c = 0; c <= r; c++)
+					{
+						v[r][c] = m.get(r, c);
+					}
+				}
+
+				reduceSymmetric(v, vecs);
+			}
+
+			diagonalize();
+		}
+
+		return true;
+	}
+}
\ No newline at end of file
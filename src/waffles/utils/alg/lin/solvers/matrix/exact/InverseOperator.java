@@ -0,0 +1,154 @@
+package waffles.utils.alg.lin.solvers.matrix.exact;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+
+/**
+ * An {@code InverseOperator} applies the inverse of a {@code LinearSystem} without forming it.
+ * Every product with the operator is computed as a solve against the existing factorization,
+ * which costs {@code O(n^2)} operations per column and avoids the {@code O(n^3)} inversion.
+ * A dense inverse can still be requested explicitly when it is needed.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see LinearOperator
+ * @see LinearSystem
+ */
+public class InverseOperator implements LinearOperator
+{
+	private int r1, c1;
+	private LinearSystem slv;
+
+	/**
+	 * Creates a new {@code InverseOperator}.
+	 *
+	 * @param s  a linear system
+	 * @param a  a linear operator
+	 *
+	 *
+	 * @see LinearOperator
+	 * @see LinearSystem
+	 */
+	public InverseOperator(LinearSystem s, LinearOperator a)
+	{
+		r1 = a.Columns();
+		c1 = a.Rows();
+		slv = s;
+	}
+
+	/**
+	 * Creates a new {@code InverseOperator}.
+	 *
+	 * @param s  a linear system
+	 *
+	 *
+	 * @see LinearSystem
+	 */
+	public InverseOperator(LinearSystem s)
+	{
+		this(s, s.Hints().Matrix());
+	}
+
+
+	/**
+	 * Returns a product with the {@code InverseOperator}.
+	 * This solves the linear system for every column.
+	 *
+	 * @param b  a matrix to multiply
+	 * @return   a matrix product
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix times(Matrix b)
+	{
+		if(!slv.canSolve(b))
+		{
+			throw new InvertibleError();
+		}
+		
+		return slv.solve(b);
+	}
+
+	/**
+	 * Returns the linear system of the {@code InverseOperator}.
+	 *
+	 * @return  a linear system
+	 *
+	 *
+	 * @see LinearSystem
+	 */
+	public LinearSystem System()
+	{
+		return slv;
+	}
+
+	/**
+	 * Returns the dense matrix of the {@code InverseOperator}.
+	 *
+	 * @return  an inverse matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix Matrix()
+	{
+		return slv.inverse();
+	}
+
+
+	@Override
+	public Vector apply(Vector v)
+	{
+		return copy(times((Matrix) v));
+	}
+
+	@Override
+	public boolean hasTranspose()
+	{
+		return slv instanceof LinearCondition;
+	}
+
+	@Override
+	public Vector applyTranspose(Vector v)
+	{
+		if(slv instanceof LinearCondition)
+		{
+			LinearCondition lc = (LinearCondition) slv;
+			return copy(lc.solveTranspose((Matrix) v));
+		}
+
+		return LinearOperator.super.applyTranspose(v);
+	}
+
+	@Override
+	public int Columns()
+	{
+		return c1;
+	}
+
+	@Override
+	public int Rows()
+	{
+		return r1;
+	}
+
+
+	static Vector copy(Matrix m)
+	{
+		int r1 = m.Rows();
+		Vector v = Vectors.create(r1);
+		for(int r = 0; r < r1; r++)
+		{
+			v.set(m.get(r, 0), r);
+		}
+
+		return v;
+	}
+}
\ No newline at end of file
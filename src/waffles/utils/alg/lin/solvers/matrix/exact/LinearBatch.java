@@ -0,0 +1,140 @@
+package waffles.utils.alg.lin.solvers.matrix.exact;
+
+import java.util.Iterator;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+import waffles.utils.sets.queues.Queue;
+import waffles.utils.sets.queues.wrapper.FIFOQueue;
+
+/**
+ * A {@code LinearBatch} streams right-hand sides through a {@code LinearSystem}.
+ * Incoming matrices are queued until the number of pending columns reaches the
+ * block size, at which point they are solved together as a single block.
+ * Solutions are returned in the same order as their right-hand sides.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ * 
+ * @see LinearSystem
+ * @see Iterator
+ * @see Matrix
+ */
+public class LinearBatch implements Iterator<Matrix>
+{
+	/**
+	 * Defines the default block size of a {@code LinearBatch}.
+	 */
+	public static final int DEF_BLOCK = 32;
+	
+	
+	private int size;
+	private int cols, rhs;
+	private LinearSystem slv;
+	private Queue<Matrix> in, out;
+	
+	/**
+	 * Creates a new {@code LinearBatch}.
+	 * 
+	 * @param s     a linear system
+	 * @param size  a block size
+	 * 
+	 * 
+	 * @see LinearSystem
+	 */
+	public LinearBatch(LinearSystem s, int size)
+	{
+		in = new FIFOQueue<>();
+		out = new FIFOQueue<>();
+		this.size = size;
+		slv = s;
+	}
+	
+	/**
+	 * Creates a new {@code LinearBatch}.
+	 * 
+	 * @param s  a linear system
+	 * 
+	 * 
+	 * @see LinearSystem
+	 */
+	public LinearBatch(LinearSystem s)
+	{
+		this(s, DEF_BLOCK);
+	}
+	
+	
+	/**
+	 * Pushes a right-hand side into the {@code LinearBatch}.
+	 * 
+	 * @param b  a right-hand side matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public void push(Matrix b)
+	{
+		// Reject unsolvable right-hand sides
+		// before they join the pending block.
+		if(!slv.canSolve(b))
+		{
+			throw new InvertibleError();
+		}
+		
+		in.push(b);
+		cols += b.Columns();
+		rhs++;
+		
+		// If the block is full...
+		if(size <= cols)
+		{
+			// ...solve it right away.
+			flush();
+		}
+	}
+	
+	/**
+	 * Solves all pending right-hand sides in the {@code LinearBatch}.
+	 */
+	public void flush()
+	{
+		if(rhs == 0)
+		{
+			return;
+		}
+		
+		
+		Matrix[] set = new Matrix[rhs];
+		for(int k = 0; k < rhs; k++)
+		{
+			set[k] = in.pop();
+		}
+		
+		cols = 0; rhs = 0;
+		// Solve the packed block at once.
+		for(Matrix x : slv.solveAll(set))
+		{
+			out.push(x);
+		}
+	}
+
+	
+	@Override
+	public boolean hasNext()
+	{
+		return !out.isEmpty() || 0 < rhs;
+	}
+
+	@Override
+	public Matrix next()
+	{
+		if(out.isEmpty())
+		{
+			flush();
+		}
+		
+		return out.pop();
+	}
+}
\ No newline at end of file
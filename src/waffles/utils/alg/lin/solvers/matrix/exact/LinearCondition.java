@@ -0,0 +1,192 @@
+package waffles.utils.alg.lin.solvers.matrix.exact;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.solvers.matrix.square.Conditioned;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * A {@code LinearCondition} estimates the condition number of a {@code LinearSystem}.
+ * The estimate {@code |A| |inv(A)|} is computed in the 1-norm, where the norm of the
+ * inverse is approximated with {@code Hager's method} as refined by Higham. This only
+ * requires a handful of solves with the existing factorization and its transpose,
+ * such that each estimate costs {@code O(n^2)} operations instead of a full SVD.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://doi.org/10.1145/50063.214386">Nicholas J. Higham, "FORTRAN codes for estimating the one-norm of a real or complex matrix."</a>
+ * @see LinearSystem
+ * @see Conditioned
+ */
+public interface LinearCondition extends LinearSystem, Conditioned
+{
+	/**
+	 * Defines the maximum number of solves in a {@code LinearCondition} estimate.
+	 */
+	public static final int MAX_LOOPS = 5;
+
+
+	/**
+	 * Computes a transposed matrix solution in the {@code LinearCondition}.
+	 * This solves {@code A*X = B} with the same factorization as {@code AX = B}.
+	 *
+	 * @param b  a right-hand side matrix
+	 * @return   a matrix of unknowns
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public abstract <M extends Matrix> M solveTranspose(M b);
+
+
+	/**
+	 * Estimates the 1-norm of the inverse in the {@code LinearCondition}.
+	 * The estimate is a lower bound, which is exact in most cases.
+	 *
+	 * @return  an inverse norm estimate
+	 */
+	public default float inverseNorm()
+	{
+		int n = Hints().Matrix().Rows();
+		Matrix x = Matrices.create(n, 1);
+		for(int r = 0; r < n; r++)
+		{
+			x.set(1f / n, r, 0);
+		}
+
+
+		int j = -1;
+		double est = 0d;
+		float[] sgn = null;
+		// For each step of Hager's method...
+		for(int k = 0; k < MAX_LOOPS; k++)
+		{
+			// ...compute the norm of inv(A)x.
+			Matrix y = solve(x);
+			double norm = 0d;
+			for(int r = 0; r < n; r++)
+			{
+				norm += Doubles.abs(y.get(r, 0));
+			}
+
+			if(0 < k && norm <= est)
+			{
+				break;
+			}
+
+			est = norm;
+			// Stop if the sign pattern repeats.
+			boolean same = sgn != null;
+			float[] next = new float[n];
+			for(int r = 0; r < n; r++)
+			{
+				next[r] = y.get(r, 0) < 0f ? -1f : 1f;
+				if(same && next[r] != sgn[r])
+				{
+					same = false;
+				}
+			}
+
+			if(same)
+			{
+				break;
+			}
+
+			sgn = next;
+			Matrix z = Matrices.create(n, 1);
+			for(int r = 0; r < n; r++)
+			{
+				z.set(sgn[r], r, 0);
+			}
+
+			// Find the steepest ascent direction.
+			z = solveTranspose(z);
+			int jMax = 0;
+			double zMax = 0d, zx = 0d;
+			for(int r = 0; r < n; r++)
+			{
+				double zr = z.get(r, 0);
+				zx += zr * x.get(r, 0);
+				if(zMax < Doubles.abs(zr))
+				{
+					zMax = Doubles.abs(zr);
+					jMax = r;
+				}
+			}
+
+			if(jMax == j || zMax <= zx)
+			{
+				break;
+			}
+
+			j = jMax;
+			x = Matrices.create(n, 1);
+			x.set(1f, j, 0);
+		}
+
+
+		// Guard against unlucky matrices with an alternating vector.
+		Matrix b = Matrices.create(n, 1);
+		for(int r = 0; r < n; r++)
+		{
+			double v = 1d + (n == 1 ? 0d : (double) r / (n - 1));
+			b.set((float) (r % 2 == 0 ? v : -v), r, 0);
+		}
+
+		b = solve(b);
+		double alt = 0d;
+		for(int r = 0; r < n; r++)
+		{
+			alt += Doubles.abs(b.get(r, 0));
+		}
+
+		alt = 2d * alt / (3d * n);
+		if(est < alt)
+		{
+			est = alt;
+		}
+
+		return (float) est;
+	}
+
+	/**
+	 * Computes the 1-norm of the matrix in the {@code LinearCondition}.
+	 * This is the largest absolute column sum of the matrix that
+	 * is currently factorized, which is read from its hints.
+	 *
+	 * @return  a matrix norm
+	 */
+	public default float norm()
+	{
+		Matrix a = Hints().Matrix();
+		int r1 = a.Rows();
+		int c1 = a.Columns();
+
+		double norm = 0d;
+		// Compute the 1-norm of the matrix.
+		for(int c = 0; c < c1; c++)
+		{
+			double sum = 0d;
+			for(int r = 0; r < r1; r++)
+			{
+				sum += Doubles.abs(a.get(r, c));
+			}
+
+			if(norm < sum)
+			{
+				norm = sum;
+			}
+		}
+
+		return (float) norm;
+	}
+
+	@Override
+	public default float condition()
+	{
+		return norm() * inverseNorm();
+	}
+}
\ No newline at end of file
@@ -60,6 +60,48 @@ public interface LinearSystem extends Determinant
 	 */
 	public abstract <M extends Matrix> M solve(M b);
 	
+	/**
+	 * Computes a set of matrix solutions in the {@code LinearSystem}.
+	 * The right-hand sides are packed into a single block, which
+	 * is solved at once before being split up again. This allows
+	 * the system to reuse its factorization for every column.
+	 * 
+	 * @param set  a right-hand side set
+	 * @return     a set of unknowns
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public default Matrix[] solveAll(Matrix... set)
+	{
+		Matrix b = Matrices.concat(set);
+		Matrix x = solve(b);
+		
+		
+		int curr = 0;
+		Matrix[] sol = new Matrix[set.length];
+		for(int k = 0; k < set.length; k++)
+		{
+			int r2 = x.Rows();
+			int c2 = set[k].Columns();
+			
+			// Split the solution block.
+			sol[k] = Matrices.create(r2, c2);
+			for(int c = 0; c < c2; c++)
+			{
+				for(int r = 0; r < r2; r++)
+				{
+					float v = x.get(r, curr);
+					sol[k].set(v, r, c);
+				}
+				
+				curr++;
+			}
+		}
+		
+		return sol;
+	}
+	
 	/**
 	 * Checks solvability of a matrix in the {@code LinearSystem}.
 	 * 
@@ -80,8 +122,25 @@ public interface LinearSystem extends Determinant
 		return true;
 	}
 	
+	/**
+	 * Returns an inverse operator of the {@code LinearSystem}.
+	 * Products with this operator are computed as solves,
+	 * without forming the inverse matrix.
+	 * 
+	 * @return  an inverse operator
+	 * 
+	 * 
+	 * @see InverseOperator
+	 */
+	public default InverseOperator Inverse()
+	{
+		return new InverseOperator(this);
+	}
+	
 	/**
 	 * Computes an inverse matrix in the {@code LinearSystem}.
+	 * This forms the dense inverse explicitly, which is only
+	 * needed when its elements are used directly.
 	 * 
 	 * @return  an inverse matrix
 	 * 
@@ -1,5 +1,7 @@
 package waffles.utils.alg.lin.solvers.matrix.exact.types;
 
+import java.util.stream.IntStream;
+
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
@@ -8,12 +10,16 @@ import waffles.utils.alg.lin.measure.matrix.types.banded.Diagonal;
 import waffles.utils.alg.lin.measure.matrix.types.banded.lower.LowerTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearCondition;
 import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
 import waffles.utils.alg.lin.solvers.matrix.factor.LUFactor;
 import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.alg.utilities.matrix.Givens;
 import waffles.utils.tools.primitives.Doubles;
 import waffles.utils.tools.primitives.Floats;
+import waffles.utils.tools.primitives.Integers;
 
 /**
  * The {@code LUCholesky} algorithm solves exact linear systems using {@code Cholesky's method}.
@@ -21,17 +27,28 @@ import waffles.utils.tools.primitives.Floats;
  * matrices {@code M = R*R} where {@code R} is an upper triangular matrix. This method cuts computation
  * time roughly in half. It decomposes a matrix {@code M = LU = U*U}, where U is an upper triangular
  * matrix. Note that {@code L = U*} in this case is a lower triangular matrix as well.
+ * Symmetric matrices with a narrow band are decomposed within that band, while large dense
+ * matrices are decomposed in blocks whose trailing updates are computed in parallel.
+ * An existing factorization can be updated or downdated by a rank-1 term in place.
+ * Its condition number is estimated from the factorization in {@code O(n^2)} operations,
+ * and an updated matrix is tracked alongside its factorization to keep its norm valid.
  * 
  * @author Waffles
  * @since Jul 6, 2018
  * @version 1.1
  * 
  * 
+ * @see LinearCondition
  * @see LinearSystem
  * @see LUFactor
  */
-public class LUCholesky implements LinearSystem, LUFactor
+public class LUCholesky implements LinearCondition, LUFactor
 {
+	/**
+	 * Defines the default block size of the {@code Hints}.
+	 */
+	public static final int DEF_BLOCK = 64;
+	
 	/**
 	 * The {@code Hints} interface defines hints for an {@code LUCholesky}.
 	 *
@@ -63,6 +80,18 @@ public class LUCholesky implements LinearSystem, LUFactor
 				return State.CHOLESKY;
 			return State.INDETERMINATE;
 		}
+		
+		/**
+		 * Returns the block size of the {@code Hints}.
+		 * Matrices larger than a single block are
+		 * decomposed with a blocked algorithm.
+		 * 
+		 * @return  a block size
+		 */
+		public default int Block()
+		{
+			return DEF_BLOCK;
+		}
 	}
 	
 	/**
@@ -86,6 +115,10 @@ public class LUCholesky implements LinearSystem, LUFactor
 		 * A diagonal matrix is decomposed with a simplified method.
 		 */
 		SIMPLIFIED,
+		/**
+		 * A banded matrix is decomposed within its band.
+		 */
+		BANDED,
 		/**
 		 * A symmetric matrix is decomposed with Cholesky's method.
 		 */
@@ -93,9 +126,12 @@ public class LUCholesky implements LinearSystem, LUFactor
 	}
 	
 	
+	private int band;
 	private Float det;
+	private double[][] cur;
 	private Matrix mat;
 	private Matrix l, u;
+	private LUTriangular lsl, lsu;
 	private Hints hints;
 	private State state;
 		
@@ -132,21 +168,140 @@ public class LUCholesky implements LinearSystem, LUFactor
 	}
 
 	
+	/**
+	 * Performs a rank-1 update {@code M + vv*} on the {@code LUCholesky}.
+	 * The existing factorization is rotated in {@code O(n^2)} operations,
+	 * after which the factors, determinant and solutions are updated.
+	 * 
+	 * @param v  an update vector
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public void update(Vector v)
+	{
+		double[][] a = triangle();
+		double[] x = new double[a.length];
+		for(int r = 0; r < a.length; r++)
+		{
+			x[r] = v.get(r);
+		}
+		
+		track(x, 1d);
+		Givens.update(a, x);
+		store(a);
+	}
+	
+	/**
+	 * Performs a rank-1 downdate {@code M - vv*} on the {@code LUCholesky}.
+	 * The existing factorization is rotated in {@code O(n^2)} operations,
+	 * after which the factors, determinant and solutions are updated.
+	 * 
+	 * @param v  a downdate vector
+	 * 
+	 * 
+	 * @throws TypeError  if the matrix loses definiteness
+	 * @see Vector
+	 */
+	public void downdate(Vector v)
+	{
+		double[][] a = triangle();
+		double[] x = new double[a.length];
+		for(int r = 0; r < a.length; r++)
+		{
+			x[r] = v.get(r);
+		}
+		
+		// If the downdate removes definiteness...
+		if(!Givens.downdate(a, x, Hints().Error()))
+		{
+			// ...the factorization is left unchanged.
+			throw new TypeError(Symmetric.Type());
+		}
+		
+		track(x, -1d);
+		store(a);
+	}
+	
+	
+	Matrix solveBanded(Matrix b)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		double[] y = new double[r2];
+		Matrix x = Matrices.create(r2, c2);
+		// For each column in the block...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...solve U*y = b within the band...
+			for(int r = 0; r < r2; r++)
+			{
+				double v = b.get(r, c);
+				for(int s = Integers.max(0, r - band); s < r; s++)
+				{
+					v -= mat.get(s, r) * y[s];
+				}
+				
+				y[r] = v / mat.get(r, r);
+			}
+			
+			// ...and solve U x = y within the band.
+			for(int r = r2 - 1; r >= 0; r--)
+			{
+				double v = y[r];
+				int dMax = Integers.min(r2 - 1, r + band);
+				for(int d = r + 1; d <= dMax; d++)
+				{
+					v -= mat.get(r, d) * y[d];
+				}
+				
+				y[r] = v / mat.get(r, r);
+			}
+			
+			for(int r = 0; r < r2; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+		
+		return x;
+	}
+	
 	@Override
 	public <M extends Matrix> M solve(M b)
 	{
+		mat = factor();
+		if(State() == State.BANDED)
+		{
+			return (M) solveBanded(b);
+		}
+		
+		if(lsl == null)
+		{
+			lsl = new LUTriangular(L());
+			lsu = new LUTriangular(U());
+		}
+		
 		Matrix x = b;
 		// Solve through substitution.
-		x = new LUTriangular(L()).solve(x);
-		x = new LUTriangular(U()).solve(x);
+		x = lsl.solve(x);
+		x = lsu.solve(x);
 		
 		return (M) x;
 	}
 	
+	@Override
+	public <M extends Matrix> M solveTranspose(M b)
+	{
+		// The matrix is symmetric.
+		return solve(b);
+	}
+	
 	@Override
 	public boolean canSolve(Matrix b)
 	{
-		if(LinearSystem.super.canSolve(b))
+		if(LinearCondition.super.canSolve(b))
 		{
 			if(State() == State.INVALID)
 			{
@@ -181,6 +336,34 @@ public class LUCholesky implements LinearSystem, LUFactor
 		return det;
 	}
 	
+	@Override
+	public float norm()
+	{
+		if(cur == null)
+		{
+			return LinearCondition.super.norm();
+		}
+		
+		int r1 = cur.length;
+		double norm = 0d;
+		// Compute the 1-norm of the updated matrix.
+		for(int c = 0; c < r1; c++)
+		{
+			double sum = 0d;
+			for(int r = 0; r < r1; r++)
+			{
+				sum += Doubles.abs(cur[r][c]);
+			}
+
+			if(norm < sum)
+			{
+				norm = sum;
+			}
+		}
+
+		return (float) norm;
+	}
+	
 	@Override
 	public Hints Hints()
 	{
@@ -204,7 +387,10 @@ public class LUCholesky implements LinearSystem, LUFactor
 			// Copy from the decomposed matrix.
 			for(int r = 0; r < r1; r++)
 			{
-				for(int c = r; c < c1; c++)
+				int cMax = c1 - 1;
+				if(State() == State.BANDED)
+					cMax = Integers.min(cMax, r + band);
+				for(int c = r; c <= cMax; c++)
 				{
 					float v = mat.get(r, c);
 					l.set(v, c, r);
@@ -232,7 +418,10 @@ public class LUCholesky implements LinearSystem, LUFactor
 			// Copy from the decomposed matrix.
 			for(int r = 0; r < r1; r++)
 			{
-				for(int c = r; c < c1; c++)
+				int cMax = c1 - 1;
+				if(State() == State.BANDED)
+					cMax = Integers.min(cMax, r + band);
+				for(int c = r; c <= cMax; c++)
 				{
 					float v = mat.get(r, c);
 					u.set(v, r, c);
@@ -307,6 +496,219 @@ public class LUCholesky implements LinearSystem, LUFactor
 		return mat;
 	}
 	
+	Matrix factorBanded()
+	{
+		double err = Hints().Error();
+		int r1 = Hints().Matrix().Rows();
+
+		// For each row in the base matrix...
+		for(int r = 0; r < r1; r++)
+		{
+			float d = mat.get(r, r);
+			// If the diagonal is negative...
+			if(d < err)
+			{
+				// ...the matrix is not positive definite.
+				throw new TypeError(Symmetric.Type());
+			}
+			
+			int cMax = Integers.min(r1 - 1, r + band);
+			// For each row below the diagonal in the band...
+			for(int s = r + 1; s <= cMax; s++)
+			{
+				// Eliminate a superdiagonal column.
+				double m = mat.get(r, s) / d;
+				for(int c = s; c <= cMax; c++)
+				{
+					double v1 = mat.get(s, c);
+					double v2 = mat.get(r, c);
+					
+					float v = (float) (v1 - v2 * m);
+					mat.set(v, s, c);
+				}
+			}
+			
+			double sqrt = Doubles.sqrt(d);
+			// For each column in the band...
+			for(int c = r; c <= cMax; c++)
+			{
+				// Divide the diagonal element.
+				float v = mat.get(r, c);
+				v = (float) (v / sqrt);
+				mat.set(v, r, c);
+			}
+		}
+		
+		return mat;
+	}
+	
+	Matrix factorBlocked()
+	{
+		double err = Hints().Error();
+		int r1 = Hints().Matrix().Rows();
+		int b1 = Hints().Block();
+		
+		double[][] a = new double[r1][];
+		// Copy the upper triangle.
+		for(int r = 0; r < r1; r++)
+		{
+			a[r] = new double[r1];
+			for(int c = r; c < r1; c++)
+			{
+				a[r][c] = mat.get(r, c);
+			}
+		}
+		
+		// For each diagonal block...
+		for(int k = 0; k < r1; k += b1)
+		{
+			int k0 = k;
+			int k1 = Integers.min(r1, k + b1);
+			// ...decompose the diagonal block.
+			for(int r = k0; r < k1; r++)
+			{
+				double d = a[r][r];
+				// If the diagonal is negative...
+				if(d < err)
+				{
+					// ...the matrix is not positive definite.
+					throw new TypeError(Symmetric.Type());
+				}
+				
+				d = Doubles.sqrt(d);
+				for(int c = r; c < k1; c++)
+				{
+					a[r][c] /= d;
+				}
+				
+				for(int s = r + 1; s < k1; s++)
+				{
+					double m = a[r][s];
+					for(int c = s; c < k1; c++)
+					{
+						a[s][c] -= a[r][c] * m;
+					}
+				}
+			}
+			
+			// Solve the panel right of the block.
+			IntStream.range(k1, r1).parallel().forEach(c ->
+			{
+				for(int r = k0; r < k1; r++)
+				{
+					double v = a[r][c];
+					for(int s = k0; s < r; s++)
+					{
+						v -= a[s][r] * a[s][c];
+					}
+					
+					a[r][c] = v / a[r][r];
+				}
+			});
+			
+			// Update the trailing rows.
+			IntStream.range(k1, r1).parallel().forEach(r ->
+			{
+				for(int s = k0; s < k1; s++)
+				{
+					double m = a[s][r];
+					if(m == 0d) continue;
+					for(int c = r; c < r1; c++)
+					{
+						a[r][c] -= m * a[s][c];
+					}
+				}
+			});
+		}
+		
+		// Copy back the upper triangle.
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = r; c < r1; c++)
+			{
+				mat.set((float) a[r][c], r, c);
+			}
+		}
+		
+		return mat;
+	}
+	
+	double[][] triangle()
+	{
+		mat = factor();
+		if(State() == State.INVALID)
+		{
+			throw new TypeError(Symmetric.Type());
+		}
+		
+		int r1 = mat.Rows();
+		double[][] a = new double[r1][r1];
+		// Copy the upper triangle within the band.
+		for(int r = 0; r < r1; r++)
+		{
+			int cMax = r1 - 1;
+			if(State() == State.SIMPLIFIED)
+				cMax = r;
+			if(State() == State.BANDED)
+				cMax = Integers.min(cMax, r + band);
+			for(int c = r; c <= cMax; c++)
+			{
+				a[r][c] = mat.get(r, c);
+			}
+		}
+		
+		return a;
+	}
+	
+	void track(double[] x, double s)
+	{
+		// Keep a copy of the updated matrix.
+		if(cur == null)
+		{
+			Matrix m = Hints().Matrix();
+			
+			int r1 = m.Rows();
+			cur = new double[r1][r1];
+			for(int r = 0; r < r1; r++)
+			{
+				for(int c = 0; c < r1; c++)
+				{
+					cur[r][c] = m.get(r, c);
+				}
+			}
+		}
+		
+		int r1 = cur.length;
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = 0; c < r1; c++)
+			{
+				cur[r][c] += s * x[r] * x[c];
+			}
+		}
+	}
+	
+	void store(double[][] a)
+	{
+		int r1 = a.length;
+		// Copy back the full upper triangle.
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = r; c < r1; c++)
+			{
+				mat.set((float) a[r][c], r, c);
+			}
+		}
+		
+		// The factor is no longer banded.
+		state = State.CHOLESKY;
+		band = Integers.max(1, r1 - 1);
+		
+		det = null;
+		l = u = null;
+		lsl = lsu = null;
+	}
+	
 	Matrix factor()
 	{
 		if(mat == null)
@@ -316,8 +718,17 @@ public class LUCholesky implements LinearSystem, LUFactor
 			{
 			case SIMPLIFIED:
 				mat = factorSimplified(); break;
+			case BANDED:
+				mat = factorBanded(); break;
 			case CHOLESKY:
-				mat = factorCholesky(); break;
+			{
+				int r1 = mat.Rows();
+				if(r1 <= Hints().Block())
+					mat = factorCholesky();
+				else
+					mat = factorBlocked();
+				break;
+			}
 			case INVALID:
 			default:
 				break;
@@ -347,6 +758,17 @@ public class LUCholesky implements LinearSystem, LUFactor
 				}
 			}
 		}
+		
+		if(state == State.CHOLESKY && band == 0)
+		{
+			double e = Hints().Error();
+			Matrix a = Hints().Matrix();
+			
+			// Restrict the factorization to the band.
+			band = Banded.getUpperBand(a, e);
+			if(band < a.Rows() - 1)
+				state = State.BANDED;
+		}
 
 		return state;
 	}
@@ -1,14 +1,19 @@
 package waffles.utils.alg.lin.solvers.matrix.exact.types;
 
+import java.util.stream.IntStream;
+
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Banded;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Tridiagonal;
 import waffles.utils.alg.lin.measure.matrix.types.banded.lower.LowerTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.Tall;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.Wide;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearCondition;
 import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
 import waffles.utils.alg.lin.solvers.matrix.factor.PLUFactor;
 import waffles.utils.alg.utilities.errors.InvertibleError;
@@ -22,17 +27,29 @@ import waffles.utils.tools.primitives.Integers;
  * where P is a permutation matrix, L a lower triangular matrix, and U an upper triangular matrix.
  * Note that non-square matrices can also be decomposed: one of L or U will not be square.
  * {@code Crout's method} is designed to leave the matrix U with a unit diagonal.
+ * Diagonally dominant {@code Banded} matrices are decomposed without pivoting, which
+ * keeps all fill within the band, and diagonally dominant {@code Tridiagonal} matrices
+ * are solved with the {@code Thomas algorithm}. Any other matrix is decomposed with
+ * partial pivoting. Its condition number is estimated
+ * from the factorization in {@code O(n^2)} operations. An explicit inverse
+ * is computed in place from the factors, one block of columns at a time.
  * 
  * @author Waffles
  * @since Jul 6, 2018
  * @version 1.1
  * 
  * 
+ * @see LinearCondition
  * @see LinearSystem
  * @see PLUFactor
  */
-public class LUCrout implements LinearSystem, PLUFactor
+public class LUCrout implements LinearCondition, PLUFactor
 {
+	/**
+	 * Defines the default block size of the {@code Hints}.
+	 */
+	public static final int DEF_BLOCK = 64;
+	
 	/**
 	 * The {@code Hints} interface defines hints for an {@code LUCrout}.
 	 *
@@ -62,10 +79,29 @@ public class LUCrout implements LinearSystem, PLUFactor
 				return State.LOWER_TRIANGULAR;
 			if(Matrix().is(UpperTriangular.Type()))
 				return State.UPPER_TRIANGULAR;
+			if(Matrix().is(Tridiagonal.Type()))
+				return State.TRIDIAGONAL;
 			if(Matrix().allows(Square.Type(), 0))
+			{
+				if(Matrix().Operator() instanceof Banded)
+					return State.BANDED;
 				return State.GENERIC;
+			}
+			
 			return State.INVALID;
 		}
+		
+		/**
+		 * Returns the block size of the {@code Hints}.
+		 * This determines how many columns are solved
+		 * together when the inverse is computed.
+		 * 
+		 * @return  a block size
+		 */
+		public default int Block()
+		{
+			return DEF_BLOCK;
+		}
 	}
 	
 	/**
@@ -89,6 +125,14 @@ public class LUCrout implements LinearSystem, PLUFactor
 		 * An upper triangular matrix is decomposed with a simplified method.
 		 */
 		UPPER_TRIANGULAR,
+		/**
+		 * A dominant tridiagonal matrix is decomposed with the Thomas algorithm.
+		 */
+		TRIDIAGONAL,
+		/**
+		 * A banded matrix is decomposed within its band.
+		 */
+		BANDED,
 		/**
 		 * A generic matrix is decomposed with Crout's method.
 		 */
@@ -97,9 +141,15 @@ public class LUCrout implements LinearSystem, PLUFactor
 	
 	
 	private Float det;
+	private int[] perm;
+	private int lb, ub;
 	private Matrix l, u;
 	private Matrix p, mat;
+	private double[] sub, dia, sup;
+	private LUTriangular lsl, lsu;
+	private LUTriangular tsl, tsu;
 	private Hints hints;
+	private State state;
 		
 	/**
 	 * Creates a new {@code LUCrout}.
@@ -108,6 +158,7 @@ public class LUCrout implements LinearSystem, PLUFactor
 	 */
 	public LUCrout(Hints h)
 	{
+		state = h.State();
 		hints = h;
 	}
 	
@@ -124,10 +175,8 @@ public class LUCrout implements LinearSystem, PLUFactor
 		this(() ->
 		{
 			Matrix b = m.copy();
-			if(m.is(LowerTriangular.Type()))
-				b.setOperator(LowerTriangular.Type());
-			if(m.is(UpperTriangular.Type()))
-				b.setOperator(UpperTriangular.Type());
+			if(m.Operator() instanceof Banded)
+				b.setOperator(m.Operator());
 			return b.destroy();
 		});
 	}
@@ -151,23 +200,358 @@ public class LUCrout implements LinearSystem, PLUFactor
 		});
 	}
 	
+	int[] perm()
+	{
+		if(perm == null)
+		{
+			mat = factor();
+			
+			int r1 = Hints().Matrix().Rows();
+			int c1 = Hints().Matrix().Columns();
+			
+			// Copy from the decomposed matrix.
+			perm = new int[r1];
+			for(int r = 0; r < r1; r++)
+			{
+				Float v = mat.get(r, c1);
+				perm[r] = v.intValue();
+			}
+		}
+		
+		return perm;
+	}
+	
+	Matrix permute(Matrix b)
+	{
+		int[] ord = perm();
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		// Permute the rows of the block.
+		Matrix x = Matrices.create(r2, c2);
+		for(int r = 0; r < r2; r++)
+		{
+			for(int c = 0; c < c2; c++)
+			{
+				float v = b.get(ord[r], c);
+				x.set(v, r, c);
+			}
+		}
+		
+		return x;
+	}
+	
+	Matrix unpermute(Matrix b)
+	{
+		int[] ord = perm();
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		// Undo the permutation of the block.
+		Matrix x = Matrices.create(r2, c2);
+		for(int r = 0; r < r2; r++)
+		{
+			for(int c = 0; c < c2; c++)
+			{
+				float v = b.get(r, c);
+				x.set(v, ord[r], c);
+			}
+		}
+		
+		return x;
+	}
+	
+	void invertUpper(double[][] a)
+	{
+		int r1 = a.length;
+		// For each column of the unit upper triangle...
+		for(int c = 1; c < r1; c++)
+		{
+			// ...substitute its inverse in place.
+			for(int r = 0; r < c; r++)
+			{
+				double v = a[r][c];
+				for(int k = r + 1; k < c; k++)
+				{
+					v += a[r][k] * a[k][c];
+				}
+				
+				a[r][c] = -v;
+			}
+		}
+	}
+	
+	void invertLower(double[][] a)
+	{
+		int r1 = a.length;
+		int b1 = Hints().Block();
+		
+		// For each block of columns, from right to left...
+		for(int j = r1; j > 0; j -= b1)
+		{
+			int c1 = j;
+			int c0 = Integers.max(0, j - b1);
+			
+			// ...move the lower triangle to a workspace...
+			double[][] w = new double[r1][c1 - c0];
+			for(int c = c0; c < c1; c++)
+			{
+				for(int r = c; r < r1; r++)
+				{
+					w[r][c - c0] = a[r][c];
+					a[r][c] = r == c ? 1d : 0d;
+				}
+			}
+			
+			// ...and solve X L = inv(U) for each row in parallel.
+			IntStream.range(0, r1).parallel().forEach(r ->
+			{
+				double[] ar = a[r];
+				// Update the block with the solved columns.
+				for(int k = c1; k < r1; k++)
+				{
+					double x = ar[k];
+					if(x == 0d) continue;
+					
+					double[] wk = w[k];
+					for(int c = c0; c < c1; c++)
+					{
+						ar[c] -= x * wk[c - c0];
+					}
+				}
+				
+				// Substitute within the block.
+				for(int c = c1 - 1; c >= c0; c--)
+				{
+					double v = ar[c];
+					for(int k = c + 1; k < c1; k++)
+					{
+						v -= ar[k] * w[k][c - c0];
+					}
+					
+					ar[c] = v / w[c][c - c0];
+				}
+			});
+		}
+	}
+	
+	Matrix solveTridiagonal(Matrix b)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		double[] y = new double[r2];
+		Matrix x = Matrices.create(r2, c2);
+		// For each column in the block...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...sweep forward...
+			for(int r = 0; r < r2; r++)
+			{
+				double v = b.get(r, c);
+				if(r > 0)
+				{
+					v -= sub[r] * y[r-1];
+				}
+				
+				y[r] = v / dia[r];
+			}
+			
+			// ...and substitute backward.
+			for(int r = r2 - 2; r >= 0; r--)
+			{
+				y[r] -= sup[r] * y[r+1];
+			}
+			
+			for(int r = 0; r < r2; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+		
+		return x;
+	}
+	
+	Matrix solveBanded(Matrix b)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		double[] y = new double[r2];
+		Matrix x = Matrices.create(r2, c2);
+		// For each column in the block...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...solve L y = b within the band...
+			for(int r = 0; r < r2; r++)
+			{
+				double v = b.get(r, c);
+				for(int s = Integers.max(0, r - lb); s < r; s++)
+				{
+					v -= mat.get(r, s) * y[s];
+				}
+				
+				y[r] = v / mat.get(r, r);
+			}
+			
+			// ...and solve U x = y within the band.
+			for(int r = r2 - 1; r >= 0; r--)
+			{
+				int dMax = Integers.min(r2 - 1, r + ub);
+				for(int d = r + 1; d <= dMax; d++)
+				{
+					y[r] -= mat.get(r, d) * y[d];
+				}
+			}
+			
+			for(int r = 0; r < r2; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+		
+		return x;
+	}
+	
+	Matrix solveTridiagonalTranspose(Matrix b)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		double[] y = new double[r2];
+		Matrix x = Matrices.create(r2, c2);
+		// For each column in the block...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...sweep forward with U*...
+			for(int r = 0; r < r2; r++)
+			{
+				y[r] = b.get(r, c);
+				if(r > 0)
+				{
+					y[r] -= sup[r-1] * y[r-1];
+				}
+			}
+			
+			// ...and substitute backward with L*.
+			for(int r = r2 - 1; r >= 0; r--)
+			{
+				if(r < r2 - 1)
+				{
+					y[r] -= sub[r+1] * y[r+1];
+				}
+				
+				y[r] /= dia[r];
+			}
+			
+			for(int r = 0; r < r2; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+		
+		return x;
+	}
+	
+	Matrix solveBandedTranspose(Matrix b)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		double[] y = new double[r2];
+		Matrix x = Matrices.create(r2, c2);
+		// For each column in the block...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...solve U* y = b within the band...
+			for(int r = 0; r < r2; r++)
+			{
+				double v = b.get(r, c);
+				for(int s = Integers.max(0, r - ub); s < r; s++)
+				{
+					v -= mat.get(s, r) * y[s];
+				}
+				
+				y[r] = v;
+			}
+			
+			// ...and solve L* x = y within the band.
+			for(int r = r2 - 1; r >= 0; r--)
+			{
+				int dMax = Integers.min(r2 - 1, r + lb);
+				for(int d = r + 1; d <= dMax; d++)
+				{
+					y[r] -= mat.get(d, r) * y[d];
+				}
+				
+				y[r] /= mat.get(r, r);
+			}
+			
+			for(int r = 0; r < r2; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+		
+		return x;
+	}
+	
 	@Override
 	public <M extends Matrix> M solve(M b)
 	{
-		M x = (M) P().times(b);
+		mat = factor();
+		if(state == State.TRIDIAGONAL)
+			return (M) solveTridiagonal(b);
+		if(state == State.BANDED)
+			return (M) solveBanded(b);
+		
+		if(lsl == null)
+		{
+			lsl = LUTriangular(L());
+			lsu = LUTriangular(U());
+		}
+		
+		Matrix x = permute(b);
 		// Solve through substitution.
-		x = LUTriangular(L()).solve(x);
-		x = LUTriangular(U()).solve(x);
+		x = lsl.solve(x);
+		x = lsu.solve(x);
 		
-		return x;
+		return (M) x;
+	}
+	
+	@Override
+	public <M extends Matrix> M solveTranspose(M b)
+	{
+		mat = factor();
+		if(state == State.TRIDIAGONAL)
+			return (M) solveTridiagonalTranspose(b);
+		if(state == State.BANDED)
+			return (M) solveBandedTranspose(b);
+		
+		if(tsl == null)
+		{
+			Matrix ut = U().transpose();
+			Matrix lt = L().transpose();
+			ut.setOperator(LowerTriangular.Type());
+			lt.setOperator(UpperTriangular.Type());
+			
+			tsl = LUTriangular(ut);
+			tsu = LUTriangular(lt);
+		}
+		
+		// Solve through substitution.
+		Matrix x = tsl.solve(b);
+		x = tsu.solve(x);
+		
+		return (M) unpermute(x);
 	}
 	
 	@Override
 	public boolean canSolve(Matrix b)
 	{
-		if(LinearSystem.super.canSolve(b))
+		if(LinearCondition.super.canSolve(b))
 		{
-			if(Hints().State() == State.INVALID)
+			if(state == State.INVALID)
 			{
 				throw new TypeError
 				(
@@ -181,6 +565,44 @@ public class LUCrout implements LinearSystem, PLUFactor
 		return false;
 	}
 	
+	@Override
+	public Matrix inverse()
+	{
+		mat = factor();
+		if(state != State.GENERIC)
+		{
+			return LinearCondition.super.inverse();
+		}
+		
+		
+		int r1 = mat.Rows();
+		double[][] a = new double[r1][r1];
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = 0; c < r1; c++)
+			{
+				a[r][c] = mat.get(r, c);
+			}
+		}
+		
+		// Compute inv(A) = inv(U) inv(L) P.
+		invertUpper(a);
+		invertLower(a);
+		
+		int[] ord = perm();
+		Matrix inv = Matrices.create(r1, r1);
+		// Undo the permutation on the columns.
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = 0; c < r1; c++)
+			{
+				inv.set((float) a[r][c], r, ord[c]);
+			}
+		}
+		
+		return inv;
+	}
+	
 	@Override
 	public float determinant()
 	{
@@ -390,6 +812,126 @@ public class LUCrout implements LinearSystem, PLUFactor
 		return mat;
 	}
 
+	Matrix factorTridiagonal()
+	{
+		double err = Hints().Error();
+		int r1 = Hints().Matrix().Rows();
+		
+		sub = new double[r1];
+		dia = new double[r1];
+		sup = new double[r1];
+		// For each row in the matrix...
+		for(int r = 0; r < r1; r++)
+		{
+			double d = mat.get(r, r);
+			// ...eliminate its subdiagonal value.
+			if(r > 0)
+			{
+				sub[r] = mat.get(r, r-1);
+				d -= sub[r] * sup[r-1];
+			}
+			
+			// If the next pivot is zero...
+			if(Doubles.abs(d) <= err)
+			{
+				// ...fall back on pivoting.
+				return null;
+			}
+			
+			dia[r] = d;
+			mat.set((float) d, r, r);
+			// Divide the superdiagonal value.
+			if(r < r1 - 1)
+			{
+				sup[r] = mat.get(r, r+1) / d;
+				mat.set((float) sup[r], r, r+1);
+			}
+		}
+		
+		return mat;
+	}
+	
+	Matrix factorBanded()
+	{
+		double err = Hints().Error();
+		int r1 = Hints().Matrix().Rows();
+
+		// For each column in the base matrix...
+		for(int c = 0; c < r1; c++)
+		{
+			int rMax = Integers.min(r1 - 1, c + lb);
+			// ...eliminate its subdiagonal band.
+			for(int r = c; r <= rMax; r++)
+			{
+				double v = mat.get(r, c);
+				for(int s = Integers.max(0, r - lb, c - ub); s < c; s++)
+				{
+					double v1 = mat.get(r, s);
+					double v2 = mat.get(s, c);
+					
+					v -= v1 * v2;
+				}
+				
+				mat.set((float) v, r, c);
+			}
+			
+			
+			double vc = mat.get(c, c);
+			// If the next pivot is zero...
+			if(Doubles.abs(vc) <= err)
+			{
+				// ...fall back on pivoting.
+				return null;
+			}
+			
+			int dMax = Integers.min(r1 - 1, c + ub);
+			// Eliminate its superdiagonal band.
+			for(int d = c + 1; d <= dMax; d++)
+			{
+				double v = mat.get(c, d);
+				for(int t = Integers.max(0, c - lb, d - ub); t < c; t++)
+				{
+					double v1 = mat.get(c, t);
+					double v2 = mat.get(t, d);
+					
+					v -= v1 * v2;
+				}
+				
+				v = v / vc;
+				mat.set((float) v, c, d);
+			}
+		}
+		
+		return mat;
+	}
+	
+	boolean isDominant()
+	{
+		int r1 = Hints().Matrix().Rows();
+		// For each row in the matrix...
+		for(int r = 0; r < r1; r++)
+		{
+			double sum = 0d;
+			int cMin = Integers.max(0, r - lb);
+			int cMax = Integers.min(r1 - 1, r + ub);
+			// ...sum its off-diagonal band.
+			for(int c = cMin; c <= cMax; c++)
+			{
+				if(c != r)
+				{
+					sum += Doubles.abs(mat.get(r, c));
+				}
+			}
+			
+			if(Doubles.abs(mat.get(r, r)) < sum)
+			{
+				return false;
+			}
+		}
+		
+		return true;
+	}
+	
 	Matrix factorUpper()
 	{
 		int r1 = Hints().Matrix().Rows();
@@ -410,24 +952,66 @@ public class LUCrout implements LinearSystem, PLUFactor
 		return mat;
 	}
 	
+	Matrix augment()
+	{
+		mat = Hints().Matrix();
+		int c1 = mat.Columns();
+		int r1 = mat.Rows();
+
+		if(mat.Operator() instanceof Banded)
+		{
+			double e = Hints().Error();
+			Banded ops = (Banded) mat.Operator();
+			// Generic operators default to the full width.
+			lb = Integers.min(ops.LowerBand(), Banded.getLowerBand(mat, e));
+			ub = Integers.min(ops.UpperBand(), Banded.getUpperBand(mat, e));
+		}
+		
+		
+		// Add a permutation column.
+		mat = mat.resize(r1, c1 + 1);
+		for(int r = 0; r < r1; r++)
+		{
+			mat.set(r, r, c1);
+		}
+		
+		return mat;
+	}
+	
 	Matrix factor()
 	{
 		if(mat == null)
 		{
-			mat = Hints().Matrix();
-			int c1 = mat.Columns();
-			int r1 = mat.Rows();
-
-
-			// Add a permutation column.
-			mat = mat.resize(r1, c1 + 1);
-			for(int r = 0; r < r1; r++)
+			mat = augment();
+			switch(state)
+			{
+			case TRIDIAGONAL:
 			{
-				mat.set(r, r, c1);
+				lb = ub = 1;
+				if(isDominant())
+				{
+					mat = factorTridiagonal();
+					if(mat != null) break;
+				}
+				
+				state = State.GENERIC;
+				mat = augment();
+				mat = factorCrout();
+				break;
 			}
-			
-			switch(Hints().State())
+			case BANDED:
 			{
+				if(isDominant())
+				{
+					mat = factorBanded();
+					if(mat != null) break;
+				}
+				
+				state = State.GENERIC;
+				mat = augment();
+				mat = factorCrout();
+				break;
+			}
 			case GENERIC:
 				mat = factorCrout(); break;
 			case UPPER_TRIANGULAR:
@@ -441,4 +1025,22 @@ public class LUCrout implements LinearSystem, PLUFactor
 
 		return mat;
 	}
+	
+	State State()
+	{
+		mat = factor();
+		return state;
+	}
+	
+	int LowerBand()
+	{
+		mat = factor();
+		return lb;
+	}
+	
+	int UpperBand()
+	{
+		mat = factor();
+		return ub;
+	}
 }
\ No newline at end of file
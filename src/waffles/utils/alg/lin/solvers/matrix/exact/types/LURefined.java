@@ -0,0 +1,390 @@
+package waffles.utils.alg.lin.solvers.matrix.exact.types;
+
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
+import waffles.utils.alg.utilities.Algorithmic;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code LURefined} algorithm solves exact linear systems through {@code iterative refinement}.
+ * The matrix is factorized once by an underlying {@code LinearSystem} in single precision.
+ * Residuals {@code R = B - AX} are then computed in double precision, and each solution is
+ * corrected with a cheap solve {@code AD = R} until its normwise backward error is met.
+ * This yields the accuracy of a double precision solver at the cost of a float factorization,
+ * provided the matrix is not too ill-conditioned for the float factors to converge.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Iterative_refinement">Wikipedia</a>
+ * @see LinearSystem
+ */
+public class LURefined implements LinearSystem
+{
+	/**
+	 * The {@code Hints} interface defines hints for an {@code LURefined}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see Algorithmic
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends Algorithmic.Iterative, MatrixSolver.Hints
+	{
+		/**
+		 * Defines the default refinement steps of the {@code Hints}.
+		 */
+		public static final int DEF_STEPS = 10;
+
+
+		/**
+		 * Returns the underlying solver of the {@code Hints}.
+		 * This is only called once, and factorizes the matrix
+		 * in single precision for every refinement step.
+		 *
+		 * @return  a linear system
+		 *
+		 *
+		 * @see LinearSystem
+		 */
+		public default LinearSystem Solver()
+		{
+			return new LUCrout(Matrix());
+		}
+
+
+		@Override
+		public default int MaxLoops()
+		{
+			return DEF_STEPS;
+		}
+
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -40);
+		}
+	}
+
+
+	private int loops;
+	private float res;
+	private float[][] a;
+	private LinearSystem slv;
+	private Hints hints;
+
+	/**
+	 * Creates a new {@code LURefined}.
+	 *
+	 * @param h  solver hints
+	 */
+	public LURefined(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code LURefined}.
+	 *
+	 * @param s  a linear system
+	 *
+	 *
+	 * @see LinearSystem
+	 */
+	public LURefined(LinearSystem s)
+	{
+		this(new Hints()
+		{
+			@Override
+			public Matrix Matrix()
+			{
+				return s.Hints().Matrix();
+			}
+
+			@Override
+			public LinearSystem Solver()
+			{
+				return s;
+			}
+		});
+	}
+
+	/**
+	 * Creates a new {@code LURefined}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public LURefined(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+
+	/**
+	 * Returns the underlying solver of the {@code LURefined}.
+	 *
+	 * @return  a linear system
+	 *
+	 *
+	 * @see LinearSystem
+	 */
+	public LinearSystem Solver()
+	{
+		if(slv == null)
+			slv = Hints().Solver();
+		return slv;
+	}
+
+	/**
+	 * Returns the backward error of the last solve.
+	 *
+	 * @return  a backward error
+	 */
+	public float Residual()
+	{
+		return res;
+	}
+
+	/**
+	 * Returns the loop count of the last solve.
+	 *
+	 * @return  a loop count
+	 */
+	public int Loops()
+	{
+		return loops;
+	}
+
+
+	@Override
+	public <M extends Matrix> M solve(M b)
+	{
+		factor();
+
+		int n = a.length;
+		int c2 = b.Columns();
+		double err = Hints().Error();
+
+
+		// Compute the initial solution in single precision.
+		Matrix x0 = Solver().solve(b);
+		double[][] x = new double[c2][n];
+		double[][] y = new double[c2][n];
+		for(int c = 0; c < c2; c++)
+		{
+			for(int r = 0; r < n; r++)
+			{
+				x[c][r] = x0.get(r, c);
+				y[c][r] = b.get(r, c);
+			}
+		}
+
+		double anorm = norm();
+		double[] prev = new double[c2];
+		double[] last = new double[c2];
+		for(int c = 0; c < c2; c++)
+		{
+			last[c] = Double.POSITIVE_INFINITY;
+		}
+
+		boolean[] done = new boolean[c2];
+
+		loops = 0;
+		while(true)
+		{
+			res = 0f;
+			int active = 0;
+			double[][] s = residual(x, y);
+			Matrix d = Matrices.create(n, c2);
+			// For each column in the right-hand side...
+			for(int c = 0; c < c2; c++)
+			{
+				if(done[c]) continue;
+
+				// ...compute its normwise backward error.
+				double rn = max(s[c]);
+				double be = rn / (anorm * max(x[c]) + max(y[c]));
+				if(be != be) be = 0d;
+				if(res < be)
+				{
+					res = (float) be;
+				}
+
+				if(be <= err || rn == 0d)
+				{
+					done[c] = true;
+					continue;
+				}
+
+				// Scale the residual into float range.
+				prev[c] = rn;
+				for(int r = 0; r < n; r++)
+				{
+					d.set((float) (s[c][r] / rn), r, c);
+				}
+
+				active++;
+			}
+
+			if(active == 0 || Hints().MaxLoops() <= loops)
+			{
+				break;
+			}
+
+
+			// Correct the solution with the same factors.
+			d = Solver().solve(d);
+			for(int c = 0; c < c2; c++)
+			{
+				if(done[c]) continue;
+
+				double[] dc = new double[n];
+				for(int r = 0; r < n; r++)
+				{
+					dc[r] = prev[c] * d.get(r, c);
+					x[c][r] += dc[r];
+				}
+
+				// Stop when the correction no longer converges.
+				double dn = max(dc);
+				if(dn <= err * max(x[c]) || last[c] < 2 * dn)
+				{
+					done[c] = true;
+				}
+
+				last[c] = dn;
+			}
+
+			loops++;
+		}
+
+
+		Matrix sol = Matrices.create(n, c2);
+		for(int c = 0; c < c2; c++)
+		{
+			for(int r = 0; r < n; r++)
+			{
+				sol.set((float) x[c][r], r, c);
+			}
+		}
+
+		return (M) sol;
+	}
+
+	@Override
+	public boolean canInvert()
+	{
+		return Solver().canInvert();
+	}
+
+	@Override
+	public float determinant()
+	{
+		return Solver().determinant();
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	static double max(double[] v)
+	{
+		double max = 0d;
+		for(int i = 0; i < v.length; i++)
+		{
+			double vi = Doubles.abs(v[i]);
+			if(max < vi)
+			{
+				max = vi;
+			}
+		}
+
+		return max;
+	}
+
+	double[][] residual(double[][] x, double[][] y)
+	{
+		int n = a.length;
+		int c2 = x.length;
+
+		double[][] s = new double[c2][n];
+		// For each row of the matrix...
+		IntStream.range(0, n).parallel().forEach(r ->
+		{
+			float[] ar = a[r];
+			// ...compute the residual in double precision.
+			for(int c = 0; c < c2; c++)
+			{
+				double v = y[c][r];
+				for(int k = 0; k < n; k++)
+				{
+					v -= ar[k] * x[c][k];
+				}
+
+				s[c][r] = v;
+			}
+		});
+
+		return s;
+	}
+
+	double norm()
+	{
+		double norm = 0d;
+		// Compute the infinity norm of the matrix.
+		for(int r = 0; r < a.length; r++)
+		{
+			double sum = 0d;
+			for(int c = 0; c < a.length; c++)
+			{
+				sum += Doubles.abs(a[r][c]);
+			}
+
+			if(norm < sum)
+			{
+				norm = sum;
+			}
+		}
+
+		return norm;
+	}
+
+	void factor()
+	{
+		if(a == null)
+		{
+			Matrix m = Hints().Matrix();
+			int n = m.Rows();
+
+			a = new float[n][n];
+			for(int r = 0; r < n; r++)
+			{
+				for(int c = 0; c < n; c++)
+				{
+					a[r][c] = m.get(r, c);
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,488 @@
+package waffles.utils.alg.lin.solvers.matrix.exact.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.Square;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Tridiagonal;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
+import waffles.utils.alg.lin.solvers.matrix.factor.uv.UVHessenberg;
+import waffles.utils.alg.lin.solvers.matrix.factor.uv.UVTridiagonal;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code LUShifted} algorithm solves shifted linear systems {@code (M - sI)X = B}.
+ * The matrix is reduced once to {@code M = QHQ*}, where Q is an {@code Orthogonal} matrix
+ * and H an {@code UpperHessenberg} matrix, or a {@code Tridiagonal} matrix if M is symmetric.
+ * Every shift is then factorized with partial pivoting in {@code O(n^2)} or {@code O(n)}
+ * operations respectively, instead of {@code O(n^3)} for a dense factorization.
+ * The factors of the most recent shifts are cached, so that repeated
+ * shifts are solved without factorizing again.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see UVHessenberg
+ * @see UVTridiagonal
+ * @see LinearSystem
+ */
+public class LUShifted implements LinearSystem
+{
+	/**
+	 * Defines the default cache size of the {@code Hints}.
+	 */
+	public static final int DEF_CACHE = 4;
+
+	/**
+	 * The {@code Hints} interface defines hints for an {@code LUShifted}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends MatrixSolver.Hints
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 * This determines which reduction will
+		 * be used to solve the shifted systems.
+		 *
+		 * @return  an algorithm state
+		 *
+		 *
+		 * @see State
+		 */
+		public default State State()
+		{
+			if(!Matrix().allows(Square.Type(), 0))
+				return State.INVALID;
+			if(Matrix().is(Tridiagonal.Type()))
+				return State.TRIDIAGONAL;
+			if(Matrix().allows(Symmetric.Type(), Error()))
+				return State.SYMMETRIC;
+			return State.GENERIC;
+		}
+
+		/**
+		 * Returns the cache size of the {@code Hints}.
+		 * This determines how many shifted factors
+		 * are kept to be reused for later solves.
+		 *
+		 * @return  a cache size
+		 */
+		public default int Cache()
+		{
+			return DEF_CACHE;
+		}
+
+		/**
+		 * Returns the default shift of the {@code Hints}.
+		 *
+		 * @return  a shift value
+		 */
+		public default float Shift()
+		{
+			return 0f;
+		}
+	}
+
+	/**
+	 * A {@code State} defines the types of {@code LUShifted} algorithms.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum State
+	{
+		/**
+		 * An invalid matrix cannot be used.
+		 */
+		INVALID,
+		/**
+		 * A tridiagonal matrix is not reduced at all.
+		 */
+		TRIDIAGONAL,
+		/**
+		 * A symmetric matrix is reduced to tridiagonal form.
+		 */
+		SYMMETRIC,
+		/**
+		 * A generic matrix is reduced to upper Hessenberg form.
+		 */
+		GENERIC;
+	}
+
+
+	private int next, band;
+	private double[][] h, q;
+	private Shifted[] cache;
+	private Hints hints;
+
+	/**
+	 * Creates a new {@code LUShifted}.
+	 *
+	 * @param h  solver hints
+	 */
+	public LUShifted(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code LUShifted}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public LUShifted(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+
+	/**
+	 * Computes a shifted matrix solution in the {@code LUShifted}.
+	 *
+	 * @param s  a shift value
+	 * @param b  a right-hand side matrix
+	 * @return   a matrix of unknowns
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public <M extends Matrix> M solve(float s, M b)
+	{
+		Shifted f = factor(s);
+
+		int r1 = h.length;
+		int c2 = b.Columns();
+		Matrix x = Matrices.create(r1, c2);
+		// For each column in the right-hand side...
+		for(int c = 0; c < c2; c++)
+		{
+			double[] y = new double[r1];
+			for(int r = 0; r < r1; r++)
+			{
+				y[r] = b.get(r, c);
+			}
+
+			// ...solve Q (H - sI) Q* x = b.
+			y = transposeTimes(y);
+			f.solve(y);
+			y = times(y);
+
+			for(int r = 0; r < r1; r++)
+			{
+				x.set((float) y[r], r, c);
+			}
+		}
+
+		return (M) x;
+	}
+
+	/**
+	 * Computes a shifted determinant in the {@code LUShifted}.
+	 *
+	 * @param s  a shift value
+	 * @return   a determinant
+	 */
+	public float determinant(float s)
+	{
+		return (float) factor(s).det;
+	}
+
+
+	@Override
+	public <M extends Matrix> M solve(M b)
+	{
+		return solve(Hints().Shift(), b);
+	}
+
+	@Override
+	public boolean canSolve(Matrix b)
+	{
+		if(LinearSystem.super.canSolve(b))
+		{
+			if(Hints().State() == State.INVALID)
+			{
+				throw new TypeError
+				(
+					Square.Type()
+				);
+			}
+
+			return canInvert();
+		}
+
+		return false;
+	}
+
+	@Override
+	public float determinant()
+	{
+		return determinant(Hints().Shift());
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	double[] times(double[] y)
+	{
+		if(q == null)
+			return y;
+
+		int r1 = y.length;
+		double[] x = new double[r1];
+		for(int r = 0; r < r1; r++)
+		{
+			double v = 0d;
+			for(int k = 0; k < r1; k++)
+			{
+				v += q[r][k] * y[k];
+			}
+
+			x[r] = v;
+		}
+
+		return x;
+	}
+
+	double[] transposeTimes(double[] b)
+	{
+		if(q == null)
+			return b;
+
+		int r1 = b.length;
+		double[] y = new double[r1];
+		for(int k = 0; k < r1; k++)
+		{
+			double bk = b[k];
+			if(bk == 0d) continue;
+			for(int r = 0; r < r1; r++)
+			{
+				y[r] += q[k][r] * bk;
+			}
+		}
+
+		return y;
+	}
+
+	Shifted factor(float s)
+	{
+		reduce();
+		// Reuse a cached factorization.
+		for(Shifted f : cache)
+		{
+			if(f != null && f.shift == s)
+			{
+				return f;
+			}
+		}
+
+		Shifted f = new Shifted(h, band, s);
+		cache[next] = f;
+		next = (next + 1) % cache.length;
+		return f;
+	}
+
+	void reduce()
+	{
+		if(h == null)
+		{
+			Matrix a = Hints().Matrix();
+			Matrix u = null, t = a;
+			switch(Hints().State())
+			{
+			case SYMMETRIC:
+			{
+				UVTridiagonal uvt = new UVTridiagonal(a);
+				t = uvt.T(); u = uvt.U();
+				break;
+			}
+			case GENERIC:
+			{
+				UVHessenberg uvh = new UVHessenberg(a);
+				t = uvh.H(); u = uvh.U();
+				break;
+			}
+			case INVALID:
+			{
+				throw new TypeError
+				(
+					Square.Type()
+				);
+			}
+			case TRIDIAGONAL:
+			default:
+				break;
+			}
+
+
+			int r1 = a.Rows();
+			h = new double[r1][r1];
+			for(int r = 0; r < r1; r++)
+			{
+				for(int c = 0; c < r1; c++)
+				{
+					h[r][c] = t.get(r, c);
+				}
+			}
+
+			if(u != null && !u.is(Identity.Type()))
+			{
+				q = new double[r1][r1];
+				for(int r = 0; r < r1; r++)
+				{
+					for(int c = 0; c < r1; c++)
+					{
+						q[r][c] = u.get(r, c);
+					}
+				}
+			}
+
+			// Pivoting adds one superdiagonal to a tridiagonal factor.
+			band = r1;
+			if(Hints().State() != State.GENERIC)
+				band = 3;
+
+			cache = new Shifted[Integers.max(1, Hints().Cache())];
+		}
+	}
+
+
+	static class Shifted
+	{
+		private float shift;
+		private double det;
+		private double[][] u;
+		private double[] l;
+		private boolean[] p;
+
+		Shifted(double[][] h, int w, float s)
+		{
+			int r1 = h.length;
+
+			u = new double[r1][];
+			l = new double[r1];
+			p = new boolean[r1];
+			shift = s;
+			det = 1d;
+
+
+			double[] curr = row(h, 0, 0, w, s);
+			// For each column of the shifted matrix...
+			for(int k = 0; k < r1 - 1; k++)
+			{
+				double[] next = row(h, k + 1, k, w, s);
+
+				// ...pivot the larger of both rows...
+				if(Doubles.abs(curr[0]) < Doubles.abs(next[0]))
+				{
+					double[] t = curr;
+					curr = next;
+					next = t;
+					p[k] = true;
+					det = -det;
+				}
+
+				// ...and eliminate the subdiagonal.
+				if(curr[0] != 0d)
+				{
+					l[k] = next[0] / curr[0];
+					for(int j = 1; j < curr.length; j++)
+					{
+						next[j] -= l[k] * curr[j];
+					}
+				}
+
+				u[k] = curr;
+				det *= curr[0];
+
+				int len = Integers.min(w, r1 - k - 1);
+				curr = new double[len];
+				for(int j = 0; j < len && j + 1 < next.length; j++)
+				{
+					curr[j] = next[j + 1];
+				}
+			}
+
+			u[r1 - 1] = curr;
+			det *= curr[0];
+		}
+
+
+		static double[] row(double[][] h, int r, int c0, int w, float s)
+		{
+			int len = Integers.min(w, h.length - c0);
+			double[] x = new double[len];
+			for(int j = 0; j < len; j++)
+			{
+				x[j] = h[r][c0 + j];
+				if(c0 + j == r)
+				{
+					x[j] -= s;
+				}
+			}
+
+			return x;
+		}
+
+		void solve(double[] y)
+		{
+			int r1 = y.length;
+			// Apply the row eliminations...
+			for(int k = 0; k < r1 - 1; k++)
+			{
+				if(p[k])
+				{
+					double t = y[k];
+					y[k] = y[k+1];
+					y[k+1] = t;
+				}
+
+				y[k+1] -= l[k] * y[k];
+			}
+
+			// ...and substitute backward.
+			for(int k = r1 - 1; k >= 0; k--)
+			{
+				double v = y[k];
+				double[] uk = u[k];
+				for(int j = 1; j < uk.length; j++)
+				{
+					v -= uk[j] * y[k + j];
+				}
+
+				if(uk[0] == 0d)
+				{
+					throw new InvertibleError();
+				}
+
+				y[k] = v / uk[0];
+			}
+		}
+	}
+}
\ No newline at end of file
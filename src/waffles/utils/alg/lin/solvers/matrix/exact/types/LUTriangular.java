@@ -17,6 +17,8 @@ import waffles.utils.tools.primitives.Floats;
 /**
  * The {@code LUTriangular} algorithm solves exact linear systems through substitution.
  * This solver fails if anything other than a {@code Triangular} matrix is used.
+ * Right-hand sides with multiple columns are substituted as a single block,
+ * reading each row of the triangular matrix only once for all columns.
  *
  * @author Waffles
  * @since Jul 9, 2018
@@ -277,36 +279,48 @@ public class LUTriangular implements LinearSystem, LUFactor
 		int r1 = a.Rows();
 		
 		Matrix x = Matrices.create(c1, c2);
-		// For each column in the solution matrix...
-		for(int c = 0; c < c2; c++)
-		{
-			// ...perform backward substitution.
-			for(int r = r1 - 1; r >= 0; r--)
-			{	
-				// If this is a null row...
-				if(c1 <= r)
-					// ...disregard it.
-					continue;
-				
-				
-				float v = a.get(r, r);
-				// If a diagonal element is zero...
-				if(Hints().checkPivot()
-				&& Floats.abs(v) <= e)
-				{
-					// ...the matrix is not invertible.
-					throw new InvertibleError();
-				}
-				
+		double[] w = new double[c2];
+		// For each row in the coefficient matrix...
+		for(int r = r1 - 1; r >= 0; r--)
+		{	
+			// If this is a null row...
+			if(c1 <= r)
+				// ...disregard it.
+				continue;
+			
+			
+			float v = a.get(r, r);
+			// If a diagonal element is zero...
+			if(Hints().checkPivot()
+			&& Floats.abs(v) <= e)
+			{
+				// ...the matrix is not invertible.
+				throw new InvertibleError();
+			}
+			
+			
+			// Load the right-hand side row.
+			for(int c = 0; c < c2; c++)
+			{
+				w[c] = b.get(r, c);
+			}
+			
+			// Substitute the block of known unknowns.
+			for(int k = r + 1; k < c1; k++)
+			{
+				double ark = a.get(r, k);
+				if(ark == 0d) continue;
 				
-				float w = 0f;
-				for(int k = r + 1; k < c1; k++)
+				for(int c = 0; c < c2; c++)
 				{
-					w += a.get(r, k) * x.get(k, c);
+					w[c] -= ark * x.get(k, c);
 				}
-				
-				v = (b.get(r, c) - w) / v;
-				x.set(v, r, c);
+			}
+			
+			// Perform backward substitution.
+			for(int c = 0; c < c2; c++)
+			{
+				x.set((float) (w[c] / v), r, c);
 			}
 		}
 			
@@ -324,30 +338,42 @@ public class LUTriangular implements LinearSystem, LUFactor
 
 
 		Matrix x = Matrices.create(c1, c2);
-		// For each column in the solution matrix...
-		for(int c = 0; c < c2; c++)
-		{
-			// ...perform forward substitution.
-			for(int r = 0; r < r1; r++)
-			{				
-				float v = a.get(r, r);
-				// If a diagonal element is zero...
-				if(Hints().checkPivot()
-				&& Floats.abs(v) <= e)
-				{
-					// ...the matrix is not invertible.
-					throw new InvertibleError();
-				}
-				
+		double[] w = new double[c2];
+		// For each row in the coefficient matrix...
+		for(int r = 0; r < r1; r++)
+		{				
+			float v = a.get(r, r);
+			// If a diagonal element is zero...
+			if(Hints().checkPivot()
+			&& Floats.abs(v) <= e)
+			{
+				// ...the matrix is not invertible.
+				throw new InvertibleError();
+			}
+			
+			
+			// Load the right-hand side row.
+			for(int c = 0; c < c2; c++)
+			{
+				w[c] = b.get(r, c);
+			}
+			
+			// Substitute the block of known unknowns.
+			for(int k = 0; k < r; k++)
+			{
+				double ark = a.get(r, k);
+				if(ark == 0d) continue;
 				
-				float w = 0f;
-				for(int k = 0; k < r; k++)
+				for(int c = 0; c < c2; c++)
 				{
-					w += a.get(r, k) * x.get(k, c);
+					w[c] -= ark * x.get(k, c);
 				}
-				
-				v = (b.get(r, c) - w) / v;
-				x.set(v, r, c);
+			}
+			
+			// Perform forward substitution.
+			for(int c = 0; c < c2; c++)
+			{
+				x.set((float) (w[c] / v), r, c);
 			}
 		}
 		
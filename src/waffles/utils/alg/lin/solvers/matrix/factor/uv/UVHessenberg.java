@@ -9,11 +9,9 @@ import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperHessenberg;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
-import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.factor.UVFactor;
 import waffles.utils.alg.utilities.matrix.Householder;
 import waffles.utils.tools.primitives.Doubles;
-import waffles.utils.tools.primitives.Integers;
 
 /**
  * The {@code UVHessenberg} algorithm performs hessenberg factorization using
@@ -173,32 +171,37 @@ public class UVHessenberg implements UVFactor
 	Matrix factorSquare()
 	{
 		int r1 = h.Rows();
-		int c1 = h.Columns();
-
-		// For every row/column in the base matrix...
-		for(int k = 0; k < Integers.min(r1, c1); k++)
+		
+		double[][] a = new double[r1][r1];
+		double[][] q = new double[r1][r1];
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = 0; c < r1; c++)
+			{
+				a[r][c] = h.get(r, c);
+			}
+			
+			q[r][r] = 1d;
+		}
+		
+		// For every column in the base matrix...
+		for(int k = 0; k + 2 < r1; k++)
+		{
+			// ...reflect its subdiagonal to zero.
+			Householder.reflect(a, q, k, Hints().Error());
+		}
+		
+		
+		h = Matrices.create(r1, r1);
+		u = Matrices.create(r1, r1);
+		for(int r = 0; r < r1; r++)
 		{
-			// If the subdiagonal is not finished...
-			if(k + 2 < r1)
+			for(int c = 0; c < r1; c++)
 			{
-				// Create the column reflection normal.
-				Vector uk = h.Column(k);
-				for(int i = 0; i <= k; i++)
-				{
-					uk.set(0f, i);
-				}
-				
-				// If the reflection is feasible...
-				if(Hints().Error() < uk.normSqr())
-				{
-					// Create the column reflection matrix.
-					Matrix uhh = Householder.reflect(uk, k+1);
-					Matrix vhh = uhh.transpose();
-					
-					// Column reflect the target matrix.
-					h = uhh.times(h).times(vhh);
-					u = u.times(uhh);
-				}
+				u.set((float) q[r][c], r, c);
+				if(c + 1 < r)
+					continue;
+				h.set((float) a[r][c], r, c);
 			}
 		}
 
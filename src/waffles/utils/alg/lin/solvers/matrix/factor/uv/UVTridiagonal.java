@@ -7,11 +7,9 @@ import waffles.utils.alg.lin.measure.matrix.types.banded.Tridiagonal;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
-import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.factor.UVFactor;
 import waffles.utils.alg.utilities.matrix.Householder;
 import waffles.utils.tools.primitives.Doubles;
-import waffles.utils.tools.primitives.Integers;
 
 /**
  * The {@code UVTridiagonal} algorithm performs tridiagonal factorization using
@@ -167,32 +165,37 @@ public class UVTridiagonal implements UVFactor
 	Matrix factorSymmetric()
 	{
 		int r1 = t.Rows();
-		int c1 = t.Columns();
-
-		// For every row/column in the base matrix...
-		for(int k = 0; k < Integers.min(r1, c1); k++)
+		
+		double[][] a = new double[r1][r1];
+		double[][] q = new double[r1][r1];
+		for(int r = 0; r < r1; r++)
 		{
-			// If the subdiagonal is not finished...
-			if(k + 2 < r1)
+			for(int c = 0; c < r1; c++)
 			{
-				// Create the column reflection normal.
-				Vector uk = t.Column(k);
-				for(int i = 0; i <= k; i++)
-				{
-					uk.set(0f, i);
-				}
-				
-				// If the reflection is feasible...
-				if(Hints().Error() < uk.normSqr())
-				{
-					// Create the column reflection matrix.
-					Matrix uhh = Householder.reflect(uk, k+1);
-					Matrix vhh = uhh.transpose();
-					
-					// Column reflect the target matrix.
-					t = uhh.times(t).times(vhh);
-					u = u.times(uhh);
-				}
+				a[r][c] = t.get(r, c);
+			}
+			
+			q[r][r] = 1d;
+		}
+		
+		// For every column in the base matrix...
+		for(int k = 0; k + 2 < r1; k++)
+		{
+			// ...reflect its subdiagonal to zero.
+			Householder.reflect(a, q, k, Hints().Error());
+		}
+		
+		
+		t = Matrices.create(r1, r1);
+		u = Matrices.create(r1, r1);
+		for(int r = 0; r < r1; r++)
+		{
+			for(int c = 0; c < r1; c++)
+			{
+				u.set((float) q[r][c], r, c);
+				if(r + 1 < c || c + 1 < r)
+					continue;
+				t.set((float) a[r][c], r, c);
 			}
 		}
 
@@ -206,7 +209,7 @@ public class UVTridiagonal implements UVFactor
 	{
 		if(t == null)
 		{
-			switch(Hints().State())
+			switch(State())
 			{
 			case SYMMETRIC:
 			{
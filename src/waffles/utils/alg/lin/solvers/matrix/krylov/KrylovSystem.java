@@ -0,0 +1,245 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.Square;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.InverseOperator;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
+import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCrout;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.alg.utilities.Algorithmic;
+import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * A {@code KrylovSystem} solves linear systems iteratively in a {@code Krylov} subspace.
+ * Each iteration only requires a single matrix-vector product, which makes these
+ * methods suitable for large and sparse systems. The iteration stops as soon as
+ * the residual {@code |b - Ax|} drops below the error margin relative to {@code |b|}.
+ * Since the matrix is only ever applied to vectors, it can be given as any
+ * {@code LinearOperator} without being stored explicitly.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LinearSystem
+ */
+public interface KrylovSystem extends LinearSystem
+{
+	/**
+	 * The {@code Hints} interface defines hints for a {@code KrylovSystem}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @see Algorithmic
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends Algorithmic.Iterative, MatrixSolver.Hints
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 * 
+		 * @return  a solver state
+		 * 
+		 * 
+		 * @see State
+		 */
+		public default State State()
+		{
+			LinearOperator a = Operator();
+			if(a.Rows() == a.Columns())
+				return State.VALID;
+			return State.INVALID;
+		}
+		
+		/**
+		 * Returns the linear operator of the {@code Hints}.
+		 * 
+		 * @return  a linear operator
+		 * 
+		 * 
+		 * @see LinearOperator
+		 */
+		public abstract LinearOperator Operator();
+		
+		/**
+		 * Returns the preconditioner of the {@code Hints}.
+		 * 
+		 * @return  a preconditioner
+		 * 
+		 * 
+		 * @see Preconditioner
+		 */
+		public default Preconditioner Preconditioner()
+		{
+			return Preconditioner.Identity();
+		}
+		
+		
+		@Override
+		public default Matrix Matrix()
+		{
+			LinearOperator a = Operator();
+			if(a instanceof Matrix)
+				return (Matrix) a;
+			return null;
+		}
+		
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -16);
+		}
+	}
+	
+	/**
+	 * A {@code State} defines the types of {@code KrylovSystem} states.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum State
+	{
+		/**
+		 * An invalid matrix cannot be used.
+		 */
+		INVALID,
+		/**
+		 * A square matrix is valid.
+		 */
+		VALID;
+	}
+	
+	
+	/**
+	 * Computes a vector solution in the {@code KrylovSystem}.
+	 * 
+	 * @param b  a right-hand side vector
+	 * @param x  an initial estimate
+	 * @return   a vector of unknowns
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public abstract Vector solve(Vector b, Vector x);
+	
+	/**
+	 * Returns the loop count of the last solve.
+	 * 
+	 * @return  a loop count
+	 */
+	public abstract int Loops();
+	
+	/**
+	 * Returns the relative residual of the last solve.
+	 * 
+	 * @return  a residual norm
+	 */
+	public abstract float Residual();
+	
+	
+	@Override
+	public default <M extends Matrix> M solve(M b)
+	{
+		int r1 = Hints().Operator().Columns();
+		int c2 = b.Columns();
+		
+		Matrix x = Matrices.create(r1, c2);
+		// For each column in the right-hand side...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...iterate from a zero estimate.
+			Vector v = Vectors.create(r1);
+			v = solve(b.Column(c), v);
+			for(int r = 0; r < r1; r++)
+			{
+				x.set(v.get(r), r, c);
+			}
+		}
+		
+		return (M) x;
+	}
+	
+	@Override
+	public default boolean canSolve(Matrix b)
+	{
+		LinearOperator a = Hints().Operator();
+		if(a.Rows() != b.Rows())
+		{
+			throw new Error(b);
+		}
+		else
+		{
+			if(Hints().State() == State.INVALID)
+			{
+				throw new TypeError
+				(
+					Square.Type()
+				);
+			}
+
+			return canInvert();
+		}
+	}
+	
+	@Override
+	public default boolean canInvert()
+	{
+		// Krylov methods do not factor the matrix.
+		return Hints().State() == State.VALID;
+	}
+	
+	@Override
+	public default InverseOperator Inverse()
+	{
+		return new InverseOperator(this, Hints().Operator());
+	}
+	
+	@Override
+	public default Matrix inverse()
+	{
+		int r = Hints().Operator().Rows();
+		Matrix id = Matrices.identity(r);
+		id.setOperator(Identity.Type());
+		return solve(id.destroy());
+	}
+	
+	@Override
+	public default float determinant()
+	{
+		Matrix m = Hints().Matrix();
+		if(m == null)
+		{
+			LinearOperator a = Hints().Operator();
+			m = Matrices.create(a.Rows(), a.Columns());
+			// Materialize the operator column by column.
+			for(int c = 0; c < a.Columns(); c++)
+			{
+				Vector e = Vectors.unit(c, a.Columns());
+				Vector v = a.apply(e);
+				for(int r = 0; r < a.Rows(); r++)
+				{
+					m.set(v.get(r), r, c);
+				}
+			}
+		}
+		
+		// The determinant requires a dense factorization.
+		return new LUCrout(m).determinant();
+	}
+	
+	@Override
+	public abstract Hints Hints();
+}
\ No newline at end of file
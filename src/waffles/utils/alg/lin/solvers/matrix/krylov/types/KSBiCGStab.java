@@ -0,0 +1,143 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov.types;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.krylov.KrylovSystem;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+
+/**
+ * The {@code KSBiCGStab} algorithm solves linear systems with the {@code stabilized biconjugate gradient} method.
+ * This method combines the short recurrences of the biconjugate gradient method with a local residual
+ * minimization step, which smooths its convergence. It works for nonsymmetric matrices, using a fixed
+ * amount of memory and two matrix-vector products per iteration. The preconditioner is applied
+ * on the right, such that the true residual is monitored.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Biconjugate_gradient_stabilized_method">Biconjugate gradient stabilized method</a>
+ * @see KrylovSystem
+ */
+public class KSBiCGStab implements KrylovSystem
+{
+	private int loops;
+	private float res;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code KSBiCGStab}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public KSBiCGStab(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code KSBiCGStab}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public KSBiCGStab(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector solve(Vector b, Vector x)
+	{
+		LinearOperator a = Hints().Operator();
+		Preconditioner pc = Hints().Preconditioner();
+		double err = Hints().Error();
+		int n = b.Size();
+		
+		loops = 0; res = 0f;
+		float bn = b.norm();
+		if(bn == 0f)
+		{
+			return x.times(0f);
+		}
+		
+		
+		Vector r = b.minus(a.apply(x));
+		Vector rh = r.copy();
+		Vector p = Vectors.create(n);
+		Vector v = Vectors.create(n);
+		double rho = 1d, alpha = 1d, omega = 1d;
+		
+		res = r.norm() / bn;
+		// Iterate until the residual is small enough.
+		while(err < res && loops < Hints().MaxLoops())
+		{
+			double rhon = rh.dot(r);
+			if(rhon == 0d || omega == 0d) break;
+			
+			// Compute the next search direction.
+			double beta = (rhon / rho) * (alpha / omega);
+			p = p.minus(v.times((float) omega));
+			p = r.plus(p.times((float) beta));
+			
+			Vector ph = pc.apply(p);
+			v = a.apply(ph);
+			
+			double rv = rh.dot(v);
+			if(rv == 0d) break;
+			alpha = rhon / rv;
+			
+			// Take the biconjugate half step.
+			Vector s = r.minus(v.times((float) alpha));
+			x = x.plus(ph.times((float) alpha));
+			
+			res = s.norm() / bn;
+			if(res <= err)
+			{
+				loops++;
+				break;
+			}
+			
+			// Minimize the local residual.
+			Vector sh = pc.apply(s);
+			Vector t = a.apply(sh);
+			
+			double tt = t.dot(t);
+			if(tt == 0d) break;
+			omega = t.dot(s) / tt;
+			
+			x = x.plus(sh.times((float) omega));
+			r = s.minus(t.times((float) omega));
+			rho = rhon;
+			
+			res = r.norm() / bn;
+			loops++;
+		}
+		
+		return x;
+	}
+	
+	@Override
+	public float Residual()
+	{
+		return res;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	@Override
+	public int Loops()
+	{
+		return loops;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,141 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov.types;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.krylov.KrylovSystem;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.alg.utilities.errors.TypeError;
+
+/**
+ * The {@code KSConjugate} algorithm solves linear systems with the {@code conjugate gradient} method.
+ * Each iteration minimizes the error in the energy norm of the matrix over an expanding Krylov subspace,
+ * using only a short recurrence of search directions. The method requires a symmetric positive definite
+ * matrix, as well as a symmetric positive definite preconditioner.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Conjugate_gradient_method">Conjugate gradient method</a>
+ * @see KrylovSystem
+ */
+public class KSConjugate implements KrylovSystem
+{
+	private int loops;
+	private float res;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code KSConjugate}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public KSConjugate(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code KSConjugate}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public KSConjugate(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector solve(Vector b, Vector x)
+	{
+		LinearOperator a = Hints().Operator();
+		Preconditioner pc = Hints().Preconditioner();
+		double err = Hints().Error();
+		
+		loops = 0; res = 0f;
+		float bn = b.norm();
+		if(bn == 0f)
+		{
+			return x.times(0f);
+		}
+		
+		
+		Vector r = b.minus(a.apply(x));
+		Vector z = pc.apply(r);
+		Vector p = z.copy();
+		double rz = r.dot(z);
+		
+		res = r.norm() / bn;
+		// Iterate until the residual is small enough.
+		while(err < res && loops < Hints().MaxLoops())
+		{
+			Vector ap = a.apply(p);
+			double pap = p.dot(ap);
+			if(pap <= 0d) break;
+			
+			// Step along the search direction.
+			float alpha = (float) (rz / pap);
+			x = x.plus(p.times(alpha));
+			r = r.minus(ap.times(alpha));
+			
+			// Compute the next conjugate direction.
+			z = pc.apply(r);
+			double rzn = r.dot(z);
+			float beta = (float) (rzn / rz);
+			p = z.plus(p.times(beta));
+			rz = rzn;
+			
+			res = r.norm() / bn;
+			loops++;
+		}
+		
+		return x;
+	}
+	
+	@Override
+	public boolean canSolve(Matrix b)
+	{
+		if(KrylovSystem.super.canSolve(b))
+		{
+			double e = Hints().Error();
+			Matrix a = Hints().Matrix();
+			// Matrix-free operators cannot be validated.
+			if(a != null && !a.allows(Symmetric.Type(), e))
+			{
+				throw new TypeError
+				(
+					Symmetric.Type()
+				);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public float Residual()
+	{
+		return res;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	@Override
+	public int Loops()
+	{
+		return loops;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,217 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov.types;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.krylov.KrylovSystem;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code KSGMRes} algorithm solves linear systems with the {@code generalized minimal residual} method.
+ * An Arnoldi process builds an orthonormal basis of the Krylov subspace, together with a Hessenberg
+ * projection of the matrix, which is reduced by Givens rotations to minimize the residual. This works
+ * for any nonsingular matrix. Since the basis grows with every iteration, the method is restarted
+ * after a fixed number of iterations. The preconditioner is applied on the right, such that
+ * the true residual is minimized.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Generalized_minimal_residual_method">Generalized minimal residual method</a>
+ * @see KrylovSystem
+ */
+public class KSGMRes implements KrylovSystem
+{
+	/**
+	 * Defines the default restart length of the {@code Hints}.
+	 */
+	public static final int DEF_RESTART = 30;
+	
+	/**
+	 * The {@code Hints} interface defines hints for a {@code KSGMRes}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @see KrylovSystem
+	 */
+	@FunctionalInterface
+	public static interface Hints extends KrylovSystem.Hints
+	{
+		/**
+		 * Returns the restart length of the {@code Hints}.
+		 * 
+		 * @return  a restart length
+		 */
+		public default int Restart()
+		{
+			return DEF_RESTART;
+		}
+	}
+	
+	
+	private int loops;
+	private float res;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code KSGMRes}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public KSGMRes(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code KSGMRes}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public KSGMRes(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector solve(Vector b, Vector x)
+	{
+		LinearOperator a = Hints().Operator();
+		Preconditioner pc = Hints().Preconditioner();
+		int m = Integers.min(Hints().Restart(), b.Size());
+		double err = Hints().Error();
+		
+		loops = 0; res = 0f;
+		float bn = b.norm();
+		if(bn == 0f)
+		{
+			return x.times(0f);
+		}
+		
+		
+		Vector[] v = new Vector[m + 1];
+		double[][] h = new double[m + 1][m];
+		double[] cs = new double[m];
+		double[] sn = new double[m];
+		double[] g = new double[m + 1];
+		
+		Vector r = b.minus(a.apply(x));
+		res = r.norm() / bn;
+		// Restart until the residual is small enough.
+		while(err < res && loops < Hints().MaxLoops())
+		{
+			float beta = r.norm();
+			v[0] = r.times(1f / beta);
+			
+			g[0] = beta;
+			for(int i = 1; i <= m; i++)
+			{
+				g[i] = 0d;
+			}
+			
+			int k = 0;
+			// Extend the Arnoldi basis...
+			while(k < m && loops < Hints().MaxLoops())
+			{
+				Vector w = a.apply(pc.apply(v[k]));
+				
+				// ...orthogonalizing with modified Gram-Schmidt.
+				for(int i = 0; i <= k; i++)
+				{
+					h[i][k] = w.dot(v[i]);
+					w = w.minus(v[i].times((float) h[i][k]));
+				}
+				
+				double hn = w.norm();
+				h[k+1][k] = hn;
+				
+				// Apply the previous rotations.
+				for(int i = 0; i < k; i++)
+				{
+					double t1 = h[i+0][k];
+					double t2 = h[i+1][k];
+					
+					h[i+0][k] = +cs[i] * t1 + sn[i] * t2;
+					h[i+1][k] = -sn[i] * t1 + cs[i] * t2;
+				}
+				
+				// Compute the next rotation.
+				double t1 = h[k+0][k];
+				double t2 = h[k+1][k];
+				double d = Doubles.sqrt(t1 * t1 + t2 * t2);
+				if(d == 0d) break;
+				cs[k] = t1 / d;
+				sn[k] = t2 / d;
+				
+				h[k+0][k] = d;
+				h[k+1][k] = 0d;
+				g[k+1] = -sn[k] * g[k];
+				g[k+0] = +cs[k] * g[k];
+				
+				k++; loops++;
+				res = (float) (Doubles.abs(g[k]) / bn);
+				if(res <= err || hn == 0d) break;
+				v[k] = w.times((float) (1d / hn));
+			}
+			
+			if(k == 0) break;
+			
+			
+			double[] y = new double[k];
+			// Solve the upper triangular system.
+			for(int i = k - 1; i >= 0; i--)
+			{
+				double s = g[i];
+				for(int j = i + 1; j < k; j++)
+				{
+					s -= h[i][j] * y[j];
+				}
+				
+				y[i] = s / h[i][i];
+			}
+			
+			// Update the solution.
+			Vector u = Vectors.create(b.Size());
+			for(int i = 0; i < k; i++)
+			{
+				u = u.plus(v[i].times((float) y[i]));
+			}
+			
+			x = x.plus(pc.apply(u));
+			r = b.minus(a.apply(x));
+			res = r.norm() / bn;
+		}
+		
+		return x;
+	}
+	
+	@Override
+	public float Residual()
+	{
+		return res;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	@Override
+	public int Loops()
+	{
+		return loops;
+	}
+}
\ No newline at end of file
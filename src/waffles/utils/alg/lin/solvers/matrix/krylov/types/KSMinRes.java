@@ -0,0 +1,193 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov.types;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.krylov.KrylovSystem;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code KSMinRes} algorithm solves linear systems with the {@code minimal residual} method.
+ * A symmetric Lanczos process builds a tridiagonal projection of the matrix, which is reduced
+ * by Givens rotations to minimize the residual over the Krylov subspace. Unlike the conjugate
+ * gradient method, this works for symmetric indefinite matrices as well. A preconditioner
+ * must still be symmetric positive definite. Iteration stops on the residual estimate in the
+ * norm of the preconditioner, after which the true relative residual is computed once.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Minimal_residual_method">Minimal residual method</a>
+ * @see KrylovSystem
+ */
+public class KSMinRes implements KrylovSystem
+{
+	private int loops;
+	private float res;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code KSMinRes}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public KSMinRes(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code KSMinRes}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public KSMinRes(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector solve(Vector b, Vector x)
+	{
+		LinearOperator a = Hints().Operator();
+		Preconditioner pc = Hints().Preconditioner();
+		double err = Hints().Error();
+		int n = b.Size();
+		
+		loops = 0; res = 0f;
+		float bn = b.norm();
+		if(bn == 0f)
+		{
+			return x.times(0f);
+		}
+		
+		
+		Vector r1 = b.minus(a.apply(x));
+		Vector y = pc.apply(r1);
+		
+		double beta1 = r1.dot(y);
+		if(beta1 <= 0d)
+		{
+			res = r1.norm() / bn;
+			return x;
+		}
+		
+		
+		beta1 = Doubles.sqrt(beta1);
+		double beta = beta1, bold = 0d;
+		double dbar = 0d, eps = 0d;
+		double phib = beta1;
+		double cs = -1d, sn = 0d;
+		
+		Vector r2 = r1;
+		Vector w1 = Vectors.create(n);
+		Vector w2 = Vectors.create(n);
+		Vector w0 = Vectors.create(n);
+		
+		res = 1f;
+		// Iterate until the residual is small enough.
+		while(err < res && loops < Hints().MaxLoops())
+		{
+			// Advance the Lanczos process.
+			Vector v = y.times((float) (1d / beta));
+			y = a.apply(v);
+			if(loops > 0)
+			{
+				float f = (float) (beta / bold);
+				y = y.minus(r1.times(f));
+			}
+			
+			double alfa = v.dot(y);
+			y = y.minus(r2.times((float) (alfa / beta)));
+			r1 = r2; r2 = y;
+			y = pc.apply(r2);
+			
+			bold = beta;
+			beta = r2.dot(y);
+			if(beta < 0d) break;
+			beta = Doubles.sqrt(beta);
+			
+			// Apply the previous rotation.
+			double epso = eps;
+			double delta = cs * dbar + sn * alfa;
+			double gbar = sn * dbar - cs * alfa;
+			eps = sn * beta;
+			dbar = -cs * beta;
+			
+			// Compute the next rotation.
+			double gamma = Doubles.sqrt(gbar * gbar + beta * beta);
+			if(gamma == 0d) break;
+			cs = gbar / gamma;
+			sn = beta / gamma;
+			
+			double phi = cs * phib;
+			phib = sn * phib;
+			
+			// Update the solution direction.
+			w1 = w2; w2 = w0;
+			w0 = v.minus(w1.times((float) epso));
+			w0 = w0.minus(w2.times((float) delta));
+			w0 = w0.times((float) (1d / gamma));
+			x = x.plus(w0.times((float) phi));
+			
+			res = (float) (Doubles.abs(phib) / beta1);
+			loops++;
+			
+			if(beta == 0d) break;
+		}
+		
+		// The estimate is measured in the preconditioner norm.
+		res = b.minus(a.apply(x)).norm() / bn;
+		return x;
+	}
+	
+	@Override
+	public boolean canSolve(Matrix b)
+	{
+		if(KrylovSystem.super.canSolve(b))
+		{
+			double e = Hints().Error();
+			Matrix a = Hints().Matrix();
+			// Matrix-free operators cannot be validated.
+			if(a != null && !a.allows(Symmetric.Type(), e))
+			{
+				throw new TypeError
+				(
+					Symmetric.Type()
+				);
+			}
+			
+			return true;
+		}
+		
+		return false;
+	}
+	
+	@Override
+	public float Residual()
+	{
+		return res;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	@Override
+	public int Loops()
+	{
+		return loops;
+	}
+}
\ No newline at end of file
@@ -1,5 +1,7 @@
 package waffles.utils.alg.lin.solvers.matrix.ortho;
 
+import java.util.stream.IntStream;
+
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.Square;
@@ -7,16 +9,21 @@ import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
-import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCrout;
 import waffles.utils.alg.lin.solvers.matrix.factor.QSFactor;
 import waffles.utils.alg.utilities.Algorithmic.Iterative;
+import waffles.utils.alg.utilities.errors.DimensionError;
 import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
 
 /**
  * The {@code ORNewton} algorithm computes a nearest orthogonal with a {@code QSFactor}
  * factorization method. This method computes the polar decomposition of a {@code Square}
  * matrix using Newton's method. The decomposition takes the form of {@code M = QS}
  * where Q is an {@code Orthogonal} matrix and S a {@code Symmetric} matrix.
+ * The iteration is performed in its inverse-free {@code Newton-Schulz} form
+ * {@code X = X(3I - X*X)/2}, which only requires two products per step. Matrices
+ * that are far from orthogonal are scaled first so that the iteration converges.
+ * Batches of small matrices can be orthogonalized in place through a static method.
  *
  * @author Waffles
  * @since 29 Aug 2025
@@ -24,11 +31,17 @@ import waffles.utils.tools.primitives.Doubles;
  *
  * 
  * @see <a href="https://epubs.siam.org/doi/abs/10.1137/0907079">Polar Decomposition</a>
+ * @see <a href="https://doi.org/10.1137/1.9780898717778">Nicholas J. Higham, "Functions of Matrices."</a>
  * @see Orthogonalizer
  * @see QSFactor
  */
 public class ORNewton implements Orthogonalizer, QSFactor
 {
+	/**
+	 * Defines the amount of matrices per task in a batch.
+	 */
+	public static final int DEF_BATCH = 256;
+	
 	/**
 	 * The {@code Hints} interface defines hints for an {@code ORNewton}.
 	 *
@@ -101,8 +114,7 @@ public class ORNewton implements Orthogonalizer, QSFactor
 	
 	
 	private Matrix s;
-	private Matrix p, q;
-	private LUCrout luc;
+	private Matrix q;
 	private Hints hints;
 		
 	/**
@@ -134,6 +146,81 @@ public class ORNewton implements Orthogonalizer, QSFactor
 	}
 
 
+	/**
+	 * Orthogonalizes a batch of square matrices in the {@code ORNewton}.
+	 * The array contains consecutive row-major matrices of size {@code n x n},
+	 * which are replaced by the orthogonal factor of their polar decomposition.
+	 * 
+	 * @param data  a matrix batch
+	 * @param n     a matrix size
+	 * @param err   an error margin
+	 * @param max   a loop maximum
+	 * 
+	 * 
+	 * @throws DimensionError  if the batch does not hold whole matrices
+	 */
+	public static void orthogonalize(float[] data, int n, double err, int max)
+	{
+		int size = n * n;
+		if(n <= 0 || data.length % size != 0)
+		{
+			throw new DimensionError("Orthogonalizing a batch requires a multiple of " + n + "x" + n + " values, found " + data.length);
+		}
+		
+		int count = data.length / size;
+		int chunks = (count + DEF_BATCH - 1) / DEF_BATCH;
+		// For each chunk in the batch...
+		IntStream.range(0, chunks).parallel().forEach(k ->
+		{
+			double[][] x = new double[n][n];
+			double[][] g = new double[n][n];
+			double[][] t = new double[n][n];
+			
+			// ...iterate its matrices in shared buffers.
+			int i1 = Integers.min(count, (k + 1) * DEF_BATCH);
+			for(int i = k * DEF_BATCH; i < i1; i++)
+			{
+				int i0 = i * size;
+				for(int r = 0; r < n; r++)
+				{
+					for(int c = 0; c < n; c++)
+					{
+						x[r][c] = data[i0 + r * n + c];
+					}
+				}
+				
+				double[][] y = iterate(x, g, t, err, max, false);
+				for(int r = 0; r < n; r++)
+				{
+					for(int c = 0; c < n; c++)
+					{
+						data[i0 + r * n + c] = (float) y[r][c];
+					}
+				}
+				
+				if(y == t)
+				{
+					t = x;
+					x = y;
+				}
+			}
+		});
+	}
+	
+	/**
+	 * Orthogonalizes a batch of square matrices in the {@code ORNewton}.
+	 * The array contains consecutive row-major matrices of size {@code n x n},
+	 * which are replaced by the orthogonal factor of their polar decomposition.
+	 * 
+	 * @param data  a matrix batch
+	 * @param n     a matrix size
+	 */
+	public static void orthogonalize(float[] data, int n)
+	{
+		orthogonalize(data, n, Doubles.pow(2, -16), Iterative.DEF_LOOPS);
+	}
+
+
 	@Override
 	public Matrix orthogonalize()
 	{
@@ -163,21 +250,176 @@ public class ORNewton implements Orthogonalizer, QSFactor
 	}
 	
 	
+	static double[][] iterate(double[][] x, double[][] g, double[][] t, double err, int max, boolean par)
+	{
+		int n = x.length;
+		double d = defect(x, g, par);
+		// Scale matrices outside the region of convergence.
+		if(1d <= d)
+		{
+			double scl = 0d;
+			// Bound the spectrum of X*X = I - 2E.
+			for(int i = 0; i < n; i++)
+			{
+				double sum = 0d;
+				for(int j = 0; j < n; j++)
+				{
+					double v = (i == j ? 1d : 0d) - 2 * g[i][j];
+					sum += Doubles.abs(v);
+				}
+				
+				if(scl < sum)
+				{
+					scl = sum;
+				}
+			}
+			
+			if(scl == 0d)
+			{
+				return x;
+			}
+			
+			// Keep the singular values below sqrt(2).
+			scl = Doubles.sqrt(1.5d / scl);
+			for(int r = 0; r < n; r++)
+			{
+				for(int c = 0; c < n; c++)
+				{
+					x[r][c] *= scl;
+				}
+			}
+			
+			d = defect(x, g, par);
+		}
+		
+		
+		int loops = 0;
+		double last = Double.POSITIVE_INFINITY;
+		// Iterate until the defect no longer decreases.
+		while(err < d && d < last && loops++ < max)
+		{
+			double[][] y = step(x, g, t, par);
+			t = x; x = y;
+			
+			last = d;
+			d = defect(x, g, par);
+		}
+		
+		return x;
+	}
+	
+	static double[][] step(double[][] x, double[][] g, double[][] t, boolean par)
+	{
+		int n = x.length;
+		if(par)
+			IntStream.range(0, n).parallel().forEach(r -> step(x, g, t, r));
+		else
+		{
+			for(int r = 0; r < n; r++)
+			{
+				step(x, g, t, r);
+			}
+		}
+		
+		return t;
+	}
+	
+	static void step(double[][] x, double[][] g, double[][] t, int r)
+	{
+		int n = x.length;
+		double[] xr = x[r];
+		double[] tr = t[r];
+		
+		// Compute X + X(I - X*X)/2.
+		System.arraycopy(xr, 0, tr, 0, n);
+		for(int k = 0; k < n; k++)
+		{
+			double v = xr[k];
+			if(v == 0d) continue;
+			double[] gk = g[k];
+			for(int c = 0; c < n; c++)
+			{
+				tr[c] += v * gk[c];
+			}
+		}
+	}
+	
+	static double defect(double[][] x, double[][] g, boolean par)
+	{
+		int n = x.length;
+		if(par)
+			IntStream.range(0, n).parallel().forEach(i -> gram(x, g, i));
+		else
+		{
+			for(int i = 0; i < n; i++)
+			{
+				gram(x, g, i);
+			}
+		}
+		
+		
+		double d = 0d;
+		// Store (I - X*X)/2 and its norm.
+		for(int i = 0; i < n; i++)
+		{
+			for(int j = i; j < n; j++)
+			{
+				double e = (i == j ? 1d : 0d) - g[i][j];
+				d += (i == j ? 1d : 2d) * e * e;
+				g[i][j] = e / 2;
+				g[j][i] = e / 2;
+			}
+		}
+		
+		return Doubles.sqrt(d);
+	}
+	
+	static void gram(double[][] x, double[][] g, int i)
+	{
+		int n = x.length;
+		double[] gi = g[i];
+		for(int j = i; j < n; j++)
+		{
+			gi[j] = 0d;
+		}
+		
+		// Accumulate the upper triangle of X*X.
+		for(int k = 0; k < n; k++)
+		{
+			double[] xk = x[k];
+			double v = xk[i];
+			if(v == 0d) continue;
+			for(int j = i; j < n; j++)
+			{
+				gi[j] += v * xk[j];
+			}
+		}
+	}
+	
 	Matrix factorNewton()
 	{
-		float np = 0f;
-		float nq = 0f;
-
+		int n = q.Rows();
+		double[][] x = new double[n][n];
+		for(int r = 0; r < n; r++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				x[r][c] = q.get(r, c);
+			}
+		}
+		
 		double err = Hints().Error();
-		while(err * np <= nq)
+		double[][] g = new double[n][n];
+		double[][] t = new double[n][n];
+		x = iterate(x, g, t, err, Hints().MaxLoops(), true);
+		
+		q = Matrices.create(n, n);
+		for(int r = 0; r < n; r++)
 		{
-			p = q;
-			luc = new LUCrout(p);
-			s = luc.inverse().transpose();
-			q = p.plus(s).times(0.5f);
-			
-			nq = q.minus(p).norm1();
-			np = p.norm1();
+			for(int c = 0; c < n; c++)
+			{
+				q.set((float) x[r][c], r, c);
+			}
 		}
 		
 		
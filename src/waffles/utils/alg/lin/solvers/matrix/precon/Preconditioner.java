@@ -0,0 +1,40 @@
+package waffles.utils.alg.lin.solvers.matrix.precon;
+
+import waffles.utils.alg.lin.measure.vector.Vector;
+
+/**
+ * A {@code Preconditioner} approximates the inverse of a coefficient matrix.
+ * Given a system {@code Ax = b}, it applies a cheap operator {@code inv(M)}
+ * to a residual, such that {@code inv(M)A} is better conditioned than A.
+ * Iterative solvers use it to reduce their number of iterations.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+@FunctionalInterface
+public interface Preconditioner
+{
+	/**
+	 * Returns the identity {@code Preconditioner}.
+	 * This leaves every residual unchanged.
+	 * 
+	 * @return  an identity preconditioner
+	 */
+	public static Preconditioner Identity()
+	{
+		return r -> r;
+	}
+	
+	
+	/**
+	 * Applies the {@code Preconditioner} to a residual.
+	 * 
+	 * @param r  a residual vector
+	 * @return   a preconditioned vector
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public abstract Vector apply(Vector r);
+}
\ No newline at end of file
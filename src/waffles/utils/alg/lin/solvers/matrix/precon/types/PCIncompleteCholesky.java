@@ -0,0 +1,226 @@
+package waffles.utils.alg.lin.solvers.matrix.precon.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.Square;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code PCIncompleteCholesky} preconditioner approximates a matrix by an incomplete {@code Cholesky} factorization.
+ * The factorization {@code A = R*R} is computed on the sparsity pattern of the upper triangle of A,
+ * dropping all fill-in, known as {@code IC(0)}. Only the upper triangle of the matrix is read,
+ * so it should be symmetric positive definite. Pivots that break down during
+ * the factorization fall back to the original diagonal.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Incomplete_Cholesky_factorization">Incomplete Cholesky factorization</a>
+ * @see Preconditioner
+ * @see MatrixSolver
+ */
+public class PCIncompleteCholesky implements Preconditioner, MatrixSolver
+{
+	/**
+	 * The {@code Hints} interface defines hints for a {@code PCIncompleteCholesky}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends MatrixSolver.Hints
+	{
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -16);
+		}
+	}
+	
+	
+	private Hints hints;
+	private SparseRows r;
+	
+	/**
+	 * Creates a new {@code PCIncompleteCholesky}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public PCIncompleteCholesky(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code PCIncompleteCholesky}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public PCIncompleteCholesky(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector apply(Vector v)
+	{
+		r = factor();
+		
+		int r1 = r.Rows();
+		double[] x = new double[r1];
+		for(int i = 0; i < r1; i++)
+		{
+			x[i] = v.get(i);
+		}
+		
+		// Solve R* y = v.
+		for(int i = 0; i < r1; i++)
+		{
+			x[i] /= r.vals[i][0];
+			for(int k = 1; k < r.cols[i].length; k++)
+			{
+				x[r.cols[i][k]] -= r.vals[i][k] * x[i];
+			}
+		}
+		
+		// Solve R x = y.
+		for(int i = r1 - 1; i >= 0; i--)
+		{
+			double s = x[i];
+			for(int k = 1; k < r.cols[i].length; k++)
+			{
+				s -= r.vals[i][k] * x[r.cols[i][k]];
+			}
+			
+			x[i] = s / r.vals[i][0];
+		}
+		
+		
+		Vector z = Vectors.create(r1);
+		for(int i = 0; i < r1; i++)
+		{
+			z.set((float) x[i], i);
+		}
+		
+		return z;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	
+	SparseRows factor()
+	{
+		if(r == null)
+		{
+			Matrix m = Hints().Matrix();
+			if(!m.allows(Square.Type(), 0))
+			{
+				throw new TypeError
+				(
+					Square.Type()
+				);
+			}
+			
+			
+			r = upper(new SparseRows(m));
+			double err = Hints().Error();
+			int r1 = r.Rows();
+			
+			// For each row in the upper triangle...
+			for(int k = 0; k < r1; k++)
+			{
+				double d = r.vals[k][0];
+				// ...replace a breakdown pivot.
+				if(d < err)
+				{
+					d = m.get(k, k);
+					if(d < err) d = 1d;
+				}
+				
+				d = Doubles.sqrt(d);
+				r.vals[k][0] = d;
+				for(int p = 1; p < r.cols[k].length; p++)
+				{
+					r.vals[k][p] /= d;
+				}
+				
+				// Update the trailing rows on their pattern.
+				for(int p = 1; p < r.cols[k].length; p++)
+				{
+					int i = r.cols[k][p];
+					double rki = r.vals[k][p];
+					
+					int q = 0;
+					for(int s = p; s < r.cols[k].length; s++)
+					{
+						int j = r.cols[k][s];
+						while(q < r.cols[i].length && r.cols[i][q] < j)
+						{
+							q++;
+						}
+						
+						if(q == r.cols[i].length) break;
+						if(r.cols[i][q] == j)
+						{
+							r.vals[i][q] -= rki * r.vals[k][s];
+						}
+					}
+				}
+			}
+		}
+		
+		return r;
+	}
+	
+	SparseRows upper(SparseRows a)
+	{
+		int r1 = a.Rows();
+		SparseRows u = new SparseRows(r1);
+		// For each row in the matrix...
+		for(int i = 0; i < r1; i++)
+		{
+			int len = 1;
+			// ...count its upper elements.
+			for(int c : a.cols[i])
+			{
+				if(i < c) len++;
+			}
+			
+			u.cols[i] = new int[len];
+			u.vals[i] = new double[len];
+			u.cols[i][0] = i;
+			u.vals[i][0] = a.get(i, i);
+			
+			len = 1;
+			for(int k = 0; k < a.cols[i].length; k++)
+			{
+				if(i < a.cols[i][k])
+				{
+					u.cols[i][len] = a.cols[i][k];
+					u.vals[i][len] = a.vals[i][k];
+					len++;
+				}
+			}
+		}
+		
+		return u;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,405 @@
+package waffles.utils.alg.lin.solvers.matrix.precon.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.Square;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+import waffles.utils.alg.utilities.errors.TypeError;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code PCIncompleteLU} preconditioner approximates a matrix by an incomplete {@code LU} factorization.
+ * Gaussian elimination is performed row by row, but fill-in is restricted to keep the factors sparse.
+ * Without a threshold, the factors keep the sparsity pattern of the matrix itself, known as {@code ILU(0)}.
+ * With a threshold, any element smaller than the threshold relative to its row norm is dropped, and
+ * only the largest elements of each row are kept, known as {@code ILUT}. Pivots that vanish
+ * during the factorization are replaced by the error margin.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Incomplete_LU_factorization">Incomplete LU factorization</a>
+ * @see Preconditioner
+ * @see MatrixSolver
+ */
+public class PCIncompleteLU implements Preconditioner, MatrixSolver
+{
+	/**
+	 * Defines the default row fill of the {@code Hints}.
+	 */
+	public static final int DEF_FILL = 10;
+	
+	/**
+	 * The {@code Hints} interface defines hints for a {@code PCIncompleteLU}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends MatrixSolver.Hints
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 * This determines which fill-in strategy
+		 * will be used to factor the matrix.
+		 * 
+		 * @return  a factor state
+		 * 
+		 * 
+		 * @see State
+		 */
+		public default State State()
+		{
+			if(!Matrix().allows(Square.Type(), 0))
+				return State.INVALID;
+			if(0d < Threshold())
+				return State.THRESHOLD;
+			return State.PATTERN;
+		}
+		
+		/**
+		 * Returns the drop threshold of the {@code Hints}.
+		 * 
+		 * @return  a drop threshold
+		 */
+		public default double Threshold()
+		{
+			return 0d;
+		}
+		
+		/**
+		 * Returns the maximum row fill of the {@code Hints}.
+		 * This limits the amount of off-diagonal elements
+		 * kept in each row of both triangular factors.
+		 * 
+		 * @return  a row fill
+		 */
+		public default int Fill()
+		{
+			return DEF_FILL;
+		}
+		
+		
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -16);
+		}
+	}
+	
+	/**
+	 * A {@code State} defines the types of {@code PCIncompleteLU} algorithms.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum State
+	{
+		/**
+		 * An invalid matrix cannot be used.
+		 */
+		INVALID,
+		/**
+		 * A pattern factorization drops all fill-in.
+		 */
+		PATTERN,
+		/**
+		 * A threshold factorization drops small elements.
+		 */
+		THRESHOLD;
+	}
+	
+	
+	private State state;
+	private Hints hints;
+	private SparseRows l, u;
+	
+	/**
+	 * Creates a new {@code PCIncompleteLU}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public PCIncompleteLU(Hints h)
+	{
+		state = h.State();
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code PCIncompleteLU}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public PCIncompleteLU(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector apply(Vector r)
+	{
+		u = factor();
+		
+		int r1 = u.Rows();
+		double[] x = new double[r1];
+		// Solve L y = r.
+		for(int i = 0; i < r1; i++)
+		{
+			double s = r.get(i);
+			for(int k = 0; k < l.cols[i].length; k++)
+			{
+				s -= l.vals[i][k] * x[l.cols[i][k]];
+			}
+			
+			x[i] = s;
+		}
+		
+		// Solve U x = y.
+		for(int i = r1 - 1; i >= 0; i--)
+		{
+			double s = x[i];
+			for(int k = 1; k < u.cols[i].length; k++)
+			{
+				s -= u.vals[i][k] * x[u.cols[i][k]];
+			}
+			
+			x[i] = s / u.vals[i][0];
+		}
+		
+		
+		Vector z = Vectors.create(r1);
+		for(int i = 0; i < r1; i++)
+		{
+			z.set((float) x[i], i);
+		}
+		
+		return z;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	
+	SparseRows factor()
+	{
+		if(u == null)
+		{
+			if(state == State.INVALID)
+			{
+				throw new TypeError
+				(
+					Square.Type()
+				);
+			}
+			
+			
+			SparseRows a = new SparseRows(Hints().Matrix());
+			double err = Hints().Error();
+			int r1 = a.Rows();
+			
+			l = new SparseRows(r1);
+			u = new SparseRows(r1);
+			
+			int[] list = new int[r1];
+			int[] pos = new int[r1];
+			double[] w = new double[r1];
+			for(int i = 0; i < r1; i++)
+			{
+				pos[i] = -1;
+			}
+			
+			// For each row in the matrix...
+			for(int i = 0; i < r1; i++)
+			{
+				int len = 0;
+				double norm = 0d;
+				// ...scatter it into a work row.
+				for(int k = 0; k < a.cols[i].length; k++)
+				{
+					int c = a.cols[i][k];
+					w[c] = a.vals[i][k];
+					norm += w[c] * w[c];
+					list[len] = c;
+					pos[c] = len++;
+				}
+				
+				double tau = Hints().Threshold() * Doubles.sqrt(norm);
+				
+				// Eliminate the lower columns in ascending order.
+				for(int p = 0; p < len; p++)
+				{
+					int q = p;
+					if(state == State.THRESHOLD)
+					{
+						for(int m = p + 1; m < len; m++)
+						{
+							if(list[m] < list[q])
+								q = m;
+						}
+						
+						int t = list[p];
+						list[p] = list[q];
+						list[q] = t;
+						pos[list[p]] = p;
+						pos[list[q]] = q;
+					}
+					
+					int k = list[p];
+					if(i <= k) break;
+					
+					double f = w[k] / u.vals[k][0];
+					w[k] = f;
+					
+					if(state == State.THRESHOLD)
+					{
+						if(Doubles.abs(f) < tau)
+						{
+							w[k] = 0d;
+							continue;
+						}
+					}
+					
+					// Update the remaining columns.
+					for(int m = 1; m < u.cols[k].length; m++)
+					{
+						int j = u.cols[k][m];
+						if(pos[j] < 0)
+						{
+							if(state == State.PATTERN)
+								continue;
+							
+							w[j] = 0d;
+							list[len] = j;
+							pos[j] = len++;
+						}
+						
+						w[j] -= f * u.vals[k][m];
+					}
+				}
+				
+				
+				if(pos[i] < 0)
+				{
+					w[i] = 0d;
+					list[len] = i;
+					pos[i] = len++;
+				}
+				
+				// Replace a vanishing pivot.
+				if(Doubles.abs(w[i]) < err)
+				{
+					w[i] = w[i] < 0d ? -err : err;
+				}
+				
+				gather(i, w, list, len, tau);
+				
+				// Clear the work row.
+				for(int k = 0; k < len; k++)
+				{
+					w[list[k]] = 0d;
+					pos[list[k]] = -1;
+				}
+			}
+		}
+		
+		return u;
+	}
+	
+	void gather(int i, double[] w, int[] list, int len, double tau)
+	{
+		int nl = 0, nu = 1;
+		int[] lc = new int[len];
+		int[] uc = new int[len + 1];
+		
+		uc[0] = i;
+		// Split the work row over both factors.
+		for(int k = 0; k < len; k++)
+		{
+			int c = list[k];
+			if(c == i) continue;
+			if(!keep(w[c], tau)) continue;
+			
+			if(c < i)
+				lc[nl++] = c;
+			else
+				uc[nu++] = c;
+		}
+		
+		if(state == State.THRESHOLD)
+		{
+			int fill = Hints().Fill();
+			nl = largest(lc, 0, nl, w, fill);
+			nu = largest(uc, 1, nu, w, fill);
+		}
+		
+		
+		l.cols[i] = new int[nl];
+		l.vals[i] = new double[nl];
+		for(int k = 0; k < nl; k++)
+		{
+			l.cols[i][k] = lc[k];
+			l.vals[i][k] = w[lc[k]];
+		}
+		
+		u.cols[i] = new int[nu];
+		u.vals[i] = new double[nu];
+		for(int k = 0; k < nu; k++)
+		{
+			u.cols[i][k] = uc[k];
+			u.vals[i][k] = w[uc[k]];
+		}
+		
+		l.sort(i);
+		u.sort(i);
+	}
+	
+	int largest(int[] set, int min, int max, double[] w, int fill)
+	{
+		int end = min + fill;
+		if(max <= end)
+		{
+			return max;
+		}
+		
+		// Select the largest elements up front.
+		for(int k = min; k < end; k++)
+		{
+			int m = k;
+			for(int j = k + 1; j < max; j++)
+			{
+				double v1 = Doubles.abs(w[set[j]]);
+				double v2 = Doubles.abs(w[set[m]]);
+				if(v2 < v1) m = j;
+			}
+			
+			int t = set[k];
+			set[k] = set[m];
+			set[m] = t;
+		}
+		
+		return end;
+	}
+	
+	boolean keep(double v, double tau)
+	{
+		if(state == State.PATTERN)
+			return true;
+		return tau <= Doubles.abs(v) && v != 0d;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,94 @@
+package waffles.utils.alg.lin.solvers.matrix.precon.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+
+/**
+ * The {@code PCJacobi} preconditioner scales a residual by the inverse diagonal of a matrix.
+ * It is the cheapest preconditioner available, and is effective for matrices whose rows
+ * vary strongly in scale. Zero diagonal elements are left unscaled.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Preconditioner#Jacobi_(or_diagonal)_preconditioner">Jacobi preconditioner</a>
+ * @see Preconditioner
+ * @see MatrixSolver
+ */
+public class PCJacobi implements Preconditioner, MatrixSolver
+{
+	private float[] diag;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code PCJacobi}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public PCJacobi(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code PCJacobi}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public PCJacobi(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector apply(Vector r)
+	{
+		diag = factor();
+		
+		Vector z = Vectors.create(r.Size());
+		// Scale every element of the residual.
+		for(int i = 0; i < r.Size(); i++)
+		{
+			float v = r.get(i) * diag[i];
+			z.set(v, i);
+		}
+		
+		return z;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	
+	float[] factor()
+	{
+		if(diag == null)
+		{
+			Matrix a = Hints().Matrix();
+			int r1 = a.Rows();
+			
+			diag = new float[r1];
+			// For each row in the matrix...
+			for(int r = 0; r < r1; r++)
+			{
+				// ...invert its diagonal.
+				float d = a.get(r, r);
+				diag[r] = d != 0f ? 1f / d : 1f;
+			}
+		}
+		
+		return diag;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+package waffles.utils.alg.lin.solvers.matrix.precon.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.precon.Preconditioner;
+
+/**
+ * The {@code PCSSOR} preconditioner applies a {@code symmetric successive over-relaxation} sweep.
+ * Splitting a matrix {@code A = L + D + U}, it approximates A by the product
+ * {@code (D + wL) inv(D) (D + wU) / w(2-w)}, which is inverted with one forward
+ * and one backward substitution over the nonzeros of A. A relaxation factor
+ * of one yields the symmetric Gauss-Seidel method.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see <a href="https://en.wikipedia.org/wiki/Symmetric_successive_over-relaxation">Symmetric successive over-relaxation</a>
+ * @see Preconditioner
+ * @see MatrixSolver
+ */
+public class PCSSOR implements Preconditioner, MatrixSolver
+{
+	/**
+	 * Defines the default relaxation factor of the {@code Hints}.
+	 */
+	public static final double DEF_RELAXATION = 1d;
+	
+	/**
+	 * The {@code Hints} interface defines hints for a {@code PCSSOR}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 * 
+	 * @see MatrixSolver
+	 */
+	@FunctionalInterface
+	public static interface Hints extends MatrixSolver.Hints
+	{
+		/**
+		 * Returns the relaxation factor of the {@code Hints}.
+		 * This factor should lie strictly between zero and two.
+		 * 
+		 * @return  a relaxation factor
+		 */
+		public default double Relaxation()
+		{
+			return DEF_RELAXATION;
+		}
+	}
+	
+	
+	private double[] diag;
+	private SparseRows rows;
+	private Hints hints;
+	
+	/**
+	 * Creates a new {@code PCSSOR}.
+	 * 
+	 * @param h  solver hints
+	 */
+	public PCSSOR(Hints h)
+	{
+		hints = h;
+	}
+	
+	/**
+	 * Creates a new {@code PCSSOR}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public PCSSOR(Matrix m)
+	{
+		this(() -> m);
+	}
+	
+	
+	@Override
+	public Vector apply(Vector r)
+	{
+		rows = factor();
+		
+		int r1 = rows.Rows();
+		double w = Hints().Relaxation();
+		double[] y = new double[r1];
+		double[] x = new double[r1];
+		
+		// Solve (D + wL) y = r.
+		for(int i = 0; i < r1; i++)
+		{
+			double s = r.get(i);
+			for(int k = 0; k < rows.cols[i].length; k++)
+			{
+				int c = rows.cols[i][k];
+				if(i <= c) break;
+				s -= w * rows.vals[i][k] * y[c];
+			}
+			
+			y[i] = s / diag[i];
+		}
+		
+		// Solve (D + wU) x = D y.
+		for(int i = r1 - 1; i >= 0; i--)
+		{
+			double s = diag[i] * y[i];
+			for(int k = rows.cols[i].length - 1; k >= 0; k--)
+			{
+				int c = rows.cols[i][k];
+				if(c <= i) break;
+				s -= w * rows.vals[i][k] * x[c];
+			}
+			
+			x[i] = s / diag[i];
+		}
+		
+		
+		double f = w * (2d - w);
+		Vector z = Vectors.create(r1);
+		for(int i = 0; i < r1; i++)
+		{
+			z.set((float) (f * x[i]), i);
+		}
+		
+		return z;
+	}
+	
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+	
+	
+	SparseRows factor()
+	{
+		if(rows == null)
+		{
+			rows = new SparseRows(Hints().Matrix());
+			
+			int r1 = rows.Rows();
+			diag = new double[r1];
+			// Store the diagonal of the matrix.
+			for(int r = 0; r < r1; r++)
+			{
+				double d = rows.get(r, r);
+				diag[r] = d != 0d ? d : 1d;
+			}
+		}
+		
+		return rows;
+	}
+}
\ No newline at end of file
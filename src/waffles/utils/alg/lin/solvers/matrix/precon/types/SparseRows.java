@@ -0,0 +1,155 @@
+package waffles.utils.alg.lin.solvers.matrix.precon.types;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+
+/**
+ * The {@code SparseRows} class stores the nonzero elements of a matrix row by row.
+ * The columns of each row are kept in ascending order, which allows preconditioners
+ * to factor and apply themselves in time proportional to the amount of nonzeros.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+class SparseRows
+{
+	int[][] cols;
+	double[][] vals;
+	
+	/**
+	 * Creates a new {@code SparseRows}.
+	 * 
+	 * @param m  a base matrix
+	 * 
+	 * 
+	 * @see Matrix
+	 */
+	public SparseRows(Matrix m)
+	{
+		this(m.Rows());
+		
+		int r1 = m.Rows();
+		int[] size = new int[r1];
+		// Count the nonzeros in each row.
+		for(int[] crd : m.Data().NZKeys())
+		{
+			if(m.get(crd[0], crd[1]) != 0f)
+			{
+				size[crd[0]]++;
+			}
+		}
+		
+		for(int r = 0; r < r1; r++)
+		{
+			cols[r] = new int[size[r]];
+			vals[r] = new double[size[r]];
+			size[r] = 0;
+		}
+		
+		// Fill in the nonzeros of each row.
+		for(int[] crd : m.Data().NZKeys())
+		{
+			int r = crd[0];
+			int c = crd[1];
+			
+			float v = m.get(r, c);
+			if(v != 0f)
+			{
+				cols[r][size[r]] = c;
+				vals[r][size[r]] = v;
+				size[r]++;
+			}
+		}
+		
+		for(int r = 0; r < r1; r++)
+		{
+			sort(r);
+		}
+	}
+	
+	/**
+	 * Creates a new {@code SparseRows}.
+	 * 
+	 * @param r  a row count
+	 */
+	public SparseRows(int r)
+	{
+		cols = new int[r][];
+		vals = new double[r][];
+	}
+	
+	
+	/**
+	 * Returns the index of a column in a row.
+	 * 
+	 * @param r  a row index
+	 * @param c  a column index
+	 * @return   an element index, or -1
+	 */
+	public int find(int r, int c)
+	{
+		int lo = 0;
+		int hi = cols[r].length - 1;
+		while(lo <= hi)
+		{
+			int mid = (lo + hi) >>> 1;
+			if(cols[r][mid] < c)
+				lo = mid + 1;
+			else if(cols[r][mid] > c)
+				hi = mid - 1;
+			else
+				return mid;
+		}
+		
+		return -1;
+	}
+	
+	/**
+	 * Returns the value of an element in a row.
+	 * 
+	 * @param r  a row index
+	 * @param c  a column index
+	 * @return   an element value
+	 */
+	public double get(int r, int c)
+	{
+		int k = find(r, c);
+		if(k < 0)
+			return 0d;
+		return vals[r][k];
+	}
+	
+	/**
+	 * Returns the row count of the {@code SparseRows}.
+	 * 
+	 * @return  a row count
+	 */
+	public int Rows()
+	{
+		return cols.length;
+	}
+	
+	
+	void sort(int r)
+	{
+		int[] c = cols[r];
+		double[] v = vals[r];
+		// Insertion sort the row columns.
+		for(int i = 1; i < c.length; i++)
+		{
+			int ci = c[i];
+			double vi = v[i];
+			
+			int j = i - 1;
+			while(j >= 0 && c[j] > ci)
+			{
+				c[j+1] = c[j];
+				v[j+1] = v[j];
+				j--;
+			}
+			
+			c[j+1] = ci;
+			v[j+1] = vi;
+		}
+	}
+}
\ No newline at end of file
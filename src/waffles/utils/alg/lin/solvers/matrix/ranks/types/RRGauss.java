@@ -7,6 +7,7 @@ import waffles.utils.alg.lin.measure.matrix.types.banded.lower.LowerTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearCondition;
 import waffles.utils.alg.lin.solvers.matrix.exact.LinearSystem;
 import waffles.utils.alg.lin.solvers.matrix.exact.types.LUTriangular;
 import waffles.utils.alg.lin.solvers.matrix.factor.PLUQFactor;
@@ -20,17 +21,19 @@ import waffles.utils.tools.primitives.Integers;
  * The {@code RRGauss} algorithm solves exact linear systems using {@code Gauss's method}.
  * This method is a variant of {@code Gaussian elimination} that decomposes a matrix {@code PMQ = LU},
  * where P,Q are permutation matrices, L a lower triangular matrix, and U an upper triangular matrix.
+ * Its condition number is estimated from the factorization in {@code O(n^2)} operations.
  * 
  * @author Waffles
  * @since Jul 6, 2018
  * @version 1.1
  * 
  * 
+ * @see LinearCondition
  * @see LinearSystem
  * @see PLUQFactor
  * @see RankReveal
  */
-public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
+public class RRGauss implements LinearCondition, PLUQFactor, RankReveal
 {
 	/**
 	 * Defines the default error of an {@code RRGauss}.
@@ -98,7 +101,10 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 	private Float det;
 	private Matrix l, u;
 	private Matrix p, q, m;
+	private int[] rows, cols;
 	private Integer rank;
+	private LUTriangular lsl, lsu;
+	private LUTriangular tsl, tsu;
 	private Hints hints;
 		
 	/**
@@ -152,18 +158,46 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 	@Override
 	public <M extends Matrix> M solve(M b)
 	{
-		M x = (M) P().times(b);
+		if(lsl == null)
+		{
+			lsl = LUTriangular(L());
+			lsu = LUTriangular(U());
+		}
+		
+		Matrix x = permute(b, rows);
 		// Solve through substitution.
-		x = LUTriangular(L()).solve(x);
-		x = LUTriangular(U()).solve(x);
-		x = (M) Q().times(x);
-		return x;
+		x = lsl.solve(x);
+		x = lsu.solve(x);
+		
+		return (M) unpermute(x, cols);
+	}
+	
+	@Override
+	public <M extends Matrix> M solveTranspose(M b)
+	{
+		if(tsl == null)
+		{
+			Matrix ut = U().transpose();
+			Matrix lt = L().transpose();
+			ut.setOperator(LowerTriangular.Type());
+			lt.setOperator(UpperTriangular.Type());
+			
+			tsl = LUTriangular(ut);
+			tsu = LUTriangular(lt);
+		}
+		
+		Matrix x = permute(b, cols);
+		// Solve through substitution.
+		x = tsl.solve(x);
+		x = tsu.solve(x);
+		
+		return (M) unpermute(x, rows);
 	}
 	
 	@Override
 	public boolean canSolve(Matrix b)
 	{
-		if(LinearSystem.super.canSolve(b))
+		if(LinearCondition.super.canSolve(b))
 		{
 			if(Hints().State() == State.INVALID)
 			{
@@ -189,7 +223,7 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 		
 		
 		return a.allows(Square.Type(), 0)
-			&& rank < r1;
+			&& rank() == r1;
 	}
 	
 	@Override
@@ -255,6 +289,44 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 	}
 	
 	
+	Matrix permute(Matrix b, int[] ord)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		// Permute the rows of the block.
+		Matrix x = Matrices.create(r2, c2);
+		for(int r = 0; r < r2; r++)
+		{
+			for(int c = 0; c < c2; c++)
+			{
+				float v = b.get(ord[r], c);
+				x.set(v, r, c);
+			}
+		}
+		
+		return x;
+	}
+	
+	Matrix unpermute(Matrix b, int[] ord)
+	{
+		int r2 = b.Rows();
+		int c2 = b.Columns();
+		
+		// Undo the permutation of the block.
+		Matrix x = Matrices.create(r2, c2);
+		for(int r = 0; r < r2; r++)
+		{
+			for(int c = 0; c < c2; c++)
+			{
+				float v = b.get(r, c);
+				x.set(v, ord[r], c);
+			}
+		}
+		
+		return x;
+	}
+	
 	void swapCols(int i, int j)
 	{
 		int r1 = Hints().Matrix().Rows();
@@ -365,6 +437,8 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 		l = Matrices.create(r1, r1);
 		u = Matrices.create(c1, c1);
 		q = Matrices.create(c1, c1);
+		rows = new int[r1];
+		cols = new int[c1];
 		
 		p.setOperator(Orthogonal.Type());
 		l.setOperator(LowerTriangular.Type());
@@ -376,8 +450,10 @@ public class RRGauss implements LinearSystem, PLUQFactor, RankReveal
 			Float v1 = m.get(r, c1);
 			Float v2 = m.get(r1, r);
 			
-			p.set(1f, r, v1.intValue());
-			q.set(1f, v2.intValue(), r);
+			rows[r] = v1.intValue();
+			cols[r] = v2.intValue();
+			p.set(1f, r, rows[r]);
+			q.set(1f, cols[r], r);
 			
 			for(int c = 0; c < c1; c++)
 			{
@@ -0,0 +1,531 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks.types;
+
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Diagonal;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.Tall;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.factor.UVFactor;
+import waffles.utils.alg.lin.solvers.matrix.ranks.RRUVFactor;
+import waffles.utils.alg.lin.solvers.matrix.square.LeastSquares;
+import waffles.utils.alg.lin.solvers.matrix.square.Spectral;
+import waffles.utils.alg.utilities.Algorithmic.Iterative;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code RRJacobi} algorithm computes rank through one-sided {@code Jacobi} SVD factorization.
+ * This method orthogonalizes the columns of a matrix {@code M} with plane rotations until
+ * {@code MV = UE}, where U, V are both (reduced) {@code Orthogonal} matrices, and E a
+ * {@code Diagonal} singular value matrix. Column pairs are visited in round-robin order,
+ * so that each round consists of disjoint pairs which are rotated in parallel.
+ * Small singular values are computed with high relative accuracy.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://epubs.siam.org/doi/10.1137/050622572">Zlatko Drmac & Kresimir Veselic, "New fast and accurate Jacobi SVD algorithm."</a>
+ * @see LeastSquares
+ * @see RRUVFactor
+ * @see Spectral
+ */
+public class RRJacobi implements RRUVFactor, LeastSquares, Spectral
+{
+	/**
+	 * The {@code Hints} interface defines hints for an {@code RRJacobi}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see Iterative
+	 * @see UVFactor
+	 */
+	@FunctionalInterface
+	public static interface Hints extends UVFactor.Hints, Iterative
+	{
+		/**
+		 * Returns the state of the {@code Hints}.
+		 * This determines which side of the matrix
+		 * will be orthogonalized by the algorithm.
+		 *
+		 * @return  an algorithm state
+		 *
+		 *
+		 * @see State
+		 */
+		public default State State()
+		{
+			if(Matrix().allows(Tall.Type(), 0))
+				return State.TALL;
+			return State.WIDE;
+		}
+
+
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -12);
+		}
+	}
+
+	/**
+	 * A {@code State} defines the types of {@code RRJacobi} algorithms.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum State
+	{
+		/**
+		 * A tall matrix is orthogonalized by column.
+		 */
+		TALL,
+		/**
+		 * A wide matrix is orthogonalized by row.
+		 */
+		WIDE;
+	}
+
+
+	private static final double EPSILON = Doubles.pow(2, -48);
+
+
+	private int rank;
+	private Hints hints;
+	private Matrix e, f;
+	private Matrix u, v;
+	private Vector sv;
+
+	/**
+	 * Creates a new {@code RRJacobi}.
+	 *
+	 * @param h  solver hints
+	 */
+	public RRJacobi(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code RRJacobi}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public RRJacobi(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+
+	/**
+	 * Returns the E matrix of the {@code RRJacobi}.
+	 *
+	 * @return  a singular value matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix E()
+	{
+		if(e == null)
+			e = factor();
+		return e;
+	}
+
+	/**
+	 * Returns the F matrix of the {@code RRJacobi}.
+	 * This is the pseudoinverse of the E matrix,
+	 * truncated to the rank of the matrix.
+	 *
+	 * @return  a singular value matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix F()
+	{
+		if(f == null)
+		{
+			int r1 = E().Rows();
+			int c1 = E().Columns();
+
+			f = Matrices.create(c1, r1);
+			for(int k = 0; k < rank(); k++)
+			{
+				f.set(1f / e.get(k, k), k, k);
+			}
+		}
+
+		return f;
+	}
+
+
+	@Override
+	public Vector SingularValues()
+	{
+		if(sv == null)
+			e = factor();
+		return sv;
+	}
+
+	@Override
+	public <M extends Matrix> M approx(M b)
+	{
+		// Solve through substitution.
+		Matrix x = U().transpose();
+		x = F().times(x.times(b));
+		return (M) V().times(x);
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+	@Override
+	public Matrix U()
+	{
+		if(u == null)
+			e = factor();
+		return u;
+	}
+
+	@Override
+	public Matrix V()
+	{
+		if(v == null)
+			e = factor();
+		return v;
+	}
+
+	@Override
+	public int rank()
+	{
+		if(e == null)
+			e = factor();
+		return rank;
+	}
+
+
+	static double dot(double[] x, double[] y)
+	{
+		double dot = 0d;
+		for(int i = 0; i < x.length; i++)
+		{
+			dot += x[i] * y[i];
+		}
+
+		return dot;
+	}
+
+	static int[] sort(double[] s)
+	{
+		int l = s.length;
+		int[] sel = new int[l];
+		for(int i = 0; i < l; i++)
+		{
+			sel[i] = i;
+		}
+
+		// Sort the values in descending order.
+		for(int i = 1; i < l; i++)
+		{
+			for(int j = i; j > 0 && s[sel[j-1]] < s[sel[j]]; j--)
+			{
+				int t = sel[j];
+				sel[j] = sel[j-1];
+				sel[j-1] = t;
+			}
+		}
+
+		return sel;
+	}
+
+	static boolean rotate(double[] wp, double[] wq, double[] jp, double[] jq)
+	{
+		double a = dot(wp, wp);
+		double b = dot(wq, wq);
+		double c = dot(wp, wq);
+
+		// If the columns are already orthogonal...
+		if(Doubles.abs(c) <= EPSILON * Doubles.sqrt(a * b))
+		{
+			// ...no rotation is needed.
+			return false;
+		}
+
+		// Compute the Jacobi rotation.
+		double z = (b - a) / (2d * c);
+		double t = 1d / (Doubles.abs(z) + Doubles.sqrt(1d + z * z));
+		if(z < 0d) t = -t;
+
+		double cs = 1d / Doubles.sqrt(1d + t * t);
+		double sn = cs * t;
+
+		rotate(wp, wq, cs, sn);
+		rotate(jp, jq, cs, sn);
+		return true;
+	}
+
+	static void rotate(double[] x, double[] y, double cs, double sn)
+	{
+		for(int i = 0; i < x.length; i++)
+		{
+			double xi = x[i];
+			double yi = y[i];
+
+			x[i] = cs * xi - sn * yi;
+			y[i] = sn * xi + cs * yi;
+		}
+	}
+
+	static int rotate(double[][] w, double[][] j, int lMax)
+	{
+		int l = w.length;
+		int n = l + l % 2;
+
+		// Arrange the columns in a round-robin tournament.
+		int[] ord = new int[n];
+		for(int i = 0; i < n; i++)
+		{
+			ord[i] = i < l ? i : -1;
+		}
+
+		int loops = 0;
+		// For each sweep over the column pairs...
+		while(loops < lMax)
+		{
+			boolean done = true;
+			for(int r = 0; r < n - 1; r++)
+			{
+				// Rotate the disjoint pairs in parallel.
+				int rots = IntStream.range(0, n / 2).parallel().map(i ->
+				{
+					int p = ord[i];
+					int q = ord[n-1-i];
+					if(p < 0 || q < 0)
+						return 0;
+					if(q < p)
+					{
+						int t = p;
+						p = q; q = t;
+					}
+
+					return rotate(w[p], w[q], j[p], j[q]) ? 1 : 0;
+				}).sum();
+
+				if(0 < rots)
+				{
+					done = false;
+				}
+
+				// Shift all but the first column.
+				int last = ord[n-1];
+				for(int i = n-1; i > 1; i--)
+				{
+					ord[i] = ord[i-1];
+				}
+
+				ord[1] = last;
+			}
+
+			loops++;
+			if(done) break;
+		}
+
+		return loops;
+	}
+
+	static double[][] complete(double[][] q, int m, int n)
+	{
+		double[][] b = new double[n][];
+		double[] w = new double[m];
+		for(int r = 0; r < m; r++)
+		{
+			w[r] = 1d;
+		}
+
+		int k = q.length;
+		// Track the weight of each unit vector outside the basis.
+		for(int s = 0; s < k; s++)
+		{
+			b[s] = q[s];
+			for(int r = 0; r < m; r++)
+			{
+				w[r] -= b[s][r] * b[s][r];
+			}
+		}
+
+		// While the basis is incomplete...
+		while(k < n)
+		{
+			// ...find the most independent unit vector.
+			int i = 0;
+			for(int r = 1; r < m; r++)
+			{
+				if(w[i] < w[r])
+				{
+					i = r;
+				}
+			}
+
+			double[] x = new double[m];
+			x[i] = 1d;
+
+			// Orthogonalize it twice against the basis.
+			for(int pass = 0; pass < 2; pass++)
+			{
+				for(int s = 0; s < k; s++)
+				{
+					double d = dot(b[s], x);
+					for(int r = 0; r < m; r++)
+					{
+						x[r] -= d * b[s][r];
+					}
+				}
+			}
+
+			double norm = Doubles.sqrt(dot(x, x));
+			for(int r = 0; r < m; r++)
+			{
+				x[r] /= norm;
+				w[r] -= x[r] * x[r];
+			}
+
+			b[k++] = x;
+		}
+
+		return b;
+	}
+
+	Matrix factor()
+	{
+		if(e == null)
+		{
+			Matrix a = Hints().Matrix();
+			boolean tall = Hints().State() == State.TALL;
+
+			int r1 = a.Rows();
+			int c1 = a.Columns();
+			int m = tall ? r1 : c1;
+			int n = tall ? c1 : r1;
+
+
+			// Copy the orthogonalized side of the matrix.
+			double[][] w = new double[n][m];
+			double[][] j = new double[n][n];
+			for(int c = 0; c < n; c++)
+			{
+				for(int r = 0; r < m; r++)
+				{
+					w[c][r] = tall ? a.get(r, c) : a.get(c, r);
+				}
+
+				j[c][c] = 1d;
+			}
+
+			rotate(w, j, Hints().MaxLoops());
+
+
+			double[] s = new double[n];
+			for(int c = 0; c < n; c++)
+			{
+				s[c] = Doubles.sqrt(dot(w[c], w[c]));
+			}
+
+			int[] sel = sort(s);
+
+			rank = 0;
+			sv = Vectors.create(n);
+			// For each singular value...
+			for(int c = 0; c < n; c++)
+			{
+				double sc = s[sel[c]];
+				if(Hints().Error() <= sc)
+				{
+					rank++;
+				}
+
+				sv.set((float) sc, c);
+			}
+
+			// Normalize the orthogonal columns.
+			double[][] p = new double[rank][];
+			double[][] q = new double[n][];
+			for(int c = 0; c < n; c++)
+			{
+				q[c] = j[sel[c]];
+				if(c < rank)
+				{
+					p[c] = w[sel[c]];
+					for(int r = 0; r < m; r++)
+					{
+						p[c][r] /= s[sel[c]];
+					}
+				}
+			}
+
+			// Complete the basis of the vanishing values.
+			int d = Hints().isReduced() ? n : m;
+			p = complete(p, m, d);
+
+
+			Matrix pm = Matrices.create(m, d);
+			Matrix qm = Matrices.create(n, n);
+			for(int c = 0; c < d; c++)
+			{
+				for(int r = 0; r < m; r++)
+				{
+					pm.set((float) p[c][r], r, c);
+				}
+			}
+
+			for(int c = 0; c < n; c++)
+			{
+				for(int r = 0; r < n; r++)
+				{
+					qm.set((float) q[c][r], r, c);
+				}
+			}
+
+			qm.setOperator(Orthogonal.Type());
+			if(d == m)
+			{
+				pm.setOperator(Orthogonal.Type());
+			}
+
+			u = tall ? pm : qm;
+			v = tall ? qm : pm;
+
+			e = tall ? Matrices.create(d, n) : Matrices.create(n, d);
+			for(int k = 0; k < n; k++)
+			{
+				e.set(sv.get(k), k, k);
+			}
+
+			if(d == n)
+			{
+				e.setOperator(Diagonal.Type());
+			}
+		}
+
+		return e;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,397 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks.types;
+
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Diagonal;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.factor.UVFactor;
+import waffles.utils.alg.lin.solvers.matrix.ranks.RankReveal;
+import waffles.utils.alg.lin.solvers.matrix.square.Spectral;
+import waffles.utils.alg.utilities.Algorithmic.Iterative;
+import waffles.utils.tools.Randomizer;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code RRRandomized} algorithm computes a truncated {@code SVD} factorization.
+ * This method samples the range of a matrix {@code M} with a random test matrix,
+ * refined with a few power iterations, and factorizes {@code M ~ UEV*} where
+ * U, V are reduced {@code Orthogonal} matrices of rank {@code k}. Both matrix
+ * products with {@code M} are computed in parallel, so that the algorithm
+ * costs {@code O(mnk)} operations instead of {@code O(mn^2)}.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://arxiv.org/abs/0909.4061">Halko, Martinsson & Tropp, "Finding structure with randomness."</a>
+ * @see RankReveal
+ * @see Spectral
+ * @see UVFactor
+ */
+public class RRRandomized implements UVFactor, RankReveal, Spectral
+{
+	/**
+	 * The {@code Hints} interface defines hints for an {@code RRRandomized}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see Iterative
+	 * @see UVFactor
+	 */
+	@FunctionalInterface
+	public static interface Hints extends UVFactor.Hints, Iterative
+	{
+		/**
+		 * Defines the default rank of the {@code Hints}.
+		 */
+		public static final int DEF_RANK = 10;
+		/**
+		 * Defines the default oversampling of the {@code Hints}.
+		 */
+		public static final int DEF_OVERSAMPLING = 10;
+		/**
+		 * Defines the default power iterations of the {@code Hints}.
+		 */
+		public static final int DEF_POWER = 2;
+
+
+		/**
+		 * Returns the oversampling of the {@code Hints}.
+		 *
+		 * @return  an oversampling count
+		 */
+		public default int Oversampling()
+		{
+			return DEF_OVERSAMPLING;
+		}
+
+		/**
+		 * Returns the power iterations of the {@code Hints}.
+		 *
+		 * @return  a power iteration count
+		 */
+		public default int Power()
+		{
+			return DEF_POWER;
+		}
+
+		/**
+		 * Returns the target rank of the {@code Hints}.
+		 *
+		 * @return  a target rank
+		 */
+		public default int Rank()
+		{
+			return DEF_RANK;
+		}
+
+
+		@Override
+		public default boolean isReduced()
+		{
+			return true;
+		}
+
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -12);
+		}
+	}
+
+
+	private int rank;
+	private Hints hints;
+	private Matrix e, u, v;
+	private Vector sv;
+
+	/**
+	 * Creates a new {@code RRRandomized}.
+	 *
+	 * @param h  solver hints
+	 */
+	public RRRandomized(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code RRRandomized}.
+	 *
+	 * @param m  a base matrix
+	 * @param k  a target rank
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public RRRandomized(Matrix m, int k)
+	{
+		this(new Hints()
+		{
+			private Matrix b = m.copy().destroy();
+
+			@Override
+			public Matrix Matrix()
+			{
+				return b;
+			}
+
+			@Override
+			public int Rank()
+			{
+				return k;
+			}
+		});
+	}
+
+
+	/**
+	 * Returns the E matrix of the {@code RRRandomized}.
+	 *
+	 * @return  a singular value matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public Matrix E()
+	{
+		if(e == null)
+			e = factor();
+		return e;
+	}
+
+
+	@Override
+	public Vector SingularValues()
+	{
+		if(sv == null)
+			e = factor();
+		return sv;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+	@Override
+	public Matrix U()
+	{
+		if(u == null)
+			e = factor();
+		return u;
+	}
+
+	@Override
+	public Matrix V()
+	{
+		if(v == null)
+			e = factor();
+		return v;
+	}
+
+	@Override
+	public int rank()
+	{
+		if(e == null)
+			e = factor();
+		return rank;
+	}
+
+
+	static void orthonormalize(double[][] q)
+	{
+		// For each column in the block...
+		for(int j = 0; j < q.length; j++)
+		{
+			int j0 = j;
+			double[] qj = q[j];
+			// ...orthogonalize it twice against the previous columns.
+			for(int pass = 0; pass < 2; pass++)
+			{
+				double[] c = IntStream.range(0, j0).parallel()
+					.mapToDouble(i -> RRJacobi.dot(q[i], qj))
+					.toArray();
+
+				for(int i = 0; i < j0; i++)
+				{
+					double[] qi = q[i];
+					for(int r = 0; r < qj.length; r++)
+					{
+						qj[r] -= c[i] * qi[r];
+					}
+				}
+			}
+
+			double norm = Doubles.sqrt(RRJacobi.dot(qj, qj));
+			for(int r = 0; r < qj.length; r++)
+			{
+				qj[r] = norm == 0d ? 0d : qj[r] / norm;
+			}
+		}
+	}
+
+	static double[][] times(Matrix a, double[][] x)
+	{
+		int r1 = a.Rows();
+		int c1 = a.Columns();
+		int l = x.length;
+
+		double[][] y = new double[l][r1];
+		// For each row of the matrix...
+		IntStream.range(0, r1).parallel().forEach(r ->
+		{
+			double[] row = new double[c1];
+			for(int c = 0; c < c1; c++)
+			{
+				row[c] = a.get(r, c);
+			}
+
+			// ...compute its dot product with each column.
+			for(int j = 0; j < l; j++)
+			{
+				y[j][r] = RRJacobi.dot(row, x[j]);
+			}
+		});
+
+		return y;
+	}
+
+	static double[][] transposeTimes(Matrix a, double[][] x)
+	{
+		int r1 = a.Rows();
+		int c1 = a.Columns();
+		int l = x.length;
+
+		double[][] y = new double[l][c1];
+		// For each column of the matrix...
+		IntStream.range(0, c1).parallel().forEach(c ->
+		{
+			double[] col = new double[r1];
+			for(int r = 0; r < r1; r++)
+			{
+				col[r] = a.get(r, c);
+			}
+
+			// ...compute its dot product with each column.
+			for(int j = 0; j < l; j++)
+			{
+				y[j][c] = RRJacobi.dot(col, x[j]);
+			}
+		});
+
+		return y;
+	}
+
+	Matrix factor()
+	{
+		if(e == null)
+		{
+			Matrix a = Hints().Matrix();
+			int r1 = a.Rows();
+			int c1 = a.Columns();
+
+			int d = Integers.min(r1, c1);
+			int k = Integers.min(Hints().Rank(), d);
+			int l = Integers.min(k + Hints().Oversampling(), d);
+
+
+			// Sample the range with a random test matrix.
+			Randomizer rng = Randomizer.Global();
+			double[][] w = new double[l][c1];
+			for(int j = 0; j < l; j++)
+			{
+				for(int c = 0; c < c1; c++)
+				{
+					w[j][c] = 2f * rng.randomFloat() - 1f;
+				}
+			}
+
+			double[][] q = times(a, w);
+			orthonormalize(q);
+
+			// Refine the range through power iteration.
+			for(int i = 0; i < Hints().Power(); i++)
+			{
+				w = transposeTimes(a, q);
+				orthonormalize(w);
+				q = times(a, w);
+				orthonormalize(q);
+			}
+
+
+			// Project the matrix onto its range.
+			double[][] b = transposeTimes(a, q);
+			double[][] j = new double[l][l];
+			for(int i = 0; i < l; i++)
+			{
+				j[i][i] = 1d;
+			}
+
+			// Compute the small singular value decomposition.
+			RRJacobi.rotate(b, j, Hints().MaxLoops());
+
+			double[] s = new double[l];
+			for(int i = 0; i < l; i++)
+			{
+				s[i] = Doubles.sqrt(RRJacobi.dot(b[i], b[i]));
+			}
+
+			int[] sel = RRJacobi.sort(s);
+
+
+			e = Matrices.create(k, k);
+			u = Matrices.create(r1, k);
+			v = Matrices.create(c1, k);
+			sv = Vectors.create(k);
+
+			rank = 0;
+			// For each of the largest singular values...
+			for(int t = 0; t < k; t++)
+			{
+				double st = s[sel[t]];
+				double[] bt = b[sel[t]];
+				double[] jt = j[sel[t]];
+				if(Hints().Error() <= st)
+				{
+					rank++;
+				}
+
+				e.set((float) st, t, t);
+				sv.set((float) st, t);
+
+				// Compute the left singular vector.
+				for(int r = 0; r < r1; r++)
+				{
+					double x = 0d;
+					for(int i = 0; i < l; i++)
+					{
+						x += q[i][r] * jt[i];
+					}
+
+					u.set((float) x, r, t);
+				}
+
+				// Compute the right singular vector.
+				for(int c = 0; c < c1; c++)
+				{
+					double x = st == 0d ? 0d : bt[c] / st;
+					v.set((float) x, c, t);
+				}
+			}
+
+			e.setOperator(Diagonal.Type());
+		}
+
+		return e;
+	}
+}
\ No newline at end of file
@@ -2,8 +2,6 @@ package waffles.utils.alg.lin.solvers.matrix.ranks.types;
 
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
-import waffles.utils.alg.lin.measure.matrix.types.Square;
-import waffles.utils.alg.lin.measure.matrix.types.banded.Diagonal;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.Tall;
 import waffles.utils.alg.lin.measure.vector.Vector;
@@ -14,7 +12,6 @@ import waffles.utils.alg.lin.solvers.matrix.ranks.RRUVFactor;
 import waffles.utils.alg.lin.solvers.matrix.square.LeastSquares;
 import waffles.utils.alg.lin.solvers.matrix.square.Spectral;
 import waffles.utils.alg.utilities.Algorithmic.Iterative;
-import waffles.utils.alg.utilities.matrix.Givens;
 import waffles.utils.tools.primitives.Doubles;
 import waffles.utils.tools.primitives.Floats;
 import waffles.utils.tools.primitives.Integers;
@@ -23,6 +20,9 @@ import waffles.utils.tools.primitives.Integers;
  * The {@code RRSVD} algorithm computes rank through {@code SVD} factorization.
  * This method factorizes a matrix {@code M = UEV*} where U, V are both (reduced)
  * {@code Orthogonal} matrices, and E a {@code Diagonal} singular value matrix.
+ * After bidiagonal reduction, singular values alone are computed through the
+ * {@code dqds} algorithm, while singular vectors are computed through implicit
+ * shifted QR sweeps whose rotations are only accumulated when requested.
  *
  * @author Waffles
  * @since Jul 10, 2018
@@ -121,6 +121,10 @@ public class RRSVD implements RRUVFactor, LeastSquares, Spectral
 	}
 	
 	
+	private static final double EPSILON = Doubles.pow(2, -52);
+	private static final double TINY = Doubles.pow(2, -966);
+	
+	
 	private int rank;
 	private Hints hints;
 	private UVBidiagonal uvb;
@@ -168,7 +172,7 @@ public class RRSVD implements RRUVFactor, LeastSquares, Spectral
 	public Matrix E()
 	{
 		if(e == null)
-			e = factor();
+			e = values();
 		return e;
 	}
 	
@@ -202,21 +206,8 @@ public class RRSVD implements RRUVFactor, LeastSquares, Spectral
 	@Override
 	public Vector SingularValues()
 	{
-		if(e == null)
-			e = factor();
 		if(sv == null)
-		{
-			int r1 = E().Rows();
-			int c1 = E().Columns();
-			int d = Integers.min(r1, c1);
-			
-			sv = Vectors.create(d);
-			for(int k = 0; k < d; k++)
-			{
-				sv.set(E().get(k, k), k);
-			}
-		}
-
+			e = values();
 		return sv;
 	}
 	
@@ -255,7 +246,7 @@ public class RRSVD implements RRUVFactor, LeastSquares, Spectral
 	public int rank()
 	{
 		if(e == null)
-			e = factor();
+			e = values();
 		return rank;
 	}
 	
@@ -279,209 +270,489 @@ public class RRSVD implements RRUVFactor, LeastSquares, Spectral
 		return m;
 	}
 		
-	boolean isDiagonal()
+	static double hypot(double a, double b)
 	{
-		int r1 = E().Rows();
-		int c1 = E().Columns();
-		
-		double err = Hints().Error();
-		for(int k = 1; k < Integers.min(r1, c1); k++)
+		a = Doubles.abs(a);
+		b = Doubles.abs(b);
+		if(a < b)
 		{
-			float l = E().get(k, k-1);
-			float u = E().get(k-1, k);
-			
-			if(err < Floats.abs(l)
-			|| err < Floats.abs(u))
-				return false;
+			double t = a;
+			a = b; b = t;
 		}
-		
-		return true;
+
+		if(a == 0d)
+			return 0d;
+		double r = b / a;
+		return a * Doubles.sqrt(1d + r * r);
 	}
-	
-	Matrix factorTall()
+
+	static void rotate(double[] x, double[] y, double cs, double sn)
 	{
-		int r1 = e.Rows();
-		int c1 = e.Columns();
-	
-		// For every diagonal in the base matrix...
-		for(int k = 1; k < Integers.min(r1, c1); k++)
+		for(int i = 0; i < x.length; i++)
 		{
-			float x = e.get(k-1, k-1);
-			float y = e.get(k-1, k-0);
+			double t = cs * x[i] + sn * y[i];
+			y[i] = cs * y[i] - sn * x[i];
+			x[i] = t;
+		}
+	}
 
-			// If the upper diagonal is non-zero...
-			if(Hints().Error() < Floats.abs(y))
+	static double[] sort(double[] s)
+	{
+		// Sort the values in descending order.
+		for(int i = 1; i < s.length; i++)
+		{
+			for(int j = i; j > 0 && s[j-1] < s[j]; j--)
 			{
-				// ...perform a right Givens rotation.
-				Matrix rg = Givens.right(e, k);
-				
-				v = v.times(rg);
-				e = e.times(rg);
+				double t = s[j];
+				s[j] = s[j-1];
+				s[j-1] = t;
 			}
+		}
+
+		return s;
+	}
+
+	double[][] bidiagonal()
+	{
+		if(uvb == null)
+		{
+			uvb = new UVBidiagonal(new DiagonalHints());
+		}
 
-			float z = e.get(k-0, k-1);
+		Matrix b = uvb.B();
+		int r1 = b.Rows();
+		int c1 = b.Columns();
+		int n = Integers.min(r1, c1);
 
-			// If the lower diagonal is non-zero...
-			if(Hints().Error() < Floats.abs(z))
+		// Copy the bidiagonal into two arrays.
+		double[] d = new double[n];
+		double[] f = new double[n];
+		for(int k = 0; k < n; k++)
+		{
+			d[k] = b.get(k, k);
+			if(k + 1 < n)
 			{
-				// ...perform a left Givens rotation.
-				Matrix lg = Givens.left(e, k);
-				Matrix lt = lg.transpose();
-				
-				u = u.times(lt);
-				e = lg.times(e);
+				if(Hints().State() == State.TALL)
+					f[k] = b.get(k, k+1);
+				else
+					f[k] = b.get(k+1, k);
 			}
 		}
-		
-		return e;
+
+		return new double[][]{d, f};
 	}
-	
-	Matrix factorWide()
+
+	boolean chase(double[] s, double[] e, double[][] p, double[][] q)
 	{
-		int r1 = e.Rows();
-		int c1 = e.Columns();
-		
-		// For every diagonal in the base matrix...
-		for(int k = 1; k < Integers.min(r1, c1); k++)
+		int n = s.length;
+		int lMax = Hints().MaxLoops();
+
+		int loops = 0;
+		int last = n;
+		// While the bidiagonal is not diagonal...
+		while(0 < last)
 		{
-			float x = e.get(k-1, k-1);
-			float z = e.get(k-0, k-1);
+			int k, kase;
+			// Find a negligible superdiagonal element.
+			for(k = last-2; k >= 0; k--)
+			{
+				if(Doubles.abs(e[k]) <= TINY + EPSILON * (Doubles.abs(s[k]) + Doubles.abs(s[k+1])))
+				{
+					e[k] = 0d;
+					break;
+				}
+			}
 
-			// If the lower diagonal is non-zero...
-			if(Hints().Error() < Floats.abs(z))
+			if(k == last-2)
+				kase = 4;
+			else
 			{
-				// ...perform a left Givens rotation.
-				Matrix lg = Givens.left(e, k);
-				Matrix lt = lg.transpose();
-				
-				u = u.times(lt);
-				e = lg.times(e);
+				// Find a negligible diagonal element.
+				int ks;
+				for(ks = last-1; ks > k; ks--)
+				{
+					double t = Doubles.abs(e[ks]) + (ks != k+1 ? Doubles.abs(e[ks-1]) : 0d);
+					if(Doubles.abs(s[ks]) <= TINY + EPSILON * t)
+					{
+						s[ks] = 0d;
+						break;
+					}
+				}
+
+				if(ks == k)
+					kase = 3;
+				else if(ks == last-1)
+					kase = 1;
+				else
+				{
+					kase = 2;
+					k = ks;
+				}
 			}
 
-			float y = e.get(k-1, k-0);
-			
-			// If the upper diagonal is non-zero...
-			if(Hints().Error() < Floats.abs(y))
+			k++;
+			switch(kase)
 			{
-				// ...perform a right Givens rotation.
-				Matrix rg = Givens.right(e, k);
-				
-				v = v.times(rg);
-				e = e.times(rg);
+			// Deflate a negligible last diagonal.
+			case 1:
+			{
+				double f = e[last-2];
+				e[last-2] = 0d;
+				for(int j = last-2; j >= k; j--)
+				{
+					double t = hypot(s[j], f);
+					double cs = s[j] / t;
+					double sn = f / t;
+					s[j] = t;
+					if(j != k)
+					{
+						f = -sn * e[j-1];
+						e[j-1] = cs * e[j-1];
+					}
+
+					if(q != null)
+					{
+						rotate(q[j], q[last-1], cs, sn);
+					}
+				}
+
+				break;
+			}
+			// Split at a negligible diagonal.
+			case 2:
+			{
+				double f = e[k-1];
+				e[k-1] = 0d;
+				for(int j = k; j < last; j++)
+				{
+					double t = hypot(s[j], f);
+					double cs = s[j] / t;
+					double sn = f / t;
+					s[j] = t;
+					f = -sn * e[j];
+					e[j] = cs * e[j];
+
+					if(p != null)
+					{
+						rotate(p[j], p[k-1], cs, sn);
+					}
+				}
+
+				break;
+			}
+			// Perform an implicit shifted QR step.
+			case 3:
+			{
+				double scale = 0d;
+				double[] vals = {s[last-1], s[last-2], e[last-2], s[k], e[k]};
+				for(double val : vals)
+				{
+					if(scale < Doubles.abs(val))
+						scale = Doubles.abs(val);
+				}
+
+				double sp = s[last-1] / scale;
+				double spm = s[last-2] / scale;
+				double epm = e[last-2] / scale;
+				double sk = s[k] / scale;
+				double ek = e[k] / scale;
+
+				// Compute the Wilkinson shift.
+				double b = ((spm + sp) * (spm - sp) + epm * epm) / 2d;
+				double c = (sp * epm) * (sp * epm);
+				double shift = 0d;
+				if(b != 0d || c != 0d)
+				{
+					shift = Doubles.sqrt(b * b + c);
+					if(b < 0d) shift = -shift;
+					shift = c / (b + shift);
+				}
+
+				double f = (sk + sp) * (sk - sp) + shift;
+				double g = sk * ek;
+
+				// Chase the bulge down the bidiagonal.
+				for(int j = k; j < last-1; j++)
+				{
+					double t = hypot(f, g);
+					double cs = f / t;
+					double sn = g / t;
+					if(j != k)
+					{
+						e[j-1] = t;
+					}
+
+					f = cs * s[j] + sn * e[j];
+					e[j] = cs * e[j] - sn * s[j];
+					g = sn * s[j+1];
+					s[j+1] = cs * s[j+1];
+					if(q != null)
+					{
+						rotate(q[j], q[j+1], cs, sn);
+					}
+
+					t = hypot(f, g);
+					cs = f / t;
+					sn = g / t;
+					s[j] = t;
+
+					f = cs * e[j] + sn * s[j+1];
+					s[j+1] = -sn * e[j] + cs * s[j+1];
+					g = sn * e[j+1];
+					e[j+1] = cs * e[j+1];
+					if(p != null)
+					{
+						rotate(p[j], p[j+1], cs, sn);
+					}
+				}
+
+				e[last-2] = f;
+				if(lMax <= ++loops)
+				{
+					return false;
+				}
+
+				break;
+			}
+			// Accept a converged diagonal.
+			case 4:
+			{
+				if(s[k] < 0d)
+				{
+					s[k] = -s[k];
+					if(q != null)
+					{
+						for(int i = 0; i < n; i++)
+						{
+							q[k][i] = -q[k][i];
+						}
+					}
+				}
+
+				loops = 0;
+				last--;
+				break;
+			}
+			default:
+				break;
 			}
 		}
-		
-		return e;
+
+		return true;
 	}
-	
-	Matrix reduceTall()
+
+	double[] dqds(double[] d, double[] f)
 	{
-		int r1 = e.Rows();
-		int c1 = e.Columns();
-		
+		int n = d.length;
+		int lMax = Hints().MaxLoops();
 
-		Matrix sgn = Matrices.identity(c1);
-		sgn.setOperator(Diagonal.Type());
-		for(int k = 0; k < c1; k++)
+		double[] q = new double[n];
+		double[] e = new double[n];
+		double[] s = new double[n];
+		for(int i = 0; i < n; i++)
 		{
-			if(e.get(k, k) < 0f)
+			// The qd array requires a positive bidiagonal.
+			if(d[i] == 0d || (i + 1 < n && f[i] == 0d))
 			{
-				sgn.set(-1f, k, k);
+				return null;
 			}
+
+			q[i] = d[i] * d[i];
+			e[i] = f[i] * f[i];
 		}
-		
-		// Singular values have to be positive.		
-		e = e.times(sgn);
-		v = v.times(sgn);
-		
-		
-		rank = computeRank();
-		if(e.allows(Square.Type(), 0) || !Hints().isReduced())
+
+
+		int loops = 0;
+		int last = n;
+		double sigma = 0d;
+		double tau = 0d;
+
+		double[] qh = new double[n];
+		double[] eh = new double[n];
+		// While values remain to be deflated...
+		while(0 < last)
 		{
-			u.setOperator(Orthogonal.Type());
-			v.setOperator(Orthogonal.Type());
-		}
-		else
-		{			
-			e = e.resize(c1, c1);
-			v.setOperator(Orthogonal.Type());
-			u = u.resize(r1, c1);
+			// If the last coupling is negligible...
+			if(last == 1 || e[last-2] <= EPSILON * (sigma + q[last-1]))
+			{
+				// ...deflate the last value.
+				s[last-1] = Doubles.sqrt(sigma + q[last-1]);
+				loops = 0;
+				last--;
+				continue;
+			}
+
+			if(lMax <= ++loops)
+			{
+				return null;
+			}
+
+			// Attempt a shifted qd transform.
+			boolean fail = true;
+			double dmin = 0d;
+			for(int tries = 0; fail && tries < 4; tries++)
+			{
+				if(tries == 3) tau = 0d;
+
+				double t = q[0] - tau;
+				dmin = t;
+				fail = t < 0d;
+				for(int i = 0; i < last-1 && !fail; i++)
+				{
+					qh[i] = t + e[i];
+					if(qh[i] <= 0d)
+					{
+						fail = true;
+						break;
+					}
+
+					double r = q[i+1] / qh[i];
+					eh[i] = e[i] * r;
+					t = t * r - tau;
+
+					fail = t < 0d;
+					if(t < dmin)
+						dmin = t;
+				}
+
+				qh[last-1] = t;
+				if(fail)
+				{
+					tau /= 4d;
+				}
+			}
+
+			if(fail)
+			{
+				return null;
+			}
+
+			// Accept the transform and its shift.
+			for(int i = 0; i < last; i++)
+			{
+				q[i] = qh[i];
+				e[i] = i < last-1 ? eh[i] : e[i];
+			}
+
+			sigma += tau;
+			tau = dmin * 0.9d;
 		}
 
-		return e;
+		return sort(s);
 	}
-	
-	Matrix reduceWide()
+
+	Matrix reduce(double[] s)
 	{
-		int r1 = e.Rows();
-		int c1 = e.Columns();
-		
+		Matrix b = uvb.B();
+		int r1 = b.Rows();
+		int c1 = b.Columns();
+		int n = s.length;
+
+
+		boolean square = r1 == c1;
+		if(!Hints().isReduced() || square)
+			e = Matrices.create(r1, c1);
+		else
+			e = Matrices.create(n, n);
 
-		Matrix sgn = Matrices.identity(r1);
-		sgn.setOperator(Diagonal.Type());
-		for(int k = 0; k < r1; k++)
+		sv = Vectors.create(n);
+		for(int k = 0; k < n; k++)
 		{
-			if(e.get(k, k) < 0f)
-			{
-				sgn.set(-1f, k, k);
-			}
+			e.set((float) s[k], k, k);
+			sv.set((float) s[k], k);
 		}
-		
-		// Singular values have to be positive.		
-		e = sgn.times(e);
-		u = u.times(sgn);
-		
-		
+
 		rank = computeRank();
-		if(e.allows(Square.Type(), 0) || !Hints().isReduced())
+		// If the singular vectors are computed...
+		if(u != null)
 		{
-			u.setOperator(Orthogonal.Type());
-			v.setOperator(Orthogonal.Type());
+			if(!Hints().isReduced() || square)
+			{
+				u.setOperator(Orthogonal.Type());
+				v.setOperator(Orthogonal.Type());
+			}
+			else if(Hints().State() == State.TALL)
+			{
+				u = u.resize(r1, c1);
+				v.setOperator(Orthogonal.Type());
+			}
+			else
+			{
+				v = v.resize(c1, r1);
+				u.setOperator(Orthogonal.Type());
+			}
 		}
-		else
+
+		return e;
+	}
+
+	Matrix values()
+	{
+		if(e == null)
 		{
-			e = e.resize(r1, r1);
-			u.setOperator(Orthogonal.Type());
-			v = v.resize(c1, r1);
+			double[][] b = bidiagonal();
+			double[] s = dqds(b[0], b[1]);
+			// If the qd array is not positive...
+			if(s == null)
+			{
+				// ...fall back on the implicit QR chase.
+				b = bidiagonal();
+				chase(b[0], b[1], null, null);
+				s = sort(b[0]);
+			}
+
+			e = reduce(s);
 		}
 
 		return e;
 	}
-	
+
 	Matrix factor()
 	{
-		if(e == null)
+		if(u == null)
 		{
-			uvb = new UVBidiagonal(new DiagonalHints());
-			u = uvb.U(); v = uvb.V();
-			e = uvb.B();
-
+			double[][] b = bidiagonal();
+			double[] s = b[0];
+			int n = s.length;
 
-			for(int i = 0; i < Hints().MaxLoops(); i++)
+			// Accumulate the rotations in two small orthogonal bases.
+			double[][] p = new double[n][n];
+			double[][] q = new double[n][n];
+			for(int k = 0; k < n; k++)
 			{
-				switch(Hints().State())
-				{
-				case TALL:
-					e = factorTall(); break;
-				case WIDE:
-					e = factorWide(); break;
-				default:
-					break;
-				}
+				p[k][k] = 1d;
+				q[k][k] = 1d;
+			}
 
-				if(isDiagonal())
-					break;
+			chase(s, b[1], p, q);
+
+			// Sort the values and vectors in descending order.
+			int[] sel = RRJacobi.sort(s);
+			double[] t = new double[n];
+			for(int k = 0; k < n; k++)
+			{
+				t[k] = s[sel[k]];
 			}
 
-			switch(Hints().State())
+
+			Matrix ub = uvb.U();
+			Matrix vb = uvb.V();
+			boolean tall = Hints().State() == State.TALL;
+			Matrix pm = Matrices.identity(tall ? ub.Columns() : vb.Columns());
+			Matrix qm = Matrices.identity(tall ? vb.Columns() : ub.Columns());
+			for(int c = 0; c < n; c++)
 			{
-			case TALL:
-				e = reduceTall(); break;
-			case WIDE:
-				e = reduceWide(); break;
-			default:
-				break;
+				for(int r = 0; r < n; r++)
+				{
+					pm.set((float) p[sel[c]][r], r, c);
+					qm.set((float) q[sel[c]][r], r, c);
+				}
 			}
+
+			// Apply the rotations to the bidiagonal bases.
+			u = ub.times(tall ? pm : qm);
+			v = vb.times(tall ? qm : pm);
+			e = reduce(t);
 		}
 
 		return e;
@@ -8,11 +8,12 @@ import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.matrix.types.shaped.Tall;
-import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCholesky;
 import waffles.utils.alg.lin.solvers.matrix.exact.types.LUTriangular;
 import waffles.utils.alg.lin.solvers.matrix.factor.LQRFactor;
 import waffles.utils.alg.lin.solvers.matrix.square.LeastSquares;
+import waffles.utils.alg.utilities.errors.TypeError;
 import waffles.utils.tools.primitives.Doubles;
 
 /**
@@ -21,6 +22,11 @@ import waffles.utils.tools.primitives.Doubles;
  * {@code M = QR} where Q is a (reduced) {@code Orthogonal} matrix, and R
  * an {@code UpperTriangular} matrix. The {@code Cholesky} process solves
  * the system through normal equations {@code M*MX = R*RX = M*B}.
+ * The normal matrix is built as a symmetric gram product, and systems
+ * are solved from {@code M*B} directly, such that Q is only computed
+ * when it is explicitly requested. Rows of a tall matrix can be added
+ * or removed through rank-1 updates of the normal factorization. The solver
+ * then tracks the updated matrix itself, since its hints describe the original.
  *
  * @author Waffles
  * @since Jul 10, 2018
@@ -112,6 +118,7 @@ public class LSCholesky implements LQRFactor, LeastSquares
 	private Matrix lt, rt;
 	private LUTriangular lut;
 	private LUCholesky luc;
+	private State state;
 	private Hints hints;
 	
 	/**
@@ -142,10 +149,122 @@ public class LSCholesky implements LQRFactor, LeastSquares
 		});
 	}
 	
+	/**
+	 * Appends a row to the {@code LSCholesky}.
+	 * The normal factorization is updated in {@code O(n^2)}
+	 * operations, instead of forming a new gram product.
+	 * 
+	 * @param v  a row vector
+	 * 
+	 * 
+	 * @throws TypeError  if the base matrix is not tall
+	 * @see Vector
+	 */
+	public void addRow(Vector v)
+	{
+		m = factor();
+		if(state != State.TALL)
+		{
+			throw new TypeError(Tall.Type());
+		}
+		
+		luc.update(v);
+		
+		int r1 = m.Rows();
+		int c1 = m.Columns();
+		m = m.resize(r1 + 1, c1);
+		for(int c = 0; c < c1; c++)
+		{
+			m.set(v.get(c), r1, c);
+		}
+		
+		refresh();
+	}
+	
+	/**
+	 * Removes a row from the {@code LSCholesky}.
+	 * The normal factorization is downdated in {@code O(n^2)}
+	 * operations, instead of forming a new gram product.
+	 * 
+	 * @param i  a row index
+	 * 
+	 * 
+	 * @throws TypeError  if the base matrix is not tall, or loses definiteness
+	 */
+	public void removeRow(int i)
+	{
+		m = factor();
+		if(state != State.TALL)
+		{
+			throw new TypeError(Tall.Type());
+		}
+		
+		luc.downdate(m.Row(i));
+		
+		int r1 = m.Rows();
+		int c1 = m.Columns();
+		Matrix b = Matrices.create(r1 - 1, c1);
+		for(int r = 0; r < r1 - 1; r++)
+		{
+			int s = r < i ? r : r + 1;
+			for(int c = 0; c < c1; c++)
+			{
+				b.set(m.get(s, c), r, c);
+			}
+		}
+		
+		m = b;
+		refresh();
+	}
+	
+	
+	void refresh()
+	{
+		lt = null;
+		q = null;
+		lut = null;
+		
+		rt = luc.U();
+		rt.setOperator(UpperTriangular.Type());
+	}
+	
+	Matrix transposeTimes(Matrix b)
+	{
+		int c1 = m.Columns();
+		int c2 = b.Columns();
 		
+		Matrix x = Matrices.create(c1, c2);
+		// For each column in the right-hand side...
+		for(int c = 0; c < c2; c++)
+		{
+			// ...multiply with the transpose.
+			Vector v = m.applyTranspose(b.Column(c));
+			for(int r = 0; r < c1; r++)
+			{
+				x.set(v.get(r), r, c);
+			}
+		}
+		
+		return x;
+	}
+	
 	@Override
 	public <M extends Matrix> M approx(M b)
 	{
+		m = factor();
+		switch(state)
+		{
+		case TALL:
+			// Solve R*R X = M*B.
+			return (M) luc.solve(transposeTimes(b));
+		case WIDE:
+			// Solve X = M* inv(LL*) B.
+			return (M) transposeTimes(luc.solve(b));
+		default:
+			break;
+		}
+		
+		
 		Matrix q = Q().transpose();
 		if(m.allows(Tall.Type(), 0))
 		{
@@ -168,7 +287,15 @@ public class LSCholesky implements LQRFactor, LeastSquares
 	public Matrix L()
 	{
 		if(lt == null)
+		{
 			m = factor();
+			if(lt == null)
+			{
+				lt = Matrices.identity(m.Rows());
+				lt.setOperator(Identity.Type());
+			}
+		}
+		
 		return lt;
 	}
 	
@@ -176,7 +303,14 @@ public class LSCholesky implements LQRFactor, LeastSquares
 	public Matrix Q()
 	{
 		if(q == null)
+		{
 			m = factor();
+			if(q == null)
+			{
+				q = factorQ();
+			}
+		}
+		
 		return q;
 	}
 
@@ -184,51 +318,52 @@ public class LSCholesky implements LQRFactor, LeastSquares
 	public Matrix R()
 	{
 		if(rt == null)
+		{
 			m = factor();
+			if(rt == null)
+			{
+				rt = Matrices.identity(m.Columns());
+				rt.setOperator(Identity.Type());
+			}
+		}
+		
 		return rt;
 	}
 
 	
-	Matrix factorTall()
+	Matrix factorQ()
 	{
-		Matrix t = m.transpose();
-		Matrix n = t.times(m);
+		Matrix l = luc.L();
+		l.setOperator(LowerTriangular.Type());
+		lut = new LUTriangular(l);
 		
-		n.setOperator(Symmetric.Type());
-		luc = new LUCholesky(n);
+		if(state == State.TALL)
+		{
+			Matrix t = m.transpose();
+			return lut.solve(t).transpose();
+		}
 		
+		return lut.solve(m);
+	}
+	
+	Matrix factorTall()
+	{
+		Matrix n = Matrices.gram(m);
+		luc = new LUCholesky(n);
 		
-		Matrix l = luc.L();
 		Matrix u = luc.U();
-		
-		l.setOperator(LowerTriangular.Type());
 		u.setOperator(UpperTriangular.Type());
-		
-		
-		lut = new LUTriangular(l);
-		q = lut.solve(t).transpose();
-		lut = new LUTriangular(u);
 		return u;
 	}
 	
 	Matrix factorWide()
 	{
 		Matrix t = m.transpose();
-		Matrix n = m.times(t);
-		
-		n.setOperator(Symmetric.Type());
+		Matrix n = Matrices.gram(t);
 		luc = new LUCholesky(n);
 		
-		
 		Matrix l = luc.L();
-		Matrix u = luc.U();
-		
 		l.setOperator(LowerTriangular.Type());
-		u.setOperator(UpperTriangular.Type());
-
-		
-		lut = new LUTriangular(l);
-		q = lut.solve(m);
 		return l;
 	}
 	
@@ -290,12 +425,15 @@ public class LSCholesky implements LQRFactor, LeastSquares
 	{
 		if(m == null)
 		{
+			// The hints describe the base matrix,
+			// so its state is only read once.
+			state = Hints().State();
 			m = Hints().Matrix();
 			int c1 = m.Columns();
 			int r1 = m.Rows();
 
 
-			switch(Hints().State())
+			switch(state)
 			{
 			case UPPER_TRIANGULAR:
 			{
@@ -327,30 +465,12 @@ public class LSCholesky implements LQRFactor, LeastSquares
 			}
 			case TALL:
 			{
-				rt = m.instance();
-				
-				 q = Matrices.identity(r1);
-				lt = Matrices.identity(r1);
-				
-				 q.setOperator(Identity.Type());
-				lt.setOperator(Identity.Type());
-
 				rt = factorTall();
-				
 				break;
 			}
 			case WIDE:
 			{
-				lt = m.instance();
-				
-				 q = Matrices.identity(c1);
-				rt = Matrices.identity(c1);
-				
-				 q.setOperator(Identity.Type());
-				rt.setOperator(Identity.Type());
-				
 				lt = factorWide();
-				
 				break;
 			}
 			default:
@@ -358,6 +478,6 @@ public class LSCholesky implements LQRFactor, LeastSquares
 			}
 		}
 
-		return q;
+		return m;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,540 @@
+package waffles.utils.alg.lin.solvers.matrix.square.types;
+
+import java.util.Arrays;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperTriangular;
+import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Identity;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.factor.LQRFactor;
+import waffles.utils.alg.lin.solvers.matrix.square.LeastSquares;
+import waffles.utils.alg.utilities.errors.DimensionError;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+import waffles.utils.alg.utilities.matrix.Givens;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code LSGivens} algorithm solves least squares systems with an updatable
+ * {@code QR} factorization. This method decomposes a {@code Tall} matrix {@code M = QR}
+ * where Q is a reduced {@code Orthogonal} matrix, and R an {@code UpperTriangular} matrix.
+ * The triangular factor is kept up to date with {@code Givens} rotations as rows and
+ * columns are added or removed, or as the matrix receives a rank-1 update. Each of
+ * these costs {@code O(n^2)} operations on R instead of a full {@code O(mn^2)}
+ * refactorization. Q is only computed when it is explicitly requested, and
+ * systems are solved through corrected semi-normal equations {@code R*RX = M*B}.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Givens_rotation">Wikipedia</a>
+ * @see LeastSquares
+ * @see LQRFactor
+ */
+public class LSGivens implements LQRFactor, LeastSquares
+{
+	/**
+	 * The {@code Hints} interface defines hints for an {@code LSGivens}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see LQRFactor
+	 */
+	@FunctionalInterface
+	public static interface Hints extends LQRFactor.Hints
+	{
+		@Override
+		public default boolean isReduced()
+		{
+			return true;
+		}
+
+		@Override
+		public default double Error()
+		{
+			return Doubles.pow(2, -16);
+		}
+	}
+
+
+	private int m, n;
+	private double[][] a, r;
+	private Matrix lt, q, rt;
+	private Hints hints;
+
+	/**
+	 * Creates a new {@code LSGivens}.
+	 *
+	 * @param h  solver hints
+	 */
+	public LSGivens(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code LSGivens}.
+	 *
+	 * @param m  a base matrix
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public LSGivens(Matrix m)
+	{
+		this(() ->
+		{
+			Matrix b = m.copy();
+			b.setOperator(m.Operator());
+			return b.destroy();
+		});
+	}
+
+
+	/**
+	 * Appends a row to the {@code LSGivens}.
+	 *
+	 * @param v  a row vector
+	 *
+	 *
+	 * @see Vector
+	 */
+	public void addRow(Vector v)
+	{
+		factor();
+
+		double[] x = new double[n];
+		for(int c = 0; c < n; c++)
+		{
+			x[c] = v.get(c);
+		}
+
+		if(a.length == m)
+		{
+			a = Arrays.copyOf(a, 2 * m + 1);
+		}
+
+		a[m++] = x.clone();
+		Givens.update(r, x);
+		clear();
+	}
+
+	/**
+	 * Removes a row from the {@code LSGivens}.
+	 * If the remaining rows no longer have full rank,
+	 * the factorization is left unchanged.
+	 *
+	 * @param i  a row index
+	 *
+	 *
+	 * @throws InvertibleError  if the matrix loses full rank
+	 */
+	public void removeRow(int i)
+	{
+		factor();
+
+		if(!Givens.downdate(r, a[i], Hints().Error()))
+		{
+			throw new InvertibleError();
+		}
+
+		System.arraycopy(a, i+1, a, i, m-i-1);
+		a[--m] = null;
+		clear();
+	}
+
+	/**
+	 * Appends a column to the {@code LSGivens}.
+	 * If the column depends on the others, or the matrix
+	 * has no rows left to spare, it is left unchanged.
+	 *
+	 * @param v  a column vector
+	 *
+	 *
+	 * @throws DimensionError   if the column does not fit
+	 * @throws InvertibleError  if the matrix loses full rank
+	 * @see Vector
+	 */
+	public void addColumn(Vector v)
+	{
+		factor();
+
+		if(v.Size() != m || m <= n)
+		{
+			throw new DimensionError("Adding a column requires a tall matrix and a column of equal rows: ", v);
+		}
+
+		double[] w = new double[m];
+		for(int i = 0; i < m; i++)
+		{
+			w[i] = v.get(i);
+		}
+
+		// Orthogonalize the column twice against the others.
+		double[] s = new double[n];
+		for(int pass = 0; pass < 2; pass++)
+		{
+			double[] g = solveTranspose(transposeTimes(w));
+			double[] y = solve(g);
+			for(int i = 0; i < m; i++)
+			{
+				w[i] -= dot(a[i], y);
+			}
+
+			for(int k = 0; k < n; k++)
+			{
+				s[k] += g[k];
+			}
+		}
+
+
+		// Extend the triangular factor.
+		double[][] rn = new double[n+1][n+1];
+		for(int k = 0; k < n; k++)
+		{
+			System.arraycopy(r[k], 0, rn[k], 0, n);
+			rn[k][n] = s[k];
+		}
+
+		rn[n][n] = Doubles.sqrt(dot(w, w));
+		// If the new column is dependent...
+		if(rn[n][n] <= Hints().Error() * v.norm())
+		{
+			// ...the matrix loses full rank.
+			throw new InvertibleError();
+		}
+
+		for(int i = 0; i < m; i++)
+		{
+			a[i] = Arrays.copyOf(a[i], n+1);
+			a[i][n] = v.get(i);
+		}
+
+		r = rn;
+		n++;
+		clear();
+	}
+
+	/**
+	 * Removes a column from the {@code LSGivens}.
+	 *
+	 * @param j  a column index
+	 */
+	public void removeColumn(int j)
+	{
+		factor();
+
+		// Remove the column from the triangular factor.
+		double[][] h = new double[n][n-1];
+		for(int k = 0; k < n; k++)
+		{
+			for(int c = 0; c < n-1; c++)
+			{
+				h[k][c] = r[k][c < j ? c : c+1];
+			}
+		}
+
+		// Restore the triangular form.
+		for(int k = j; k < n-1; k++)
+		{
+			Givens.rotate(h[k], h[k+1], k);
+		}
+
+		r = Arrays.copyOf(h, n-1);
+		for(int i = 0; i < m; i++)
+		{
+			double[] ai = new double[n-1];
+			System.arraycopy(a[i], 0, ai, 0, j);
+			System.arraycopy(a[i], j+1, ai, j, n-j-1);
+			a[i] = ai;
+		}
+
+		n--;
+		clear();
+	}
+
+	/**
+	 * Performs a rank-1 update {@code M + uv*} on the {@code LSGivens}.
+	 * If the updated matrix no longer has full rank,
+	 * the factorization is left unchanged.
+	 *
+	 * @param u  a column vector
+	 * @param v  a row vector
+	 *
+	 *
+	 * @throws InvertibleError  if the matrix loses full rank
+	 * @see Vector
+	 */
+	public void update(Vector u, Vector v)
+	{
+		factor();
+
+		double[] x = new double[m];
+		double[] y = new double[n];
+		for(int i = 0; i < m; i++)
+		{
+			x[i] = u.get(i);
+		}
+
+		for(int c = 0; c < n; c++)
+		{
+			y[c] = v.get(c);
+		}
+
+		double s = Doubles.sqrt(dot(x, x));
+		if(s == 0d) return;
+
+		// Write the gram update as a sum of squares.
+		double[] w = transposeTimes(x);
+		double[] p = new double[n];
+		double[] d = new double[n];
+		for(int c = 0; c < n; c++)
+		{
+			d[c] = w[c] / s;
+			p[c] = d[c] + s * y[c];
+		}
+
+		double[][] rn = new double[n][];
+		for(int k = 0; k < n; k++)
+		{
+			rn[k] = r[k].clone();
+		}
+
+		Givens.update(rn, p);
+		if(!Givens.downdate(rn, d, Hints().Error()))
+		{
+			throw new InvertibleError();
+		}
+
+		for(int i = 0; i < m; i++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				a[i][c] += x[i] * y[c];
+			}
+		}
+
+		r = rn;
+		clear();
+	}
+
+
+	@Override
+	public <M extends Matrix> M approx(M b)
+	{
+		factor();
+
+		int c2 = b.Columns();
+		Matrix x = Matrices.create(n, c2);
+		// For each column in the right-hand side...
+		for(int c = 0; c < c2; c++)
+		{
+			double[] bc = new double[m];
+			for(int i = 0; i < m; i++)
+			{
+				bc[i] = b.get(i, c);
+			}
+
+			// ...solve the semi-normal equations...
+			double[] xc = solve(solveTranspose(transposeTimes(bc)));
+
+			// ...and correct with the residual.
+			for(int i = 0; i < m; i++)
+			{
+				bc[i] -= dot(a[i], xc);
+			}
+
+			double[] dx = solve(solveTranspose(transposeTimes(bc)));
+			for(int k = 0; k < n; k++)
+			{
+				x.set((float) (xc[k] + dx[k]), k, c);
+			}
+		}
+
+		return (M) x;
+	}
+
+	@Override
+	public boolean canApprox(Matrix b)
+	{
+		factor();
+		if(m != b.Rows())
+		{
+			throw new Error(Q(), b);
+		}
+
+		return true;
+	}
+
+	@Override
+	public Matrix pseudoinverse()
+	{
+		factor();
+		return approx(Matrices.identity(m));
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	@Override
+	public Matrix L()
+	{
+		if(lt == null)
+		{
+			factor();
+			lt = Matrices.identity(m);
+			lt.setOperator(Identity.Type());
+		}
+
+		return lt;
+	}
+
+	@Override
+	public Matrix Q()
+	{
+		if(q == null)
+		{
+			factor();
+			q = Matrices.create(m, n);
+			// For each row in the base matrix...
+			for(int i = 0; i < m; i++)
+			{
+				// ...solve the transposed system Q*R = M.
+				double[] qi = solveTranspose(a[i]);
+				for(int c = 0; c < n; c++)
+				{
+					q.set((float) qi[c], i, c);
+				}
+			}
+		}
+
+		return q;
+	}
+
+	@Override
+	public Matrix R()
+	{
+		if(rt == null)
+		{
+			factor();
+			rt = Matrices.create(n, n);
+			for(int k = 0; k < n; k++)
+			{
+				for(int c = k; c < n; c++)
+				{
+					rt.set((float) r[k][c], k, c);
+				}
+			}
+
+			rt.setOperator(UpperTriangular.Type());
+		}
+
+		return rt;
+	}
+
+
+	static double dot(double[] x, double[] y)
+	{
+		double dot = 0d;
+		for(int i = 0; i < x.length; i++)
+		{
+			dot += x[i] * y[i];
+		}
+
+		return dot;
+	}
+
+	double[] transposeTimes(double[] b)
+	{
+		double[] g = new double[n];
+		for(int i = 0; i < m; i++)
+		{
+			double bi = b[i];
+			if(bi == 0d) continue;
+			for(int c = 0; c < n; c++)
+			{
+				g[c] += a[i][c] * bi;
+			}
+		}
+
+		return g;
+	}
+
+	double[] solveTranspose(double[] g)
+	{
+		double[] y = g.clone();
+		// Solve R*y = g through forward substitution.
+		for(int k = 0; k < n; k++)
+		{
+			for(int j = 0; j < k; j++)
+			{
+				y[k] -= r[j][k] * y[j];
+			}
+
+			if(Doubles.abs(r[k][k]) <= Hints().Error())
+				throw new InvertibleError();
+			y[k] /= r[k][k];
+		}
+
+		return y;
+	}
+
+	double[] solve(double[] y)
+	{
+		double[] x = y.clone();
+		// Solve Rx = y through backward substitution.
+		for(int k = n-1; k >= 0; k--)
+		{
+			for(int j = k+1; j < n; j++)
+			{
+				x[k] -= r[k][j] * x[j];
+			}
+
+			if(Doubles.abs(r[k][k]) <= Hints().Error())
+				throw new InvertibleError();
+			x[k] /= r[k][k];
+		}
+
+		return x;
+	}
+
+	void clear()
+	{
+		lt = null;
+		q = null;
+		rt = null;
+	}
+
+	void factor()
+	{
+		if(a == null)
+		{
+			Matrix b = Hints().Matrix();
+			m = b.Rows();
+			n = b.Columns();
+
+			a = new double[m][n];
+			r = new double[n][n];
+			// For each row in the base matrix...
+			for(int i = 0; i < m; i++)
+			{
+				for(int c = 0; c < n; c++)
+				{
+					a[i][c] = b.get(i, c);
+				}
+
+				// ...rotate it into the triangular factor.
+				Givens.update(r, a[i].clone());
+			}
+		}
+	}
+}
\ No newline at end of file
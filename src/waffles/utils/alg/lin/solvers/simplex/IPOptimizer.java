@@ -0,0 +1,909 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.exact.types.LUCholesky;
+import waffles.utils.alg.utilities.Algorithmic;
+import waffles.utils.lang.utilities.enums.Extreme;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code IPOptimizer} optimizes a linearly constrained linear problem.
+ * Mehrotra's predictor-corrector method is used which computes a positive vector {@code x}
+ * which min/maxes {@code c.x} s.t. {@code Ax = b}, by following the central path of its
+ * primal-dual problem from the interior of the positive orthant. Every iteration solves
+ * the normal equations {@code ADA*} twice with the same factorization, and the amount
+ * of iterations grows only slowly with the size of the problem.
+ * The normal equations are solved with conjugate gradients in double precision,
+ * preconditioned by an {@code LUCholesky} factorization of the normal matrix,
+ * or by a sparse Cholesky factorization if the constraint matrix is sparse.
+ * Unlike the simplex algorithm, an optimal solution is not necessarily a vertex
+ * if the problem has more than one optimal solution.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Interior-point_method">Interior-point Method - Wikipedia</a>
+ * @see LCLOptimizer
+ * @see Optimizer
+ * @see Vector
+ */
+public class IPOptimizer implements Optimizer<Vector>
+{
+	/**
+	 * Defines the default iterations of the {@code Hints}.
+	 */
+	public static final int DEF_STEPS = 100;
+	/**
+	 * Defines the constraint density below which the matrix is sparse.
+	 */
+	public static final double DEF_DENSITY = 0.1d;
+	/**
+	 * Defines the fraction of a step to the boundary.
+	 */
+	public static final double DEF_DAMPING = 0.99d;
+	/**
+	 * Defines the iterate size which signals an infeasible or unbounded problem.
+	 */
+	public static final double DEF_LIMIT = Doubles.pow(2, 40);
+	/**
+	 * Defines the conjugate gradient steps for each normal solve.
+	 */
+	public static final int DEF_SOLVES = 50;
+	/**
+	 * Defines the error factor at which stalled iterates are accepted.
+	 */
+	public static final double DEF_STALL = 16d;
+
+	/**
+	 * The {@code Hints} class defines hints for an {@code IPOptimizer}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see Algorithmic
+	 * @see LCLOptimizer
+	 */
+	public static class Hints extends LCLOptimizer.Hints implements Algorithmic.Iterative
+	{
+		/**
+		 * Creates a new {@code Hints}.
+		 *
+		 * @param c  a constraint matrix
+		 * @param o  an object vector
+		 *
+		 *
+		 * @see Matrix
+		 * @see Vector
+		 */
+		public Hints(Matrix c, Vector o)
+		{
+			super(c, o);
+		}
+
+		/**
+		 * Creates a new {@code Hints}.
+		 *
+		 * @param r  the triplet rows
+		 * @param c  the triplet columns
+		 * @param v  the triplet values
+		 * @param b  a constraint vector
+		 * @param o  an object vector
+		 *
+		 *
+		 * @see Vector
+		 */
+		public Hints(int[] r, int[] c, float[] v, Vector b, Vector o)
+		{
+			super(r, c, v, b, o);
+		}
+
+		/**
+		 * Returns the state of the {@code Hints}.
+		 * This determines which factorization
+		 * solves the normal equations.
+		 *
+		 * @return  an algorithm state
+		 *
+		 *
+		 * @see State
+		 */
+		public State State()
+		{
+			SparseColumns a = Columns();
+
+			int nnz = 0;
+			int c1 = a.Columns();
+			for(int c = 0; c < c1; c++)
+			{
+				nnz += a.rows[c].length;
+			}
+
+			if(nnz <= DEF_DENSITY * Values().length * c1)
+				return State.SPARSE;
+			return State.DENSE;
+		}
+
+
+		@Override
+		public int MaxLoops()
+		{
+			return DEF_STEPS;
+		}
+
+		@Override
+		public double Error()
+		{
+			return Doubles.pow(2, -20);
+		}
+	}
+
+	/**
+	 * A {@code State} defines the types of {@code IPOptimizer} algorithms.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 */
+	public static enum State
+	{
+		/**
+		 * A dense matrix is factorized with {@code LUCholesky}.
+		 */
+		DENSE,
+		/**
+		 * A sparse matrix is factorized on its sparsity pattern.
+		 */
+		SPARSE;
+	}
+
+
+	private int m, n, m0;
+	private int[] rows;
+	private double sign;
+	private boolean consistent;
+	private double[] b, obj;
+	private double[] x, y, z;
+	private SparseColumns cols;
+	private SparseCholesky spc;
+	private Presolver pre;
+	private double[][] u;
+	private double[] scale;
+	private State state;
+	private Hints hints;
+
+	/**
+	 * Creates a new {@code IPOptimizer}.
+	 *
+	 * @param h  algorithm hints
+	 *
+	 *
+	 * @see Hints
+	 */
+	public IPOptimizer(Hints h)
+	{
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code IPOptimizer}.
+	 *
+	 * @param c  a constraint matrix
+	 * @param o  an objective vector
+	 *
+	 *
+	 * @see Matrix
+	 * @see Vector
+	 */
+	public IPOptimizer(Matrix c, Vector o)
+	{
+		this(new Hints(c, o));
+	}
+
+
+	/**
+	 * Returns the dual solution of the {@code IPOptimizer}.
+	 * This contains the multipliers of the constraints
+	 * after the last optimization, in the row order of
+	 * the original problem. Dependent constraints have
+	 * a zero multiplier, and presolved constraints are
+	 * restored as described in the {@code Presolver}.
+	 *
+	 * @return  a dual vector
+	 *
+	 *
+	 * @see Vector
+	 */
+	public Vector Dual()
+	{
+		if(y == null)
+		{
+			return null;
+		}
+
+		double[] w = new double[m0];
+		for(int r = 0; r < m; r++)
+		{
+			w[rows[r]] = y[r];
+		}
+
+		// Map the multipliers back to the original problem.
+		if(pre != null)
+		{
+			w = pre.dual(w, sign);
+		}
+
+		Vector v = Vectors.create(w.length);
+		for(int r = 0; r < w.length; r++)
+		{
+			v.set((float) w[r], r);
+		}
+
+		return v;
+	}
+
+
+	@Override
+	public Vector optimize(Extreme ex)
+	{
+		load();
+
+		double[] cost = new double[n];
+		for(int c = 0; c < n; c++)
+		{
+			cost[c] = obj[c];
+			if(ex == Extreme.MAX)
+			{
+				cost[c] = -cost[c];
+			}
+		}
+
+		if(!solve(cost))
+		{
+			y = null;
+			return null;
+		}
+
+		sign = ex == Extreme.MAX ? -1d : 1d;
+
+		if(ex == Extreme.MAX)
+		{
+			for(int r = 0; r < m; r++)
+			{
+				y[r] = -y[r];
+			}
+		}
+
+		double[] w = x;
+		// Map the solution back to the original problem.
+		if(pre != null)
+		{
+			w = pre.postsolve(x);
+		}
+
+		Vector v = Vectors.create(w.length);
+		for(int c = 0; c < w.length; c++)
+		{
+			v.set((float) w[c], c);
+		}
+
+		return v;
+	}
+
+	@Override
+	public boolean isFeasible()
+	{
+		load();
+
+		// Solve for a zero objective.
+		return solve(new double[n]);
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	boolean solve(double[] c)
+	{
+		if(!consistent || pre != null && !pre.isFeasible())
+		{
+			return false;
+		}
+
+		double err = Hints().Error();
+		double nb = 1d + max(b);
+		double nc = 1d + max(c);
+
+		initialize(c);
+
+		double best = Double.POSITIVE_INFINITY;
+		double[][] keep = null;
+
+		int loops = 0;
+		while(true)
+		{
+			double[] rb = times(x);
+			for(int r = 0; r < m; r++)
+			{
+				rb[r] -= b[r];
+			}
+
+			double[] rc = transposeTimes(y);
+			for(int j = 0; j < n; j++)
+			{
+				rc[j] += z[j] - c[j];
+			}
+
+			double px = dot(c, x);
+			double dy = dot(b, y);
+			double gap = Doubles.abs(px - dy) / (1d + Doubles.abs(px));
+			double res = max(new double[]{max(rb) / nb, max(rc) / nc, gap});
+			// The iterates have converged.
+			if(res <= err)
+			{
+				return true;
+			}
+
+			// Keep the best iterate so far.
+			if(res < best)
+			{
+				best = res;
+				keep = new double[][]{x.clone(), y.clone(), z.clone()};
+			}
+
+			// The iterates are diverging or stalling.
+			if(DEF_LIMIT * nb < max(x) || DEF_LIMIT * nc < max(y)
+			|| Double.isNaN(res) || Hints().MaxLoops() <= loops++)
+			{
+				// No finite iterate was found.
+				if(keep == null)
+				{
+					return false;
+				}
+
+				// Near the precision of the problem data,
+				// the best iterate is accepted with a slack.
+				x = keep[0];
+				y = keep[1];
+				z = keep[2];
+				return best <= DEF_STALL * err;
+			}
+
+
+			double mu = dot(x, z) / n;
+			double[] d = new double[n];
+			for(int j = 0; j < n; j++)
+			{
+				d[j] = x[j] / z[j];
+			}
+
+			factor(d);
+
+			// Compute the affine predictor...
+			double[] w = x.clone();
+			double[][] s = direction(d, w, rb, rc);
+			double ap = step(x, s[0], 1d);
+			double ad = step(z, s[2], 1d);
+
+			double ma = 0d;
+			for(int j = 0; j < n; j++)
+			{
+				ma += (x[j] + ap * s[0][j]) * (z[j] + ad * s[2][j]);
+			}
+
+			// ...with its centering parameter...
+			double sigma = Doubles.pow(ma / n / mu, 3);
+			for(int j = 0; j < n; j++)
+			{
+				w[j] = x[j] + (s[0][j] * s[2][j] - sigma * mu) / z[j];
+			}
+
+			// ...and correct the direction.
+			s = direction(d, w, rb, rc);
+			ap = step(x, s[0], DEF_DAMPING);
+			ad = step(z, s[2], DEF_DAMPING);
+
+			for(int j = 0; j < n; j++)
+			{
+				x[j] += ap * s[0][j];
+				z[j] += ad * s[2][j];
+			}
+
+			for(int r = 0; r < m; r++)
+			{
+				y[r] += ad * s[1][r];
+			}
+		}
+	}
+
+	double[][] direction(double[] d, double[] w, double[] rb, double[] rc)
+	{
+		double[] t = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			t[j] = w[j] - d[j] * rc[j];
+		}
+
+		// Solve the normal equations for the dual step...
+		double[] r = times(t);
+		for(int i = 0; i < m; i++)
+		{
+			r[i] -= rb[i];
+		}
+
+		double[] dy = normal(d, r);
+
+		// ...and recover the primal step.
+		double[] dz = transposeTimes(dy);
+		double[] dx = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			dz[j] = -rc[j] - dz[j];
+			dx[j] = -w[j] - d[j] * dz[j];
+		}
+
+		return new double[][]{dx, dy, dz};
+	}
+
+	double[] normal(double[] d, double[] r)
+	{
+		double nr = 0d;
+		for(int i = 0; i < m; i++)
+		{
+			nr += r[i] * r[i];
+		}
+
+		double tol = Doubles.pow(2, -80) * nr;
+
+		// Start from the factorized solution...
+		double[] v = precondition(r);
+		double[] res = r.clone();
+		double[] q = product(d, v);
+		for(int i = 0; i < m; i++)
+		{
+			res[i] -= q[i];
+		}
+
+		double[] h = precondition(res);
+		double[] p = h.clone();
+		double rh = dot(res, h);
+		// ...and refine it with conjugate gradients.
+		for(int k = 0; k < DEF_SOLVES; k++)
+		{
+			if(dot(res, res) <= tol)
+			{
+				break;
+			}
+
+			q = product(d, p);
+			double pq = dot(p, q);
+			if(pq <= 0d)
+			{
+				break;
+			}
+
+			double a = rh / pq;
+			for(int i = 0; i < m; i++)
+			{
+				v[i] += a * p[i];
+				res[i] -= a * q[i];
+			}
+
+			h = precondition(res);
+			double rn = dot(res, h);
+			for(int i = 0; i < m; i++)
+			{
+				p[i] = h[i] + rn / rh * p[i];
+			}
+
+			rh = rn;
+		}
+
+		return v;
+	}
+
+	double[] precondition(double[] r)
+	{
+		if(state == State.SPARSE)
+		{
+			return spc.solve(r);
+		}
+
+		double[] h = new double[m];
+		for(int i = 0; i < m; i++)
+		{
+			h[i] = r[i] * scale[i];
+		}
+
+		// Solve U* w = r...
+		for(int i = 0; i < m; i++)
+		{
+			h[i] /= u[i][i];
+			for(int k = i + 1; k < m; k++)
+			{
+				h[k] -= u[i][k] * h[i];
+			}
+		}
+
+		// ...and U h = w.
+		for(int i = m - 1; i >= 0; i--)
+		{
+			double v = h[i];
+			for(int k = i + 1; k < m; k++)
+			{
+				v -= u[i][k] * h[k];
+			}
+
+			h[i] = v / u[i][i];
+		}
+
+		for(int i = 0; i < m; i++)
+		{
+			h[i] *= scale[i];
+		}
+
+		return h;
+	}
+
+	double[] product(double[] d, double[] v)
+	{
+		double[] t = transposeTimes(v);
+		for(int j = 0; j < n; j++)
+		{
+			t[j] *= d[j];
+		}
+
+		return times(t);
+	}
+
+	double[] times(double[] v)
+	{
+		double[] r = new double[m];
+		for(int j = 0; j < n; j++)
+		{
+			if(v[j] == 0d) continue;
+
+			int[] rj = cols.rows[j];
+			double[] vj = cols.vals[j];
+			for(int k = 0; k < rj.length; k++)
+			{
+				r[rj[k]] += vj[k] * v[j];
+			}
+		}
+
+		return r;
+	}
+
+	double[] transposeTimes(double[] v)
+	{
+		double[] t = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			t[j] = cols.dot(j, v);
+		}
+
+		return t;
+	}
+
+
+	void factor(double[] d)
+	{
+		if(state == State.SPARSE)
+		{
+			if(spc == null)
+				spc = new SparseCholesky(cols, m);
+			spc.factor(d);
+			return;
+		}
+
+
+		double[][] a = new double[m][m];
+		double[][] rv = rows();
+		// Compute the upper normal matrix in parallel.
+		IntStream.range(0, m).parallel().forEach(r ->
+		{
+			for(int j = 0; j < n; j++)
+			{
+				double f = d[j] * rv[j][r];
+				if(f == 0d) continue;
+
+				int[] rj = cols.rows[j];
+				double[] vj = cols.vals[j];
+				for(int k = 0; k < rj.length; k++)
+				{
+					if(r <= rj[k])
+					{
+						a[r][rj[k]] += f * vj[k];
+					}
+				}
+			}
+		});
+
+		u = new double[m][m];
+		scale = new double[m];
+		for(int r = 0; r < m; r++)
+		{
+			scale[r] = 1d;
+			if(0d < a[r][r])
+			{
+				scale[r] = 1d / Doubles.sqrt(a[r][r]);
+			}
+		}
+
+
+		// Regularize the scaled matrix until its float factors exist.
+		for(double reg = Doubles.pow(2, -20); reg <= 1d; reg *= 16)
+		{
+			Matrix s = Matrices.create(m, m);
+			for(int r = 0; r < m; r++)
+			{
+				for(int c = r; c < m; c++)
+				{
+					float v = (float) (a[r][c] * scale[r] * scale[c]);
+					if(r == c)
+					{
+						v = (float) (1d + reg);
+					}
+
+					s.set(v, r, c);
+					s.set(v, c, r);
+				}
+			}
+
+			s.setOperator(Symmetric.Type());
+			Matrix f = new LUCholesky(new LUCholesky.Hints()
+			{
+				@Override
+				public Matrix Matrix()
+				{
+					return s;
+				}
+
+				@Override
+				public double Error()
+				{
+					return Double.NEGATIVE_INFINITY;
+				}
+			}).U();
+
+			boolean valid = true;
+			for(int r = 0; r < m; r++)
+			{
+				for(int c = r; c < m; c++)
+				{
+					u[r][c] = f.get(r, c);
+				}
+
+				if(!(0d < u[r][r]))
+				{
+					valid = false;
+				}
+			}
+
+			if(valid)
+			{
+				return;
+			}
+		}
+	}
+
+	double[][] rows()
+	{
+		// Index the column values by row.
+		double[][] rv = new double[n][m];
+		for(int j = 0; j < n; j++)
+		{
+			for(int k = 0; k < cols.rows[j].length; k++)
+			{
+				rv[j][cols.rows[j][k]] = cols.vals[j][k];
+			}
+		}
+
+		return rv;
+	}
+
+	void initialize(double[] c)
+	{
+		double[] d = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			d[j] = 1d;
+		}
+
+		factor(d);
+
+		// Compute the least squares solutions...
+		x = transposeTimes(normal(d, b));
+		y = normal(d, times(c));
+		z = transposeTimes(y);
+		for(int j = 0; j < n; j++)
+		{
+			z[j] = c[j] - z[j];
+		}
+
+		// ...and shift them into the interior.
+		shift(x, -1.5d * min(x));
+		shift(z, -1.5d * min(z));
+
+		double xz = dot(x, z);
+		// Avoid a start on the boundary.
+		if(xz <= Hints().Error() * (1d + max(x)) * (1d + max(z)))
+		{
+			shift(x, 1d);
+			shift(z, 1d);
+			xz = dot(x, z);
+		}
+
+		double sx = 0d, sz = 0d;
+		for(int j = 0; j < n; j++)
+		{
+			sx += x[j];
+			sz += z[j];
+		}
+
+		shift(x, 0.5d * xz / sz);
+		shift(z, 0.5d * xz / sx);
+	}
+
+	void load()
+	{
+		if(cols == null)
+		{
+			Vector o = Hints().Object();
+
+			cols = Hints().Columns();
+			state = Hints().State();
+			b = Hints().Values();
+			n = cols.Columns();
+
+			obj = new double[n];
+			for(int c = 0; c < n; c++)
+			{
+				obj[c] = o.get(c);
+			}
+
+			// Reduce the problem before solving.
+			if(Hints().Presolve())
+			{
+				pre = new Presolver(cols, b, obj);
+				cols = pre.Columns();
+				b = pre.Values();
+				obj = pre.Object();
+				n = cols.Columns();
+			}
+
+			m = b.length;
+			m0 = m;
+			reduce();
+		}
+	}
+
+	void reduce()
+	{
+		double[] d = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			d[j] = 1d;
+		}
+
+		SparseCholesky s = new SparseCholesky(cols, m);
+		s.factor(d);
+
+		// Solve the independent rows...
+		double[] t = transposeTimes(s.solve(b));
+		double[] r = times(t);
+		double nt = max(t);
+
+		rows = new int[m];
+		for(int i = 0; i < m; i++)
+		{
+			rows[i] = i;
+		}
+
+		consistent = true;
+		// ...and remove the dependent rows.
+		for(int i = m - 1; i >= 0; i--)
+		{
+			if(s.isDependent(i))
+			{
+				double err = Doubles.pow(2, -20) * (Doubles.abs(b[i]) + nt);
+				if(err < Doubles.abs(r[i] - b[i]))
+				{
+					consistent = false;
+				}
+
+				cols.removeRow(i);
+				System.arraycopy(b, i+1, b, i, m-i-1);
+				System.arraycopy(rows, i+1, rows, i, m-i-1);
+				rows = Arrays.copyOf(rows, m-1);
+				b = Arrays.copyOf(b, m-1);
+				m--;
+			}
+		}
+	}
+
+
+	static double step(double[] v, double[] dv, double eta)
+	{
+		double a = 1d;
+		// Find the largest step within the orthant.
+		for(int j = 0; j < v.length; j++)
+		{
+			if(dv[j] < 0d && a * dv[j] < -eta * v[j])
+			{
+				a = -eta * v[j] / dv[j];
+			}
+		}
+
+		return a;
+	}
+
+	static void shift(double[] v, double s)
+	{
+		if(0d < s)
+		{
+			for(int j = 0; j < v.length; j++)
+			{
+				v[j] += s;
+			}
+		}
+	}
+
+	static double dot(double[] u, double[] v)
+	{
+		double s = 0d;
+		for(int i = 0; i < u.length; i++)
+		{
+			s += u[i] * v[i];
+		}
+
+		return s;
+	}
+
+	static double max(double[] v)
+	{
+		double max = 0d;
+		for(int i = 0; i < v.length; i++)
+		{
+			// Undefined values propagate.
+			if(Double.isNaN(v[i]))
+			{
+				return Double.NaN;
+			}
+
+			if(max < Doubles.abs(v[i]))
+			{
+				max = Doubles.abs(v[i]);
+			}
+		}
+
+		return max;
+	}
+
+	static double min(double[] v)
+	{
+		double min = 0d;
+		for(int i = 0; i < v.length; i++)
+		{
+			if(v[i] < min)
+			{
+				min = v[i];
+			}
+		}
+
+		return min;
+	}
+}
\ No newline at end of file
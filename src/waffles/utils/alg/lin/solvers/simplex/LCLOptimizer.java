@@ -1,18 +1,31 @@
 package waffles.utils.alg.lin.solvers.simplex;
 
+import java.util.Arrays;
+
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.vector.Vector;
 import waffles.utils.alg.lin.measure.vector.Vectors;
 import waffles.utils.alg.lin.solvers.matrix.MatrixSolver;
+import waffles.utils.alg.utilities.Algorithmic;
+import waffles.utils.alg.utilities.errors.InvertibleError;
 import waffles.utils.lang.utilities.enums.Extreme;
-import waffles.utils.tools.primitives.Array;
-import waffles.utils.tools.primitives.Floats;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
 
 /**
  * The {@code LCLOptimizer} optimizes a linearly constrained linear problem.
- * The standard simplex algorithm is used which computes a positive vector {@code x}
- * which min/maxes {@code c.x} s.t. {@code Ax = b}.
+ * The revised simplex algorithm is used which computes a positive vector {@code x}
+ * which min/maxes {@code c.x} s.t. {@code Ax = b}. Instead of a dense tableau,
+ * only the basis is kept as an {@code LU} factorization with eta updates,
+ * and the constraint matrix is priced column by column through its nonzeros.
+ * A two-phase method with artificial variables finds the initial basis.
+ * If its hints ask for it, the problem is first presolved into a smaller, scaled
+ * problem, and the optimal solution is mapped back into the original problem.
+ * The last basis is kept after optimizing, so that the problem can be edited
+ * and solved again from there with the primal or dual simplex algorithm.
+ * Each simplex phase gives up after its maximum loops, and a basis that turns out
+ * to be singular is discarded for the artificial basis before giving up.
  * 
  * @author Waffles
  * @since 06 Jan 2021
@@ -25,6 +38,23 @@ import waffles.utils.tools.primitives.Floats;
  */
 public class LCLOptimizer implements Optimizer<Vector>
 {
+	/**
+	 * Defines the degenerate pivots before switching to Bland's rule.
+	 */
+	public static final int DEF_DEGENERATE = 50;
+	/**
+	 * Defines the tolerance on pivots and reduced costs.
+	 */
+	public static final double DEF_TOLERANCE = Doubles.pow(2, -30);
+	/**
+	 * Defines the reference weight which resets the pricing framework.
+	 */
+	public static final double DEF_RESET = Doubles.pow(2, 20);
+	/**
+	 * Defines the pivots per row and column before the simplex gives up.
+	 */
+	public static final int DEF_PIVOTS = 8;
+	
 	/**
 	 * The {@code Hints} class defines hints for an {@code LCLOptimizer}.
 	 *
@@ -34,11 +64,14 @@ public class LCLOptimizer implements Optimizer<Vector>
 	 *
 	 * 
 	 * @see MatrixSolver
+	 * @see Algorithmic
 	 */
-	public static class Hints implements MatrixSolver.Hints
+	public static class Hints implements Algorithmic.Iterative, MatrixSolver.Hints
 	{
 		private Matrix con;
-		private Vector obj;
+		private Vector obj, val;
+		private int[] rows, cols;
+		private float[] vals;
 		
 		/**
 		 * Creates a new {@code Hints}.
@@ -56,6 +89,30 @@ public class LCLOptimizer implements Optimizer<Vector>
 			obj = o;
 		}
 		
+		/**
+		 * Creates a new {@code Hints}.
+		 * The constraint matrix is given in sparse triplet form,
+		 * where each nonzero is defined by a row, a column and a value.
+		 * Its size is taken from the constraint and object vectors.
+		 * 
+		 * @param r  the triplet rows
+		 * @param c  the triplet columns
+		 * @param v  the triplet values
+		 * @param b  a constraint vector
+		 * @param o  an object vector
+		 * 
+		 * 
+		 * @see Vector
+		 */
+		public Hints(int[] r, int[] c, float[] v, Vector b, Vector o)
+		{
+			rows = r;
+			cols = c;
+			vals = v;
+			val = b;
+			obj = o;
+		}
+		
 		/**
 		 * Returns the object of the {@code Hints}.
 		 * 
@@ -66,18 +123,107 @@ public class LCLOptimizer implements Optimizer<Vector>
 			return obj;
 		}
 		
+		/**
+		 * Checks if the {@code Hints} presolve the problem.
+		 * A presolved problem is reduced and scaled before pivoting,
+		 * and is restored to its original form once it is edited.
+		 * The constraint count and all edits keep using the rows
+		 * of the original problem, and so do the multipliers
+		 * returned by {@link IPOptimizer#Dual()}.
+		 * 
+		 * @return  {@code true} if the problem is presolved
+		 */
+		public boolean Presolve()
+		{
+			return false;
+		}
+		
+		/**
+		 * Returns the maximum loops of the {@code Hints}.
+		 * Each simplex phase gives up after this many pivots,
+		 * which by default scales with the problem size.
+		 * 
+		 * @return  a pivot count
+		 */
+		@Override
+		public int MaxLoops()
+		{
+			int r1 = con == null ? val.Size() : con.Rows();
+			int c1 = con == null ? obj.Size() : con.Columns();
+			return Integers.max(DEF_LOOPS, DEF_PIVOTS * (r1 + c1));
+		}
+		
+		
+		SparseColumns Columns()
+		{
+			if(con == null)
+			{
+				int r1 = val.Size();
+				int c1 = obj.Size();
+				return new SparseColumns(rows, cols, vals, r1, c1);
+			}
+			
+			return new SparseColumns(con, con.Columns() - 1);
+		}
+		
+		double[] Values()
+		{
+			if(con == null)
+			{
+				double[] b = new double[val.Size()];
+				for(int r = 0; r < b.length; r++)
+				{
+					b[r] = val.get(r);
+				}
+				
+				return b;
+			}
+			
+			int c1 = con.Columns() - 1;
+			double[] b = new double[con.Rows()];
+			for(int r = 0; r < b.length; r++)
+			{
+				b[r] = con.get(r, c1);
+			}
+			
+			return b;
+		}
+		
 		
 		@Override
 		public Matrix Matrix()
 		{
+			// Expand the triplets into a dense matrix.
+			if(con == null)
+			{
+				int r1 = val.Size();
+				int c1 = obj.Size();
+				con = Matrices.create(r1, c1 + 1);
+				for(int k = 0; k < vals.length; k++)
+				{
+					float v = con.get(rows[k], cols[k]);
+					con.set(v + vals[k], rows[k], cols[k]);
+				}
+				
+				for(int r = 0; r < r1; r++)
+				{
+					con.set(val.get(r), r, c1);
+				}
+			}
+			
 			return con;
 		}
 	}
 
 
-	private Matrix mat;
+	private int m, n, dim;
+	private int[] head, pos, slack;
+	private double[] b, obj, sgn, xb;
+	private SparseColumns cols;
+	private Presolver pre;
+	private boolean edited;
+	private LUBasis fac;
 	private Hints hints;
-	private int[] base;
 	
 	/**
 	 * Creates a new {@code LCLOptimizer}.
@@ -108,86 +254,266 @@ public class LCLOptimizer implements Optimizer<Vector>
 	}
 
 		
+	/**
+	 * Appends an equality constraint to the {@code LCLOptimizer}.
+	 * The constraint is defined as {@code v.x = c}.
+	 * 
+	 * @param v  a constraint vector
+	 * @param c  a constraint value
+	 * 
+	 * 
+	 * @see Vector
+	 */
+	public void addConstraint(Vector v, float c)
+	{
+		addConstraint(v, c, 0d);
+	}
+	
+	/**
+	 * Appends an inequality constraint to the {@code LCLOptimizer}.
+	 * The constraint value is either the minimum or maximum of {@code v.x},
+	 * which is enforced with an additional slack variable.
+	 * 
+	 * @param v   a constraint vector
+	 * @param c   a constraint value
+	 * @param ex  a constraint extreme
+	 * 
+	 * 
+	 * @see Extreme
+	 * @see Vector
+	 */
+	public void addConstraint(Vector v, float c, Extreme ex)
+	{
+		addConstraint(v, c, ex == Extreme.MAX ? 1d : -1d);
+	}
+	
+	/**
+	 * Removes a constraint from the {@code LCLOptimizer}.
+	 * The indices of all subsequent constraints are lowered by one.
+	 * 
+	 * @param i  a constraint index
+	 */
+	public void removeConstraint(int i)
+	{
+		edit();
+		
+		int s = slack[i];
+		if(fac != null)
+		{
+			// Drop the basis column which covers the row...
+			int p = pos[n + i];
+			if(p < 0 && 0 <= s)
+			{
+				p = pos[s];
+			}
+			
+			if(p < 0)
+			{
+				double[] e = new double[m];
+				e[i] = 1d;
+				
+				double max = 0d;
+				double[] w = fac.ftran(e);
+				for(int r = 0; r < m; r++)
+				{
+					if(max < Doubles.abs(w[r]))
+					{
+						max = Doubles.abs(w[r]);
+						p = r;
+					}
+				}
+			}
+			
+			System.arraycopy(head, p+1, head, p, m-p-1);
+			head = Arrays.copyOf(head, m-1);
+			
+			// ...and shift the remaining column indices.
+			int n1 = s < 0 ? n : n - 1;
+			for(int r = 0; r < m-1; r++)
+			{
+				int c = head[r];
+				if(n <= c)
+					head[r] = n1 + (c - n < i ? c - n : c - n - 1);
+				else if(0 <= s && s < c)
+					head[r] = c - 1;
+			}
+		}
+		
+		
+		cols.removeRow(i);
+		if(0 <= s)
+		{
+			cols.removeColumn(s);
+			System.arraycopy(obj, s+1, obj, s, n-s-1);
+			obj = Arrays.copyOf(obj, n-1);
+			for(int r = 0; r < m; r++)
+			{
+				if(s < slack[r])
+				{
+					slack[r]--;
+				}
+			}
+			
+			n--;
+		}
+		
+		System.arraycopy(b, i+1, b, i, m-i-1);
+		System.arraycopy(sgn, i+1, sgn, i, m-i-1);
+		System.arraycopy(slack, i+1, slack, i, m-i-1);
+		b = Arrays.copyOf(b, m-1);
+		sgn = Arrays.copyOf(sgn, m-1);
+		slack = Arrays.copyOf(slack, m-1);
+		m--;
+		
+		restore();
+	}
+	
+	/**
+	 * Changes a constraint value in the {@code LCLOptimizer}.
+	 * 
+	 * @param i  a constraint index
+	 * @param c  a constraint value
+	 */
+	public void setConstraint(int i, float c)
+	{
+		edit();
+		
+		b[i] = c;
+		if(fac != null)
+		{
+			xb = fac.ftran(b);
+		}
+	}
+	
+	/**
+	 * Changes an objective value in the {@code LCLOptimizer}.
+	 * 
+	 * @param j  a variable index
+	 * @param v  an objective value
+	 */
+	public void setObjective(int j, float v)
+	{
+		edit();
+		
+		obj[j] = v;
+	}
+	
+	/**
+	 * Returns the constraint count of the {@code LCLOptimizer}.
+	 * 
+	 * @return  a constraint count
+	 */
+	public int Constraints()
+	{
+		load();
+		
+		if(pre != null)
+		{
+			return pre.Rows();
+		}
+		
+		return m;
+	}
+	
+	/**
+	 * Resets the {@code LCLOptimizer}.
+	 * All edits and the last basis are discarded,
+	 * and the problem is read again from its hints.
+	 */
+	public void reset()
+	{
+		edited = false;
+		cols = null;
+		fac = null;
+		pre = null;
+	}
+	
+		
 	@Override
 	public Vector optimize(Extreme ex)
 	{
-		base = Phase1Base();
-		mat = Phase1Tableau();
+		load();
 		
-		Matrix con = Hints().Matrix();
-
-		// Construct the phase 1 simplex tableau.
-		if(ex == Extreme.MAX)
+		double[] cost = new double[n + m];
+		for(int c = 0; c < n; c++)
 		{
-			for(int c = 0; c < mat.Columns(); c++)
+			cost[c] = obj[c];
+			if(ex == Extreme.MAX)
 			{
-				float val = mat.get(con.Rows(), c);
-				mat.set(-val, con.Rows(), c);
+				cost[c] = -cost[c];
 			}
 		}
-
-		for(int r = 0; r < con.Rows(); r++)
+		
+		if(!attempt(cost))
 		{
-			basify(r, base[r]);
+			return null;
 		}
 
-
-		float value = 0f;
-		Vector y = optimize(1);
-		// Solve phase 1 with simplex.
-		for(int c = con.Columns() - 1; c < y.Size(); c++)
+		double[] v = new double[dim];
+		for(int r = 0; r < m; r++)
 		{
-			value += y.get(c);
+			if(head[r] < dim && 0d < xb[r])
+			{
+				v[head[r]] = xb[r];
+			}
 		}
-
-		// If phase 1 reached a non-zero minimum...
-		if(value > 0f)
+		
+		// Map the solution back to the original problem.
+		if(pre != null)
 		{
-			// No solution exists.
-			return null;
+			v = pre.postsolve(v);
 		}
-
 		
-		// Remove artificial basis elements.
-		for(int r = 0; r < base.length; r++)
+		Vector x = Vectors.create(v.length);
+		for(int c = 0; c < v.length; c++)
 		{
-			if(con.Columns() - 1 <= base[r])
+			if(v[c] != 0d)
 			{
-				base[r] = findColumn(r);
-				basify(r, base[r]);
+				x.set((float) v[c], c);
 			}
 		}
 		
-		// Solve phase 2 with simplex.
-		mat = Phase2Tableau();
-		return optimize(2);
+		return x;
 	}
 
 	@Override
 	public boolean isFeasible()
 	{
-		Matrix con = Hints().Matrix();
+		load();
+		// The presolve found a row without solution.
+		if(pre != null && !pre.isFeasible())
+		{
+			return false;
+		}
 		
+		initialize();
 		
-		base = Phase1Base();
-		mat = Phase1Tableau();
-
-		// Construct the phase 1 simplex tableau.
-		for(int r = 0; r < con.Rows(); r++)
+		double[] cost = new double[n + m];
+		for(int c = n; c < n + m; c++)
 		{
-			basify(r, base[r]);
+			cost[c] = 1d;
 		}
-
-
-		float value = 0f;
-		Vector y = optimize(1);
+		
 		// Solve phase 1 with simplex.
-		for(int c = con.Columns() - 1; c < y.Size(); c++)
+		primal(cost, n + m);
+		
+		double max = 0d;
+		double value = 0d;
+		for(int r = 0; r < m; r++)
 		{
-			value += y.get(c);
+			if(n <= head[r])
+			{
+				value += Doubles.abs(xb[r]);
+			}
+			
+			if(max < Doubles.abs(b[r]))
+			{
+				max = Doubles.abs(b[r]);
+			}
 		}
 
-		return value <= 0f;
+		// A non-zero minimum has no solution.
+		return value <= Doubles.pow(2, -20) * (1d + max);
 	}
 	
 	@Override
@@ -197,204 +523,733 @@ public class LCLOptimizer implements Optimizer<Vector>
 	}
 	
 	
-	private boolean isOptimal()
+	boolean attempt(double[] cost)
+	{
+		try
+		{
+			return solve(cost);
+		}
+		catch(InvertibleError e)
+		{
+			// A singular basis is discarded...
+			fac = null;
+		}
+		
+		try
+		{
+			// ...and solved again from the artificial basis.
+			return solve(cost);
+		}
+		catch(InvertibleError e)
+		{
+			fac = null;
+			return false;
+		}
+	}
+	
+	boolean solve(double[] cost)
 	{
-		for(int c = 0; c < mat.Columns() - 1; c++)
+		// Solve again from the last basis...
+		if(fac != null)
 		{
-			if(!Array.contents.has(base, c))
+			if(isPrimal())
 			{
-				if(mat.get(mat.Rows() - 1, c) < 0)
-				{
-					return false;
-				}
+				return primal(cost, n);
+			}
+			
+			if(isDual(reduce(cost, n)))
+			{
+				return dual(cost);
 			}
 		}
 		
-		return true;
+		// ...or start over with two phases.
+		if(!isFeasible())
+		{
+			return false;
+		}
+		
+		// Remove artificial basis elements.
+		for(int r = 0; r < m; r++)
+		{
+			if(n <= head[r])
+			{
+				removeArtificial(r);
+			}
+		}
+		
+		// Solve phase 2 with simplex.
+		return primal(cost, n);
 	}
-
-	private Vector optimize(int phase)
+	
+	boolean primal(double[] cost, int c1)
 	{
-		while(!isOptimal())
+		double[] d = null;
+		double[] wt = new double[n + m];
+		for(int c = 0; c < n + m; c++)
 		{
-			int col = findColumn();
-			int row = findRow(col);
-
-			basify(row, col);
-			base[row] = col;
+			wt[c] = 1d;
 		}
 		
-		Vector x = Vectors.create(mat.Columns()-1);
-		for(int r = 0; r < base.length; r++)
+		
+		int lMax = Hints().MaxLoops();
+		int loops = 0, degen = 0;
+		while(loops < lMax)
 		{
-			float val = mat.get(r, mat.Columns()-1);
-			x.set(val, base[r]);
+			// Refresh the reduced costs periodically.
+			if(loops++ % LUBasis.DEF_REFACTOR == 0)
+			{
+				d = reduce(cost, c1);
+			}
+			
+			boolean bland = DEF_DEGENERATE <= degen;
+			int col = findColumn(d, wt, c1, bland);
+			if(col < 0)
+			{
+				d = reduce(cost, c1);
+				col = findColumn(d, wt, c1, bland);
+				// The basis is optimal.
+				if(col < 0)
+				{
+					return true;
+				}
+			}
+			
+			double[] w = fac.ftran(column(col));
+			int row = bland ? findBland(w, c1) : findRow(w, c1);
+			// The problem is unbounded.
+			if(row < 0)
+			{
+				return false;
+			}
+			
+			
+			double[] rho = rho(row);
+			double dq = d[col] / w[row];
+			double wq = wt[col];
+			// Update the reduced costs and reference weights.
+			for(int c = 0; c < c1; c++)
+			{
+				if(0 <= pos[c] || c == col) continue;
+				
+				double a = dot(c, rho);
+				if(a != 0d)
+				{
+					double r = a / w[row];
+					if(wt[c] < r * r * wq)
+					{
+						wt[c] = r * r * wq;
+					}
+					
+					d[c] -= dq * a;
+				}
+			}
+			
+			int leave = head[row];
+			wt[leave] = wq / (w[row] * w[row]);
+			if(wt[leave] < 1d)
+			{
+				wt[leave] = 1d;
+			}
+			
+			// Reset the reference framework when it grows too large.
+			if(DEF_RESET < wt[leave] || DEF_RESET < wq)
+			{
+				for(int c = 0; c < n + m; c++)
+				{
+					wt[c] = 1d;
+				}
+			}
+			
+			d[leave] = -dq;
+			d[col] = 0d;
+			
+			if(pivot(row, col, w) == 0d)
+				degen++;
+			else
+				degen = 0;
 		}
 		
-		return x;
+		// The pivot limit was reached.
+		return false;
 	}
-		
-	private void basify(int row, int col)
+	
+	boolean dual(double[] cost)
 	{
-		float pivot = mat.get(row, col);
+		double[] d = null;
+		double[] alpha = new double[n];
 		
-		for(int r = 0; r < mat.Rows(); r++)
+		int lMax = Hints().MaxLoops();
+		int loops = 0, degen = 0;
+		while(loops < lMax)
 		{
-			float mult = mat.get(r, col);
-			for(int c = 0; c < mat.Columns(); c++)
+			// Refresh the reduced costs periodically.
+			if(loops++ % LUBasis.DEF_REFACTOR == 0)
+			{
+				d = reduce(cost, n);
+			}
+			
+			boolean bland = DEF_DEGENERATE <= degen;
+			int row = findDualRow(bland);
+			// The basis is optimal.
+			if(row < 0)
+			{
+				return true;
+			}
+			
+			double[] rho = rho(row);
+			for(int c = 0; c < n; c++)
+			{
+				alpha[c] = pos[c] < 0 ? dot(c, rho) : 0d;
+			}
+			
+			double s = xb[row] < 0d ? -1d : 1d;
+			int col = findDualColumn(d, alpha, s, bland);
+			// The problem is infeasible.
+			if(col < 0)
+			{
+				return false;
+			}
+			
+			
+			double[] w = fac.ftran(column(col));
+			double dq = d[col] / w[row];
+			// Update the reduced costs.
+			for(int c = 0; c < n; c++)
 			{
-				float val = 0f;
-				if(r != row)
+				if(alpha[c] != 0d)
 				{
-					val += mat.get(row, c) * mult;
+					d[c] -= dq * alpha[c];
 				}
-				
-				val = mat.get(r, c) - val / pivot;
-				mat.set(val, r, c);
 			}
+			
+			d[head[row]] = -dq;
+			d[col] = 0d;
+			
+			pivot(row, col, w);
+			if(Doubles.abs(dq) <= DEF_TOLERANCE)
+				degen++;
+			else
+				degen = 0;
+		}
+		
+		// The pivot limit was reached.
+		return false;
+	}
+	
+	double[] reduce(double[] cost, int c1)
+	{
+		double[] cb = new double[m];
+		for(int r = 0; r < m; r++)
+		{
+			cb[r] = cost[head[r]];
 		}
 		
-		for(int c = 0; c < mat.Columns(); c++)
+		// Compute the simplex multipliers...
+		double[] y = fac.btran(cb);
+		double[] d = new double[n + m];
+		// ...and price the nonbasic columns.
+		for(int c = 0; c < c1; c++)
 		{
-			float val = mat.get(row, c) / pivot;
-			mat.set(val, row, c);
+			if(pos[c] < 0)
+			{
+				d[c] = cost[c] - dot(c, y);
+			}
 		}
+		
+		return d;
 	}
-				
-	private int findColumn(int row)
+	
+	double[] rho(int row)
 	{
-		Matrix con = Hints().Matrix();
+		double[] e = new double[m];
+		e[row] = 1d;
+		return fac.btran(e);
+	}
+	
+	double pivot(int row, int col, double[] w)
+	{
+		double theta = xb[row] / w[row];
+		if(theta < 0d)
+		{
+			theta = 0d;
+		}
 		
+		for(int r = 0; r < m; r++)
+		{
+			xb[r] -= theta * w[r];
+		}
 		
-		int col = -1;
+		xb[row] = theta;
+		pos[head[row]] = -1;
+		head[row] = col;
+		pos[col] = row;
+		
+		if(!fac.update(row, w))
+		{
+			refactor();
+		}
+		
+		return theta;
+	}
+	
+	void removeArtificial(int row)
+	{
+		double[] rho = rho(row);
 		
-		float max = Floats.MIN_VALUE;
-		for(int c = 0; c < con.Columns() - 1; c++)
+		int col = -1;
+		double max = DEF_TOLERANCE;
+		// Find the largest pivot in the row.
+		for(int c = 0; c < n; c++)
 		{
-			float dist = Floats.abs(mat.get(row, c));
-			if(max < dist)
+			if(0 <= pos[c]) continue;
+			
+			double v = Doubles.abs(dot(c, rho));
+			if(max < v)
 			{
-				max = dist;
+				max = v;
 				col = c;
 			}
 		}
 		
+		// A redundant row keeps its artificial.
+		if(0 <= col)
+		{
+			pivot(row, col, fac.ftran(column(col)));
+		}
+	}
+	
+	int findColumn(double[] d, double[] wt, int c1, boolean bland)
+	{
+		int col = -1;
+		double max = 0d;
+		// Pick the steepest edge by reference weights.
+		for(int c = 0; c < c1; c++)
+		{
+			if(0 <= pos[c]) continue;
+			
+			if(d[c] < -DEF_TOLERANCE)
+			{
+				if(bland)
+				{
+					return c;
+				}
+				
+				double v = d[c] * d[c] / wt[c];
+				if(col < 0 || max < v)
+				{
+					max = v;
+					col = c;
+				}
+			}
+		}
+		
 		return col;
 	}
 	
-	private int findRow(int col)
+	int findRow(double[] w, int c1)
 	{
-		Matrix con = Hints().Matrix();
+		double tmax = Double.POSITIVE_INFINITY;
+		// Bound the step with relaxed ratios...
+		for(int r = 0; r < m; r++)
+		{
+			double a = alpha(w, r, c1);
+			if(DEF_TOLERANCE < a)
+			{
+				double t = (value(r, c1) + DEF_TOLERANCE) / a;
+				if(t < tmax)
+				{
+					tmax = t;
+				}
+			}
+		}
 		
+		int row = -1;
+		double max = 0d;
+		// ...and pick the largest pivot below it.
+		for(int r = 0; r < m; r++)
+		{
+			double a = alpha(w, r, c1);
+			if(DEF_TOLERANCE < a)
+			{
+				if(value(r, c1) / a <= tmax && max < a)
+				{
+					max = a;
+					row = r;
+				}
+			}
+		}
 		
+		return row;
+	}
+	
+	int findBland(double[] w, int c1)
+	{
 		int row = -1;
+		double min = Double.POSITIVE_INFINITY;
+		// Pick the smallest ratio with the smallest index.
+		for(int r = 0; r < m; r++)
+		{
+			double a = alpha(w, r, c1);
+			if(DEF_TOLERANCE < a)
+			{
+				double t = value(r, c1) / a;
+				if(t < min || (t == min && head[r] < head[row]))
+				{
+					min = t;
+					row = r;
+				}
+			}
+		}
 		
-		float min = Floats.MAX_VALUE;
-		for(int r = 0; r < con.Rows(); r++)
+		return row;
+	}
+	
+	int findDualRow(boolean bland)
+	{
+		int row = -1;
+		double max = 0d;
+		// Pick the most infeasible basis element.
+		for(int r = 0; r < m; r++)
 		{
-			if(mat.get(r, col) < 0f) continue;
-			float ratio = mat.get(r, mat.Columns() - 1) / mat.get(r, col);
-			if(ratio < min)
+			double v = -xb[r];
+			if(n <= head[r])
+			{
+				v = Doubles.abs(v);
+			}
+			
+			if(DEF_TOLERANCE < v)
 			{
-				min = ratio;
-				row = r;
+				if(bland)
+				{
+					if(row < 0 || head[r] < head[row])
+					{
+						row = r;
+					}
+				}
+				else if(max < v)
+				{
+					max = v;
+					row = r;
+				}
 			}
 		}
 		
 		return row;
 	}
 	
-	private int findColumn()
+	int findDualColumn(double[] d, double[] alpha, double s, boolean bland)
 	{
+		double tmax = Double.POSITIVE_INFINITY;
+		// Bound the dual step with relaxed ratios...
+		for(int c = 0; c < n; c++)
+		{
+			double a = s * alpha[c];
+			if(DEF_TOLERANCE < a)
+			{
+				double t = d[c] / a;
+				if(!bland)
+				{
+					t = (d[c] + DEF_TOLERANCE) / a;
+				}
+				
+				if(t < tmax)
+				{
+					tmax = t;
+				}
+			}
+		}
+		
 		int col = -1;
-
-		float min = Floats.MAX_VALUE;
-		for(int c = 0; c < mat.Columns() - 1; c++)
+		double max = 0d;
+		// ...and pick the largest pivot below it.
+		for(int c = 0; c < n; c++)
 		{
-			if(mat.get(mat.Rows() - 1, c) < min)
+			double a = s * alpha[c];
+			if(DEF_TOLERANCE < a && d[c] / a <= tmax)
 			{
-				min = mat.get(mat.Rows() - 1, c);
-				col = c;
+				if(bland)
+				{
+					return c;
+				}
+				
+				if(max < a)
+				{
+					max = a;
+					col = c;
+				}
 			}
 		}
 		
 		return col;
 	}
 	
-		
-	private Matrix Phase1Tableau()
+	
+	double alpha(double[] w, int r, int c1)
 	{
-		Matrix con = Hints().Matrix();
-		Vector obj = Hints().Object();
-		
+		// Unpriced basis elements are fixed at zero.
+		if(c1 <= head[r])
+			return Doubles.abs(w[r]);
+		return w[r];
+	}
+	
+	double value(int r, int c1)
+	{
+		// Unpriced basis elements are fixed at zero.
+		if(c1 <= head[r])
+			return Doubles.abs(xb[r]);
+		return xb[r];
+	}
+	
+	int basic(int r)
+	{
+		// Slack and artificial elements are not variables.
+		if(dim <= head[r])
+			return -1;
+		return head[r];
+	}
+	
+	double[] tableau(int r)
+	{
+		double[] rho = rho(r);
+		double[] a = new double[dim + 1];
+		// Compute the nonbasic row of the tableau...
+		for(int c = 0; c < dim; c++)
+		{
+			if(pos[c] < 0)
+			{
+				a[c] = dot(c, rho);
+			}
+		}
 		
-		int rows = con.Rows() + 2;
-		int cols = con.Rows() + con.Columns();		
-		// Construct the phase 1 simplex tableau.
-		Matrix tab = Matrices.create(rows, cols);
+		// ...with the basic value in the last column.
+		a[dim] = xb[r];
+		return a;
+	}
+	
+	boolean isPrimal()
+	{
+		return findDualRow(false) < 0;
+	}
+	
+	boolean isDual(double[] d)
+	{
+		for(int c = 0; c < n; c++)
+		{
+			if(d[c] < -DEF_TOLERANCE)
+			{
+				return false;
+			}
+		}
 		
-		// Add the constraint matrix to the tableau.
-		for(int r = 0; r < con.Rows(); r++)
+		return true;
+	}
+	
+	
+	double[] column(int c)
+	{
+		double[] a = new double[m];
+		if(c < n)
 		{
-			tab.set(1f, r, r + con.Columns() - 1);
-			tab.set(con.get(r, con.Columns() - 1), r, cols-1);
-			for(int c = 0; c < con.Columns() - 1; c++)
+			int[] rc = cols.rows[c];
+			double[] vc = cols.vals[c];
+			for(int k = 0; k < rc.length; k++)
 			{
-				tab.set(con.get(r, c), r, c);
+				a[rc[k]] = vc[k];
 			}
 		}
+		else
+		{
+			a[c - n] = sgn[c - n];
+		}
 		
-		// Add the objective functions in the bottom rows.
-		for(int c = 0; c < cols - 1; c++)
+		return a;
+	}
+	
+	double dot(int c, double[] y)
+	{
+		if(c < n)
+			return cols.dot(c, y);
+		return sgn[c - n] * y[c - n];
+	}
+	
+	void refactor()
+	{
+		int[][] rows = new int[m][];
+		double[][] vals = new double[m][];
+		for(int r = 0; r < m; r++)
 		{
-			if(c < con.Columns() - 1)
-				tab.set(obj.get(c), rows - 2, c);
-			else if(c < cols - 1)
-				tab.set(1f, rows - 1, c);
+			int c = head[r];
+			if(c < n)
+			{
+				rows[r] = cols.rows[c];
+				vals[r] = cols.vals[c];
+			}
+			else
+			{
+				rows[r] = new int[]{c - n};
+				vals[r] = new double[]{sgn[c - n]};
+			}
 		}
 		
-		return tab;
+		fac.factor(rows, vals);
+		xb = fac.ftran(b);
 	}
 	
-	private Matrix Phase2Tableau()
+	void addConstraint(Vector v, float c, double s)
 	{
-		Matrix con = Hints().Matrix();
-
-		int rows = con.Rows() + 1;
-		int cols = con.Columns();
+		edit();
 		
-		// Construct the phase 2 simplex tableau.
-		Matrix tab = Matrices.create(rows, cols);
+		double[] a = new double[n];
+		for(int j = 0; j < dim; j++)
+		{
+			a[j] = v.get(j);
+		}
+		
+		cols.addRow(m, a);
+		b = Arrays.copyOf(b, m+1);
+		sgn = Arrays.copyOf(sgn, m+1);
+		slack = Arrays.copyOf(slack, m+1);
+		sgn[m] = 1d;
+		b[m] = c;
 		
-		for(int r = 0; r < rows; r++)
+		int n1 = n;
+		slack[m] = -1;
+		// Add a slack column for an inequality.
+		if(s != 0d)
 		{
-			float rhs = mat.get(r, mat.Columns() - 1);
-			tab.set(rhs, r, cols - 1);
-			
-			for(int c = 0; c < cols - 1; c++)
+			slack[m] = cols.addColumn(new int[]{m}, new double[]{s});
+			obj = Arrays.copyOf(obj, n+1);
+			n1++;
+		}
+		
+		if(fac != null)
+		{
+			// Shift the artificial column indices...
+			for(int r = 0; r < m; r++)
 			{
-				float val = mat.get(r, c);
-				tab.set(val, r, c);
+				if(n <= head[r])
+				{
+					head[r] += n1 - n;
+				}
 			}
+			
+			// ...and extend the basis with the new row.
+			head = Arrays.copyOf(head, m+1);
+			head[m] = s != 0d ? slack[m] : n1 + m;
 		}
 		
-		return tab;
-	}
+		n = n1;
+		m++;
 		
-	private int[] Phase1Base()
+		restore();
+	}
+	
+	void initialize()
 	{
-		Matrix con = Hints().Matrix();
+		load();
+		
+		head = new int[m];
+		pos = new int[n + m];
+		for(int c = 0; c < n; c++)
+		{
+			pos[c] = -1;
+		}
 		
-		int c1 = con.Columns();
-		int r1 = con.Rows();
+		// Start from an artificial basis...
+		for(int r = 0; r < m; r++)
+		{
+			sgn[r] = b[r] < 0d ? -1d : 1d;
+			head[r] = n + r;
+			pos[n + r] = r;
+		}
 		
-
-		base = new int[r1];
-		for(int r = 0; r < r1; r++)
+		// ...and replace with feasible singleton columns.
+		for(int c = 0; c < n; c++)
 		{
-			base[r] = c1 + r - 1;
+			if(cols.rows[c].length == 1)
+			{
+				int r = cols.rows[c][0];
+				if(n <= head[r] && 0d <= cols.vals[c][0] * sgn[r])
+				{
+					pos[head[r]] = -1;
+					head[r] = c;
+					pos[c] = r;
+				}
+			}
 		}
 		
-		return base;
+		fac = new LUBasis(m);
+		refactor();
+	}
+	
+	void restore()
+	{
+		if(fac != null)
+		{
+			pos = new int[n + m];
+			for(int c = 0; c < n + m; c++)
+			{
+				pos[c] = -1;
+			}
+			
+			for(int r = 0; r < m; r++)
+			{
+				pos[head[r]] = r;
+			}
+			
+			fac = new LUBasis(m);
+			refactor();
+		}
+	}
+	
+	void edit()
+	{
+		// Edits apply to the original problem.
+		if(pre != null)
+		{
+			reset();
+		}
+		
+		edited = true;
+		load();
+	}
+	
+	void load()
+	{
+		if(cols == null)
+		{
+			Vector o = Hints().Object();
+			
+			cols = Hints().Columns();
+			b = Hints().Values();
+			n = cols.Columns();
+			
+			obj = new double[n];
+			for(int c = 0; c < n; c++)
+			{
+				obj[c] = o.get(c);
+			}
+			
+			// Reduce the problem before pivoting.
+			if(Hints().Presolve() && !edited)
+			{
+				pre = new Presolver(cols, b, obj);
+				cols = pre.Columns();
+				b = pre.Values();
+				obj = pre.Object();
+				n = cols.Columns();
+			}
+			
+			m = b.length;
+			dim = n;
+			
+			sgn = new double[m];
+			slack = new int[m];
+			for(int r = 0; r < m; r++)
+			{
+				slack[r] = -1;
+			}
+		}
 	}
 }
\ No newline at end of file
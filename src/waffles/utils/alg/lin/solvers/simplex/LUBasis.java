@@ -0,0 +1,528 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import waffles.utils.alg.utilities.errors.InvertibleError;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code LUBasis} class factorizes the basis matrix of a revised simplex algorithm.
+ * The basis is decomposed as {@code B = LU}, where row and column singletons are eliminated
+ * first without any fill-in. The remaining bump is eliminated sparsest column first, with
+ * threshold partial pivoting on the sparsest rows to limit the fill-in.
+ * Every basis change is then appended as a product-form eta matrix, until the amount
+ * of updates calls for a fresh factorization.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+class LUBasis
+{
+	/**
+	 * Defines the amount of eta updates between refactorizations.
+	 */
+	public static final int DEF_REFACTOR = 64;
+	/**
+	 * Defines the relative threshold for pivot candidates.
+	 */
+	public static final double DEF_THRESHOLD = 0.1d;
+	/**
+	 * Defines the smallest accepted pivot magnitude.
+	 */
+	public static final double DEF_PIVOT = Doubles.pow(2, -40);
+
+
+	private int m, ne, nl;
+	private int[] prow, pstep, order, lsteps;
+	private int[][] li, ui;
+	private double[][] lv, uv;
+	private double[] ud;
+
+	private int[] er;
+	private int[][] ei;
+	private double[][] ev;
+	private double[] ep;
+
+	/**
+	 * Creates a new {@code LUBasis}.
+	 *
+	 * @param m  a basis size
+	 */
+	public LUBasis(int m)
+	{
+		this.m = m;
+	}
+
+
+	/**
+	 * Factorizes a basis in the {@code LUBasis}.
+	 * Each basis column is given by its nonzero rows and values.
+	 *
+	 * @param rows  the column rows
+	 * @param vals  the column values
+	 *
+	 *
+	 * @throws InvertibleError  if the basis is singular
+	 */
+	public void factor(int[][] rows, double[][] vals)
+	{
+		prow = new int[m];
+		pstep = new int[m];
+		order = new int[m];
+		lsteps = new int[m];
+		li = new int[m][]; lv = new double[m][];
+		ui = new int[m][]; uv = new double[m][];
+		ud = new double[m];
+		nl = 0;
+
+		er = new int[DEF_REFACTOR];
+		ei = new int[DEF_REFACTOR][];
+		ev = new double[DEF_REFACTOR][];
+		ep = new double[DEF_REFACTOR];
+		ne = 0;
+
+
+		int[] rc = new int[m];
+		int[] cc = new int[m];
+		// Count the nonzeros of every row and column.
+		for(int c = 0; c < m; c++)
+		{
+			cc[c] = rows[c].length;
+			for(int r : rows[c])
+			{
+				rc[r]++;
+			}
+		}
+		
+		int[][] cols = new int[m][];
+		for(int r = 0; r < m; r++)
+		{
+			cols[r] = new int[rc[r]];
+			rc[r] = 0;
+		}
+		
+		for(int c = 0; c < m; c++)
+		{
+			for(int r : rows[c])
+			{
+				cols[r][rc[r]++] = c;
+			}
+		}
+		
+		
+		int k = 0;
+		int[] pref = new int[m];
+		boolean[] rdone = new boolean[m];
+		boolean[] cdone = new boolean[m];
+		int[] stack = new int[2 * m];
+		int top = 0;
+		
+		for(int c = 0; c < m; c++)
+		{
+			if(cc[c] == 1) stack[top++] = c;
+		}
+		
+		for(int r = 0; r < m; r++)
+		{
+			if(rc[r] == 1) stack[top++] = m + r;
+		}
+		
+		// Order the triangular part by singletons...
+		while(0 < top)
+		{
+			int s = stack[--top];
+			int r = -1, c = -1;
+			if(s < m)
+			{
+				c = s;
+				if(cdone[c] || cc[c] != 1) continue;
+				r = active(rows[c], rdone);
+				if(Doubles.abs(value(rows[c], vals[c], r)) <= DEF_PIVOT)
+				{
+					continue;
+				}
+			}
+			else
+			{
+				r = s - m;
+				if(rdone[r] || rc[r] != 1) continue;
+				c = active(cols[r], cdone);
+				
+				double max = 0d;
+				for(int i = 0; i < rows[c].length; i++)
+				{
+					if(!rdone[rows[c][i]] && max < Doubles.abs(vals[c][i]))
+					{
+						max = Doubles.abs(vals[c][i]);
+					}
+				}
+				
+				if(Doubles.abs(value(rows[c], vals[c], r)) < DEF_THRESHOLD * max)
+				{
+					continue;
+				}
+			}
+			
+			order[k] = c;
+			pref[k] = r;
+			cdone[c] = true;
+			rdone[r] = true;
+			k++;
+			
+			for(int j : cols[r])
+			{
+				if(!cdone[j] && --cc[j] == 1)
+					stack[top++] = j;
+			}
+			
+			for(int i : rows[c])
+			{
+				if(!rdone[i] && --rc[i] == 1)
+					stack[top++] = m + i;
+			}
+		}
+		
+		// ...and the remaining bump sparsest first.
+		int k0 = k;
+		int[] size = new int[m + 1];
+		for(int c = 0; c < m; c++)
+		{
+			if(!cdone[c]) size[cc[c]]++;
+		}
+		
+		for(int j = 1; j <= m; j++)
+		{
+			size[j] += size[j - 1];
+		}
+
+		for(int c = m - 1; c >= 0; c--)
+		{
+			if(!cdone[c])
+			{
+				int j = k0 + --size[cc[c]];
+				order[j] = c;
+				pref[j] = -1;
+				k++;
+			}
+		}
+
+		for(int r = 0; r < m; r++)
+		{
+			pstep[r] = -1;
+		}
+
+
+		int[] nz = new int[m];
+		int[] mark = new int[m];
+		double[] x = new double[m];
+		// For each column of the basis...
+		for(k = 0; k < m; k++)
+		{
+			int c = order[k];
+			int stamp = k + 1;
+
+			int nnz = 0;
+			int[] rk = rows[c];
+			double[] vk = vals[c];
+			for(int j = 0; j < rk.length; j++)
+			{
+				x[rk[j]] = vk[j];
+				mark[rk[j]] = stamp;
+				nz[nnz++] = rk[j];
+			}
+
+			// ...apply the previous eliminations...
+			for(int j = 0; j < nl; j++)
+			{
+				int t = lsteps[j];
+				double xp = x[prow[t]];
+				if(mark[prow[t]] != stamp || xp == 0d)
+				{
+					continue;
+				}
+
+				int[] lt = li[t];
+				double[] vt = lv[t];
+				for(int i = 0; i < lt.length; i++)
+				{
+					int r = lt[i];
+					if(mark[r] != stamp)
+					{
+						mark[r] = stamp;
+						nz[nnz++] = r;
+						x[r] = 0d;
+					}
+
+					x[r] -= vt[i] * xp;
+				}
+			}
+
+			// ...and find the pivot with the sparsest row.
+			int p = -1, nu = 0;
+			double max = 0d;
+			for(int j = 0; j < nnz; j++)
+			{
+				int r = nz[j];
+				if(pstep[r] < 0)
+				{
+					double v = Doubles.abs(x[r]);
+					if(max < v) max = v;
+				}
+				else if(x[r] != 0d)
+				{
+					nu++;
+				}
+			}
+
+			if(max <= DEF_PIVOT)
+			{
+				throw new InvertibleError();
+			}
+
+			p = pref[k];
+			for(int j = 0; j < nnz && p < 0; j++)
+			{
+				int r = nz[j];
+				if(pstep[r] < 0 && DEF_THRESHOLD * max <= Doubles.abs(x[r]))
+				{
+					if(p < 0 || rc[r] < rc[p])
+					{
+						p = r;
+					}
+				}
+			}
+
+
+			prow[k] = p;
+			pstep[p] = k;
+			ud[k] = x[p];
+
+			int nlk = 0;
+			ui[k] = new int[nu];
+			uv[k] = new double[nu];
+			for(int j = 0, u = 0; j < nnz; j++)
+			{
+				int r = nz[j];
+				if(r == p) continue;
+				if(0 <= pstep[r] && pstep[r] < k)
+				{
+					if(x[r] != 0d)
+					{
+						ui[k][u] = pstep[r];
+						uv[k][u] = x[r];
+						u++;
+					}
+				}
+				else if(x[r] != 0d)
+				{
+					nlk++;
+				}
+			}
+
+			li[k] = new int[nlk];
+			lv[k] = new double[nlk];
+			for(int j = 0, l = 0; j < nnz; j++)
+			{
+				int r = nz[j];
+				if(pstep[r] < 0 && x[r] != 0d)
+				{
+					li[k][l] = r;
+					lv[k][l] = x[r] / ud[k];
+					l++;
+				}
+
+				x[r] = 0d;
+			}
+
+			if(0 < nlk)
+			{
+				lsteps[nl++] = k;
+			}
+		}
+	}
+
+	/**
+	 * Appends a basis change to the {@code LUBasis}.
+	 * The new column replaces the basis position {@code r},
+	 * and is given as its transformed column {@code w = inv(B)a}.
+	 *
+	 * @param r  a basis position
+	 * @param w  a transformed column
+	 * @return   {@code true} if no refactorization is due
+	 */
+	public boolean update(int r, double[] w)
+	{
+		int cnt = 0;
+		for(int i = 0; i < m; i++)
+		{
+			if(i != r && w[i] != 0d)
+			{
+				cnt++;
+			}
+		}
+
+		er[ne] = r;
+		ep[ne] = w[r];
+		ei[ne] = new int[cnt];
+		ev[ne] = new double[cnt];
+		for(int i = 0, j = 0; i < m; i++)
+		{
+			if(i != r && w[i] != 0d)
+			{
+				ei[ne][j] = i;
+				ev[ne][j] = w[i];
+				j++;
+			}
+		}
+
+		return ++ne < DEF_REFACTOR;
+	}
+
+	/**
+	 * Solves {@code Bz = a} in the {@code LUBasis}.
+	 * The right-hand side is indexed by row,
+	 * the solution by basis position.
+	 *
+	 * @param a  a right-hand side
+	 * @return   a basis solution
+	 */
+	public double[] ftran(double[] a)
+	{
+		double[] x = a.clone();
+		// Apply the lower eliminations.
+		for(int j = 0; j < nl; j++)
+		{
+			int t = lsteps[j];
+			double xp = x[prow[t]];
+			if(xp == 0d) continue;
+
+			int[] lt = li[t];
+			double[] vt = lv[t];
+			for(int i = 0; i < lt.length; i++)
+			{
+				x[lt[i]] -= vt[i] * xp;
+			}
+		}
+
+		double[] z = new double[m];
+		// Substitute the upper factor backward.
+		for(int k = m - 1; k >= 0; k--)
+		{
+			double wk = x[prow[k]] / ud[k];
+			z[order[k]] = wk;
+			if(wk == 0d) continue;
+
+			int[] uk = ui[k];
+			double[] vk = uv[k];
+			for(int i = 0; i < uk.length; i++)
+			{
+				x[prow[uk[i]]] -= vk[i] * wk;
+			}
+		}
+
+		// Apply the eta updates in order.
+		for(int e = 0; e < ne; e++)
+		{
+			int r = er[e];
+			double zr = z[r] / ep[e];
+			z[r] = zr;
+			if(zr == 0d) continue;
+
+			int[] ie = ei[e];
+			double[] ve = ev[e];
+			for(int i = 0; i < ie.length; i++)
+			{
+				z[ie[i]] -= ve[i] * zr;
+			}
+		}
+
+		return z;
+	}
+
+	/**
+	 * Solves {@code B*y = c} in the {@code LUBasis}.
+	 * The right-hand side is indexed by basis position,
+	 * the solution by row.
+	 *
+	 * @param c  a right-hand side
+	 * @return   a row solution
+	 */
+	public double[] btran(double[] c)
+	{
+		double[] z = c.clone();
+		// Apply the eta updates in reverse.
+		for(int e = ne - 1; e >= 0; e--)
+		{
+			int r = er[e];
+			double s = z[r];
+			int[] ie = ei[e];
+			double[] ve = ev[e];
+			for(int i = 0; i < ie.length; i++)
+			{
+				s -= ve[i] * z[ie[i]];
+			}
+
+			z[r] = s / ep[e];
+		}
+
+		double[] y = new double[m];
+		// Substitute the upper factor forward.
+		for(int k = 0; k < m; k++)
+		{
+			double s = z[order[k]];
+			int[] uk = ui[k];
+			double[] vk = uv[k];
+			for(int i = 0; i < uk.length; i++)
+			{
+				s -= vk[i] * y[prow[uk[i]]];
+			}
+
+			y[prow[k]] = s / ud[k];
+		}
+
+		// Apply the lower eliminations in reverse.
+		for(int j = nl - 1; j >= 0; j--)
+		{
+			int t = lsteps[j];
+			int[] lt = li[t];
+			double[] vt = lv[t];
+
+			double s = 0d;
+			for(int i = 0; i < lt.length; i++)
+			{
+				s += vt[i] * y[lt[i]];
+			}
+
+			y[prow[t]] -= s;
+		}
+
+		return y;
+	}
+
+
+	static int active(int[] idx, boolean[] done)
+	{
+		for(int i : idx)
+		{
+			if(!done[i])
+			{
+				return i;
+			}
+		}
+		
+		return -1;
+	}
+	
+	static double value(int[] idx, double[] val, int i)
+	{
+		for(int j = 0; j < idx.length; j++)
+		{
+			if(idx[j] == i)
+			{
+				return val[j];
+			}
+		}
+		
+		return 0d;
+	}
+	
+}
\ No newline at end of file
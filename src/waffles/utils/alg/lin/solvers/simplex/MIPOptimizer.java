@@ -0,0 +1,794 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.utilities.Algorithmic;
+import waffles.utils.lang.utilities.enums.Extreme;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code MIPOptimizer} optimizes a linearly constrained linear problem with integer variables.
+ * Branch-and-bound is used on top of an {@code LCLOptimizer}, which splits the relaxed problem
+ * on a fractional integer variable into two subproblems with a tighter bound on that variable.
+ * Every worker thread keeps its own {@code LCLOptimizer} and dives into the subtree of its
+ * current node, keeping the open siblings in a local deque, such that each node is warm-started
+ * from the basis of its parent. Once a dive ends, its siblings are returned to a global queue
+ * from which the next dive starts at the best bound. That queue also receives the shallowest
+ * local nodes whenever another worker runs idle. Before branching, the root relaxation is
+ * tightened by a round of Gomory mixed-integer cuts. The thread count defaults to the amount
+ * of available processors; only on a single thread are the nodes visited in a deterministic order.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Branch_and_bound">Branch and Bound - Wikipedia</a>
+ * @see LCLOptimizer
+ * @see Optimizer
+ * @see Vector
+ */
+public class MIPOptimizer implements Optimizer<Vector>
+{
+	/**
+	 * Defines the default node limit of the {@code Hints}.
+	 */
+	public static final int DEF_NODES = 100000;
+	/**
+	 * Defines the default cut limit of the {@code Hints}.
+	 */
+	public static final int DEF_CUTS = 16;
+	/**
+	 * Defines the relative gap at which a node is pruned.
+	 */
+	public static final double DEF_GAP = Doubles.pow(2, -20);
+	/**
+	 * Defines the minimum fraction of a basic variable which generates a cut.
+	 */
+	public static final double DEF_FRACTION = Doubles.pow(2, -6);
+	/**
+	 * Defines the maximum coefficient ratio of a cut.
+	 */
+	public static final double DEF_DYNAMISM = Doubles.pow(2, 20);
+
+	/**
+	 * The {@code Hints} class defines hints for a {@code MIPOptimizer}.
+	 *
+	 * @author Waffles
+	 * @since 19 Oct 2026
+	 * @version 1.1
+	 *
+	 *
+	 * @see Algorithmic
+	 * @see LCLOptimizer
+	 */
+	public static class Hints extends LCLOptimizer.Hints implements Algorithmic.Iterative
+	{
+		private int[] ints;
+
+		/**
+		 * Creates a new {@code Hints}.
+		 *
+		 * @param c  a constraint matrix
+		 * @param o  an object vector
+		 * @param i  the integer variables
+		 *
+		 *
+		 * @see Matrix
+		 * @see Vector
+		 */
+		public Hints(Matrix c, Vector o, int... i)
+		{
+			super(c, o);
+			ints = i;
+		}
+
+		/**
+		 * Creates a new {@code Hints}.
+		 *
+		 * @param r  the triplet rows
+		 * @param c  the triplet columns
+		 * @param v  the triplet values
+		 * @param b  a constraint vector
+		 * @param o  an object vector
+		 * @param i  the integer variables
+		 *
+		 *
+		 * @see Vector
+		 */
+		public Hints(int[] r, int[] c, float[] v, Vector b, Vector o, int... i)
+		{
+			super(r, c, v, b, o);
+			ints = i;
+		}
+
+		/**
+		 * Returns the integer variables of the {@code Hints}.
+		 *
+		 * @return  a variable index array
+		 */
+		public int[] Integers()
+		{
+			return ints;
+		}
+
+		/**
+		 * Returns the thread count of the {@code Hints}.
+		 * This defaults to the available processors,
+		 * so a deterministic search requires a single
+		 * thread to be set explicitly.
+		 *
+		 * @return  a thread count
+		 */
+		public int Threads()
+		{
+			return Runtime.getRuntime().availableProcessors();
+		}
+
+		/**
+		 * Returns the cut limit of the {@code Hints}.
+		 * This is the maximum amount of cuts
+		 * added to the root relaxation.
+		 *
+		 * @return  a cut limit
+		 */
+		public int Cuts()
+		{
+			return DEF_CUTS;
+		}
+
+
+		/**
+		 * Returns the node limit of the {@code Hints}.
+		 * Once this amount of nodes has been solved,
+		 * the best integer solution so far is returned.
+		 *
+		 * @return  a node limit
+		 */
+		@Override
+		public int MaxLoops()
+		{
+			return DEF_NODES;
+		}
+
+		/**
+		 * Returns the integrality tolerance of the {@code Hints}.
+		 *
+		 * @return  an integrality tolerance
+		 */
+		@Override
+		public double Error()
+		{
+			return Doubles.pow(2, -16);
+		}
+	}
+
+
+	private int n, threads;
+	private double sgn;
+	private Extreme ext;
+	private boolean[] ints;
+	private int ncut;
+	private Vector[] cuts;
+
+	private boolean first;
+	private volatile boolean stop;
+	private volatile int idle;
+	private volatile double best;
+	private AtomicLong count, nodes;
+	private RuntimeException fail;
+	private Vector sol;
+
+	private LCLOptimizer spare;
+	private PriorityQueue<Node> queue;
+	private Hints hints;
+
+	/**
+	 * Creates a new {@code MIPOptimizer}.
+	 *
+	 * @param h  algorithm hints
+	 *
+	 *
+	 * @see Hints
+	 */
+	public MIPOptimizer(Hints h)
+	{
+		count = new AtomicLong();
+		nodes = new AtomicLong();
+		hints = h;
+	}
+
+	/**
+	 * Creates a new {@code MIPOptimizer}.
+	 *
+	 * @param c  a constraint matrix
+	 * @param o  an objective vector
+	 * @param i  the integer variables
+	 *
+	 *
+	 * @see Matrix
+	 * @see Vector
+	 */
+	public MIPOptimizer(Matrix c, Vector o, int... i)
+	{
+		this(new Hints(c, o, i));
+	}
+
+
+	/**
+	 * Returns the solved node count of the {@code MIPOptimizer}.
+	 *
+	 * @return  a node count
+	 */
+	public long Nodes()
+	{
+		return nodes.get();
+	}
+
+
+	@Override
+	public Vector optimize(Extreme ex)
+	{
+		return search(ex, false);
+	}
+
+	@Override
+	public boolean isFeasible()
+	{
+		// Stop at the first integer solution.
+		return search(Extreme.MIN, true) != null;
+	}
+
+	@Override
+	public Hints Hints()
+	{
+		return hints;
+	}
+
+
+	Vector search(Extreme ex, boolean f)
+	{
+		ext = ex;
+		first = f;
+		sgn = ex == Extreme.MIN ? 1d : -1d;
+
+		// Branching edits the problem,
+		// so it is never presolved.
+		LCLOptimizer root = new LCLOptimizer(Hints());
+		root.edit();
+
+		Vector x = root.optimize(ex);
+		if(x == null)
+		{
+			return null;
+		}
+
+		n = x.Size();
+		ints = new boolean[n];
+		for(int j : Hints().Integers())
+		{
+			ints[j] = true;
+		}
+
+		// Tighten the root relaxation.
+		if(cut(root))
+		{
+			x = root.optimize(ex);
+			if(x == null)
+			{
+				return null;
+			}
+		}
+
+
+		idle = 0;
+		fail = null;
+		stop = false;
+		best = Double.POSITIVE_INFINITY;
+		threads = Integers.max(1, Hints().Threads());
+		nodes.set(0);
+		count.set(0);
+		sol = null;
+
+		spare = root;
+		queue = new PriorityQueue<>();
+		queue.add(new Node(null, -1, 0f, false, value(x), count.getAndIncrement()));
+
+		// The calling thread keeps the root optimizer...
+		Worker main = new Worker();
+		Thread[] pool = new Thread[threads - 1];
+		for(int t = 0; t < pool.length; t++)
+		{
+			pool[t] = new Thread(new Worker());
+			pool[t].start();
+		}
+
+		// ...and explores the tree alongside the others.
+		main.run();
+		for(Thread t : pool)
+		{
+			try
+			{
+				t.join();
+			}
+			catch(InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				halt();
+			}
+		}
+
+		if(fail != null)
+		{
+			throw fail;
+		}
+
+		if(sol == null)
+		{
+			return null;
+		}
+
+		// Round the integer variables.
+		Vector v = Vectors.create(n);
+		for(int j = 0; j < n; j++)
+		{
+			float val = sol.get(j);
+			if(ints[j])
+			{
+				val = (long) (val + 0.5f);
+			}
+
+			v.set(val, j);
+		}
+
+		return v;
+	}
+
+	boolean cut(LCLOptimizer root)
+	{
+		ncut = 0;
+		cuts = new Vector[Hints().Cuts()];
+		int m = root.Constraints();
+		// For each fractional integer basic variable...
+		for(int r = 0; r < m && ncut < cuts.length; r++)
+		{
+			int j = root.basic(r);
+			if(j < 0 || !ints[j]) continue;
+
+			double[] a = root.tableau(r);
+			double f0 = fraction(a[n]);
+			if(f0 < DEF_FRACTION || 1d - DEF_FRACTION < f0)
+			{
+				continue;
+			}
+
+			double min = Double.POSITIVE_INFINITY;
+			double max = 0d;
+			// ...derive the Gomory mixed-integer cut...
+			double[] g = new double[n];
+			for(int c = 0; c < n; c++)
+			{
+				if(a[c] == 0d) continue;
+
+				if(ints[c])
+				{
+					double fc = fraction(a[c]);
+					g[c] = fc <= f0 ? fc / f0 : (1d - fc) / (1d - f0);
+				}
+				else
+				{
+					g[c] = 0d < a[c] ? a[c] / f0 : -a[c] / (1d - f0);
+				}
+
+				if(0d < g[c])
+				{
+					min = g[c] < min ? g[c] : min;
+					max = max < g[c] ? g[c] : max;
+				}
+			}
+
+			// ...unless it is numerically unsafe.
+			if(max == 0d || DEF_DYNAMISM * min < max)
+			{
+				continue;
+			}
+
+			Vector v = Vectors.create(n);
+			for(int c = 0; c < n; c++)
+			{
+				// Rounding up the coefficients keeps the cut valid.
+				v.set((float) (g[c] * (1d + Doubles.pow(2, -22))), c);
+			}
+
+			cuts[ncut++] = v;
+		}
+
+		for(int k = 0; k < ncut; k++)
+		{
+			root.addConstraint(cuts[k], 1f, Extreme.MIN);
+		}
+
+		return 0 < ncut;
+	}
+
+
+	synchronized Node poll(ArrayDeque<Node> open)
+	{
+		// Return the open nodes to the queue...
+		double cut = cutoff();
+		for(Node node : open)
+		{
+			if(node.bound < cut)
+			{
+				queue.add(node);
+			}
+		}
+
+		open.clear();
+		if(!queue.isEmpty())
+		{
+			notifyAll();
+		}
+
+
+		idle++;
+		// ...and wait for the best bound.
+		while(!stop)
+		{
+			Node node = queue.poll();
+			if(node == null)
+			{
+				// The tree has been exhausted.
+				if(idle == threads)
+				{
+					halt();
+					break;
+				}
+
+				try
+				{
+					wait();
+				}
+				catch(InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					halt();
+				}
+
+				continue;
+			}
+
+			// Skip the nodes which cannot improve.
+			if(node.bound < cutoff())
+			{
+				idle--;
+				return node;
+			}
+		}
+
+		return null;
+	}
+
+	synchronized void share(Node node)
+	{
+		queue.add(node);
+		notifyAll();
+	}
+
+	synchronized void update(double v, Vector x)
+	{
+		if(v < best)
+		{
+			best = v;
+			sol = x;
+			if(first)
+			{
+				halt();
+			}
+		}
+	}
+
+	synchronized void fail(RuntimeException e)
+	{
+		if(fail == null)
+		{
+			fail = e;
+		}
+
+		halt();
+	}
+
+	synchronized void halt()
+	{
+		stop = true;
+		notifyAll();
+	}
+
+	double cutoff()
+	{
+		double b = best;
+		if(b == Double.POSITIVE_INFINITY)
+		{
+			return b;
+		}
+
+		return b - DEF_GAP * (1d + Doubles.abs(b));
+	}
+
+	synchronized LCLOptimizer take()
+	{
+		LCLOptimizer opt = spare;
+		spare = null;
+		return opt;
+	}
+
+
+	double value(Vector x)
+	{
+		double v = 0d;
+		Vector o = Hints().Object();
+		for(int j = 0; j < n; j++)
+		{
+			v += o.get(j) * x.get(j);
+		}
+
+		return sgn * v;
+	}
+
+	int branch(Vector x)
+	{
+		int j = -1;
+		double max = Hints().Error();
+		// Find the most fractional integer variable.
+		for(int c = 0; c < n; c++)
+		{
+			if(ints[c])
+			{
+				double f = fraction(x.get(c));
+				double d = f < 0.5d ? f : 1d - f;
+				if(max < d)
+				{
+					max = d;
+					j = c;
+				}
+			}
+		}
+
+		return j;
+	}
+
+	static double fraction(double v)
+	{
+		double f = v - (long) v;
+		if(f < 0d)
+		{
+			f += 1d;
+		}
+
+		return f;
+	}
+
+
+	/**
+	 * A {@code Node} defines an open subproblem of the branch-and-bound tree.
+	 * Each node holds the branching bounds on the path from the root,
+	 * and the relaxed objective value of its parent as a bound.
+	 */
+	static class Node implements Comparable<Node>
+	{
+		int[] vars;
+		float[] vals;
+		boolean[] ups;
+		double bound;
+		long id;
+
+		/**
+		 * Creates a new {@code Node}.
+		 *
+		 * @param p  a parent node
+		 * @param j  a branching variable
+		 * @param v  a branching bound
+		 * @param u  an upward branch
+		 * @param b  a relaxed bound
+		 * @param i  a node index
+		 */
+		public Node(Node p, int j, float v, boolean u, double b, long i)
+		{
+			bound = b;
+			id = i;
+
+			int d = p == null ? 0 : p.vars.length;
+			vars = new int[d + (p == null ? 0 : 1)];
+			vals = new float[vars.length];
+			ups = new boolean[vars.length];
+			if(p != null)
+			{
+				System.arraycopy(p.vars, 0, vars, 0, d);
+				System.arraycopy(p.vals, 0, vals, 0, d);
+				System.arraycopy(p.ups, 0, ups, 0, d);
+				vars[d] = j;
+				vals[d] = v;
+				ups[d] = u;
+			}
+		}
+
+		/**
+		 * Checks if a branch matches another {@code Node}.
+		 *
+		 * @param k  a branch depth
+		 * @param n  a compared node
+		 * @return   {@code true} if the branches match
+		 */
+		public boolean matches(int k, Node n)
+		{
+			return vars[k] == n.vars[k] && vals[k] == n.vals[k] && ups[k] == n.ups[k];
+		}
+
+
+		@Override
+		public int compareTo(Node n)
+		{
+			if(bound != n.bound)
+				return Double.compare(bound, n.bound);
+			return Long.compare(id, n.id);
+		}
+	}
+
+	/**
+	 * A {@code Worker} solves nodes with its own {@code LCLOptimizer}.
+	 * The bounds of the last node are kept as constraints, such that
+	 * the next node only replaces the bounds where their paths differ.
+	 * Each branched node is followed by one of its children, while
+	 * the other is kept in a local deque until the dive ends.
+	 */
+	class Worker implements Runnable
+	{
+		int base;
+		Node path;
+		LCLOptimizer opt;
+		ArrayDeque<Node> local;
+
+		/**
+		 * Creates a new {@code Worker}.
+		 */
+		public Worker()
+		{
+			opt = take();
+			if(opt == null)
+			{
+				opt = new LCLOptimizer(Hints());
+				opt.edit();
+				for(int k = 0; k < ncut; k++)
+				{
+					opt.addConstraint(cuts[k], 1f, Extreme.MIN);
+				}
+			}
+
+			base = opt.Constraints();
+			path = new Node(null, -1, 0f, false, 0d, -1);
+			local = new ArrayDeque<>();
+		}
+
+
+		@Override
+		public void run()
+		{
+			try
+			{
+				Node node = poll(local);
+				while(node != null)
+				{
+					if(Hints().MaxLoops() <= nodes.getAndIncrement())
+					{
+						halt();
+					}
+
+					boolean dives = solve(node);
+					// Continue the dive, or start
+					// the next one at the best bound.
+					node = stop ? null : dives ? dive() : poll(local);
+				}
+			}
+			catch(RuntimeException e)
+			{
+				fail(e);
+			}
+		}
+
+		Node dive()
+		{
+			Node node = local.pollLast();
+			// Share the shallowest node with idle workers.
+			if(0 < idle && !local.isEmpty())
+			{
+				share(local.pollFirst());
+			}
+
+			return node;
+		}
+
+		/**
+		 * Solves a node in the {@code Worker}.
+		 *
+		 * @param node  a tree node
+		 * @return      {@code true} if the node was branched
+		 */
+		public boolean solve(Node node)
+		{
+			move(node);
+
+			Vector x = opt.optimize(ext);
+			// The node is infeasible.
+			if(x == null)
+			{
+				return false;
+			}
+
+			double v = value(x);
+			// The node cannot improve.
+			if(cutoff() <= v)
+			{
+				return false;
+			}
+
+			int j = branch(x);
+			// The node is integral.
+			if(j < 0)
+			{
+				update(v, x);
+				return false;
+			}
+
+			float lo = (long) x.get(j);
+			Node a = new Node(node, j, lo, false, v, count.getAndIncrement());
+			Node b = new Node(node, j, lo + 1f, true, v, count.getAndIncrement());
+			// Dive towards the nearest integer.
+			if(fraction(x.get(j)) < 0.5d)
+			{
+				local.addLast(b);
+				local.addLast(a);
+			}
+			else
+			{
+				local.addLast(a);
+				local.addLast(b);
+			}
+
+			return true;
+		}
+
+		void move(Node node)
+		{
+			int k = 0;
+			int d = path.vars.length;
+			while(k < d && k < node.vars.length && path.matches(k, node))
+			{
+				k++;
+			}
+
+			// Remove the bounds where the paths differ...
+			for(int i = d - 1; i >= k; i--)
+			{
+				opt.removeConstraint(base + i);
+			}
+
+			// ...and add the bounds of the next node.
+			for(int i = k; i < node.vars.length; i++)
+			{
+				Vector v = Vectors.create(n);
+				v.set(1f, node.vars[i]);
+
+				Extreme ex = node.ups[i] ? Extreme.MIN : Extreme.MAX;
+				opt.addConstraint(v, node.vals[i], ex);
+			}
+
+			path = node;
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,581 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import java.util.Arrays;
+
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code Presolver} class reduces a linear problem in standard form before it is optimized.
+ * Empty and duplicate rows are removed, and variables are fixed by singleton rows or by
+ * forcing rows, whose coefficients share a sign such that their implied bounds only allow zero.
+ * The remaining problem is scaled to unit geometric mean, and its solution is mapped back
+ * by reversing the scaling and inserting the values of all fixed variables.
+ * Its dual solution is mapped back in the same way, and the removed rows are given
+ * multipliers which keep the reduced costs of their fixed variables feasible.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+class Presolver
+{
+	/**
+	 * Defines the relative tolerance on the constraint values.
+	 */
+	public static final double DEF_TOLERANCE = Doubles.pow(2, -20);
+	/**
+	 * Defines the amount of geometric scaling passes.
+	 */
+	public static final int DEF_SCALING = 4;
+
+
+	private int m, n;
+	private int[] rmap, cmap;
+	private int[][] rcols;
+	private double[][] rvals;
+	private boolean[] rdel, cdel;
+	private double[] b0, c0, rhs, fix, scale, rscale;
+	private int[] order;
+	private int[][] fcols;
+	private boolean[] forcing;
+	private SparseColumns a0;
+	private int count;
+	private boolean feasible;
+
+	private double[] b, obj;
+	private SparseColumns cols;
+
+	/**
+	 * Creates a new {@code Presolver}.
+	 *
+	 * @param a  the constraint columns
+	 * @param b  the constraint values
+	 * @param c  the objective values
+	 */
+	public Presolver(SparseColumns a, double[] b, double[] c)
+	{
+		m = b.length;
+		n = c.length;
+		rhs = b.clone();
+		b0 = b;
+		c0 = c;
+		a0 = a;
+		fix = new double[n];
+		rdel = new boolean[m];
+		cdel = new boolean[n];
+		feasible = true;
+
+		transpose(a);
+		eliminate(a);
+		deduplicate();
+		compress(a, c);
+		scale();
+	}
+
+
+	/**
+	 * Returns the reduced columns of the {@code Presolver}.
+	 *
+	 * @return  the constraint columns
+	 */
+	public SparseColumns Columns()
+	{
+		return cols;
+	}
+
+	/**
+	 * Returns the reduced constraint values of the {@code Presolver}.
+	 *
+	 * @return  the constraint values
+	 */
+	public double[] Values()
+	{
+		return b;
+	}
+
+	/**
+	 * Returns the reduced objective of the {@code Presolver}.
+	 *
+	 * @return  the objective values
+	 */
+	public double[] Object()
+	{
+		return obj;
+	}
+
+	/**
+	 * Returns the original row count of the {@code Presolver}.
+	 *
+	 * @return  a row count
+	 */
+	public int Rows()
+	{
+		return m;
+	}
+
+	/**
+	 * Checks if the {@code Presolver} found the problem feasible.
+	 * An infeasible problem is detected when a removed row
+	 * cannot be satisfied by positive variables.
+	 *
+	 * @return  {@code true} if no infeasibility was found
+	 */
+	public boolean isFeasible()
+	{
+		return feasible;
+	}
+
+	/**
+	 * Maps a reduced solution back to the original problem.
+	 *
+	 * @param x  a reduced solution
+	 * @return   an original solution
+	 */
+	public double[] postsolve(double[] x)
+	{
+		double[] v = new double[n];
+		for(int j = 0; j < n; j++)
+		{
+			if(cdel[j])
+				v[j] = fix[j];
+			else
+				v[j] = scale[cmap[j]] * x[cmap[j]];
+		}
+
+		return v;
+	}
+
+	/**
+	 * Maps a reduced dual solution back to the original problem.
+	 * The scaling of the remaining rows is reversed, after which the
+	 * removed rows are visited in reverse order. A singleton row gets
+	 * the multiplier which zeroes the reduced cost of its variable,
+	 * and a forcing row the multiplier which keeps the reduced costs
+	 * of its variables feasible. Empty and duplicate rows get zero.
+	 *
+	 * @param y  a reduced dual solution
+	 * @param s  the objective sign, negative if maximized
+	 * @return   an original dual solution
+	 */
+	public double[] dual(double[] y, double s)
+	{
+		double[] v = new double[m];
+		for(int r = 0; r < m; r++)
+		{
+			if(!rdel[r])
+			{
+				v[r] = s * rscale[rmap[r]] * y[rmap[r]];
+			}
+		}
+
+		// For each eliminated row in reverse order...
+		for(int k = count - 1; k >= 0; k--)
+		{
+			int r = order[k];
+			int[] fc = fcols[r];
+			if(fc.length == 0) continue;
+
+			double bound = forcing[r] ? Double.NaN : 0d;
+			// ...bound its multiplier by the reduced costs.
+			for(int j : fc)
+			{
+				double d = s * c0[j];
+				double arj = 0d;
+				for(int q = 0; q < a0.rows[j].length; q++)
+				{
+					int i = a0.rows[j][q];
+					if(i == r)
+						arj = a0.vals[j][q];
+					else
+						d -= a0.vals[j][q] * v[i];
+				}
+
+				double t = d / arj;
+				if(!forcing[r])
+					bound = t;
+				else if(Double.isNaN(bound) || (0d < arj ? t < bound : bound < t))
+					bound = t;
+			}
+
+			v[r] = bound;
+		}
+
+		for(int r = 0; r < m; r++)
+		{
+			v[r] *= s;
+		}
+
+		return v;
+	}
+
+
+	void transpose(SparseColumns a)
+	{
+		int[] size = new int[m];
+		for(int j = 0; j < n; j++)
+		{
+			for(int r : a.rows[j])
+			{
+				size[r]++;
+			}
+		}
+
+		rcols = new int[m][];
+		rvals = new double[m][];
+		for(int r = 0; r < m; r++)
+		{
+			rcols[r] = new int[size[r]];
+			rvals[r] = new double[size[r]];
+			size[r] = 0;
+		}
+
+		// Store the constraint matrix by rows.
+		for(int j = 0; j < n; j++)
+		{
+			for(int k = 0; k < a.rows[j].length; k++)
+			{
+				int r = a.rows[j][k];
+				rcols[r][size[r]] = j;
+				rvals[r][size[r]] = a.vals[j][k];
+				size[r]++;
+			}
+		}
+	}
+
+	void eliminate(SparseColumns a)
+	{
+		int size = m;
+		int[] queue = new int[m];
+		boolean[] queued = new boolean[m];
+
+		order = new int[m];
+		fcols = new int[m][];
+		forcing = new boolean[m];
+		for(int r = 0; r < m; r++)
+		{
+			queue[r] = r;
+			queued[r] = true;
+		}
+
+		// For each row with a changed pattern...
+		while(0 < size)
+		{
+			int r = queue[--size];
+			queued[r] = false;
+			if(rdel[r]) continue;
+
+			int cnt = 0, last = -1;
+			boolean pos = false, neg = false;
+			// ...find its remaining coefficients...
+			for(int k = 0; k < rcols[r].length; k++)
+			{
+				if(!cdel[rcols[r][k]])
+				{
+					pos |= 0d < rvals[r][k];
+					neg |= rvals[r][k] < 0d;
+					last = k;
+					cnt++;
+				}
+			}
+
+			// ...and remove the empty, singleton or forcing rows.
+			double v = rhs[r];
+			double tol = DEF_TOLERANCE * (1d + Doubles.abs(b0[r]));
+			if(cnt == 0)
+			{
+				feasible &= Doubles.abs(v) <= tol;
+				remove(r, new int[0], false);
+			}
+			else if(cnt == 1)
+			{
+				double a1 = rvals[r][last];
+				feasible &= -tol <= (a1 < 0d ? -v : v);
+
+				remove(r, new int[]{rcols[r][last]}, false);
+				v = v / a1 < 0d ? 0d : v / a1;
+				size = fix(a, rcols[r][last], v, queue, queued, size);
+			}
+			else if(!neg && v <= tol || !pos && -tol <= v)
+			{
+				feasible &= Doubles.abs(v) <= tol;
+
+				int len = 0;
+				int[] fc = new int[cnt];
+				for(int k = 0; k < rcols[r].length; k++)
+				{
+					if(!cdel[rcols[r][k]])
+					{
+						fc[len++] = rcols[r][k];
+					}
+				}
+
+				remove(r, fc, true);
+				for(int j : fc)
+				{
+					size = fix(a, j, 0d, queue, queued, size);
+				}
+			}
+		}
+	}
+
+	void remove(int r, int[] fc, boolean force)
+	{
+		rdel[r] = true;
+		fcols[r] = fc;
+		forcing[r] = force;
+		order[count++] = r;
+	}
+
+	int fix(SparseColumns a, int j, double v, int[] queue, boolean[] queued, int size)
+	{
+		fix[j] = v;
+		cdel[j] = true;
+		// Substitute the variable in its rows.
+		for(int k = 0; k < a.rows[j].length; k++)
+		{
+			int r = a.rows[j][k];
+			rhs[r] -= a.vals[j][k] * v;
+			if(!rdel[r] && !queued[r])
+			{
+				queued[r] = true;
+				queue[size++] = r;
+			}
+		}
+
+		return size;
+	}
+
+	void deduplicate()
+	{
+		int cnt = 0;
+		Integer[] order = new Integer[m];
+		int[][] pc = new int[m][];
+		double[][] pv = new double[m][];
+		// Collect the remaining pattern of each row...
+		for(int r = 0; r < m; r++)
+		{
+			if(rdel[r]) continue;
+
+			int len = 0;
+			pc[r] = new int[rcols[r].length];
+			pv[r] = new double[rcols[r].length];
+			for(int k = 0; k < rcols[r].length; k++)
+			{
+				if(!cdel[rcols[r][k]])
+				{
+					pc[r][len] = rcols[r][k];
+					pv[r][len] = rvals[r][k];
+					len++;
+				}
+			}
+
+			pc[r] = Arrays.copyOf(pc[r], len);
+			pv[r] = Arrays.copyOf(pv[r], len);
+			order[cnt++] = r;
+		}
+
+		// ...and sort the rows by their pattern.
+		Integer[] sorted = Arrays.copyOf(order, cnt);
+		Arrays.sort(sorted, (r1, r2) ->
+		{
+			int[] p1 = pc[r1];
+			int[] p2 = pc[r2];
+			if(p1.length != p2.length)
+			{
+				return Integer.compare(p1.length, p2.length);
+			}
+
+			for(int k = 0; k < p1.length; k++)
+			{
+				if(p1[k] != p2[k])
+				{
+					return Integer.compare(p1[k], p2[k]);
+				}
+			}
+
+			return Integer.compare(r1, r2);
+		});
+
+
+		double tol = DEF_TOLERANCE;
+		// For each row in the sorted order...
+		for(int i = 0; i < cnt; i++)
+		{
+			int r1 = sorted[i];
+			if(rdel[r1]) continue;
+
+			// ...compare the rows with an equal pattern...
+			for(int k = i + 1; k < cnt; k++)
+			{
+				int r2 = sorted[k];
+				if(!Arrays.equals(pc[r1], pc[r2]))
+				{
+					break;
+				}
+
+				if(rdel[r2]) continue;
+
+				// ...and remove them if they are parallel.
+				double f = pv[r2][0] / pv[r1][0];
+				boolean parallel = true;
+				for(int q = 1; q < pv[r1].length; q++)
+				{
+					double d = pv[r2][q] - f * pv[r1][q];
+					if(tol * Doubles.abs(pv[r2][q]) < Doubles.abs(d))
+					{
+						parallel = false;
+						break;
+					}
+				}
+
+				if(parallel)
+				{
+					double d = rhs[r2] - f * rhs[r1];
+					double e = tol * (1d + Doubles.abs(b0[r2]));
+					feasible &= Doubles.abs(d) <= e;
+					rdel[r2] = true;
+				}
+			}
+		}
+	}
+
+	void compress(SparseColumns a, double[] c)
+	{
+		rmap = new int[m];
+		cmap = new int[n];
+
+		int m1 = 0;
+		for(int r = 0; r < m; r++)
+		{
+			rmap[r] = rdel[r] ? -1 : m1++;
+		}
+
+		int n1 = 0;
+		for(int j = 0; j < n; j++)
+		{
+			cmap[j] = cdel[j] ? -1 : n1++;
+		}
+
+
+		b = new double[m1];
+		for(int r = 0; r < m; r++)
+		{
+			if(!rdel[r])
+			{
+				b[rmap[r]] = rhs[r];
+			}
+		}
+
+		obj = new double[n1];
+		cols = new SparseColumns(n1);
+		// Store the remaining columns with their remaining rows.
+		for(int j = 0; j < n; j++)
+		{
+			if(cdel[j]) continue;
+
+			int len = 0;
+			int c1 = cmap[j];
+			int[] rj = new int[a.rows[j].length];
+			double[] vj = new double[a.rows[j].length];
+			for(int k = 0; k < a.rows[j].length; k++)
+			{
+				int r = a.rows[j][k];
+				if(!rdel[r])
+				{
+					rj[len] = rmap[r];
+					vj[len] = a.vals[j][k];
+					len++;
+				}
+			}
+
+			cols.rows[c1] = Arrays.copyOf(rj, len);
+			cols.vals[c1] = Arrays.copyOf(vj, len);
+			obj[c1] = c[j];
+		}
+	}
+
+	void scale()
+	{
+		int m1 = b.length;
+		int n1 = obj.length;
+
+		scale = new double[n1];
+		double[] rs = new double[m1];
+		for(int j = 0; j < n1; j++)
+		{
+			scale[j] = 1d;
+		}
+
+		for(int r = 0; r < m1; r++)
+		{
+			rs[r] = 1d;
+		}
+
+
+		double[] min = new double[m1];
+		double[] max = new double[m1];
+		// For each scaling pass...
+		for(int p = 0; p < DEF_SCALING; p++)
+		{
+			Arrays.fill(min, Double.POSITIVE_INFINITY);
+			Arrays.fill(max, 0d);
+			// ...scale the rows to unit geometric mean...
+			for(int j = 0; j < n1; j++)
+			{
+				for(int k = 0; k < cols.rows[j].length; k++)
+				{
+					int r = cols.rows[j][k];
+					double v = Doubles.abs(cols.vals[j][k] * rs[r] * scale[j]);
+					min[r] = v < min[r] ? v : min[r];
+					max[r] = max[r] < v ? v : max[r];
+				}
+			}
+
+			for(int r = 0; r < m1; r++)
+			{
+				if(0d < max[r])
+				{
+					rs[r] /= Doubles.sqrt(min[r] * max[r]);
+				}
+			}
+
+			// ...and then the columns.
+			for(int j = 0; j < n1; j++)
+			{
+				double cmin = Double.POSITIVE_INFINITY;
+				double cmax = 0d;
+				for(int k = 0; k < cols.rows[j].length; k++)
+				{
+					int r = cols.rows[j][k];
+					double v = Doubles.abs(cols.vals[j][k] * rs[r] * scale[j]);
+					cmin = v < cmin ? v : cmin;
+					cmax = cmax < v ? v : cmax;
+				}
+
+				if(0d < cmax)
+				{
+					scale[j] /= Doubles.sqrt(cmin * cmax);
+				}
+			}
+		}
+
+
+		// Apply the scaling to the reduced problem.
+		for(int j = 0; j < n1; j++)
+		{
+			for(int k = 0; k < cols.rows[j].length; k++)
+			{
+				cols.vals[j][k] *= rs[cols.rows[j][k]] * scale[j];
+			}
+
+			obj[j] *= scale[j];
+		}
+
+		for(int r = 0; r < m1; r++)
+		{
+			b[r] *= rs[r];
+		}
+
+		rscale = rs;
+	}
+}
\ No newline at end of file
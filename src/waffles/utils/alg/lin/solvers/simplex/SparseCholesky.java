@@ -0,0 +1,349 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import java.util.Arrays;
+
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code SparseCholesky} class factorizes the normal matrix {@code ADA*} of a constraint matrix,
+ * where D is a positive diagonal weight. The rows are ordered once by minimum degree, and the
+ * sparsity pattern of the factor is derived during that ordering. Since the pattern does not
+ * depend on the weights, every later factorization only performs its numeric part.
+ * Pivots which vanish on dependent rows are replaced by a huge value,
+ * which effectively removes those rows from the solution.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+class SparseCholesky
+{
+	/**
+	 * Defines the relative pivot size below which a row is dependent.
+	 */
+	public static final double DEF_PIVOT = Doubles.pow(2, -40);
+	/**
+	 * Defines the pivot value which replaces a dependent row.
+	 */
+	public static final double DEF_HUGE = Doubles.pow(2, 128);
+
+
+	private int m;
+	private int[] perm, inv;
+	private int[][] arows, acols;
+	private double[][] avals;
+	private int[][] li, ri, rp;
+	private double[][] lv;
+	private double[] ld;
+	private boolean[] dep;
+	private SparseColumns cols;
+
+	/**
+	 * Creates a new {@code SparseCholesky}.
+	 *
+	 * @param a  the constraint columns
+	 * @param m  a row count
+	 */
+	public SparseCholesky(SparseColumns a, int m)
+	{
+		this.m = m;
+		cols = a;
+
+		transpose();
+		order();
+	}
+
+
+	/**
+	 * Factorizes the normal matrix in the {@code SparseCholesky}.
+	 *
+	 * @param d  a diagonal weight
+	 */
+	public void factor(double[] d)
+	{
+		dep = new boolean[m];
+		double[] w = new double[m];
+		// For each column of the factor...
+		for(int k = 0; k < m; k++)
+		{
+			int r = perm[k];
+			// ...scatter the lower normal column...
+			for(int p = 0; p < acols[r].length; p++)
+			{
+				int j = acols[r][p];
+				double f = d[j] * avals[r][p];
+				if(f == 0d) continue;
+
+				int[] rj = cols.rows[j];
+				double[] vj = cols.vals[j];
+				for(int q = 0; q < rj.length; q++)
+				{
+					int i = inv[rj[q]];
+					if(k <= i)
+					{
+						w[i] += f * vj[q];
+					}
+				}
+			}
+
+			double diag = w[k];
+			// ...apply the previous columns...
+			for(int p = 0; p < ri[k].length; p++)
+			{
+				int j = ri[k][p];
+				int s = rp[k][p];
+				double ljk = lv[j][s];
+
+				w[k] -= ljk * ljk;
+				for(int q = s + 1; q < li[j].length; q++)
+				{
+					w[li[j][q]] -= lv[j][q] * ljk;
+				}
+			}
+
+			// ...and divide by the pivot.
+			double v = w[k];
+			dep[r] = v <= DEF_PIVOT * diag;
+			if(dep[r])
+			{
+				v = DEF_HUGE;
+			}
+
+			ld[k] = Doubles.sqrt(v);
+			w[k] = 0d;
+			for(int q = 0; q < li[k].length; q++)
+			{
+				int i = li[k][q];
+				lv[k][q] = w[i] / ld[k];
+				w[i] = 0d;
+			}
+		}
+	}
+
+	/**
+	 * Checks if a row is dependent in the {@code SparseCholesky}.
+	 * This is determined by the last factorization.
+	 *
+	 * @param r  a row index
+	 * @return   {@code true} if the row is dependent
+	 */
+	public boolean isDependent(int r)
+	{
+		return dep[r];
+	}
+
+	/**
+	 * Solves the normal equations in the {@code SparseCholesky}.
+	 *
+	 * @param b  a right-hand side
+	 * @return   a solution vector
+	 */
+	public double[] solve(double[] b)
+	{
+		double[] z = new double[m];
+		for(int k = 0; k < m; k++)
+		{
+			z[k] = b[perm[k]];
+		}
+
+		// Solve L y = b...
+		for(int k = 0; k < m; k++)
+		{
+			z[k] /= ld[k];
+			for(int q = 0; q < li[k].length; q++)
+			{
+				z[li[k][q]] -= lv[k][q] * z[k];
+			}
+		}
+
+		// ...and L* x = y.
+		for(int k = m - 1; k >= 0; k--)
+		{
+			double v = z[k];
+			for(int q = 0; q < li[k].length; q++)
+			{
+				v -= lv[k][q] * z[li[k][q]];
+			}
+
+			z[k] = v / ld[k];
+		}
+
+		double[] x = new double[m];
+		for(int k = 0; k < m; k++)
+		{
+			x[perm[k]] = z[k];
+		}
+
+		return x;
+	}
+
+
+	void transpose()
+	{
+		int n = cols.Columns();
+		int[] size = new int[m];
+		for(int c = 0; c < n; c++)
+		{
+			for(int r : cols.rows[c])
+			{
+				size[r]++;
+			}
+		}
+
+		acols = new int[m][];
+		avals = new double[m][];
+		for(int r = 0; r < m; r++)
+		{
+			acols[r] = new int[size[r]];
+			avals[r] = new double[size[r]];
+			size[r] = 0;
+		}
+
+		// Store the constraint matrix by rows.
+		for(int c = 0; c < n; c++)
+		{
+			for(int k = 0; k < cols.rows[c].length; k++)
+			{
+				int r = cols.rows[c][k];
+				acols[r][size[r]] = c;
+				avals[r][size[r]] = cols.vals[c][k];
+				size[r]++;
+			}
+		}
+
+		arows = cols.rows;
+	}
+
+	void order()
+	{
+		int[] mark = new int[m];
+		int[] len = new int[m];
+		int[][] adj = new int[m][];
+		// Build the graph of the normal matrix.
+		for(int r = 0; r < m; r++)
+		{
+			int stamp = r + 1;
+			mark[r] = stamp;
+
+			int[] nb = new int[4];
+			for(int c : acols[r])
+			{
+				for(int s : arows[c])
+				{
+					if(mark[s] != stamp)
+					{
+						mark[s] = stamp;
+						if(len[r] == nb.length)
+							nb = Arrays.copyOf(nb, 2 * len[r]);
+						nb[len[r]++] = s;
+					}
+				}
+			}
+
+			adj[r] = nb;
+		}
+
+
+		perm = new int[m];
+		inv = new int[m];
+		boolean[] done = new boolean[m];
+		int[][] pattern = new int[m][];
+		Arrays.fill(mark, 0);
+
+		int stamp = 0;
+		// For each elimination step...
+		for(int k = 0; k < m; k++)
+		{
+			// ...find the row of minimum degree...
+			int v = -1;
+			for(int r = 0; r < m; r++)
+			{
+				if(!done[r] && (v < 0 || len[r] < len[v]))
+				{
+					v = r;
+				}
+			}
+
+			perm[k] = v;
+			inv[v] = k;
+			done[v] = true;
+
+			// ...whose neighbors form the factor column...
+			int[] nb = Arrays.copyOf(adj[v], len[v]);
+			pattern[v] = nb;
+			adj[v] = null;
+
+			// ...and become a clique.
+			for(int u : nb)
+			{
+				stamp++;
+				int cnt = 0;
+				int[] au = adj[u];
+				for(int p = 0; p < len[u]; p++)
+				{
+					int s = au[p];
+					if(!done[s] && mark[s] != stamp)
+					{
+						mark[s] = stamp;
+						au[cnt++] = s;
+					}
+				}
+
+				for(int s : nb)
+				{
+					if(s != u && mark[s] != stamp)
+					{
+						mark[s] = stamp;
+						if(cnt == au.length)
+							au = Arrays.copyOf(au, 2 * cnt + 1);
+						au[cnt++] = s;
+					}
+				}
+
+				adj[u] = au;
+				len[u] = cnt;
+			}
+		}
+
+
+		li = new int[m][];
+		lv = new double[m][];
+		ld = new double[m];
+		int[] size = new int[m];
+		// Store the factor pattern by column...
+		for(int k = 0; k < m; k++)
+		{
+			int[] p = pattern[perm[k]];
+			li[k] = new int[p.length];
+			lv[k] = new double[p.length];
+			for(int q = 0; q < p.length; q++)
+			{
+				li[k][q] = inv[p[q]];
+				size[li[k][q]]++;
+			}
+
+			Arrays.sort(li[k]);
+		}
+
+		ri = new int[m][];
+		rp = new int[m][];
+		for(int k = 0; k < m; k++)
+		{
+			ri[k] = new int[size[k]];
+			rp[k] = new int[size[k]];
+			size[k] = 0;
+		}
+
+		// ...and by row.
+		for(int j = 0; j < m; j++)
+		{
+			for(int q = 0; q < li[j].length; q++)
+			{
+				int k = li[j][q];
+				ri[k][size[k]] = j;
+				rp[k][size[k]] = q;
+				size[k]++;
+			}
+		}
+	}
+}
\ No newline at end of file
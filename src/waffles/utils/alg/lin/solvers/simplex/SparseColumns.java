@@ -0,0 +1,276 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import java.util.Arrays;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+
+/**
+ * The {@code SparseColumns} class stores the nonzero elements of a matrix column by column.
+ * The simplex algorithm prices and transforms single columns of its constraint matrix,
+ * which then costs time proportional to the amount of nonzeros in each column.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ */
+class SparseColumns
+{
+	int[][] rows;
+	double[][] vals;
+
+	/**
+	 * Creates a new {@code SparseColumns}.
+	 *
+	 * @param m   a base matrix
+	 * @param c1  a column count
+	 *
+	 *
+	 * @see Matrix
+	 */
+	public SparseColumns(Matrix m, int c1)
+	{
+		this(c1);
+
+		int[] size = new int[c1];
+		// Count the nonzeros in each column.
+		for(int[] crd : m.Data().NZKeys())
+		{
+			if(crd[1] < c1 && m.get(crd[0], crd[1]) != 0f)
+			{
+				size[crd[1]]++;
+			}
+		}
+
+		for(int c = 0; c < c1; c++)
+		{
+			rows[c] = new int[size[c]];
+			vals[c] = new double[size[c]];
+			size[c] = 0;
+		}
+
+		// Fill in the nonzeros of each column.
+		for(int[] crd : m.Data().NZKeys())
+		{
+			int r = crd[0];
+			int c = crd[1];
+			if(c1 <= c) continue;
+
+			float v = m.get(r, c);
+			if(v != 0f)
+			{
+				rows[c][size[c]] = r;
+				vals[c][size[c]] = v;
+				size[c]++;
+			}
+		}
+	}
+
+	/**
+	 * Creates a new {@code SparseColumns}.
+	 * The nonzeros are given as triplets of a row, a column and a value,
+	 * and duplicate coordinates are summed together.
+	 *
+	 * @param r   the triplet rows
+	 * @param c   the triplet columns
+	 * @param v   the triplet values
+	 * @param r1  a row count
+	 * @param c1  a column count
+	 */
+	public SparseColumns(int[] r, int[] c, float[] v, int r1, int c1)
+	{
+		this(c1);
+
+		int[] size = new int[c1];
+		for(int k = 0; k < c.length; k++)
+		{
+			size[c[k]]++;
+		}
+
+		for(int j = 0; j < c1; j++)
+		{
+			rows[j] = new int[size[j]];
+			vals[j] = new double[size[j]];
+			size[j] = 0;
+		}
+
+		// Fill in the triplets of each column.
+		for(int k = 0; k < c.length; k++)
+		{
+			int j = c[k];
+			rows[j][size[j]] = r[k];
+			vals[j][size[j]] = v[k];
+			size[j]++;
+		}
+
+		int[] at = new int[r1];
+		Arrays.fill(at, -1);
+		// For each column in the matrix...
+		for(int j = 0; j < c1; j++)
+		{
+			int len = 0;
+			int[] rj = rows[j];
+			double[] vj = vals[j];
+			// ...sum the duplicate coordinates...
+			for(int k = 0; k < rj.length; k++)
+			{
+				int i = rj[k];
+				if(0 <= at[i])
+				{
+					vj[at[i]] += vj[k];
+					continue;
+				}
+
+				at[i] = len;
+				rj[len] = i;
+				vj[len] = vj[k];
+				len++;
+			}
+
+			// ...and drop the zeros.
+			int nnz = 0;
+			for(int k = 0; k < len; k++)
+			{
+				at[rj[k]] = -1;
+				if(vj[k] != 0d)
+				{
+					rj[nnz] = rj[k];
+					vj[nnz] = vj[k];
+					nnz++;
+				}
+			}
+
+			rows[j] = Arrays.copyOf(rj, nnz);
+			vals[j] = Arrays.copyOf(vj, nnz);
+		}
+	}
+
+	/**
+	 * Creates a new {@code SparseColumns}.
+	 *
+	 * @param c  a column count
+	 */
+	public SparseColumns(int c)
+	{
+		rows = new int[c][];
+		vals = new double[c][];
+	}
+
+
+	/**
+	 * Appends a row to the {@code SparseColumns}.
+	 *
+	 * @param r  a row index
+	 * @param a  a dense row
+	 */
+	public void addRow(int r, double[] a)
+	{
+		for(int c = 0; c < a.length; c++)
+		{
+			if(a[c] != 0d)
+			{
+				int len = rows[c].length;
+				rows[c] = Arrays.copyOf(rows[c], len + 1);
+				vals[c] = Arrays.copyOf(vals[c], len + 1);
+				rows[c][len] = r;
+				vals[c][len] = a[c];
+			}
+		}
+	}
+
+	/**
+	 * Removes a row from the {@code SparseColumns}.
+	 * The indices of all subsequent rows are lowered by one.
+	 *
+	 * @param r  a row index
+	 */
+	public void removeRow(int r)
+	{
+		// For each column in the matrix...
+		for(int c = 0; c < rows.length; c++)
+		{
+			int len = 0;
+			int[] rc = rows[c];
+			double[] vc = vals[c];
+			// ...skip the removed row...
+			for(int k = 0; k < rc.length; k++)
+			{
+				if(rc[k] != r)
+				{
+					// ...and shift the subsequent rows.
+					rc[len] = rc[k] < r ? rc[k] : rc[k] - 1;
+					vc[len] = vc[k];
+					len++;
+				}
+			}
+
+			if(len < rc.length)
+			{
+				rows[c] = Arrays.copyOf(rc, len);
+				vals[c] = Arrays.copyOf(vc, len);
+			}
+		}
+	}
+
+	/**
+	 * Appends a column to the {@code SparseColumns}.
+	 *
+	 * @param r  the column rows
+	 * @param v  the column values
+	 * @return   a column index
+	 */
+	public int addColumn(int[] r, double[] v)
+	{
+		int c = rows.length;
+		rows = Arrays.copyOf(rows, c + 1);
+		vals = Arrays.copyOf(vals, c + 1);
+		rows[c] = r;
+		vals[c] = v;
+		return c;
+	}
+
+	/**
+	 * Removes a column from the {@code SparseColumns}.
+	 * The indices of all subsequent columns are lowered by one.
+	 *
+	 * @param c  a column index
+	 */
+	public void removeColumn(int c)
+	{
+		int len = rows.length;
+		System.arraycopy(rows, c+1, rows, c, len-c-1);
+		System.arraycopy(vals, c+1, vals, c, len-c-1);
+		rows = Arrays.copyOf(rows, len - 1);
+		vals = Arrays.copyOf(vals, len - 1);
+	}
+
+
+	/**
+	 * Computes the dot product of a column with a dense vector.
+	 *
+	 * @param c  a column index
+	 * @param y  a dense vector
+	 * @return   a dot product
+	 */
+	public double dot(int c, double[] y)
+	{
+		double v = 0d;
+		int[] rc = rows[c];
+		double[] vc = vals[c];
+		for(int k = 0; k < rc.length; k++)
+		{
+			v += vc[k] * y[rc[k]];
+		}
+
+		return v;
+	}
+
+	/**
+	 * Returns the column count of the {@code SparseColumns}.
+	 *
+	 * @return  a column count
+	 */
+	public int Columns()
+	{
+		return rows.length;
+	}
+}
\ No newline at end of file
@@ -2,17 +2,23 @@ package waffles.utils.alg.poly.solvers;
 
 import java.util.Iterator;
 
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.upper.UpperHessenberg;
 import waffles.utils.alg.lin.measure.vector.complex.Complex;
+import waffles.utils.alg.lin.solvers.matrix.eigen.types.ESSchur;
 import waffles.utils.alg.poly.Polynomial;
 import waffles.utils.alg.poly.PolynomialSolver;
 import waffles.utils.alg.utilities.Algorithmic;
 import waffles.utils.sets.queues.Queue;
 import waffles.utils.sets.queues.wrapper.FIFOQueue;
-import waffles.utils.tools.primitives.Array;
 import waffles.utils.tools.primitives.Doubles;
 
 /**
  * A {@code RootFinder} iterates over all roots in a {@code Polynomial}.
+ * Roots of higher degree polynomials are computed as the eigenvalues
+ * of their companion matrix, and refined with {@code Newton} steps.
  *
  * @author Waffles
  * @since 27 Aug 2023
@@ -103,67 +109,101 @@ public class RootFinder implements PolynomialSolver, Iterator<Complex>
 	void findHigher(Polynomial p)
 	{
 		int deg = p.Degree();
-		double err = Hints().Error();
+		int lMax = Hints().MaxLoops();
+		double lead = p.get(deg);
 		
-		double[] bArr = new double[deg + 1];
-		double[] fArr = new double[deg + 1];
+		// Create the companion matrix.
+		Matrix c = Matrices.create(deg, deg);
+		for(int k = 0; k < deg; k++)
+		{
+			c.set((float) (-p.get(deg-k-1) / lead), 0, k);
+			if(k > 0)
+			{
+				c.set(1f, k, k-1);
+			}
+		}
 		
+		c.setOperator(UpperHessenberg.Type());
 		
-		double uErr = 1;
-		double vErr = 1;
+		// Compute its eigenvalues.
+		ESSchur es = new ESSchur(new ESSchur.Hints()
+		{
+			@Override
+			public LinearOperator Operator()
+			{
+				return c;
+			}
+			
+			@Override
+			public boolean Vectors()
+			{
+				return false;
+			}
+			
+			@Override
+			public int MaxLoops()
+			{
+				return lMax;
+			}
+		});
 		
-		// Initial guesses for u and v.
-		double u = p.get(deg-1) / p.get(deg);
-		double v = p.get(deg-2) / p.get(deg);
+		// If the iteration fails...
+		Complex[] vals = es.Values();
+		if(vals == null)
+		{
+			// ...no roots are found.
+			poly = new Polynomial(0d);
+			return;
+		}
 		
-		if(u == 0) u = 1;
-		if(v == 0) v = 1;
+		for(Complex r : vals)
+		{
+			next.push(polish(p, r));
+		}
 		
+		poly = new Polynomial(0d);
+	}
+	
+	Complex polish(Polynomial p, Complex r)
+	{
+		int deg = p.Degree();
+		double x = r.X(), bx = x;
+		double y = r.Y(), by = y;
+		double best = Double.POSITIVE_INFINITY;
 		
-		for(int i = 0; i < Hints().MaxLoops(); i++)
+		// Refine the root with Newton steps.
+		for(int i = 0; i < 4; i++)
 		{
-			// Inaccurate quotients.
-			for(int d = deg - 2; d >= 0; d--)
+			double fr = 0, fi = 0;
+			double dr = 0, di = 0;
+			for(int d = deg; d >= 0; d--)
 			{
-				bArr[d] = p.get(d+2) - u * bArr[d+1] - v * bArr[d+2];
-				fArr[d] =  bArr[d+2] - u * fArr[d+1] - v * fArr[d+2];
+				double t = dr * x - di * y + fr;
+				di = dr * y + di * x + fi;
+				dr = t;
+				
+				t = fr * x - fi * y + p.get(d);
+				fi = fr * y + fi * x;
+				fr = t;
 			}
 			
+			// Stop once the residual no longer decreases.
+			double res = fr * fr + fi * fi;
+			if(best <= res)
+				break;
 			
-			// Inaccurate first remainder.
-			double c = p.get(1) - u * bArr[0] - v * bArr[1];
-			double d = p.get(0) - v * bArr[0];
-			
-			// Inaccurate second remainder.
-			double g = bArr[1] - u * fArr[0] - v * fArr[1];
-			double h = bArr[0] - v * fArr[0];
-			
-			
-			// Calculate new error values.
-			double dnom = h * h - h * g * u + g * g * v;
-			double vnum = d * h - d * g * u + c * g * v;
-			double unum = c * h - d * g;
-			
-			uErr = unum / dnom;
-			vErr = vnum / dnom;
-			
-			// Compute new divisor.
-			u += uErr;
-			v += vErr;
-
+			best = res;
+			bx = x; by = y;
 			
-			// Check last error margin.
-			if(Doubles.abs(uErr) < err
-			&& Doubles.abs(vErr) < err)
-			{
+			double m = dr * dr + di * di;
+			if(m == 0)
 				break;
-			}
+			
+			x -= (fr * dr + fi * di) / m;
+			y -= (fi * dr - fr * di) / m;
 		}
-
 		
-		poly = new Polynomial(Array.reverse.of(bArr));
-		Polynomial q = new Polynomial(1, u, v);
-		findQuadratic(q);
+		return new Complex((float) bx, (float) by);
 	}
 	
 	void findQuadratic(Polynomial p)
@@ -4,10 +4,12 @@ import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.matrix.types.orthogonal.Orthogonal;
 import waffles.utils.alg.lin.measure.vector.fixed.Vector2;
+import waffles.utils.tools.primitives.Doubles;
 import waffles.utils.tools.primitives.Floats;
 
 /**
- * The {@code Givens} class generates Givens rotation matrices.
+ * The {@code Givens} class generates Givens rotation matrices,
+ * and applies rotations to triangular factors in place.
  *
  * @author Waffles
  * @since 26 Aug 2023
@@ -77,6 +79,130 @@ public class Givens
 		return gl;
 	}
 	
+	/**
+	 * Rotates two rows of a triangular factor.
+	 * The rotation turns the k-th element of the
+	 * second row to zero, and leaves the diagonal
+	 * element of the first row positive.
+	 * 
+	 * @param x  a first row
+	 * @param y  a second row
+	 * @param k  a column to eliminate
+	 */
+	public static void rotate(double[] x, double[] y, int k)
+	{
+		double h = Doubles.sqrt(x[k] * x[k] + y[k] * y[k]);
+		if(h == 0d) return;
+
+		double cs = x[k] / h;
+		double sn = y[k] / h;
+		for(int c = k; c < x.length; c++)
+		{
+			double t = cs * x[c] + sn * y[c];
+			y[c] = cs * y[c] - sn * x[c];
+			x[c] = t;
+		}
+		
+		y[k] = 0d;
+	}
+	
+	/**
+	 * Performs a rank-1 update on a triangular factor.
+	 * The upper triangular factor {@code R} is rotated in
+	 * place, such that it becomes the factor of {@code R*R + xx*}.
+	 * The update vector is overwritten in the process.
+	 * 
+	 * @param r  an upper triangular factor
+	 * @param x  an update vector
+	 */
+	public static void update(double[][] r, double[] x)
+	{
+		// For each row of the triangular factor...
+		for(int k = 0; k < r.length; k++)
+		{
+			// ...rotate the update vector into it.
+			if(x[k] != 0d)
+			{
+				rotate(r[k], x, k);
+			}
+		}
+	}
+	
+	/**
+	 * Performs a rank-1 downdate on a triangular factor.
+	 * The upper triangular factor {@code R} is rotated in
+	 * place, such that it becomes the factor of {@code R*R - xx*}.
+	 * If the result would not be positive definite,
+	 * the factor is left unchanged.
+	 * 
+	 * @param r    an upper triangular factor
+	 * @param x    a downdate vector
+	 * @param err  an error margin
+	 * @return     {@code true} if the downdate succeeded
+	 */
+	public static boolean downdate(double[][] r, double[] x, double err)
+	{
+		int l = r.length;
+		double[] p = x.clone();
+		// Solve R*p = x.
+		for(int k = 0; k < l; k++)
+		{
+			for(int j = 0; j < k; j++)
+			{
+				p[k] -= r[j][k] * p[j];
+			}
+
+			if(r[k][k] == 0d)
+				return false;
+			p[k] /= r[k][k];
+		}
+
+		// If the vector carries all remaining weight...
+		double rho = 1d;
+		for(int k = 0; k < l; k++)
+		{
+			rho -= p[k] * p[k];
+		}
+		
+		if(rho <= err)
+		{
+			// ...the factor would lose definiteness.
+			return false;
+		}
+
+		// Rotate the weight out of the factor.
+		double[] y = new double[l];
+		double s = Doubles.sqrt(rho);
+		for(int k = l-1; k >= 0; k--)
+		{
+			double h = Doubles.sqrt(s * s + p[k] * p[k]);
+			double cs = s / h;
+			double sn = p[k] / h;
+			s = h;
+
+			for(int c = k; c < l; c++)
+			{
+				double t = cs * r[k][c] - sn * y[c];
+				y[c] = sn * r[k][c] + cs * y[c];
+				r[k][c] = t;
+			}
+		}
+
+		// Keep the diagonal positive.
+		for(int k = 0; k < l; k++)
+		{
+			if(r[k][k] < 0d)
+			{
+				for(int c = k; c < l; c++)
+				{
+					r[k][c] = -r[k][c];
+				}
+			}
+		}
+
+		return true;
+	}
+	
 	/**
 	 * Creates a {@code Vector2} with trig values.
 	 * 
@@ -3,9 +3,11 @@ package waffles.utils.alg.utilities.matrix;
 import waffles.utils.alg.lin.measure.matrix.Matrices;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.tools.primitives.Doubles;
 
 /**
- * The {@code Householder} class generates Householder reflection matrices.
+ * The {@code Householder} class generates Householder reflection matrices,
+ * and applies reflections to square matrices in place.
  *
  * @author Waffles
  * @since 26 Aug 2023
@@ -35,6 +37,110 @@ public class Householder
 		return Matrices.reflection(x);
 	}
 	
+	/**
+	 * Reflects a square matrix in place with a similarity transform.
+	 * The reflection projects the k-th column of the matrix to zero
+	 * below its subdiagonal, and is accumulated into the columns
+	 * of an orthogonal matrix. Each reflection is applied as a
+	 * rank-1 update in {@code O(n^2)} operations.
+	 * 
+	 * @param h    a square matrix
+	 * @param u    an orthogonal matrix
+	 * @param k    a column to reflect
+	 * @param err  an error margin
+	 * @return     {@code true} if the reflection was feasible
+	 */
+	public static boolean reflect(double[][] h, double[][] u, int k, double err)
+	{
+		return reflect(h, u, k, h.length - 1, err);
+	}
+	
+	/**
+	 * Reflects a square matrix in place with a similarity transform.
+	 * The reflection projects the k-th column of the matrix to zero
+	 * between its subdiagonal and the last row {@code hi}, which
+	 * allows a diagonal block to be reduced on its own.
+	 * The orthogonal matrix is skipped if it is {@code null}.
+	 * 
+	 * @param h    a square matrix
+	 * @param u    an orthogonal matrix
+	 * @param k    a column to reflect
+	 * @param hi   a last row to reflect
+	 * @param err  an error margin
+	 * @return     {@code true} if the reflection was feasible
+	 */
+	public static boolean reflect(double[][] h, double[][] u, int k, int hi, double err)
+	{
+		int n = h.length;
+		double norm = 0d;
+		double[] v = new double[n];
+		for(int i = k + 1; i <= hi; i++)
+		{
+			v[i] = h[i][k];
+			norm += v[i] * v[i];
+		}
+		
+		// If the reflection is not feasible...
+		if(norm <= err)
+		{
+			// ...leave the matrix unchanged.
+			return false;
+		}
+		
+		double iErr = v[k+1] < 0d ? -1d : 1d;
+		v[k+1] += iErr * Doubles.sqrt(norm);
+		
+		double vv = 0d;
+		for(int i = k + 1; i <= hi; i++)
+		{
+			vv += v[i] * v[i];
+		}
+		
+		double f = 2d / vv;
+		// Reflect the rows of the matrix...
+		for(int c = k; c < n; c++)
+		{
+			double s = 0d;
+			for(int i = k + 1; i <= hi; i++)
+			{
+				s += v[i] * h[i][c];
+			}
+			
+			s *= f;
+			for(int i = k + 1; i <= hi; i++)
+			{
+				h[i][c] -= s * v[i];
+			}
+		}
+		
+		// ...and the columns of both matrices.
+		for(int r = 0; r < n; r++)
+		{
+			reflect(h[r], v, f, k + 1, hi);
+			if(u != null)
+			{
+				reflect(u[r], v, f, k + 1, hi);
+			}
+		}
+		
+		return true;
+	}
+	
+	static void reflect(double[] x, double[] v, double f, int k, int hi)
+	{
+		double s = 0d;
+		for(int i = k; i <= hi; i++)
+		{
+			s += x[i] * v[i];
+		}
+		
+		s *= f;
+		for(int i = k; i <= hi; i++)
+		{
+			x[i] -= s * v[i];
+		}
+	}
+	
 	
 	private Householder()
 	{
@@ -1,5 +1,6 @@
 package waffles.utils.alg.utilities.matrix;
 
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
 import waffles.utils.alg.lin.measure.matrix.Matrix;
 import waffles.utils.alg.lin.measure.vector.Vector;
 
@@ -29,6 +30,23 @@ public final class Rayleigh
 		return v.dot(m.times(v)) / v.normSqr();
 	}
 	
+	/**
+	 * Computes a Rayleigh coefficient for a {@code LinearOperator}.
+	 * This defines the best approximation of an eigenvalue.
+	 * 
+	 * @param a  a linear operator
+	 * @param v  an eigen vector
+	 * @return   an eigen value
+	 * 
+	 * 
+	 * @see LinearOperator
+	 * @see Vector
+	 */
+	public static float coefficient(LinearOperator a, Vector v)
+	{
+		return v.dot(a.apply(v)) / v.normSqr();
+	}
+	
 	
 	private Rayleigh()
 	{
@@ -0,0 +1,152 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.complex.Complex;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+
+/**
+ * The {@code ESArnoldiTest} checks the {@code ESArnoldi} eigenvalues and residuals
+ * on a reflected quasi-triangular matrix with a complex conjugate pair.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ESArnoldi
+ */
+public class ESArnoldiTest
+{
+	private static final int SIZE = 120;
+	private static final int COUNT = 6;
+	private static final double ERROR = 1e-3;
+	
+	// The wanted values, ordered by magnitude.
+	private static final Complex[] VALUES =
+	{
+		new Complex(10f, 0f),
+		new Complex(9f, 0f),
+		new Complex(8f, 0f),
+		new Complex(7f, 2f),
+		new Complex(7f, -2f),
+		new Complex(6f, 0f)
+	};
+	
+	
+	static Matrix quasiTriangular(int n)
+	{
+		Matrix t = Matrices.create(n, n);
+		for(int r = 0; r < n; r++)
+		{
+			// The unwanted values lie in [1, 2).
+			t.set(1f + r / (float) n, r, r);
+			for(int c = r + 1; c < n; c++)
+			{
+				t.set(0.1f, r, c);
+			}
+		}
+		
+		t.set(10f, 0, 0);
+		t.set(9f, 1, 1);
+		t.set(8f, 2, 2);
+		// The block [7 2; -2 7] has values 7 +/- 2i.
+		t.set(7f, 3, 3);
+		t.set(7f, 4, 4);
+		t.set(-2f, 4, 3);
+		t.set(2f, 3, 4);
+		t.set(6f, 5, 5);
+		
+		return t;
+	}
+	
+	static Matrix reflected(int n)
+	{
+		// Reflect by I - 2uu' / u'u with u = (1, 2, ..., n),
+		// which is its own inverse.
+		double uu = 0d;
+		for(int k = 1; k <= n; k++)
+		{
+			uu += k * k;
+		}
+		
+		Matrix h = Matrices.identity(n);
+		for(int r = 0; r < n; r++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				double v = -2d * (r + 1) * (c + 1) / uu;
+				h.set(h.get(r, c) + (float) v, r, c);
+			}
+		}
+		
+		return h.times(quasiTriangular(n)).times(h);
+	}
+	
+	static void assertValues(Matrix a, ESArnoldi es)
+	{
+		Complex[] vals = es.Values();
+		assertEquals(COUNT, vals.length);
+		for(int i = 0; i < COUNT; i++)
+		{
+			Complex d = vals[i].minus(VALUES[i]);
+			assertTrue(d.norm() < ERROR);
+		}
+		
+		// The complex pair has no real vectors.
+		EigenPair[] pairs = es.Pairs();
+		assertEquals(COUNT - 2, pairs.length);
+		for(EigenPair p : pairs)
+		{
+			Vector v = p.Key();
+			Vector r = a.times(v).minus(v.times(p.Value()));
+			assertTrue(r.norm() < ERROR * v.norm());
+		}
+	}
+	
+	
+	@Test
+	public void findsLargestValues()
+	{
+		Matrix a = reflected(SIZE);
+		ESArnoldi es = new ESArnoldi(a, COUNT);
+		assertValues(a, es);
+	}
+	
+	@Test
+	public void restartsSmallBasis()
+	{
+		Matrix a = reflected(SIZE);
+		ESArnoldi es = new ESArnoldi(new ESArnoldi.Hints()
+		{
+			@Override
+			public LinearOperator Operator()
+			{
+				return a;
+			}
+			
+			@Override
+			public int Count()
+			{
+				return COUNT;
+			}
+			
+			@Override
+			public int Basis()
+			{
+				// Hold fewer than twice the wanted values.
+				return COUNT + 4;
+			}
+		});
+		
+		assertValues(a, es);
+		assertTrue(es.Loops() > 1);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.LinearOperator;
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+
+/**
+ * The {@code ESLanczosTest} checks the residuals of the {@code ESLanczos} eigenpairs
+ * on a reflected diagonal matrix, with and without a restarted basis.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ESLanczos
+ */
+public class ESLanczosTest
+{
+	private static final int SIZE = 120;
+	private static final int COUNT = 8;
+	private static final double ERROR = 1e-4;
+	
+	
+	static Matrix reflected(int n)
+	{
+		// Reflect diag(1, ..., n) by I - 2uu' / u'u,
+		// with the reflection vector u = (1, 2, ..., n).
+		double uu = 0d, s = 0d;
+		for(int k = 1; k <= n; k++)
+		{
+			uu += k * k;
+			s += k * k * k;
+		}
+		
+		Matrix a = Matrices.create(n, n);
+		for(int r = 0; r < n; r++)
+		{
+			for(int c = 0; c < n; c++)
+			{
+				double ur = r + 1, uc = c + 1;
+				double v = -2d * ur * uc * (ur + uc) / uu;
+				v += 4d * ur * uc * s / (uu * uu);
+				if(r == c) v += r + 1;
+				a.set((float) v, r, c);
+			}
+		}
+		
+		return a;
+	}
+	
+	static void assertPairs(Matrix a, EigenPair[] pairs, int k)
+	{
+		assertEquals(COUNT, pairs.length);
+		for(int i = 0; i < COUNT; i++)
+		{
+			EigenPair p = pairs[i];
+			Vector v = p.Key();
+			Vector r = a.times(v).minus(v.times(p.Value()));
+			
+			assertEquals(k - i, p.Value(), ERROR * k);
+			assertTrue(r.norm() < ERROR * k * v.norm());
+		}
+	}
+	
+	
+	@Test
+	public void findsLargestPairs()
+	{
+		Matrix a = reflected(SIZE);
+		ESLanczos es = new ESLanczos(a, COUNT);
+		assertPairs(a, es.Pairs(), SIZE);
+	}
+	
+	@Test
+	public void restartsSmallBasis()
+	{
+		Matrix a = reflected(SIZE);
+		ESLanczos es = new ESLanczos(new ESLanczos.Hints()
+		{
+			@Override
+			public LinearOperator Operator()
+			{
+				return a;
+			}
+			
+			@Override
+			public int Count()
+			{
+				return COUNT;
+			}
+			
+			@Override
+			public int Basis()
+			{
+				// Hold fewer than twice the wanted pairs.
+				return COUNT + 4;
+			}
+		});
+		
+		assertPairs(a, es.Pairs(), SIZE);
+		assertTrue(es.Loops() > 1);
+	}
+}
\ No newline at end of file
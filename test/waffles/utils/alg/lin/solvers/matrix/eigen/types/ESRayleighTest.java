@@ -0,0 +1,80 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.eigen.EigenPair;
+
+/**
+ * The {@code ESRayleighTest} checks the eigenpairs of the {@code ESRayleigh}
+ * on a small symmetric matrix with a known spectrum.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ESRayleigh
+ */
+public class ESRayleighTest
+{
+	private static final int SIZE = 8;
+	private static final double ERROR = 1e-4;
+	
+	
+	@Test
+	public void refinesReflectedPairs()
+	{
+		// Reflect diag(1, ..., n) by I - 2uu' / u'u.
+		Matrix a = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				double v = 0d;
+				for(int k = 0; k < SIZE; k++)
+				{
+					v += (k + 1) * ESSymmetricTest.reflect(r, k) * ESSymmetricTest.reflect(k, c);
+				}
+				
+				a.set((float) v, r, c);
+			}
+		}
+		
+		int[] reads = new int[1];
+		ESRayleigh es = new ESRayleigh(() ->
+		{
+			reads[0]++;
+			return a.copy();
+		});
+		
+		int first = 0;
+		for(int k = 2; k < 5; k++)
+		{
+			// Perturb the reflected unit vector e_k.
+			Vector v = Vectors.create(SIZE);
+			for(int r = 0; r < SIZE; r++)
+			{
+				double p = r == k ? 0.1d : 0.01d;
+				v.set((float) (ESSymmetricTest.reflect(r, k) + p), r);
+			}
+			
+			EigenPair p = es.approx(new EigenPair(v, k + 1f));
+			Vector r = a.times(p.Key()).minus(p.Key().times(p.Value()));
+			assertEquals(k + 1d, p.Value(), ERROR);
+			assertTrue(r.norm() < ERROR);
+			
+			if(first == 0)
+				first = reads[0];
+		}
+		
+		// The hints are only read by the first pair.
+		assertEquals(first, reads[0]);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.complex.Complex;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code ESSchurTest} checks the real Schur form of the {@code ESSchur}
+ * against a reconstruction and the known eigenvalues of a block matrix.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ESSchur
+ */
+public class ESSchurTest
+{
+	private static final int SIZE = 8;
+	private static final double ERROR = 1e-5;
+	
+	
+	static boolean contains(Complex[] vals, double x, double y)
+	{
+		for(Complex c : vals)
+		{
+			if(Doubles.abs(c.X() - x) < ERROR && Doubles.abs(c.Y() - y) < ERROR)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	
+	@Test
+	public void reconstructsNonsymmetric()
+	{
+		Matrix a = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				a.set(((r * 7 + c * 3) % 11) / 11f - 0.5f, r, c);
+			}
+		}
+		
+		ESSchur es = new ESSchur(a);
+		Matrix t = es.T();
+		Matrix z = es.Z();
+		
+		Matrix o = z.transpose().times(z).minus(Matrices.identity(SIZE));
+		assertTrue(a.times(z).minus(z.times(t)).norm() < ERROR * a.norm());
+		assertTrue(o.norm() < ERROR);
+		
+		// T is quasi-triangular.
+		for(int r = 2; r < SIZE; r++)
+		{
+			for(int c = 0; c < r - 1; c++)
+			{
+				assertEquals(0d, t.get(r, c), ERROR);
+			}
+		}
+	}
+	
+	@Test
+	public void findsComplexPairs()
+	{
+		Matrix a = Matrices.create(4, 4);
+		a.set(-2f, 0, 1);
+		a.set(2f, 1, 0);
+		a.set(3f, 2, 2);
+		a.set(1f, 2, 3);
+		a.set(-1f, 3, 3);
+		
+		Complex[] vals = new ESSchur(a).Values();
+		assertEquals(4, vals.length);
+		assertTrue(contains(vals, 0d, 2d));
+		assertTrue(contains(vals, 0d, -2d));
+		assertTrue(contains(vals, 3d, 0d));
+		assertTrue(contains(vals, -1d, 0d));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package waffles.utils.alg.lin.solvers.matrix.eigen.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.shaped.square.Symmetric;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.tools.primitives.Doubles;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code ESSymmetricTest} checks the {@code ESSymmetric} decomposition
+ * against a reconstruction and the known spectrum of a reflected diagonal matrix.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see ESSymmetric
+ */
+public class ESSymmetricTest
+{
+	private static final int SIZE = 8;
+	private static final double ERROR = 1e-5;
+	
+	
+	static Matrix reconstruct(Matrix v, Vector l)
+	{
+		return v.times((Matrix) Matrices.diagonal(l)).times(v.transpose());
+	}
+	
+	static double reflect(int r, int c)
+	{
+		// The reflection vector is (1, 2, ..., n).
+		double uu = SIZE * (SIZE + 1) * (2 * SIZE + 1) / 6d;
+		double v = -2d * (r + 1) * (c + 1) / uu;
+		return r == c ? 1d + v : v;
+	}
+	
+	
+	@Test
+	public void reconstructsSymmetric()
+	{
+		Matrix a = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				float v = r == c ? r + 1f : 1f / (1 + Integers.abs(r - c));
+				a.set(v, r, c);
+			}
+		}
+		
+		a.setOperator(Symmetric.Type());
+		ESSymmetric es = new ESSymmetric(a);
+		Matrix v = es.Vectors();
+		
+		Matrix o = v.transpose().times(v).minus(Matrices.identity(SIZE));
+		assertTrue(reconstruct(v, es.Values()).minus(a).norm() < ERROR * a.norm());
+		assertTrue(o.norm() < ERROR);
+	}
+	
+	@Test
+	public void findsReflectedSpectrum()
+	{
+		// Reflect diag(1, ..., n) by I - 2uu' / u'u.
+		Matrix a = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				double v = 0d;
+				for(int k = 0; k < SIZE; k++)
+				{
+					v += reflect(r, k) * (k + 1) * reflect(k, c);
+				}
+				
+				a.set((float) v, r, c);
+			}
+		}
+		
+		a.setOperator(Symmetric.Type());
+		Vector l = new ESSymmetric(a).Values();
+		assertEquals(SIZE, l.Size());
+		for(int k = 1; k <= SIZE; k++)
+		{
+			boolean found = false;
+			for(int i = 0; i < SIZE; i++)
+			{
+				found |= Doubles.abs(l.get(i) - k) < ERROR * SIZE;
+			}
+			
+			assertTrue(found);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package waffles.utils.alg.lin.solvers.matrix.exact.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Banded;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.utilities.errors.TypeError;
+
+/**
+ * The {@code LUCholeskyTest} checks the {@code LUCholesky} factorization
+ * on small symmetric positive definite matrices, before and after rank-1 updates.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LUCholesky
+ */
+public class LUCholeskyTest
+{
+	private static final int SIZE = 10;
+	private static final double ERROR = 1e-5;
+	
+	
+	static Matrix pentadiagonal()
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			m.set(6f, i, i);
+			for(int k = 1; k <= 2 && k <= i; k++)
+			{
+				m.set(-1f, i, i - k);
+				m.set(-1f, i - k, i);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Vector vector(float s)
+	{
+		Vector v = Vectors.create(SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			v.set(s * (i % 3 - 1 + 0.5f), i);
+		}
+		
+		return v;
+	}
+	
+	static Matrix outer(Vector v)
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				m.set(v.get(r) * v.get(c), r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	static void matches(LUCholesky ch, Matrix a)
+	{
+		Matrix b = rhs();
+		Matrix x = ch.solve(b);
+		assertTrue(a.times(x).minus(b).norm() < ERROR * b.norm());
+		assertTrue(ch.L().times(ch.U()).minus(a).norm() < ERROR * a.norm());
+		
+		double cond = new LUCrout(a).condition();
+		assertEquals(cond, ch.condition(), ERROR * cond);
+	}
+	
+	static Matrix rhs()
+	{
+		Matrix b = Matrices.create(SIZE, 1);
+		for(int i = 0; i < SIZE; i++)
+		{
+			b.set(i + 1f, i, 0);
+		}
+		
+		return b;
+	}
+	
+	
+	@Test
+	public void solvesBanded()
+	{
+		Matrix a = pentadiagonal();
+		Matrix t = a.copy();
+		t.setOperator(Banded.Type(2, 2));
+		LUCholesky ch = new LUCholesky(t);
+		
+		Matrix b = rhs();
+		Matrix x = ch.solve(b);
+		assertEquals(LUCholesky.State.BANDED, ch.State());
+		assertTrue(a.times(x).minus(b).norm() < ERROR * b.norm());
+		assertTrue(ch.L().times(ch.U()).minus(a).norm() < ERROR * a.norm());
+	}
+	
+	@Test
+	public void updatesAndDowndates()
+	{
+		Matrix a = pentadiagonal();
+		LUCholesky ch = new LUCholesky(a);
+		
+		Vector v = vector(1f);
+		ch.update(v);
+		matches(ch, a.plus(outer(v)));
+		
+		ch.downdate(v);
+		matches(ch, a);
+	}
+	
+	@Test
+	public void rejectsIndefiniteDowndate()
+	{
+		Matrix a = pentadiagonal();
+		LUCholesky ch = new LUCholesky(a);
+		
+		Vector v = vector(4f);
+		assertThrows(TypeError.class, () -> ch.downdate(v));
+		// The factorization is left unchanged.
+		matches(ch, a);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,136 @@
+package waffles.utils.alg.lin.solvers.matrix.exact.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Banded;
+import waffles.utils.alg.lin.measure.matrix.types.banded.Tridiagonal;
+import waffles.utils.tools.primitives.Doubles;
+
+/**
+ * The {@code LUCroutTest} checks the residuals of the {@code LUCrout} factorization
+ * on tridiagonal and banded systems, with and without diagonal dominance.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LUCrout
+ */
+public class LUCroutTest
+{
+	private static final int SIZE = 8;
+	private static final double ERROR = 1e-5;
+	
+	
+	static Matrix tridiagonal(float first, float d, float l, float u)
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			m.set(i == 0 ? first : d, i, i);
+			if(i > 0)
+			{
+				m.set(l, i, i - 1);
+				m.set(u, i - 1, i);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Matrix pentadiagonal(float d)
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			m.set(d, i, i);
+			for(int k = 1; k <= 2 && k <= i; k++)
+			{
+				m.set(-1f, i, i - k);
+				m.set(2f / k, i - k, i);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Matrix rhs()
+	{
+		Matrix b = Matrices.create(SIZE, 1);
+		for(int i = 0; i < SIZE; i++)
+		{
+			b.set(i + 1f, i, 0);
+		}
+		
+		return b;
+	}
+	
+	static double residual(Matrix a, Matrix x, Matrix b)
+	{
+		return a.times(x).minus(b).norm() / b.norm();
+	}
+	
+	
+	@Test
+	public void thomasSolvesDominant()
+	{
+		Matrix a = tridiagonal(4f, 4f, -1f, -1.5f);
+		Matrix t = a.copy();
+		t.setOperator(Tridiagonal.Type());
+		
+		Matrix b = rhs();
+		LUCrout lu = new LUCrout(t);
+		assertTrue(residual(a, lu.solve(b), b) < ERROR);
+		assertTrue(lu.L().times(lu.U()).minus(a).norm() < ERROR * a.norm());
+		assertEquals(new LUCrout(a).determinant(), lu.determinant(), ERROR * Doubles.abs(lu.determinant()));
+	}
+	
+	@Test
+	public void pivotsNonDominant()
+	{
+		// A tiny leading pivot breaks the unpivoted Thomas algorithm.
+		Matrix a = tridiagonal(1e-6f, 1f, 2f, 3f);
+		Matrix t = a.copy();
+		t.setOperator(Tridiagonal.Type());
+		
+		Matrix b = rhs();
+		LUCrout lu = new LUCrout(t);
+		assertTrue(residual(a, lu.solve(b), b) < ERROR);
+	}
+	
+	@Test
+	public void factorsWithinBand()
+	{
+		Matrix a = pentadiagonal(8f);
+		Matrix t = a.copy();
+		t.setOperator(Banded.Type(2, 2));
+		
+		Matrix b = rhs();
+		LUCrout lu = new LUCrout(t);
+		assertEquals(LUCrout.State.BANDED, lu.State());
+		assertEquals(2, lu.LowerBand());
+		assertEquals(2, lu.UpperBand());
+		
+		assertTrue(residual(a, lu.solve(b), b) < ERROR);
+		assertTrue(lu.L().times(lu.U()).minus(a).norm() < ERROR * a.norm());
+	}
+	
+	@Test
+	public void pivotsNonDominantBand()
+	{
+		Matrix a = pentadiagonal(1f);
+		Matrix t = a.copy();
+		t.setOperator(Banded.Type(2, 2));
+		
+		Matrix b = rhs();
+		LUCrout lu = new LUCrout(t);
+		assertEquals(LUCrout.State.GENERIC, lu.State());
+		assertTrue(residual(a, lu.solve(b), b) < ERROR);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,129 @@
+package waffles.utils.alg.lin.solvers.matrix.krylov;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSBiCGStab;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSConjugate;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSGMRes;
+import waffles.utils.alg.lin.solvers.matrix.krylov.types.KSMinRes;
+
+/**
+ * The {@code KrylovSystemTest} checks the residuals of the {@code KrylovSystem} solvers
+ * on small tridiagonal systems with a known structure.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see KrylovSystem
+ */
+public class KrylovSystemTest
+{
+	private static final int SIZE = 12;
+	private static final double ERROR = 1e-4;
+	
+	
+	static Matrix tridiagonal(float l, float[] d, float u)
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			m.set(d[i], i, i);
+			if(i > 0)
+			{
+				m.set(l, i, i - 1);
+				m.set(u, i - 1, i);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Vector rhs()
+	{
+		Vector b = Vectors.create(SIZE);
+		for(int i = 0; i < SIZE; i++)
+		{
+			b.set(i + 1f, i);
+		}
+		
+		return b;
+	}
+	
+	static double residual(Matrix a, Vector x, Vector b)
+	{
+		return a.times(x).minus(b).norm() / b.norm();
+	}
+	
+	static float[] diagonal(boolean alternate)
+	{
+		float[] d = new float[SIZE];
+		for(int i = 0; i < SIZE; i++)
+		{
+			d[i] = 4f + i;
+			if(alternate && i % 2 == 1)
+			{
+				d[i] = -d[i];
+			}
+		}
+		
+		return d;
+	}
+	
+	
+	@Test
+	public void conjugateSolvesPositiveDefinite()
+	{
+		Matrix a = tridiagonal(-1f, diagonal(false), -1f);
+		KSConjugate ks = new KSConjugate(a);
+		
+		Vector b = rhs();
+		Vector x = ks.solve(b, Vectors.create(SIZE));
+		assertTrue(residual(a, x, b) < ERROR);
+		assertTrue(ks.Residual() < ERROR);
+	}
+	
+	@Test
+	public void minResSolvesIndefinite()
+	{
+		Matrix a = tridiagonal(1f, diagonal(true), 1f);
+		KSMinRes ks = new KSMinRes(a);
+		
+		Vector b = rhs();
+		Vector x = ks.solve(b, Vectors.create(SIZE));
+		assertTrue(residual(a, x, b) < ERROR);
+		// The reported residual is the true one.
+		assertEquals(residual(a, x, b), ks.Residual(), ERROR);
+	}
+	
+	@Test
+	public void gmresSolvesNonsymmetric()
+	{
+		Matrix a = tridiagonal(-1f, diagonal(false), -2f);
+		KSGMRes ks = new KSGMRes(a);
+		
+		Vector b = rhs();
+		Vector x = ks.solve(b, Vectors.create(SIZE));
+		assertTrue(residual(a, x, b) < ERROR);
+		assertTrue(ks.Residual() < ERROR);
+	}
+	
+	@Test
+	public void biCGStabSolvesNonsymmetric()
+	{
+		Matrix a = tridiagonal(-1f, diagonal(false), -2f);
+		KSBiCGStab ks = new KSBiCGStab(a);
+		
+		Vector b = rhs();
+		Vector x = ks.solve(b, Vectors.create(SIZE));
+		assertTrue(residual(a, x, b) < ERROR);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.square.Spectral;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code RRUVFactorTest} checks an {@code RRUVFactor} against a reconstruction
+ * and the known singular values of a sparse matrix. Each singular value engine
+ * extends it with the tests for its own accuracy claims.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ *
+ * @param <S>  a factorization type
+ * 
+ * 
+ * @see RRUVFactor
+ * @see Spectral
+ */
+public abstract class RRUVFactorTest<S extends RRUVFactor & Spectral>
+{
+	/**
+	 * Defines the error margin of the {@code RRUVFactorTest}.
+	 */
+	protected static final double ERROR = 1e-5;
+	
+	
+	/**
+	 * Creates a factorization in the {@code RRUVFactorTest}.
+	 * 
+	 * @param m  a base matrix
+	 * @return   a rank-revealing factorization
+	 */
+	protected abstract S create(Matrix m);
+	
+	/**
+	 * Creates a dense test matrix.
+	 * 
+	 * @param rows  a row count
+	 * @param cols  a column count
+	 * @return      a test matrix
+	 */
+	protected static Matrix matrix(int rows, int cols)
+	{
+		Matrix m = Matrices.create(rows, cols);
+		for(int r = 0; r < rows; r++)
+		{
+			for(int c = 0; c < cols; c++)
+			{
+				m.set(((r * 5 + c * 3) % 7) / 7f - 0.4f, r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	/**
+	 * Creates a 4x4 Hadamard matrix.
+	 * Its columns are orthogonal with norm two,
+	 * and all of its entries are exact.
+	 * 
+	 * @return  a Hadamard matrix
+	 */
+	protected static Matrix hadamard()
+	{
+		Matrix m = Matrices.create(4, 4);
+		for(int r = 0; r < 4; r++)
+		{
+			for(int c = 0; c < 4; c++)
+			{
+				m.set(Integer.bitCount(r & c) % 2 == 0 ? 1f : -1f, r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	
+	static Matrix columns(Matrix m, int k)
+	{
+		Matrix b = Matrices.create(m.Rows(), k);
+		for(int r = 0; r < m.Rows(); r++)
+		{
+			for(int c = 0; c < k; c++)
+			{
+				b.set(m.get(r, c), r, c);
+			}
+		}
+		
+		return b;
+	}
+	
+	/**
+	 * Checks the reconstruction of a matrix in the {@code RRUVFactorTest}.
+	 * 
+	 * @param a  a base matrix
+	 */
+	protected void reconstructs(Matrix a)
+	{
+		S f = create(a);
+		Matrix u = f.U();
+		Matrix v = f.V();
+		
+		// Reconstruct from the leading singular vectors.
+		Vector s = f.SingularValues();
+		int k = Integers.min(a.Rows(), a.Columns());
+		Matrix e = (Matrix) Matrices.diagonal(s);
+		Matrix b = columns(u, k).times(e).times(columns(v, k).transpose());
+		
+		Matrix ou = u.transpose().times(u).minus(Matrices.identity(u.Columns()));
+		Matrix ov = v.transpose().times(v).minus(Matrices.identity(v.Columns()));
+		assertTrue(b.minus(a).norm() < ERROR * a.norm());
+		assertTrue(ou.norm() < ERROR);
+		assertTrue(ov.norm() < ERROR);
+	}
+	
+	
+	@Test
+	public void reconstructsTall()
+	{
+		reconstructs(matrix(9, 4));
+	}
+	
+	@Test
+	public void reconstructsWide()
+	{
+		reconstructs(matrix(4, 9));
+	}
+	
+	@Test
+	public void findsSingularValues()
+	{
+		Matrix a = Matrices.create(5, 3);
+		a.set(-3f, 0, 0);
+		a.set(2f, 2, 1);
+		a.set(1f, 4, 2);
+		
+		Vector s = create(a).SingularValues();
+		assertEquals(3d, s.get(0), ERROR);
+		assertEquals(2d, s.get(1), ERROR);
+		assertEquals(1d, s.get(2), ERROR);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,109 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks.types;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.solvers.matrix.exact.LinearBatch;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+import waffles.utils.tools.primitives.Integers;
+
+/**
+ * The {@code RRGaussTest} checks the residuals of the {@code RRGauss} solver
+ * on a system that needs both row and column pivots, directly and in batches.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see RRGauss
+ */
+public class RRGaussTest
+{
+	private static final int SIZE = 8;
+	private static final double ERROR = 1e-4;
+	
+	
+	static Matrix pivoted()
+	{
+		Matrix m = Matrices.create(SIZE, SIZE);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < SIZE; c++)
+			{
+				// The largest values lie on a scattered permutation.
+				float v = 1f / (1 + Integers.abs(r - c));
+				if(c == (3 * r + 1) % SIZE)
+					v += SIZE + r;
+				m.set(v, r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Matrix block(int cols)
+	{
+		Matrix b = Matrices.create(SIZE, cols);
+		for(int r = 0; r < SIZE; r++)
+		{
+			for(int c = 0; c < cols; c++)
+			{
+				b.set(r - c * 0.5f + 1f, r, c);
+			}
+		}
+		
+		return b;
+	}
+	
+	
+	@Test
+	public void solvesPivoted()
+	{
+		Matrix a = pivoted();
+		Matrix b = block(3);
+		RRGauss g = new RRGauss(a);
+		
+		Matrix x = g.solve(b);
+		Matrix y = g.solveTranspose(b);
+		assertTrue(a.times(x).minus(b).norm() < ERROR * b.norm());
+		assertTrue(a.transpose().times(y).minus(b).norm() < ERROR * b.norm());
+	}
+	
+	@Test
+	public void solvesBatch()
+	{
+		Matrix a = pivoted();
+		LinearBatch lb = new LinearBatch(new RRGauss(a), 3);
+		
+		Matrix[] b = new Matrix[] {block(1), block(2), block(1)};
+		for(Matrix m : b)
+		{
+			lb.push(m);
+		}
+		
+		for(Matrix m : b)
+		{
+			Matrix x = lb.next();
+			assertTrue(a.times(x).minus(m).norm() < ERROR * m.norm());
+		}
+	}
+	
+	@Test
+	public void rejectsSingular()
+	{
+		// Repeat the first row of the matrix.
+		Matrix a = pivoted();
+		for(int c = 0; c < SIZE; c++)
+		{
+			a.set(a.get(0, c), SIZE - 1, c);
+		}
+		
+		LinearBatch lb = new LinearBatch(new RRGauss(a));
+		assertThrows(InvertibleError.class, () -> lb.push(block(1)));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.ranks.RRUVFactorTest;
+
+/**
+ * The {@code RRJacobiTest} checks the {@code RRJacobi} decomposition,
+ * and the high relative accuracy of its singular values on graded matrices.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see RRJacobi
+ */
+public class RRJacobiTest extends RRUVFactorTest<RRJacobi>
+{
+	@Override
+	protected RRJacobi create(Matrix m)
+	{
+		return new RRJacobi(m);
+	}
+	
+	
+	static void graded(Matrix a)
+	{
+		// The singular values are 2, 2^-10, 2^-20 and 2^-30 times two.
+		Vector s = new RRJacobi(a).SingularValues();
+		for(int k = 0; k < 4; k++)
+		{
+			double exp = 2d / (1 << 10 * k);
+			assertEquals(1d, s.get(k) / exp, ERROR);
+		}
+	}
+	
+	@Test
+	public void resolvesGradedColumns()
+	{
+		Matrix a = hadamard();
+		for(int r = 0; r < 4; r++)
+		{
+			for(int c = 0; c < 4; c++)
+			{
+				a.set(a.get(r, c) / (1 << 10 * c), r, c);
+			}
+		}
+		
+		graded(a);
+	}
+	
+	@Test
+	public void resolvesGradedRows()
+	{
+		Matrix a = hadamard();
+		for(int r = 0; r < 4; r++)
+		{
+			for(int c = 0; c < 4; c++)
+			{
+				a.set(a.get(r, c) / (1 << 10 * r), r, c);
+			}
+		}
+		
+		graded(a);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,103 @@
+package waffles.utils.alg.lin.solvers.matrix.ranks.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.solvers.matrix.ranks.RRUVFactorTest;
+
+/**
+ * The {@code RRSVDTest} checks the {@code RRSVD} decomposition, the relative accuracy
+ * of its {@code dqds} singular values, and the convergence of its shifted QR sweeps.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see RRSVD
+ */
+public class RRSVDTest extends RRUVFactorTest<RRSVD>
+{
+	@Override
+	protected RRSVD create(Matrix m)
+	{
+		return new RRSVD(m);
+	}
+	
+	
+	static Matrix graded()
+	{
+		// The diagonal is 1, 2^-10, 2^-20 and 2^-30.
+		Matrix m = Matrices.create(4, 4);
+		for(int k = 0; k < 4; k++)
+		{
+			float d = 1f / (1 << 10 * k);
+			m.set(d, k, k);
+			if(k < 3)
+			{
+				m.set(d / 2, k, k + 1);
+			}
+		}
+		
+		return m;
+	}
+	
+	@Test
+	public void dqdsResolvesGraded()
+	{
+		Vector s = new RRSVD(graded()).SingularValues();
+		
+		// The values multiply to the determinant...
+		double det = 1d;
+		for(int k = 0; k < 4; k++)
+		{
+			det *= s.get(k) * (1 << 10 * k);
+		}
+		
+		assertEquals(1d, det, ERROR);
+		
+		// ...and match those of one-sided Jacobi.
+		Vector t = new RRJacobi(graded()).SingularValues();
+		for(int k = 0; k < 4; k++)
+		{
+			assertEquals(1d, s.get(k) / t.get(k), ERROR);
+		}
+	}
+	
+	@Test
+	public void shiftedQRMatchesDqds()
+	{
+		Vector s = new RRSVD(graded()).SingularValues();
+		
+		RRSVD svd = new RRSVD(graded());
+		// Computing U runs the shifted QR sweeps.
+		Matrix u = svd.U();
+		Vector t = svd.SingularValues();
+		for(int k = 0; k < 4; k++)
+		{
+			assertEquals(1d, t.get(k) / s.get(k), ERROR);
+		}
+		
+		assertEquals(4, u.Columns());
+	}
+	
+	@Test
+	public void convergesOnRepeatedValues()
+	{
+		// Every singular value of the Hadamard matrix is two.
+		RRSVD svd = new RRSVD(hadamard());
+		svd.U();
+		
+		Vector s = svd.SingularValues();
+		for(int k = 0; k < 4; k++)
+		{
+			assertEquals(2d, s.get(k), ERROR);
+		}
+		
+		reconstructs(hadamard());
+	}
+}
\ No newline at end of file
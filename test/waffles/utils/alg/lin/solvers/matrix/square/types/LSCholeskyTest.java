@@ -0,0 +1,69 @@
+package waffles.utils.alg.lin.solvers.matrix.square.types;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+
+/**
+ * The {@code LSCholeskyTest} checks the row updates of the {@code LSCholesky}
+ * against the normal equations of the updated matrix.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LSCholesky
+ */
+public class LSCholeskyTest
+{
+	private static final double ERROR = 1e-4;
+	
+	
+	static void solves(LSCholesky ls, Matrix a)
+	{
+		Vector b = Vectors.create(a.Rows());
+		for(int r = 0; r < a.Rows(); r++)
+		{
+			b.set(r + 1f, r);
+		}
+		
+		// The least squares residual is normal to the columns.
+		Vector x = ls.approx(b);
+		Vector n = a.transpose().times(a.times(x).minus(b));
+		assertTrue(n.norm() < ERROR * a.norm() * b.norm());
+	}
+	
+	
+	@Test
+	public void updatesRows()
+	{
+		int[] reads = new int[1];
+		Matrix a = LSGivensTest.matrix(0, 6, 3);
+		LSCholesky ls = new LSCholesky(() ->
+		{
+			reads[0]++;
+			return a.copy();
+		});
+		
+		solves(ls, a);
+		int count = reads[0];
+		
+		// Slide the rows by two.
+		for(int i = 6; i < 8; i++)
+		{
+			ls.addRow(LSGivensTest.matrix(i, 1, 3).Row(0));
+			ls.removeRow(0);
+			solves(ls, LSGivensTest.matrix(i - 5, 6, 3));
+		}
+		
+		// The hints are only read when factoring.
+		assertEquals(count, reads[0]);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,117 @@
+package waffles.utils.alg.lin.solvers.matrix.square.types;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.alg.utilities.errors.DimensionError;
+import waffles.utils.alg.utilities.errors.InvertibleError;
+
+/**
+ * The {@code LSGivensTest} checks the row and column updates of the {@code LSGivens}
+ * against a reconstruction and the normal equations of the updated matrix.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LSGivens
+ */
+public class LSGivensTest
+{
+	private static final double ERROR = 1e-5;
+	
+	
+	static float value(int r, int c)
+	{
+		return ((r * 5 + c * 3 + r * c) % 11) / 11f - 0.5f + (r == c ? 1f : 0f);
+	}
+	
+	static Matrix matrix(int r0, int rows, int cols)
+	{
+		Matrix m = Matrices.create(rows, cols);
+		for(int r = 0; r < rows; r++)
+		{
+			for(int c = 0; c < cols; c++)
+			{
+				m.set(value(r0 + r, c), r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	static void matches(LSGivens g, Matrix a)
+	{
+		Matrix q = g.Q();
+		Matrix o = q.transpose().times(q).minus(Matrices.identity(a.Columns()));
+		assertTrue(q.times(g.R()).minus(a).norm() < ERROR * a.norm());
+		assertTrue(o.norm() < ERROR);
+		
+		Vector b = Vectors.create(a.Rows());
+		for(int r = 0; r < a.Rows(); r++)
+		{
+			b.set(r + 1f, r);
+		}
+		
+		// The least squares residual is normal to the columns.
+		Vector x = g.approx(b);
+		Vector n = a.transpose().times(a.times(x).minus(b));
+		assertTrue(n.norm() < ERROR * a.norm() * b.norm());
+	}
+	
+	
+	@Test
+	public void updatesRows()
+	{
+		LSGivens g = new LSGivens(matrix(0, 6, 3));
+		// Slide the rows by two.
+		for(int i = 6; i < 8; i++)
+		{
+			g.addRow(matrix(i, 1, 3).Row(0));
+			g.removeRow(0);
+		}
+		
+		matches(g, matrix(2, 6, 3));
+	}
+	
+	@Test
+	public void updatesColumns()
+	{
+		Matrix a = matrix(0, 6, 4);
+		LSGivens g = new LSGivens(matrix(0, 6, 3));
+		g.addColumn(a.Column(3));
+		matches(g, a);
+		
+		g.removeColumn(1);
+		Matrix b = Matrices.create(6, 3);
+		for(int r = 0; r < 6; r++)
+		{
+			b.set(a.get(r, 0), r, 0);
+			b.set(a.get(r, 2), r, 1);
+			b.set(a.get(r, 3), r, 2);
+		}
+		
+		matches(g, b);
+	}
+	
+	@Test
+	public void rejectsColumns()
+	{
+		Matrix a = matrix(0, 4, 3);
+		LSGivens g = new LSGivens(a);
+		
+		Vector d = a.Column(0).plus(a.Column(1));
+		assertThrows(InvertibleError.class, () -> g.addColumn(d));
+		assertThrows(DimensionError.class, () -> g.addColumn(Vectors.create(3)));
+		
+		// The factorization is left unchanged.
+		matches(g, a);
+	}
+}
\ No newline at end of file
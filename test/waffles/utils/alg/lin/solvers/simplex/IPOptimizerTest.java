@@ -0,0 +1,126 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.lang.utilities.enums.Extreme;
+
+/**
+ * The {@code IPOptimizerTest} checks the primal and dual solutions of the {@code IPOptimizer}
+ * on small linear problems with a known optimum, with and without presolving.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see IPOptimizer
+ */
+public class IPOptimizerTest
+{
+	private static final double ERROR = 1e-3;
+	
+	
+	static IPOptimizer optimizer(Matrix a, Vector c, boolean pre)
+	{
+		return new IPOptimizer(new IPOptimizer.Hints(a, c)
+		{
+			@Override
+			public boolean Presolve()
+			{
+				return pre;
+			}
+		});
+	}
+	
+	static void dualFeasible(Matrix a, Vector c, Vector x, Vector y)
+	{
+		int m = a.Rows();
+		int n = a.Columns() - 1;
+		assertEquals(m, y.Size());
+		
+		// The reduced costs of a maximum are non-positive.
+		for(int j = 0; j < n; j++)
+		{
+			double s = c.get(j);
+			for(int r = 0; r < m; r++)
+			{
+				s -= a.get(r, j) * y.get(r);
+			}
+			
+			assertTrue(s < ERROR);
+		}
+		
+		// The duality gap closes.
+		double by = 0d;
+		for(int r = 0; r < m; r++)
+		{
+			by += a.get(r, n) * y.get(r);
+		}
+		
+		assertEquals(LCLOptimizerTest.dot(c, x), by, ERROR * (1d + by));
+	}
+	
+	static void solvesWyndor(Matrix a, boolean pre)
+	{
+		Vector c = LCLOptimizerTest.vector(3f, 5f, 0f, 0f, 0f);
+		IPOptimizer ip = optimizer(a, c, pre);
+		
+		Vector x = ip.optimize(Extreme.MAX);
+		assertNotNull(x);
+		assertEquals(2d, x.get(0), ERROR);
+		assertEquals(6d, x.get(1), ERROR);
+		dualFeasible(a, c, x, ip.Dual());
+	}
+	
+	
+	@Test
+	public void solvesWyndor()
+	{
+		Matrix a = LCLOptimizerTest.wyndor();
+		solvesWyndor(a, false);
+		solvesWyndor(a, true);
+		
+		// The shadow prices are known.
+		Vector c = LCLOptimizerTest.vector(3f, 5f, 0f, 0f, 0f);
+		IPOptimizer ip = optimizer(a, c, true);
+		ip.optimize(Extreme.MAX);
+		
+		Vector y = ip.Dual();
+		assertEquals(0.0d, y.get(0), ERROR);
+		assertEquals(1.5d, y.get(1), ERROR);
+		assertEquals(1.0d, y.get(2), ERROR);
+	}
+	
+	@Test
+	public void restoresPresolvedRows()
+	{
+		// A singleton row fixes the first slack at two.
+		Matrix a = LCLOptimizerTest.matrix(new float[][]
+		{
+			{1f, 0f, 1f, 0f, 0f,  4f},
+			{0f, 0f, 1f, 0f, 0f,  2f},
+			{0f, 2f, 0f, 1f, 0f, 12f},
+			{3f, 2f, 0f, 0f, 1f, 18f}
+		});
+		
+		solvesWyndor(a, false);
+		solvesWyndor(a, true);
+	}
+	
+	@Test
+	public void rejectsUndefined()
+	{
+		Matrix a = LCLOptimizerTest.wyndor();
+		a.set(Float.NaN, 0, 0);
+		
+		Vector c = LCLOptimizerTest.vector(3f, 5f, 0f, 0f, 0f);
+		assertNull(optimizer(a, c, false).optimize(Extreme.MAX));
+	}
+}
\ No newline at end of file
@@ -0,0 +1,146 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+
+/**
+ * The {@code LCLOptimizerTest} checks the {@code LCLOptimizer} on small linear problems
+ * with a known optimum, including a degenerate problem which cycles under Dantzig's rule.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see LCLOptimizer
+ */
+public class LCLOptimizerTest
+{
+	private static final double ERROR = 1e-4;
+	
+	
+	static Matrix matrix(float[][] rows)
+	{
+		Matrix m = Matrices.create(rows.length, rows[0].length);
+		for(int r = 0; r < rows.length; r++)
+		{
+			for(int c = 0; c < rows[r].length; c++)
+			{
+				m.set(rows[r][c], r, c);
+			}
+		}
+		
+		return m;
+	}
+	
+	static Vector vector(float... vals)
+	{
+		Vector v = Vectors.create(vals.length);
+		for(int i = 0; i < vals.length; i++)
+		{
+			v.set(vals[i], i);
+		}
+		
+		return v;
+	}
+	
+	static double dot(Vector a, Vector b)
+	{
+		double v = 0d;
+		for(int i = 0; i < a.Size(); i++)
+		{
+			v += a.get(i) * b.get(i);
+		}
+		
+		return v;
+	}
+	
+	static Matrix wyndor()
+	{
+		// x <= 4, 2y <= 12, 3x + 2y <= 18 with slacks.
+		return matrix(new float[][]
+		{
+			{1f, 0f, 1f, 0f, 0f,  4f},
+			{0f, 2f, 0f, 1f, 0f, 12f},
+			{3f, 2f, 0f, 0f, 1f, 18f}
+		});
+	}
+	
+	
+	@Test
+	public void maximizesWyndor()
+	{
+		Vector c = vector(3f, 5f, 0f, 0f, 0f);
+		Vector x = new LCLOptimizer(wyndor(), c).maximize();
+		
+		assertNotNull(x);
+		assertEquals(2d, x.get(0), ERROR);
+		assertEquals(6d, x.get(1), ERROR);
+		assertEquals(36d, dot(c, x), ERROR);
+	}
+	
+	@Test
+	public void minimizesWyndor()
+	{
+		Vector c = vector(-3f, -5f, 0f, 0f, 0f);
+		Vector x = new LCLOptimizer(wyndor(), c).minimize();
+		
+		assertNotNull(x);
+		assertEquals(-36d, dot(c, x), ERROR);
+	}
+	
+	@Test
+	public void terminatesOnBeale()
+	{
+		// Beale's example, with slacks in front.
+		Matrix a = matrix(new float[][]
+		{
+			{1f, 0f, 0f, 0.25f,  -8f, -1f,   9f, 0f},
+			{0f, 1f, 0f, 0.50f, -12f, -0.5f, 3f, 0f},
+			{0f, 0f, 1f, 0f,      0f, 1f,    0f, 1f}
+		});
+		
+		Vector c = vector(0f, 0f, 0f, -0.75f, 20f, -0.5f, 6f);
+		Vector x = new LCLOptimizer(a, c).minimize();
+		
+		assertNotNull(x);
+		assertEquals(-1.25d, dot(c, x), ERROR);
+	}
+	
+	@Test
+	public void detectsInfeasible()
+	{
+		// x + y = 1 and x + y = 2.
+		Matrix a = matrix(new float[][]
+		{
+			{1f, 1f, 1f},
+			{1f, 1f, 2f}
+		});
+		
+		Vector c = vector(1f, 0f);
+		assertFalse(new LCLOptimizer(a, c).isFeasible());
+		assertNull(new LCLOptimizer(a, c).minimize());
+	}
+	
+	@Test
+	public void detectsUnbounded()
+	{
+		// x - y = 1 with x unbounded above.
+		Matrix a = matrix(new float[][]
+		{
+			{1f, -1f, 1f}
+		});
+		
+		Vector c = vector(1f, 0f);
+		assertNull(new LCLOptimizer(a, c).maximize());
+	}
+}
\ No newline at end of file
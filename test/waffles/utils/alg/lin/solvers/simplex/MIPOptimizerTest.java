@@ -0,0 +1,296 @@
+package waffles.utils.alg.lin.solvers.simplex;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import waffles.utils.alg.lin.measure.matrix.Matrices;
+import waffles.utils.alg.lin.measure.matrix.Matrix;
+import waffles.utils.alg.lin.measure.vector.Vector;
+import waffles.utils.alg.lin.measure.vector.Vectors;
+import waffles.utils.lang.utilities.enums.Extreme;
+
+/**
+ * The {@code MIPOptimizerTest} checks the {@code MIPOptimizer} against an enumeration
+ * of small bounded integer problems. A larger seeded problem is solved on several thread
+ * counts, which must agree on the optimum.
+ *
+ * @author Waffles
+ * @since 19 Oct 2026
+ * @version 1.1
+ * 
+ * 
+ * @see MIPOptimizer
+ */
+public class MIPOptimizerTest
+{
+	private static final double ERROR = 1e-4;
+	
+	/**
+	 * A {@code Problem} defines the integer problem {@code Ax <= b} with {@code 0 <= x <= u}.
+	 */
+	static class Problem
+	{
+		int k, m;
+		float[][] a;
+		float[] b, u, c;
+		
+		/**
+		 * Creates a new {@code Problem}.
+		 * 
+		 * @param rnd  a random generator
+		 * @param k    a variable count
+		 * @param m    a row count
+		 * @param max  an upper bound
+		 */
+		public Problem(Random rnd, int k, int m, int max)
+		{
+			this.k = k;
+			this.m = m;
+			a = new float[m][k];
+			b = new float[m];
+			u = new float[k];
+			c = new float[k];
+			for(int j = 0; j < k; j++)
+			{
+				u[j] = 1 + rnd.nextInt(max);
+				c[j] = rnd.nextInt(21) - 5;
+			}
+			
+			for(int r = 0; r < m; r++)
+			{
+				double s = 0d;
+				for(int j = 0; j < k; j++)
+				{
+					a[r][j] = rnd.nextInt(13) - 3;
+					s += a[r][j] * u[j] * rnd.nextDouble();
+				}
+				
+				b[r] = (float) (s / 2 + rnd.nextInt(5) + rnd.nextFloat());
+			}
+		}
+		
+		/**
+		 * Returns the constraints of the {@code Problem},
+		 * with slack variables for the bounds and the rows.
+		 * 
+		 * @return  a constraint matrix
+		 */
+		public Matrix Constraints()
+		{
+			int n = 2 * k + m;
+			Matrix mat = Matrices.create(k + m, n + 1);
+			for(int j = 0; j < k; j++)
+			{
+				mat.set(1f, j, j);
+				mat.set(1f, j, k + j);
+				mat.set(u[j], j, n);
+			}
+			
+			for(int r = 0; r < m; r++)
+			{
+				for(int j = 0; j < k; j++)
+				{
+					mat.set(a[r][j], k + r, j);
+				}
+				
+				mat.set(1f, k + r, 2 * k + r);
+				mat.set(b[r], k + r, n);
+			}
+			
+			return mat;
+		}
+		
+		/**
+		 * Returns the objective of the {@code Problem}.
+		 * 
+		 * @return  an objective vector
+		 */
+		public Vector Object()
+		{
+			Vector o = Vectors.create(2 * k + m);
+			for(int j = 0; j < k; j++)
+			{
+				o.set(c[j], j);
+			}
+			
+			return o;
+		}
+		
+		/**
+		 * Returns the integer variables of the {@code Problem}.
+		 * 
+		 * @return  a variable index array
+		 */
+		public int[] Integers()
+		{
+			int[] i = new int[k];
+			for(int j = 0; j < k; j++)
+			{
+				i[j] = j;
+			}
+			
+			return i;
+		}
+		
+		/**
+		 * Enumerates the optimum of the {@code Problem}.
+		 * 
+		 * @param max  a maximization flag
+		 * @return     an optimal value
+		 */
+		public double enumerate(boolean max)
+		{
+			int[] x = new int[k];
+			double best = max ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+			while(true)
+			{
+				boolean feasible = true;
+				for(int r = 0; r < m && feasible; r++)
+				{
+					double s = 0d;
+					for(int j = 0; j < k; j++)
+					{
+						s += a[r][j] * x[j];
+					}
+					
+					feasible = s <= b[r] + ERROR;
+				}
+				
+				if(feasible)
+				{
+					double v = 0d;
+					for(int j = 0; j < k; j++)
+					{
+						v += c[j] * x[j];
+					}
+					
+					if(max ? best < v : v < best)
+					{
+						best = v;
+					}
+				}
+				
+				// Count to the next assignment.
+				int j = 0;
+				while(j < k && x[j] == (int) u[j])
+				{
+					x[j++] = 0;
+				}
+				
+				if(j == k)
+				{
+					return best;
+				}
+				
+				x[j]++;
+			}
+		}
+		
+		/**
+		 * Evaluates a solution of the {@code Problem}.
+		 * 
+		 * @param x  a solution vector
+		 * @return   an objective value
+		 */
+		public double value(Vector x)
+		{
+			double v = 0d;
+			for(int j = 0; j < k; j++)
+			{
+				assertEquals((long) (x.get(j) + 0.5f), x.get(j), 0d);
+				v += c[j] * x.get(j);
+			}
+			
+			return v;
+		}
+		
+		/**
+		 * Creates an optimizer for the {@code Problem}.
+		 * 
+		 * @param threads  a thread count
+		 * @return         a mixed-integer optimizer
+		 */
+		public MIPOptimizer optimizer(int threads)
+		{
+			return new MIPOptimizer(new MIPOptimizer.Hints(Constraints(), Object(), Integers())
+			{
+				@Override
+				public int Threads()
+				{
+					return threads;
+				}
+			});
+		}
+	}
+	
+	
+	@Test
+	public void matchesEnumeration()
+	{
+		Random rnd = new Random(5);
+		for(int t = 0; t < 40; t++)
+		{
+			Problem p = new Problem(rnd, 2 + rnd.nextInt(4), 1 + rnd.nextInt(3), 4);
+			for(Extreme ex : Extreme.values())
+			{
+				double exp = p.enumerate(ex == Extreme.MAX);
+				for(int threads : new int[]{1, 4})
+				{
+					Vector x = p.optimizer(threads).optimize(ex);
+					if(Double.isInfinite(exp))
+					{
+						assertNull(x);
+						continue;
+					}
+					
+					assertNotNull(x);
+					assertEquals(exp, p.value(x), ERROR);
+				}
+			}
+		}
+	}
+	
+	@Test
+	public void detectsInfeasible()
+	{
+		// 2x = 1 has no integer solution.
+		Matrix a = Matrices.create(1, 3);
+		a.set(2f, 0, 0);
+		a.set(1f, 0, 2);
+		
+		Vector c = Vectors.create(2);
+		c.set(1f, 0);
+		
+		assertNull(new MIPOptimizer(a, c, 0).minimize());
+	}
+	
+	@Test
+	public void isDeterministic()
+	{
+		Problem p = new Problem(new Random(99), 16, 8, 6);
+		MIPOptimizer a = p.optimizer(1);
+		MIPOptimizer b = p.optimizer(1);
+		
+		Vector x = a.maximize();
+		Vector y = b.maximize();
+		assertEquals(p.value(x), p.value(y), 0d);
+		assertEquals(a.Nodes(), b.Nodes());
+	}
+	
+	@Test
+	public void agreesAcrossThreads()
+	{
+		Problem p = new Problem(new Random(99), 24, 12, 6);
+		double exp = p.value(p.optimizer(1).maximize());
+		for(int threads : new int[]{2, 4, 8})
+		{
+			Vector x = p.optimizer(threads).maximize();
+			assertEquals(exp, p.value(x), ERROR);
+		}
+	}
+}
\ No newline at end of file